@@ -0,0 +1,63 @@
+package com.mapbox.samples;
+
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.CheapRuler;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the speed and the results of {@link CheapRuler} and {@link TurfMeasurement} for city
+ * scale distances.
+ */
+public class BenchmarkCheapRuler {
+
+  private static final int POINTS = 100000;
+  private static final int ROUNDS = 20;
+
+  public static void main(String[] args) {
+    Random random = new Random(1);
+    List<Point> points = new ArrayList<>(POINTS);
+    for (int i = 0; i < POINTS; i++) {
+      points.add(Point.fromLngLat(13.3 + random.nextDouble() * 0.2,
+        52.4 + random.nextDouble() * 0.2));
+    }
+    CheapRuler ruler = CheapRuler.fromLatitude(52.5, TurfConstants.UNIT_METERS);
+
+    double maxError = 0;
+    for (int i = 1; i < POINTS; i++) {
+      double haversine = TurfMeasurement.distance(points.get(i - 1), points.get(i),
+        TurfConstants.UNIT_METERS);
+      double cheap = ruler.distance(points.get(i - 1), points.get(i));
+      maxError = Math.max(maxError, Math.abs(cheap - haversine) / haversine);
+    }
+    System.out.println(String.format("Largest difference: %.4f%%", maxError * 100));
+
+    double sink = 0;
+    long haversineTime = Long.MAX_VALUE;
+    long cheapTime = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS; round++) {
+      long start = System.nanoTime();
+      for (int i = 1; i < POINTS; i++) {
+        sink += TurfMeasurement.distance(points.get(i - 1), points.get(i),
+          TurfConstants.UNIT_METERS);
+      }
+      haversineTime = Math.min(haversineTime, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      for (int i = 1; i < POINTS; i++) {
+        sink += ruler.distance(points.get(i - 1), points.get(i));
+      }
+      cheapTime = Math.min(cheapTime, System.nanoTime() - start);
+    }
+    System.out.println(String.format("TurfMeasurement.distance: %.1f ns per call",
+      (double) haversineTime / POINTS));
+    System.out.println(String.format("CheapRuler.distance: %.1f ns per call",
+      (double) cheapTime / POINTS));
+    System.out.println(String.format("Speedup: %.1fx (%s)", (double) haversineTime / cheapTime,
+      sink > 0 ? "ok" : "-"));
+  }
+}
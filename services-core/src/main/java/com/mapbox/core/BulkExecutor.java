@@ -0,0 +1,425 @@
+package com.mapbox.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.core.exceptions.ServicesException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import retrofit2.Response;
+
+/**
+ * Runs the requests of many services with a bounded number of them in flight, for batch jobs
+ * making a large number of requests. Services are taken from the input one at a time, only when
+ * there's room for another request, so the input can be a lazy iterator building services on
+ * demand, and memory stays bounded whatever its size.
+ * <p>
+ * Results are read from the returned {@link Results} iterator, in completion order or in the order
+ * of the input. Requests only keep being started while the results waiting to be read fit in the
+ * configured buffer, so a slow reader slows the requests down instead of piling results up.
+ * Failures, including services whose call can't be created, are reported as results carrying
+ * their error.
+ * </p><p>
+ * Requests are started with {@link MapboxService#executeAsync()}, on the OkHttp dispatcher, unless
+ * an executor is given, in which case they're run with a blocking call on it, which suits the
+ * virtual thread per task executor of Java 21. On the dispatcher, requests are also bound by its
+ * own limits, 64 requests and 5 requests per host by default, so the maximum concurrency only
+ * goes beyond them once they're raised on the dispatcher of {@link ServiceRegistry#sharedClient()},
+ * which every service client shares. Blocking calls don't wait for the dispatcher, so with an
+ * executor only the maximum concurrency and the executor limit the requests in flight.
+ * Executors can be reused for any number of inputs.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class BulkExecutor {
+
+  private static final Executor DIRECT = new Executor() {
+    @Override
+    public void execute(@NonNull Runnable command) {
+      command.run();
+    }
+  };
+
+  private final int maxConcurrency;
+  private final int maxBufferedResults;
+  private final boolean ordered;
+  @Nullable
+  private final Executor executor;
+
+  private BulkExecutor(Builder builder) {
+    // The dispatcher would queue any request beyond its limit per host anyway
+    maxConcurrency = builder.maxConcurrency < 1
+      ? Math.max(1, ServiceRegistry.sharedClient().dispatcher().getMaxRequestsPerHost())
+      : builder.maxConcurrency;
+    // The maximum concurrency unless set
+    maxBufferedResults = builder.maxBufferedResults < 0
+      ? maxConcurrency : builder.maxBufferedResults;
+    ordered = builder.ordered;
+    executor = builder.executor;
+  }
+
+  /**
+   * Build a new {@link BulkExecutor}, running requests on the OkHttp dispatcher as many at a time
+   * as its limit per host allows, and returning results in completion order by default.
+   *
+   * @return a {@link Builder} object for creating this object
+   * @since 5.10.0
+   */
+  @NonNull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Starts running the requests of the given services.
+   *
+   * @param services the services to run, in order
+   * @param <T>      the type of the response bodies
+   * @return the results of the requests, as they become available
+   * @since 5.10.0
+   */
+  @NonNull
+  public <T> Results<T> execute(@NonNull Iterable<? extends MapboxService<T, ?>> services) {
+    return execute(services.iterator());
+  }
+
+  /**
+   * Starts running the requests of the services returned by an iterator, which is only ever
+   * used by one thread at a time and is read as slots free up.
+   *
+   * @param services the services to run, in order
+   * @param <T>      the type of the response bodies
+   * @return the results of the requests, as they become available
+   * @since 5.10.0
+   */
+  @NonNull
+  public <T> Results<T> execute(@NonNull Iterator<? extends MapboxService<T, ?>> services) {
+    Results<T> results = new Results<>(this, services);
+    results.refill();
+    return results;
+  }
+
+  /**
+   * The results of the requests run by a {@link BulkExecutor}. {@link #hasNext()} and
+   * {@link #next()} block until a result is available or every request has completed.
+   *
+   * @param <T> the type of the response bodies
+   * @since 5.10.0
+   */
+  public static final class Results<T> implements Iterator<BulkResult<T>> {
+
+    private final BulkExecutor bulkExecutor;
+    private final Iterator<? extends MapboxService<T, ?>> services;
+    // Completion order
+    private final Queue<BulkResult<T>> completed = new ArrayDeque<>();
+    // Input order, keyed by index
+    private final Map<Long, BulkResult<T>> pending = new HashMap<>();
+    private final Map<Long, ServiceFuture<T>> running = new HashMap<>();
+    private int inFlight;
+    private long submitted;
+    private long nextIndex;
+    private boolean exhausted;
+    private boolean cancelled;
+    private boolean refilling;
+
+    Results(BulkExecutor bulkExecutor, Iterator<? extends MapboxService<T, ?>> services) {
+      this.bulkExecutor = bulkExecutor;
+      this.services = services;
+    }
+
+    /**
+     * Whether there are more results, waiting for a request to complete if needed.
+     *
+     * @return false once every result has been returned, or after {@link #cancel()}
+     * @throws ServicesException if the thread is interrupted while waiting, which cancels the
+     *                           remaining requests
+     * @since 5.10.0
+     */
+    @Override
+    public boolean hasNext() {
+      synchronized (this) {
+        while (!cancelled) {
+          if (available()) {
+            return true;
+          }
+          if (exhausted && inFlight == 0) {
+            return false;
+          }
+          try {
+            wait();
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            break;
+          }
+        }
+      }
+      if (Thread.currentThread().isInterrupted()) {
+        cancel();
+        throw new ServicesException("Interrupted while waiting for bulk results.");
+      }
+      return false;
+    }
+
+    /**
+     * The next result, waiting for a request to complete if needed.
+     *
+     * @return the next result
+     * @throws NoSuchElementException if every result has already been returned
+     * @since 5.10.0
+     */
+    @Override
+    public BulkResult<T> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      BulkResult<T> result;
+      synchronized (this) {
+        if (bulkExecutor.ordered) {
+          result = pending.remove(nextIndex);
+          nextIndex++;
+        } else {
+          result = completed.remove();
+        }
+      }
+      // Reading a result makes room for another request
+      refill();
+      return result;
+    }
+
+    /**
+     * Unsupported, results can't be removed.
+     *
+     * @since 5.10.0
+     */
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("remove");
+    }
+
+    /**
+     * Stops taking services from the input and cancels the requests in flight. Results which
+     * were not read yet are dropped.
+     *
+     * @since 5.10.0
+     */
+    public void cancel() {
+      List<ServiceFuture<T>> futures;
+      synchronized (this) {
+        if (cancelled) {
+          return;
+        }
+        cancelled = true;
+        futures = new ArrayList<>(running.values());
+        running.clear();
+        completed.clear();
+        pending.clear();
+        notifyAll();
+      }
+      for (ServiceFuture<T> future : futures) {
+        future.cancel(true);
+      }
+    }
+
+    // Called while holding the lock
+    private boolean available() {
+      return bulkExecutor.ordered ? pending.containsKey(nextIndex) : !completed.isEmpty();
+    }
+
+    // Called while holding the lock
+    private boolean canStart() {
+      int buffered = bulkExecutor.ordered ? pending.size() : completed.size();
+      return !cancelled && !exhausted && inFlight < bulkExecutor.maxConcurrency
+        && inFlight + buffered < bulkExecutor.maxConcurrency + bulkExecutor.maxBufferedResults;
+    }
+
+    /**
+     * Starts requests while there's room for them. Only one thread at a time takes services from
+     * the input, the others leave the work to it.
+     */
+    void refill() {
+      synchronized (this) {
+        if (refilling) {
+          return;
+        }
+        refilling = true;
+      }
+      while (true) {
+        long index;
+        synchronized (this) {
+          if (!canStart()) {
+            refilling = false;
+            return;
+          }
+          inFlight++;
+          index = submitted++;
+        }
+        MapboxService<T, ?> service = null;
+        try {
+          if (!services.hasNext()) {
+            synchronized (this) {
+              exhausted = true;
+              inFlight--;
+              submitted--;
+              refilling = false;
+              notifyAll();
+            }
+            return;
+          }
+          service = services.next();
+          start(index, service);
+        } catch (RuntimeException exception) {
+          complete(index, service, null, exception);
+        }
+      }
+    }
+
+    private void start(final long index, final MapboxService<T, ?> service) {
+      final ServiceFuture<T> future = bulkExecutor.executor == null
+        ? service.executeAsync() : service.executeAsync(bulkExecutor.executor);
+      boolean cancel;
+      synchronized (this) {
+        cancel = cancelled;
+        if (!cancel) {
+          running.put(index, future);
+        }
+      }
+      if (cancel) {
+        future.cancel(true);
+      }
+      future.addListener(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            complete(index, service, future.get(), null);
+          } catch (ExecutionException exception) {
+            complete(index, service, null, exception.getCause());
+          } catch (CancellationException exception) {
+            complete(index, service, null, exception);
+          } catch (InterruptedException exception) {
+            // The future is done, so this can't happen
+            Thread.currentThread().interrupt();
+            complete(index, service, null, exception);
+          }
+        }
+      }, DIRECT);
+    }
+
+    private void complete(long index, @Nullable MapboxService<T, ?> service,
+                          @Nullable Response<T> response, @Nullable Throwable error) {
+      synchronized (this) {
+        inFlight--;
+        running.remove(index);
+        if (!cancelled) {
+          BulkResult<T> result = new BulkResult<>(index, service, response, error);
+          if (bulkExecutor.ordered) {
+            pending.put(index, result);
+          } else {
+            completed.add(result);
+          }
+        }
+        notifyAll();
+      }
+      refill();
+    }
+  }
+
+  /**
+   * This builder is used to create a new {@link BulkExecutor}.
+   *
+   * @since 5.10.0
+   */
+  public static final class Builder {
+
+    private int maxConcurrency = -1;
+    private int maxBufferedResults = -1;
+    private boolean ordered;
+    private Executor executor;
+
+    Builder() {
+    }
+
+    /**
+     * The maximum number of requests in flight at the same time. Defaults to the maximum number
+     * of requests per host of the dispatcher of {@link ServiceRegistry#sharedClient()} when the
+     * executor is built, 5 unless it was raised. Without an executor, a higher value only helps
+     * once the limits of that dispatcher are raised as well.
+     *
+     * @param maxConcurrency the maximum number of requests in flight, at least 1
+     * @return this builder for chaining options together
+     * @since 5.10.0
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      if (maxConcurrency < 1) {
+        throw new IllegalArgumentException("At least one request must be able to run.");
+      }
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * The maximum number of results waiting to be read before no more requests are started,
+     * the maximum concurrency by default. When results are returned in input order, it includes
+     * the results waiting for an earlier request to complete.
+     *
+     * @param maxBufferedResults the maximum number of results waiting to be read, at least 0
+     * @return this builder for chaining options together
+     * @since 5.10.0
+     */
+    public Builder maxBufferedResults(int maxBufferedResults) {
+      if (maxBufferedResults < 0) {
+        throw new IllegalArgumentException("The number of buffered results can't be negative.");
+      }
+      this.maxBufferedResults = maxBufferedResults;
+      return this;
+    }
+
+    /**
+     * Whether results are returned in the order of the input, rather than as soon as they're
+     * available. Defaults to false.
+     *
+     * @param ordered true to return results in input order
+     * @return this builder for chaining options together
+     * @since 5.10.0
+     */
+    public Builder ordered(boolean ordered) {
+      this.ordered = ordered;
+      return this;
+    }
+
+    /**
+     * Runs the requests on the given executor, with a blocking call each, instead of on the
+     * OkHttp dispatcher. The executor should be able to run at least the maximum concurrency
+     * of requests at once, like the virtual thread per task executor of Java 21.
+     *
+     * @param executor the executor running the requests, or null to use the OkHttp dispatcher
+     * @return this builder for chaining options together
+     * @since 5.10.0
+     */
+    public Builder executor(@Nullable Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Build a new {@link BulkExecutor} object.
+     *
+     * @return a new {@link BulkExecutor} using the provided values in this builder
+     * @since 5.10.0
+     */
+    public BulkExecutor build() {
+      return new BulkExecutor(this);
+    }
+  }
+}
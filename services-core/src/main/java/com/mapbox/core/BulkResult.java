@@ -0,0 +1,82 @@
+package com.mapbox.core;
+
+import androidx.annotation.Nullable;
+
+import retrofit2.Response;
+
+/**
+ * The outcome of one request run by a {@link BulkExecutor}: either the response received, or the
+ * error which prevented the request from completing.
+ *
+ * @param <T> the type of the response body
+ * @since 5.10.0
+ */
+public final class BulkResult<T> {
+
+  private final long index;
+  private final MapboxService<T, ?> service;
+  private final Response<T> response;
+  private final Throwable error;
+
+  BulkResult(long index, @Nullable MapboxService<T, ?> service, @Nullable Response<T> response,
+             @Nullable Throwable error) {
+    this.index = index;
+    this.service = service;
+    this.response = response;
+    this.error = error;
+  }
+
+  /**
+   * The position of the request in the input of the executor, starting at 0.
+   *
+   * @return the index of the request
+   * @since 5.10.0
+   */
+  public long index() {
+    return index;
+  }
+
+  /**
+   * The service which made the request.
+   *
+   * @return the service, or null if taking it from the input failed
+   * @since 5.10.0
+   */
+  @Nullable
+  public MapboxService<T, ?> service() {
+    return service;
+  }
+
+  /**
+   * The response received, successful or not.
+   *
+   * @return the response, or null if the request failed with an {@link #error()}
+   * @since 5.10.0
+   */
+  @Nullable
+  public Response<T> response() {
+    return response;
+  }
+
+  /**
+   * The error which prevented the request from completing, such as an I/O error, an invalid
+   * service or the cancellation of the request.
+   *
+   * @return the error, or null if a response was received
+   * @since 5.10.0
+   */
+  @Nullable
+  public Throwable error() {
+    return error;
+  }
+
+  /**
+   * Whether a response was received and its HTTP status code is in the range [200..300).
+   *
+   * @return true if the request succeeded
+   * @since 5.10.0
+   */
+  public boolean isSuccessful() {
+    return error == null && response != null && response.isSuccessful();
+  }
+}
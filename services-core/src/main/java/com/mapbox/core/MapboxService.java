@@ -1,8 +1,12 @@
 package com.mapbox.core;
 
+import androidx.annotation.Nullable;
+
 import com.google.gson.GsonBuilder;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import okhttp3.CipherSuite;
@@ -30,6 +34,8 @@ public abstract class MapboxService<T, S> {
   private boolean enableDebug;
   protected OkHttpClient okHttpClient;
   private okhttp3.Call.Factory callFactory;
+  private RequestCoalescer requestCoalescer;
+  private ResponseCache responseCache;
   private Retrofit retrofit;
   private Call<T> call;
   private S service;
@@ -68,7 +74,7 @@ public abstract class MapboxService<T, S> {
    * @return call
    * @since 3.0.0
    */
-  protected Call<T> getCall() {
+  protected synchronized Call<T> getCall() {
     if (call == null) {
       call = initializeCall();
     }
@@ -85,7 +91,12 @@ public abstract class MapboxService<T, S> {
    * @since 3.0.0
    */
   public Response<T> executeCall() throws IOException {
-    return getCall().execute();
+    Call<T> call = getCall();
+    Response<T> cached = cachedResponse(call);
+    if (cached != null) {
+      return processResponse(cached);
+    }
+    return deliverResponse(call, call.execute());
   }
 
   /**
@@ -95,8 +106,210 @@ public abstract class MapboxService<T, S> {
    * @param callback a {@link Callback} which is used once the API response is created.
    * @since 3.0.0
    */
-  public void enqueueCall(Callback<T> callback) {
-    getCall().enqueue(callback);
+  public void enqueueCall(final Callback<T> callback) {
+    startCall(getCall(), null, callback);
+  }
+
+  /**
+   * Starts the request without blocking, on a clone of the service call run by the OkHttp
+   * dispatcher. Unlike {@link #executeCall()} and {@link #enqueueCall(Callback)}, it can be used
+   * any number of times on the same service, even while previous requests are in flight, and
+   * shares the HTTP exchange of identical requests in flight when a {@link RequestCoalescer} is
+   * set.
+   *
+   * @return the pending response, processed like the one of {@link #executeCall()}
+   * @since 5.10.0
+   */
+  public ServiceFuture<T> executeAsync() {
+    return startAsync(null);
+  }
+
+  /**
+   * Starts the request on the given executor, which runs a clone of the service call with a
+   * blocking {@link Call#execute()}. This suits executors whose threads are cheap to block, like
+   * the virtual thread per task executor of Java 21, where the calling code would rather block
+   * than use callbacks. It can be used any number of times on the same service, even while
+   * previous requests are in flight, and shares the HTTP exchange of identical requests in flight
+   * when a {@link RequestCoalescer} is set.
+   *
+   * @param executor the executor running the request
+   * @return the pending response, processed like the one of {@link #executeCall()}
+   * @since 5.10.0
+   */
+  public ServiceFuture<T> executeAsync(Executor executor) {
+    return startAsync(executor);
+  }
+
+  private ServiceFuture<T> startAsync(@Nullable Executor executor) {
+    Call<T> call = cloneCall();
+    if (requestCoalescer != null) {
+      return requestCoalescer.execute(this, call, executor);
+    }
+    final ServiceFuture<T> future = new ServiceFuture<>(call);
+    startCall(call, executor, new Callback<T>() {
+      @Override
+      public void onResponse(Call<T> call, Response<T> response) {
+        future.complete(response);
+      }
+
+      @Override
+      public void onFailure(Call<T> call, Throwable throwable) {
+        future.fail(throwable);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Processes the responses of every call of the service, before they're returned by
+   * {@link #executeCall()}, {@link #enqueueCall(Callback)} or {@link #executeAsync()}. The
+   * default implementation returns the response unchanged.
+   *
+   * @param response the response as received
+   * @return the response handed to the caller
+   * @since 5.10.0
+   */
+  protected Response<T> processResponse(Response<T> response) {
+    return response;
+  }
+
+  /**
+   * Runs a call without blocking the calling thread, and hands its processed response to the
+   * callback. The call is run with a blocking execute on the executor if there's one, otherwise
+   * it's enqueued on the OkHttp dispatcher. When a {@link ResponseCache} is set, it's looked up
+   * first on the executor, or the executor service of the dispatcher. Hits reach the callback on
+   * the executor thread when there's an executor, otherwise on the callback executor of Retrofit,
+   * like the responses of enqueued calls, or on the dispatcher thread when Retrofit has none.
+   */
+  void startCall(final Call<T> call, @Nullable final Executor executor,
+                 final Callback<T> callback) {
+    if (executor == null && responseCache == null) {
+      call.enqueue(delivering(callback));
+      return;
+    }
+    Executor runner = executor != null ? executor : dispatcherExecutor();
+    runner.execute(new Runnable() {
+      @Override
+      public void run() {
+        Callback<T> target = executor != null ? callback : posting(callback);
+        if (call.isCanceled()) {
+          target.onFailure(call, new IOException("Canceled"));
+          return;
+        }
+        Response<T> processed = null;
+        try {
+          Response<T> cached = cachedResponse(call);
+          if (cached != null) {
+            processed = processResponse(cached);
+          }
+        } catch (RuntimeException exception) {
+          target.onFailure(call, exception);
+          return;
+        }
+        if (processed == null) {
+          runCall(call, executor != null, delivering(callback));
+        } else {
+          target.onResponse(call, processed);
+        }
+      }
+    });
+  }
+
+  /**
+   * Wraps a callback so it's called on the callback executor of Retrofit, if there's one, like
+   * the callbacks of the calls enqueued through Retrofit.
+   */
+  private Callback<T> posting(final Callback<T> callback) {
+    Retrofit retrofit = getRetrofit();
+    final Executor callbackExecutor = retrofit == null ? null : retrofit.callbackExecutor();
+    if (callbackExecutor == null) {
+      return callback;
+    }
+    return new Callback<T>() {
+      @Override
+      public void onResponse(final Call<T> call, final Response<T> response) {
+        callbackExecutor.execute(new Runnable() {
+          @Override
+          public void run() {
+            callback.onResponse(call, response);
+          }
+        });
+      }
+
+      @Override
+      public void onFailure(final Call<T> call, final Throwable throwable) {
+        callbackExecutor.execute(new Runnable() {
+          @Override
+          public void run() {
+            callback.onFailure(call, throwable);
+          }
+        });
+      }
+    };
+  }
+
+  private static <T> void runCall(Call<T> call, boolean blocking, Callback<T> callback) {
+    if (!blocking) {
+      call.enqueue(callback);
+      return;
+    }
+    Response<T> response;
+    try {
+      response = call.execute();
+    } catch (IOException | RuntimeException exception) {
+      callback.onFailure(call, exception);
+      return;
+    }
+    callback.onResponse(call, response);
+  }
+
+  /**
+   * Wraps a callback so it gets the responses received from the network cached and processed,
+   * and the errors raised while processing them as failures.
+   */
+  private Callback<T> delivering(final Callback<T> callback) {
+    return new Callback<T>() {
+      @Override
+      public void onResponse(Call<T> call, Response<T> response) {
+        Response<T> processed;
+        try {
+          processed = deliverResponse(call, response);
+        } catch (RuntimeException exception) {
+          callback.onFailure(call, exception);
+          return;
+        }
+        callback.onResponse(call, processed);
+      }
+
+      @Override
+      public void onFailure(Call<T> call, Throwable throwable) {
+        callback.onFailure(call, throwable);
+      }
+    };
+  }
+
+  /**
+   * Caches a response received for a call if a {@link ResponseCache} is set, and processes it.
+   */
+  private Response<T> deliverResponse(Call<T> call, Response<T> response) {
+    if (responseCache != null) {
+      responseCache.put(this, call.request(), response);
+    }
+    return processResponse(response);
+  }
+
+  private Response<T> cachedResponse(Call<T> call) {
+    return responseCache == null ? null : responseCache.get(this, call.request());
+  }
+
+  /**
+   * The executor service of the OkHttp dispatcher running the calls of this service.
+   */
+  private Executor dispatcherExecutor() {
+    okhttp3.Call.Factory callFactory = resolveCallFactory();
+    OkHttpClient client = callFactory instanceof OkHttpClient
+      ? (OkHttpClient) callFactory : ServiceRegistry.sharedClient();
+    return client.dispatcher().executorService();
   }
 
   /**
@@ -121,7 +334,9 @@ public abstract class MapboxService<T, S> {
 
   /**
    * Creates the Retrofit object and the service if they are not already created. Subclasses can
-   * override getGsonBuilder to add anything to the GsonBuilder.
+   * override getGsonBuilder to add anything to the GsonBuilder. The Retrofit object is taken from
+   * the {@link ServiceRegistry} when another service already created one with the same base url,
+   * call factory and {@link #converterKey()}.
    *
    * @return new service if not already created, otherwise the existing service
    * @since 3.0.0
@@ -132,21 +347,47 @@ public abstract class MapboxService<T, S> {
       return service;
     }
 
-    Retrofit.Builder retrofitBuilder = new Retrofit.Builder()
-      .baseUrl(baseUrl())
-      .addConverterFactory(GsonConverterFactory.create(getGsonBuilder().create()));
-
-    if (getCallFactory() != null) {
-      retrofitBuilder.callFactory(getCallFactory());
-    } else {
-      retrofitBuilder.client(getOkHttpClient());
-    }
+    final String baseUrl = baseUrl();
+    final okhttp3.Call.Factory callFactory = resolveCallFactory();
+    ServiceRegistry.Factory<Retrofit> retrofitFactory = new ServiceRegistry.Factory<Retrofit>() {
+      @Override
+      public Retrofit create() {
+        return new Retrofit.Builder()
+          .baseUrl(baseUrl)
+          .addConverterFactory(GsonConverterFactory.create(getGsonBuilder().create()))
+          .callFactory(callFactory)
+          .build();
+      }
+    };
 
-    retrofit = retrofitBuilder.build();
+    Object converterKey = converterKey();
+    retrofit = converterKey == null ? retrofitFactory.create() : ServiceRegistry.retrofit(
+      Arrays.asList(baseUrl, callFactory, converterKey), retrofitFactory);
     service = (S) retrofit.create(serviceType);
     return service;
   }
 
+  /**
+   * The call factory making the requests of this service: the one set with
+   * {@link #setCallFactory(okhttp3.Call.Factory)}, or else the OkHttp client of the service.
+   */
+  okhttp3.Call.Factory resolveCallFactory() {
+    return getCallFactory() != null ? getCallFactory() : getOkHttpClient();
+  }
+
+  /**
+   * Identifies the Gson configuration returned by {@link #getGsonBuilder()}, so services with the
+   * same one can share their Retrofit object. By default, it's the class of the service, which
+   * fits a GsonBuilder only depending on the class. Subclasses whose GsonBuilder depends on their
+   * own state must return a key covering that state, or null to never share their Retrofit object.
+   *
+   * @return the key of the Gson configuration, or null if it can't be shared
+   * @since 5.10.0
+   */
+  protected Object converterKey() {
+    return getClass();
+  }
+
   /**
    * Returns the retrofit instance.
    *
@@ -207,6 +448,53 @@ public abstract class MapboxService<T, S> {
     this.callFactory = callFactory;
   }
 
+  /**
+   * Returns the coalescer sharing the requests of {@link #executeAsync()} with identical requests
+   * in flight, if any.
+   *
+   * @return the request coalescer, or null if requests are not coalesced
+   * @since 5.10.0
+   */
+  public RequestCoalescer getRequestCoalescer() {
+    return requestCoalescer;
+  }
+
+  /**
+   * Specify a coalescer for the requests of {@link #executeAsync()} and
+   * {@link #executeAsync(Executor)}, usually shared by many services, so identical requests in
+   * flight at the same time share a single HTTP exchange and response.
+   *
+   * @param requestCoalescer the coalescer, or null to stop coalescing requests
+   * @since 5.10.0
+   */
+  public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+    this.requestCoalescer = requestCoalescer;
+  }
+
+  /**
+   * Returns the cache answering the requests of this service, if any.
+   *
+   * @return the response cache, or null if responses are not cached
+   * @since 5.10.0
+   */
+  public ResponseCache getResponseCache() {
+    return responseCache;
+  }
+
+  /**
+   * Specify a cache answering the requests of this service, usually shared by many services.
+   * {@link #executeCall()}, {@link #enqueueCall(Callback)} and both forms of
+   * {@code executeAsync} look up the cache before making the request, and cache the successful
+   * responses they receive. Only {@link #executeCall()} looks it up on the calling thread, the
+   * others on the thread running the request.
+   *
+   * @param responseCache the cache, or null to stop caching responses
+   * @since 5.10.0
+   */
+  public void setResponseCache(ResponseCache responseCache) {
+    this.responseCache = responseCache;
+  }
+
   /**
    * Used Internally.
    *
@@ -216,35 +504,45 @@ public abstract class MapboxService<T, S> {
   protected synchronized OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
       if (isEnableDebug()) {
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
-        ConnectionSpec spec = new ConnectionSpec.Builder(ConnectionSpec.COMPATIBLE_TLS)
-                .supportsTlsExtensions(true)
-                .tlsVersions(TlsVersion.TLS_1_2, TlsVersion.TLS_1_1, TlsVersion.TLS_1_0)
-                .cipherSuites(
-                        CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256,
-                        CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256,
-                        CipherSuite.TLS_DHE_RSA_WITH_AES_128_GCM_SHA256,
-                        CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_CBC_SHA,
-                        CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_CBC_SHA,
-                        CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA,
-                        CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_CBC_SHA,
-                        CipherSuite.TLS_ECDHE_ECDSA_WITH_RC4_128_SHA,
-                        CipherSuite.TLS_ECDHE_RSA_WITH_RC4_128_SHA,
-                        CipherSuite.TLS_DHE_RSA_WITH_AES_128_CBC_SHA,
-                        CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA,
-                        CipherSuite.TLS_DHE_RSA_WITH_AES_256_CBC_SHA)
-                .build();
-        OkHttpClient.Builder httpClient = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .writeTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS);
-        httpClient.addInterceptor(logging);
-        okHttpClient = httpClient.build();
+        okHttpClient = ServiceRegistry.client(Arrays.asList(MapboxService.class, true),
+          new ServiceRegistry.Factory<OkHttpClient>() {
+            @Override
+            public OkHttpClient create() {
+              return newDebugHttpClient();
+            }
+          });
       } else {
-        okHttpClient = new OkHttpClient();
+        okHttpClient = ServiceRegistry.sharedClient();
       }
     }
     return okHttpClient;
   }
+
+  private static OkHttpClient newDebugHttpClient() {
+    HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
+    logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
+    ConnectionSpec spec = new ConnectionSpec.Builder(ConnectionSpec.COMPATIBLE_TLS)
+            .supportsTlsExtensions(true)
+            .tlsVersions(TlsVersion.TLS_1_2, TlsVersion.TLS_1_1, TlsVersion.TLS_1_0)
+            .cipherSuites(
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256,
+                    CipherSuite.TLS_DHE_RSA_WITH_AES_128_GCM_SHA256,
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_CBC_SHA,
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_CBC_SHA,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_CBC_SHA,
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_RC4_128_SHA,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_RC4_128_SHA,
+                    CipherSuite.TLS_DHE_RSA_WITH_AES_128_CBC_SHA,
+                    CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA,
+                    CipherSuite.TLS_DHE_RSA_WITH_AES_256_CBC_SHA)
+            .build();
+    OkHttpClient.Builder httpClient = ServiceRegistry.sharedClient().newBuilder()
+            .connectTimeout(30, TimeUnit.SECONDS)
+            .writeTimeout(30, TimeUnit.SECONDS)
+            .readTimeout(30, TimeUnit.SECONDS);
+    httpClient.addInterceptor(logging);
+    return httpClient.build();
+  }
 }
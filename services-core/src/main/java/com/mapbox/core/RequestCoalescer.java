@@ -0,0 +1,228 @@
+package com.mapbox.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Coalesces identical requests made while one of them is in flight, so they share a single HTTP
+ * exchange and a single deserialized response. Coalescing is opt-in: it applies to the
+ * {@link MapboxService#executeAsync()} and {@link MapboxService#executeAsync(Executor)} requests of
+ * services given a coalescer with {@link MapboxService#setRequestCoalescer(RequestCoalescer)}.
+ * <p>
+ * Requests are identical when they come from the same service class, are made by the same call
+ * factory, so go through the same interceptors and event listeners, and have the same method, URL
+ * and body, as built by the service call. Every request still gets its own
+ * {@link ServiceFuture}, completed with the same {@link Response}: cancelling one of them only
+ * cancels the HTTP exchange once every request sharing it has been cancelled. Raw
+ * {@link ResponseBody} responses, which can only be read once, are copied for every request.
+ * Once the exchange completes, the next identical request starts a new one, so responses are
+ * never reused after the fact.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class RequestCoalescer {
+
+  private final Map<List<?>, Flight<?>> flights = new HashMap<>();
+
+  /**
+   * The number of distinct requests currently in flight through this coalescer.
+   *
+   * @return the number of shared HTTP exchanges in flight
+   * @since 5.10.0
+   */
+  public synchronized int inFlightCount() {
+    return flights.size();
+  }
+
+  /**
+   * Joins the flight of an identical request, or starts a new one with the given call.
+   *
+   * @param executor runs the call with a blocking execute if not null, otherwise the call is
+   *                 enqueued on the OkHttp dispatcher
+   */
+  <T> ServiceFuture<T> execute(@NonNull MapboxService<T, ?> service, @NonNull Call<T> call,
+                               @Nullable Executor executor) {
+    List<?> key = key(service, call.request());
+    Flight<T> flight;
+    ServiceFuture<T> future;
+    synchronized (this) {
+      @SuppressWarnings("unchecked")
+      Flight<T> existing = key == null ? null : (Flight<T>) flights.get(key);
+      if (existing != null) {
+        return existing.join();
+      }
+      flight = new Flight<>(key, service, call);
+      future = flight.join();
+      if (key != null) {
+        flights.put(key, flight);
+      }
+    }
+    flight.start(executor);
+    return future;
+  }
+
+  @Nullable
+  private static List<?> key(MapboxService<?, ?> service, Request request) {
+    Object bodyHash = null;
+    if (request.body() != null) {
+      Buffer buffer = new Buffer();
+      try {
+        request.body().writeTo(buffer);
+      } catch (IOException exception) {
+        // A body which can't be read upfront is never coalesced
+        return null;
+      }
+      bodyHash = buffer.sha256();
+    }
+    return Arrays.asList(service.getClass(), service.resolveCallFactory(), request.method(),
+      request.url(), bodyHash);
+  }
+
+  /**
+   * One shared HTTP exchange and the futures waiting for it.
+   *
+   * @since 5.10.0
+   */
+  private final class Flight<T> implements Callback<T> {
+
+    private final List<?> key;
+    private final MapboxService<T, ?> service;
+    private final Call<T> call;
+    // Cancelled waiters stay in the list, completing them afterwards is a no-op
+    private final List<ServiceFuture<T>> waiters = new ArrayList<>();
+    private int active;
+    private boolean finished;
+
+    Flight(List<?> key, MapboxService<T, ?> service, Call<T> call) {
+      this.key = key;
+      this.service = service;
+      this.call = call;
+    }
+
+    // Called while holding the coalescer lock
+    ServiceFuture<T> join() {
+      ServiceFuture<T> future = new ServiceFuture<>(call, new Runnable() {
+        @Override
+        public void run() {
+          leave();
+        }
+      });
+      waiters.add(future);
+      active++;
+      return future;
+    }
+
+    void start(@Nullable Executor executor) {
+      service.startCall(call, executor, this);
+    }
+
+    /**
+     * Receives the response processed by the service, from its cache or from the network.
+     */
+    @Override
+    public void onResponse(Call<T> call, Response<T> response) {
+      List<ServiceFuture<T>> pending = finish();
+      try {
+        BufferedBody copies = BufferedBody.of(response);
+        for (ServiceFuture<T> waiter : pending) {
+          waiter.complete(copies == null ? response : copies.<T>copy(response));
+        }
+      } catch (IOException | RuntimeException exception) {
+        for (ServiceFuture<T> waiter : pending) {
+          waiter.fail(exception);
+        }
+      }
+    }
+
+    @Override
+    public void onFailure(Call<T> call, Throwable throwable) {
+      for (ServiceFuture<T> waiter : finish()) {
+        waiter.fail(throwable);
+      }
+    }
+
+    private List<ServiceFuture<T>> finish() {
+      synchronized (RequestCoalescer.this) {
+        finished = true;
+        if (key != null && flights.get(key) == this) {
+          flights.remove(key);
+        }
+        List<ServiceFuture<T>> pending = new ArrayList<>(waiters);
+        waiters.clear();
+        return pending;
+      }
+    }
+
+    private void leave() {
+      synchronized (RequestCoalescer.this) {
+        active--;
+        if (active > 0 || finished) {
+          return;
+        }
+        // Nobody is waiting anymore, later identical requests start their own exchange
+        finished = true;
+        waiters.clear();
+        if (key != null && flights.get(key) == this) {
+          flights.remove(key);
+        }
+      }
+      call.cancel();
+    }
+  }
+
+  /**
+   * The content of a raw response body, read once so every request gets its own copy.
+   *
+   * @since 5.10.0
+   */
+  private static final class BufferedBody {
+
+    private final ResponseBody body;
+    private final byte[] bytes;
+    private final boolean error;
+
+    private BufferedBody(ResponseBody body, byte[] bytes, boolean error) {
+      this.body = body;
+      this.bytes = bytes;
+      this.error = error;
+    }
+
+    @Nullable
+    static BufferedBody of(Response<?> response) throws IOException {
+      if (response.body() instanceof ResponseBody) {
+        ResponseBody body = (ResponseBody) response.body();
+        return new BufferedBody(body, body.bytes(), false);
+      }
+      if (response.errorBody() != null) {
+        ResponseBody body = response.errorBody();
+        return new BufferedBody(body, body.bytes(), true);
+      }
+      return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Response<T> copy(Response<T> response) {
+      ResponseBody copy = ResponseBody.create(body.contentType(), bytes);
+      if (error) {
+        return Response.error(copy, response.raw());
+      }
+      return Response.success((T) copy, response.raw());
+    }
+  }
+}
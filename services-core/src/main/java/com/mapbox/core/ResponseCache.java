@@ -0,0 +1,514 @@
+package com.mapbox.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ByteString;
+import retrofit2.Response;
+
+/**
+ * Application level cache of service responses, for the APIs which HTTP caching can't help with:
+ * the access token is part of their URLs and some of their requests are POSTs. Responses are
+ * keyed on the service class, the method, the URL with its query parameters sorted and the access
+ * token left out, and the body of the request, so the same request made with another access
+ * token is a hit.
+ * <p>
+ * Decoded responses are kept in a memory tier holding a bounded number of them, evicting the
+ * least recently used ones. An optional disk tier keeps them as gzipped JSON, written with the
+ * Gson configuration of the service, up to a maximum number of bytes. Every service class can have
+ * its own time to live, services without one use the default, and a time to live of zero disables
+ * caching for a service.
+ * </p><p>
+ * A cache is set on services with {@link MapboxService#setResponseCache(ResponseCache)}, and is
+ * usually shared by all of them. Only successful responses are cached, and raw
+ * {@link ResponseBody} responses are never cached. Cached responses go through
+ * {@link MapboxService#processResponse(Response)} again when they're returned, so for instance
+ * the routes of cached Directions responses still get the route options of the request. The
+ * cache is looked up on the thread running the request, which is the OkHttp dispatcher or the
+ * given executor for asynchronous requests, and disk errors are treated as misses.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class ResponseCache {
+
+  private static final int DISK_FORMAT_VERSION = 1;
+  private static final String DISK_SUFFIX = ".json.gz";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+  private static final String ACCESS_TOKEN_PARAMETER = "access_token";
+
+  private final long defaultTtlMillis;
+  private final Map<Class<?>, Long> serviceTtlMillis;
+  private final Map<String, Entry> memory;
+  @Nullable
+  private final File directory;
+  private final long maxDiskBytes;
+  private final Object diskLock = new Object();
+  // File names from the least to the most recently used, with their sizes, read lazily
+  private Map<String, Long> diskIndex;
+  private long diskBytes;
+
+  private ResponseCache(Builder builder) {
+    defaultTtlMillis = builder.defaultTtlMillis;
+    serviceTtlMillis = new LinkedHashMap<>(builder.serviceTtlMillis);
+    final int maxMemoryEntries = builder.maxMemoryEntries;
+    memory = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxMemoryEntries;
+      }
+    };
+    directory = builder.directory;
+    maxDiskBytes = builder.maxDiskBytes;
+  }
+
+  /**
+   * Build a new {@link ResponseCache}, with a memory tier of 100 responses kept for 5 minutes by
+   * default.
+   *
+   * @return a {@link Builder} object for creating this object
+   * @since 5.10.0
+   */
+  @NonNull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * The number of responses in the memory tier, expired or not.
+   *
+   * @return the number of responses kept in memory
+   * @since 5.10.0
+   */
+  public synchronized int memoryEntryCount() {
+    return memory.size();
+  }
+
+  /**
+   * Drops every cached response, from both tiers.
+   *
+   * @since 5.10.0
+   */
+  public void clear() {
+    synchronized (this) {
+      memory.clear();
+    }
+    if (directory == null) {
+      return;
+    }
+    synchronized (diskLock) {
+      for (String name : diskIndex().keySet()) {
+        new File(directory, name).delete();
+      }
+      diskIndex.clear();
+      diskBytes = 0;
+    }
+  }
+
+  /**
+   * Returns the cached response to a request, without its processing by the service. The raw
+   * response is built for the given request, never shared with the request which was cached.
+   */
+  @Nullable
+  <T> Response<T> get(@NonNull MapboxService<T, ?> service, @NonNull Request request) {
+    long ttl = ttlMillis(service.getClass());
+    String key = ttl > 0 ? key(service.getClass(), request) : null;
+    if (key == null) {
+      return null;
+    }
+    long now = System.currentTimeMillis();
+    Entry entry;
+    synchronized (this) {
+      entry = memory.get(key);
+      if (entry != null && entry.expiresAt <= now) {
+        memory.remove(key);
+        entry = null;
+      }
+    }
+    if (entry == null && directory != null) {
+      entry = readDisk(service, key, now);
+      if (entry != null) {
+        synchronized (this) {
+          memory.put(key, entry);
+        }
+      }
+    }
+    return entry == null ? null : entry.<T>response(request);
+  }
+
+  /**
+   * Caches the response to a request, as received by the service.
+   */
+  <T> void put(@NonNull MapboxService<T, ?> service, @NonNull Request request,
+               @NonNull Response<T> response) {
+    long ttl = ttlMillis(service.getClass());
+    if (ttl <= 0 || !response.isSuccessful() || response.body() == null
+      || response.body() instanceof ResponseBody) {
+      return;
+    }
+    String key = key(service.getClass(), request);
+    if (key == null) {
+      return;
+    }
+    Entry entry = new Entry(response.body(), System.currentTimeMillis() + ttl);
+    synchronized (this) {
+      memory.put(key, entry);
+    }
+    if (directory != null) {
+      writeDisk(service, key, entry);
+    }
+  }
+
+  private long ttlMillis(Class<?> serviceClass) {
+    for (Map.Entry<Class<?>, Long> ttl : serviceTtlMillis.entrySet()) {
+      if (ttl.getKey().isAssignableFrom(serviceClass)) {
+        return ttl.getValue();
+      }
+    }
+    return defaultTtlMillis;
+  }
+
+  @Nullable
+  private static String key(Class<?> serviceClass, Request request) {
+    final HttpUrl url = request.url();
+    List<Integer> parameters = new ArrayList<>();
+    for (int i = 0; i < url.querySize(); i++) {
+      if (!ACCESS_TOKEN_PARAMETER.equals(url.queryParameterName(i))) {
+        parameters.add(i);
+      }
+    }
+    // Sorting is stable, so repeated parameters keep their order
+    Collections.sort(parameters, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer first, Integer second) {
+        return url.queryParameterName(first).compareTo(url.queryParameterName(second));
+      }
+    });
+
+    StringBuilder key = new StringBuilder()
+      .append(serviceClass.getName()).append('\n')
+      .append(request.method()).append('\n')
+      .append(url.newBuilder().query(null).build()).append('\n');
+    for (int parameter : parameters) {
+      key.append(url.queryParameterName(parameter)).append('=')
+        .append(url.queryParameterValue(parameter)).append('&');
+    }
+    key.append('\n');
+    if (request.body() != null) {
+      Buffer buffer = new Buffer();
+      try {
+        request.body().writeTo(buffer);
+      } catch (IOException exception) {
+        // A body which can't be read upfront is never cached
+        return null;
+      }
+      key.append(buffer.sha256().hex());
+    }
+    return key.toString();
+  }
+
+  @Nullable
+  private Entry readDisk(MapboxService<?, ?> service, String key, long now) {
+    Type type = responseType(service.getClass());
+    if (type == null) {
+      return null;
+    }
+    synchronized (diskLock) {
+      String name = fileName(key);
+      if (!diskIndex().containsKey(name)) {
+        return null;
+      }
+      File file = new File(directory, name);
+      try {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(
+          new GZIPInputStream(new FileInputStream(file))));
+        try {
+          if (input.readInt() == DISK_FORMAT_VERSION && key.equals(input.readUTF())) {
+            long expiresAt = input.readLong();
+            if (expiresAt > now) {
+              Gson gson = service.getGsonBuilder().create();
+              Object body = gson.fromJson(new InputStreamReader(input, "UTF-8"), type);
+              if (body != null) {
+                // Touching the entry makes it the most recently used
+                diskIndex.put(name, diskIndex.remove(name));
+                return new Entry(body, expiresAt);
+              }
+            }
+          }
+        } finally {
+          input.close();
+        }
+      } catch (IOException | JsonParseException exception) {
+        // Unreadable entries are dropped like expired ones
+      }
+      deleteDisk(name);
+      return null;
+    }
+  }
+
+  private void writeDisk(MapboxService<?, ?> service, String key, Entry entry) {
+    if (responseType(service.getClass()) == null) {
+      return;
+    }
+    String json = service.getGsonBuilder().create().toJson(entry.body);
+    synchronized (diskLock) {
+      String name = fileName(key);
+      File temporary = new File(directory, name + TEMPORARY_SUFFIX);
+      try {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+          new GZIPOutputStream(new FileOutputStream(temporary))));
+        try {
+          output.writeInt(DISK_FORMAT_VERSION);
+          output.writeUTF(key);
+          output.writeLong(entry.expiresAt);
+          output.write(json.getBytes("UTF-8"));
+        } finally {
+          output.close();
+        }
+        deleteDisk(name);
+        File file = new File(directory, name);
+        if (!temporary.renameTo(file)) {
+          temporary.delete();
+          return;
+        }
+        diskIndex().put(name, file.length());
+        diskBytes += file.length();
+      } catch (IOException exception) {
+        temporary.delete();
+        return;
+      }
+
+      Iterator<Map.Entry<String, Long>> eldest = diskIndex.entrySet().iterator();
+      while (diskBytes > maxDiskBytes && eldest.hasNext()) {
+        Map.Entry<String, Long> file = eldest.next();
+        new File(directory, file.getKey()).delete();
+        diskBytes -= file.getValue();
+        eldest.remove();
+      }
+    }
+  }
+
+  // Called while holding the disk lock
+  private void deleteDisk(String name) {
+    Long size = diskIndex().remove(name);
+    if (size != null) {
+      new File(directory, name).delete();
+      diskBytes -= size;
+    }
+  }
+
+  // Called while holding the disk lock
+  private Map<String, Long> diskIndex() {
+    if (diskIndex == null) {
+      diskIndex = new LinkedHashMap<>();
+      directory.mkdirs();
+      File[] files = directory.listFiles();
+      if (files != null) {
+        List<File> cached = new ArrayList<>();
+        for (File file : files) {
+          if (file.getName().endsWith(DISK_SUFFIX)) {
+            cached.add(file);
+          } else if (file.getName().endsWith(DISK_SUFFIX + TEMPORARY_SUFFIX)) {
+            // Left over by a write which didn't complete, like when the process was killed
+            file.delete();
+          }
+        }
+        Collections.sort(cached, new Comparator<File>() {
+          @Override
+          public int compare(File first, File second) {
+            long difference = first.lastModified() - second.lastModified();
+            return difference < 0 ? -1 : difference > 0 ? 1 : 0;
+          }
+        });
+        for (File file : cached) {
+          diskIndex.put(file.getName(), file.length());
+          diskBytes += file.length();
+        }
+      }
+    }
+    return diskIndex;
+  }
+
+  private static String fileName(String key) {
+    return ByteString.encodeUtf8(key).sha256().hex() + DISK_SUFFIX;
+  }
+
+  private static okhttp3.Response cachedRawResponse(Request request) {
+    return new okhttp3.Response.Builder()
+      .request(request)
+      .protocol(Protocol.HTTP_1_1)
+      .code(200)
+      .message("OK")
+      .build();
+  }
+
+  /**
+   * The type of the response body of a service class, the first type argument of
+   * {@link MapboxService}, or null if it's not known at runtime.
+   */
+  @Nullable
+  private static Type responseType(Class<?> serviceClass) {
+    Type type = serviceClass.getGenericSuperclass();
+    while (type != null) {
+      Class<?> rawType;
+      if (type instanceof ParameterizedType) {
+        ParameterizedType parameterized = (ParameterizedType) type;
+        rawType = (Class<?>) parameterized.getRawType();
+        if (rawType == MapboxService.class) {
+          Type responseType = parameterized.getActualTypeArguments()[0];
+          return responseType instanceof TypeVariable
+            || responseType == ResponseBody.class ? null : responseType;
+        }
+      } else if (type instanceof Class) {
+        rawType = (Class<?>) type;
+      } else {
+        return null;
+      }
+      type = rawType.getGenericSuperclass();
+    }
+    return null;
+  }
+
+  /**
+   * A decoded response body and its expiration time. The raw response of the request which was
+   * cached isn't kept, since it carries the URL of that request and its access token.
+   *
+   * @since 5.10.0
+   */
+  private static final class Entry {
+
+    private final Object body;
+    private final long expiresAt;
+
+    Entry(Object body, long expiresAt) {
+      this.body = body;
+      this.expiresAt = expiresAt;
+    }
+
+    /**
+     * The cached response to the given request, with a raw response of its own.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Response<T> response(Request request) {
+      return Response.success((T) body, cachedRawResponse(request));
+    }
+  }
+
+  /**
+   * This builder is used to create a new {@link ResponseCache}.
+   *
+   * @since 5.10.0
+   */
+  public static final class Builder {
+
+    private int maxMemoryEntries = 100;
+    private long defaultTtlMillis = TimeUnit.MINUTES.toMillis(5);
+    private final Map<Class<?>, Long> serviceTtlMillis = new LinkedHashMap<>();
+    private File directory;
+    private long maxDiskBytes;
+
+    Builder() {
+    }
+
+    /**
+     * The maximum number of decoded responses kept in memory, the least recently used ones
+     * being evicted first.
+     *
+     * @param maxMemoryEntries the maximum number of responses in memory, at least 1
+     * @return this builder for chaining options together
+     * @since 5.10.0
+     */
+    public Builder maxMemoryEntries(int maxMemoryEntries) {
+      if (maxMemoryEntries < 1) {
+        throw new IllegalArgumentException("The memory tier must hold at least one response.");
+      }
+      this.maxMemoryEntries = maxMemoryEntries;
+      return this;
+    }
+
+    /**
+     * Keeps responses in a directory too, as gzipped JSON, so they survive the process.
+     *
+     * @param directory    the directory holding the cached responses, only used by this cache
+     * @param maxDiskBytes the maximum size of the cached responses on disk, the least recently
+     *                     used ones being deleted first
+     * @return this builder for chaining options together
+     * @since 5.10.0
+     */
+    public Builder directory(@NonNull File directory, long maxDiskBytes) {
+      this.directory = directory;
+      this.maxDiskBytes = maxDiskBytes;
+      return this;
+    }
+
+    /**
+     * The time to live of the responses of services without a time to live of their own.
+     *
+     * @param duration the time to live, zero to only cache services with their own time to live
+     * @param unit     the unit of the duration
+     * @return this builder for chaining options together
+     * @since 5.10.0
+     */
+    public Builder defaultTtl(long duration, @NonNull TimeUnit unit) {
+      this.defaultTtlMillis = unit.toMillis(duration);
+      return this;
+    }
+
+    /**
+     * The time to live of the responses of a service class and its subclasses. When a service
+     * matches several classes, the one given first wins.
+     *
+     * @param serviceClass the class of the service, for instance {@code MapboxDirections.class}
+     * @param duration     the time to live, zero to never cache the responses of the service
+     * @param unit         the unit of the duration
+     * @return this builder for chaining options together
+     * @since 5.10.0
+     */
+    public Builder ttl(@NonNull Class<? extends MapboxService> serviceClass, long duration,
+                       @NonNull TimeUnit unit) {
+      serviceTtlMillis.put(serviceClass, unit.toMillis(duration));
+      return this;
+    }
+
+    /**
+     * Build a new {@link ResponseCache} object.
+     *
+     * @return a new {@link ResponseCache} using the provided values in this builder
+     * @since 5.10.0
+     */
+    public ResponseCache build() {
+      return new ResponseCache(this);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.mapbox.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * The pending response of a request started with {@link MapboxService#executeAsync()} or
+ * {@link MapboxService#executeAsync(Executor)}. Every future runs its own clone of the service
+ * call, so a single service can have many requests in flight, and cancelling the future cancels
+ * its call.
+ * <p>
+ * Listeners added with {@link #addListener(Runnable, Executor)} run once the future is done, which
+ * lets requests be chained or fanned out without blocking a thread per request. On Java 8 and
+ * later, a listener completing a {@code CompletableFuture} bridges the two.
+ * </p>
+ *
+ * @param <T> the type of the response body
+ * @since 5.10.0
+ */
+public final class ServiceFuture<T> implements Future<Response<T>> {
+
+  private final Call<T> call;
+  private final Runnable canceller;
+  private final List<Runnable> listeners = new ArrayList<>();
+  private final List<Executor> listenerExecutors = new ArrayList<>();
+  private boolean done;
+  private boolean cancelled;
+  private Response<T> response;
+  private Throwable failure;
+
+  ServiceFuture(@NonNull Call<T> call) {
+    this(call, null);
+  }
+
+  /**
+   * Creates a future whose cancellation runs the given canceller instead of cancelling its call,
+   * for calls shared with other futures.
+   */
+  ServiceFuture(@NonNull Call<T> call, @Nullable Runnable canceller) {
+    this.call = call;
+    this.canceller = canceller;
+  }
+
+  /**
+   * The call running the request of this future, which may be shared with other futures when
+   * requests are coalesced by a {@link RequestCoalescer}.
+   *
+   * @return the call of this future
+   * @since 5.10.0
+   */
+  @NonNull
+  public Call<T> call() {
+    return call;
+  }
+
+  /**
+   * Runs a listener once this future is done, or right away if it already is. Listeners run on
+   * the given executor, in the order they were added.
+   *
+   * @param listener the listener to run
+   * @param executor the executor running the listener
+   * @since 5.10.0
+   */
+  public void addListener(@NonNull Runnable listener, @NonNull Executor executor) {
+    synchronized (this) {
+      if (!done) {
+        listeners.add(listener);
+        listenerExecutors.add(executor);
+        return;
+      }
+    }
+    executor.execute(listener);
+  }
+
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    if (!settle(null, null, true)) {
+      return false;
+    }
+    if (canceller != null) {
+      canceller.run();
+    } else {
+      call.cancel();
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized boolean isCancelled() {
+    return cancelled;
+  }
+
+  @Override
+  public synchronized boolean isDone() {
+    return done;
+  }
+
+  @Override
+  public synchronized Response<T> get() throws InterruptedException, ExecutionException {
+    while (!done) {
+      wait();
+    }
+    return result();
+  }
+
+  @Override
+  public synchronized Response<T> get(long timeout, @NonNull TimeUnit unit)
+    throws InterruptedException, ExecutionException, TimeoutException {
+    long remaining = unit.toNanos(timeout);
+    long deadline = System.nanoTime() + remaining;
+    while (!done) {
+      if (remaining <= 0) {
+        throw new TimeoutException();
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      remaining = deadline - System.nanoTime();
+    }
+    return result();
+  }
+
+  boolean complete(Response<T> response) {
+    return settle(response, null, false);
+  }
+
+  boolean fail(Throwable failure) {
+    return settle(null, failure, false);
+  }
+
+  private boolean settle(Response<T> response, Throwable failure, boolean cancelled) {
+    List<Runnable> pendingListeners;
+    List<Executor> pendingExecutors;
+    synchronized (this) {
+      if (done) {
+        return false;
+      }
+      done = true;
+      this.response = response;
+      this.failure = failure;
+      this.cancelled = cancelled;
+      notifyAll();
+      pendingListeners = new ArrayList<>(listeners);
+      pendingExecutors = new ArrayList<>(listenerExecutors);
+      listeners.clear();
+      listenerExecutors.clear();
+    }
+    for (int i = 0; i < pendingListeners.size(); i++) {
+      pendingExecutors.get(i).execute(pendingListeners.get(i));
+    }
+    return true;
+  }
+
+  private Response<T> result() throws ExecutionException {
+    if (cancelled) {
+      throw new CancellationException();
+    }
+    if (failure != null) {
+      throw new ExecutionException(failure);
+    }
+    return response;
+  }
+}
@@ -0,0 +1,148 @@
+package com.mapbox.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+
+/**
+ * Process wide registry of the {@link OkHttpClient} and {@link Retrofit} instances used by
+ * {@link MapboxService}s. Services are usually built once per request, and used to create a new
+ * client, with its own connection pool and dispatcher threads, and a new Retrofit instance every
+ * time. Instead, every client is derived from a single shared client with
+ * {@link OkHttpClient#newBuilder()}, so they all share its connection pool and dispatcher, and
+ * both clients and Retrofit instances are reused by services with the same configuration.
+ * <p>
+ * Configurations are identified by keys, lists of the values making them up: for instance the
+ * service class, the debug flag and the interceptors of a client, or the base URL, the call
+ * factory and the converter configuration of a Retrofit instance. The values are compared with
+ * {@link Object#equals(Object)}, so interceptors and event listeners are told apart by identity.
+ * Only the most recently used configurations are kept, so services created with new interceptor
+ * instances every time don't make the registry grow forever.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class ServiceRegistry {
+
+  // Enough for every service with a few different interceptors each
+  private static final int MAX_ENTRIES = 32;
+
+  private static final Map<List<?>, OkHttpClient> CLIENTS = newCache();
+  private static final Map<List<?>, Retrofit> RETROFITS = newCache();
+  private static OkHttpClient sharedClient;
+
+  private ServiceRegistry() {
+    // Empty constructor prevents users from initializing this class
+  }
+
+  /**
+   * Creates a value missing from the registry.
+   *
+   * @param <T> the type of the value
+   * @since 5.10.0
+   */
+  public interface Factory<T> {
+
+    /**
+     * Creates the value for a configuration, called at most once until it gets evicted.
+     *
+     * @return the new value
+     * @since 5.10.0
+     */
+    @NonNull
+    T create();
+  }
+
+  /**
+   * The client every other client is derived from, sharing its connection pool and dispatcher.
+   * It's created with the OkHttp defaults unless replaced with
+   * {@link #setSharedClient(OkHttpClient)}.
+   *
+   * @return the shared client
+   * @since 5.10.0
+   */
+  @NonNull
+  public static synchronized OkHttpClient sharedClient() {
+    if (sharedClient == null) {
+      sharedClient = new OkHttpClient();
+    }
+    return sharedClient;
+  }
+
+  /**
+   * Replaces the client every other client is derived from, for instance to use a connection
+   * pool or a dispatcher configured for the application. The clients and Retrofit instances
+   * derived from the previous one are dropped from the registry.
+   *
+   * @param client the new shared client, or null to go back to the OkHttp defaults
+   * @since 5.10.0
+   */
+  public static synchronized void setSharedClient(@Nullable OkHttpClient client) {
+    sharedClient = client;
+    clear();
+  }
+
+  /**
+   * Returns the client registered for a configuration, creating it if needed. The factory should
+   * start from {@code sharedClient().newBuilder()} so the client shares the connection pool and
+   * the dispatcher of the other ones.
+   *
+   * @param key     the values making up the configuration of the client
+   * @param factory creates the client if there's none for the configuration
+   * @return the client for the configuration
+   * @since 5.10.0
+   */
+  @NonNull
+  public static OkHttpClient client(@NonNull List<?> key,
+                                    @NonNull Factory<OkHttpClient> factory) {
+    return get(CLIENTS, key, factory);
+  }
+
+  /**
+   * Returns the Retrofit instance registered for a configuration, creating it if needed.
+   *
+   * @param key     the values making up the configuration of the Retrofit instance
+   * @param factory creates the Retrofit instance if there's none for the configuration
+   * @return the Retrofit instance for the configuration
+   * @since 5.10.0
+   */
+  @NonNull
+  public static Retrofit retrofit(@NonNull List<?> key, @NonNull Factory<Retrofit> factory) {
+    return get(RETROFITS, key, factory);
+  }
+
+  /**
+   * Drops every registered client and Retrofit instance. Services created afterwards get new
+   * ones, still derived from the shared client.
+   *
+   * @since 5.10.0
+   */
+  public static synchronized void clear() {
+    CLIENTS.clear();
+    RETROFITS.clear();
+  }
+
+  private static synchronized <T> T get(Map<List<?>, T> cache, List<?> key, Factory<T> factory) {
+    T value = cache.get(key);
+    if (value == null) {
+      value = factory.create();
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  private static <T> Map<List<?>, T> newCache() {
+    return new LinkedHashMap<List<?>, T>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<List<?>, T> eldest) {
+        return size() > MAX_ENTRIES;
+      }
+    };
+  }
+}
@@ -0,0 +1,205 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.mapbox.core.exceptions.ServicesException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.Dispatcher;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BulkExecutorTest extends TestUtils {
+
+  private MockWebServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    server = TestService.startServer(0);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void execute_returnsEveryResultInInputOrder() throws Exception {
+    List<TestService> services = services(20);
+
+    BulkExecutor.Results<JsonObject> results = BulkExecutor.builder()
+      .maxConcurrency(4)
+      .ordered(true)
+      .build()
+      .execute(services);
+    int index = 0;
+    while (results.hasNext()) {
+      BulkResult<JsonObject> result = results.next();
+      assertEquals(index, result.index());
+      assertSame(services.get(index), result.service());
+      assertTrue(result.isSuccessful());
+      index++;
+    }
+    assertEquals(20, index);
+    assertEquals(20, server.getRequestCount());
+  }
+
+  @Test
+  public void execute_returnsResultsInCompletionOrderByDefault() throws Exception {
+    List<TestService> services = new ArrayList<>();
+    services.add(new TestService(server, "item?id=0&delay=500"));
+    services.addAll(services(3));
+
+    BulkExecutor.Results<JsonObject> results = BulkExecutor.builder()
+      .maxConcurrency(4)
+      .build()
+      .execute(services);
+    List<Long> indexes = new ArrayList<>();
+    while (results.hasNext()) {
+      indexes.add(results.next().index());
+    }
+    assertEquals(4, indexes.size());
+    assertEquals(Long.valueOf(0), indexes.get(3));
+  }
+
+  @Test
+  public void execute_stopsTakingServicesWhileResultsAreNotRead() throws Exception {
+    AtomicInteger taken = new AtomicInteger();
+    final BulkExecutor.Results<JsonObject> results = BulkExecutor.builder()
+      .maxConcurrency(2)
+      .maxBufferedResults(3)
+      .build()
+      .execute(counting(services(20).iterator(), taken));
+    long deadline = System.currentTimeMillis() + 10000;
+    while (server.getRequestCount() < 5 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Thread.sleep(200);
+
+    // Two requests in flight and three results waiting fill the buffer
+    assertEquals(5, taken.get());
+    assertEquals(5, server.getRequestCount());
+    // Reading a result makes room for one more request
+    results.next();
+    assertEquals(6, taken.get());
+    int count = 1;
+    while (results.hasNext()) {
+      results.next();
+      count++;
+    }
+    assertEquals(20, count);
+    assertEquals(20, taken.get());
+  }
+
+  @Test
+  public void cancel_cancelsRequestsInFlight() throws Exception {
+    List<TestService> services = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      services.add(new TestService(server, "item?id=" + i + "&delay=2000"));
+    }
+    AtomicInteger taken = new AtomicInteger();
+    BulkExecutor.Results<JsonObject> results = BulkExecutor.builder()
+      .maxConcurrency(2)
+      .build()
+      .execute(counting(services.iterator(), taken));
+    results.cancel();
+
+    assertFalse(results.hasNext());
+    Dispatcher dispatcher = ServiceRegistry.sharedClient().dispatcher();
+    long deadline = System.currentTimeMillis() + 1000;
+    while (dispatcher.runningCallsCount() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, dispatcher.runningCallsCount());
+    assertEquals(2, taken.get());
+  }
+
+  @Test
+  public void execute_reportsFailuresAsResults() throws Exception {
+    final String[] paths = {"item?id=0", "item?id=1&code=500", null};
+    Iterator<TestService> services = new Iterator<TestService>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index <= paths.length;
+      }
+
+      @Override
+      public TestService next() {
+        int current = index++;
+        if (current == paths.length) {
+          throw new ServicesException("Invalid service.");
+        }
+        return new TestService(server, paths[current]);
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException("remove");
+      }
+    };
+
+    BulkExecutor.Results<JsonObject> results = BulkExecutor.builder()
+      .ordered(true)
+      .build()
+      .execute(services);
+    BulkResult<JsonObject> success = results.next();
+    assertTrue(success.isSuccessful());
+    BulkResult<JsonObject> serverError = results.next();
+    assertFalse(serverError.isSuccessful());
+    assertNull(serverError.error());
+    assertEquals(500, serverError.response().code());
+    // The call of a service without a path fails when its request is built
+    BulkResult<JsonObject> invalidCall = results.next();
+    assertNotNull(invalidCall.service());
+    assertNull(invalidCall.response());
+    assertNotNull(invalidCall.error());
+    BulkResult<JsonObject> invalidService = results.next();
+    assertEquals(3, invalidService.index());
+    assertNull(invalidService.service());
+    assertTrue(invalidService.error() instanceof ServicesException);
+    assertFalse(results.hasNext());
+  }
+
+  private List<TestService> services(int count) {
+    List<TestService> services = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      services.add(new TestService(server, "item?id=" + i));
+    }
+    return services;
+  }
+
+  private static <T> Iterator<T> counting(final Iterator<T> iterator, final AtomicInteger taken) {
+    return new Iterator<T>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public T next() {
+        taken.incrementAndGet();
+        return iterator.next();
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException("remove");
+      }
+    };
+  }
+}
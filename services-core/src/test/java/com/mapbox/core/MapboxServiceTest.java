@@ -0,0 +1,117 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+public class MapboxServiceTest extends TestUtils {
+
+  private MockWebServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    server = TestService.startServer(0);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void executeAsync_concurrentRequestsOnOneService() throws Exception {
+    TestService service = new TestService(server, "item?id=1");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      ServiceFuture<JsonObject> first = service.executeAsync();
+      ServiceFuture<JsonObject> second = service.executeAsync(executor);
+      assertNotSame(first.call(), second.call());
+      assertTrue(first.get().isSuccessful());
+      assertTrue(second.get().isSuccessful());
+      assertEquals(2, server.getRequestCount());
+      assertEquals(2, service.processedCount.get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void enqueueCall_cacheHitDeliveredOffCallingThread() throws Exception {
+    ResponseCache cache = ResponseCache.builder().build();
+    List<Thread> threads = enqueueTwice(cache, null);
+
+    assertEquals(1, server.getRequestCount());
+    assertEquals(2, threads.size());
+    assertNotSame(Thread.currentThread(), threads.get(1));
+  }
+
+  @Test
+  public void enqueueCall_cacheHitDeliveredOnCallbackExecutor() throws Exception {
+    ResponseCache cache = ResponseCache.builder().build();
+    final Thread[] callbackThread = new Thread[1];
+    ExecutorService callbackExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable runnable) {
+        callbackThread[0] = new Thread(runnable);
+        return callbackThread[0];
+      }
+    });
+    try {
+      List<Thread> threads = enqueueTwice(cache, callbackExecutor);
+
+      assertEquals(1, server.getRequestCount());
+      assertEquals(Collections.nCopies(2, callbackThread[0]), threads);
+    } finally {
+      callbackExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Enqueues the same request on two services sharing a cache, one after the other, and returns
+   * the threads their callbacks ran on.
+   */
+  private List<Thread> enqueueTwice(ResponseCache cache, ExecutorService callbackExecutor)
+    throws InterruptedException {
+    final List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+    for (int i = 0; i < 2; i++) {
+      TestService service = new TestService(server, "item?id=1");
+      service.setResponseCache(cache);
+      service.setCallbackExecutor(callbackExecutor);
+      final CountDownLatch delivered = new CountDownLatch(1);
+      service.enqueueCall(new Callback<JsonObject>() {
+        @Override
+        public void onResponse(Call<JsonObject> call, Response<JsonObject> response) {
+          threads.add(Thread.currentThread());
+          delivered.countDown();
+        }
+
+        @Override
+        public void onFailure(Call<JsonObject> call, Throwable throwable) {
+          delivered.countDown();
+        }
+      });
+      assertTrue(delivered.await(10, TimeUnit.SECONDS));
+    }
+    return threads;
+  }
+}
@@ -0,0 +1,104 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RequestCoalescerTest extends TestUtils {
+
+  private MockWebServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    server = TestService.startServer(500);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void execute_coalescesIdenticalRequests() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    OkHttpClient intercepted = ServiceRegistry.sharedClient().newBuilder()
+      .addInterceptor(new Interceptor() {
+        @Override
+        public okhttp3.Response intercept(Chain chain) throws IOException {
+          return chain.proceed(chain.request());
+        }
+      })
+      .build();
+    List<ServiceFuture<JsonObject>> futures = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      TestService service = new TestService(server, "item?id=1");
+      // The same request through another client has its own exchange
+      if (i == 3) {
+        service.setCallFactory(intercepted);
+      }
+      service.setRequestCoalescer(coalescer);
+      futures.add(service.executeAsync());
+    }
+    assertEquals(2, coalescer.inFlightCount());
+    assertTrue(futures.get(0).cancel(true));
+
+    JsonObject response = futures.get(1).get().body();
+    assertSame(response, futures.get(2).get().body());
+    assertNotSame(response, futures.get(3).get().body());
+    assertEquals(2, server.getRequestCount());
+    assertEquals(0, coalescer.inFlightCount());
+  }
+
+  @Test
+  public void cancel_ofEveryWaiterCancelsSharedCall() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    List<ServiceFuture<JsonObject>> futures = executeAll(coalescer, 2);
+    assertSame(futures.get(0).call(), futures.get(1).call());
+
+    assertTrue(futures.get(0).cancel(true));
+    assertFalse(futures.get(0).call().isCanceled());
+    assertEquals(1, coalescer.inFlightCount());
+    assertTrue(futures.get(1).cancel(true));
+    assertTrue(futures.get(1).call().isCanceled());
+    assertEquals(0, coalescer.inFlightCount());
+  }
+
+  @Test
+  public void cancel_ofSomeWaitersLetsOthersComplete() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    List<ServiceFuture<JsonObject>> futures = executeAll(coalescer, 3);
+    assertTrue(futures.get(0).cancel(true));
+
+    JsonObject response = futures.get(1).get().body();
+    assertSame(response, futures.get(2).get().body());
+    assertTrue(futures.get(0).isCancelled());
+    assertFalse(futures.get(1).call().isCanceled());
+    assertEquals(1, server.getRequestCount());
+    assertEquals(0, coalescer.inFlightCount());
+  }
+
+  private List<ServiceFuture<JsonObject>> executeAll(RequestCoalescer coalescer, int count) {
+    List<ServiceFuture<JsonObject>> futures = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      TestService service = new TestService(server, "item?id=1");
+      service.setRequestCoalescer(coalescer);
+      futures.add(service.executeAsync());
+    }
+    return futures;
+  }
+}
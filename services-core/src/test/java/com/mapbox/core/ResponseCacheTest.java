@@ -0,0 +1,188 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import retrofit2.Response;
+
+public class ResponseCacheTest extends TestUtils {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private MockWebServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    server = TestService.startServer(0);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void get_hitIgnoresAccessToken() throws Exception {
+    ResponseCache cache = ResponseCache.builder().build();
+    TestService service = new TestService(server, "item?id=1&access_token=other");
+    service.setResponseCache(cache);
+    JsonObject first = execute(cache, "item?id=1&access_token=" + ACCESS_TOKEN).body();
+    Response<JsonObject> hit = service.executeCall();
+
+    assertEquals(first, hit.body());
+    assertEquals(1, server.getRequestCount());
+    assertEquals(1, cache.memoryEntryCount());
+    // The hit is processed again, and carries its own request and access token
+    assertEquals(1, service.processedCount.get());
+    assertEquals("other", hit.raw().request().url().queryParameter("access_token"));
+  }
+
+  @Test
+  public void get_hitIgnoresQueryParameterOrder() throws Exception {
+    ResponseCache cache = ResponseCache.builder().build();
+    JsonObject first = execute(cache, "item?id=1&lang=en").body();
+
+    assertEquals(first, execute(cache, "item?lang=en&id=1").body());
+    assertEquals(1, server.getRequestCount());
+    assertNotEquals(first, execute(cache, "item?lang=fr&id=1").body());
+    assertEquals(2, server.getRequestCount());
+  }
+
+  @Test
+  public void get_keyedOnRequestBody() throws Exception {
+    ResponseCache cache = ResponseCache.builder().build();
+    JsonObject body = new JsonObject();
+    body.addProperty("id", 1);
+    JsonObject first = execute(cache, new TestService(server, "items", body)).body();
+
+    assertEquals(first, execute(cache, new TestService(server, "items", body.deepCopy())).body());
+    assertEquals(1, server.getRequestCount());
+    body.addProperty("id", 2);
+    assertNotEquals(first, execute(cache, new TestService(server, "items", body)).body());
+    assertEquals(2, server.getRequestCount());
+  }
+
+  @Test
+  public void get_missesOnceExpired() throws Exception {
+    ResponseCache cache = ResponseCache.builder()
+      .ttl(TestService.class, 50, TimeUnit.MILLISECONDS)
+      .build();
+    JsonObject first = execute(cache, "item?id=1").body();
+    Thread.sleep(100);
+
+    assertNotEquals(first, execute(cache, "item?id=1").body());
+    assertEquals(2, server.getRequestCount());
+    assertEquals(1, cache.memoryEntryCount());
+  }
+
+  @Test
+  public void put_zeroTtlDisablesCaching() throws Exception {
+    ResponseCache cache = ResponseCache.builder()
+      .ttl(TestService.class, 0, TimeUnit.SECONDS)
+      .build();
+    execute(cache, "item?id=1");
+    execute(cache, "item?id=1");
+
+    assertEquals(2, server.getRequestCount());
+    assertEquals(0, cache.memoryEntryCount());
+  }
+
+  @Test
+  public void put_zeroDefaultTtlOnlyCachesServicesWithTheirOwn() throws Exception {
+    ResponseCache cache = ResponseCache.builder()
+      .defaultTtl(0, TimeUnit.SECONDS)
+      .build();
+    execute(cache, "item?id=1");
+    execute(cache, "item?id=1");
+    assertEquals(2, server.getRequestCount());
+
+    cache = ResponseCache.builder()
+      .defaultTtl(0, TimeUnit.SECONDS)
+      .ttl(TestService.class, 1, TimeUnit.HOURS)
+      .build();
+    execute(cache, "item?id=1");
+    execute(cache, "item?id=1");
+    assertEquals(3, server.getRequestCount());
+  }
+
+  @Test
+  public void diskTier_survivesNewCache() throws Exception {
+    File directory = temporaryFolder.newFolder();
+    JsonObject first = execute(newDiskCache(directory, 1024 * 1024), "item?id=1").body();
+    TestService service = new TestService(server, "item?id=1");
+    Response<JsonObject> hit = execute(newDiskCache(directory, 1024 * 1024), service);
+
+    assertEquals(1, server.getRequestCount());
+    assertEquals(first, hit.body());
+    assertEquals(1, service.processedCount.get());
+  }
+
+  @Test
+  public void diskTier_evictsLeastRecentlyUsed() throws Exception {
+    File measured = temporaryFolder.newFolder();
+    execute(newDiskCache(measured, 1024 * 1024), "item?id=0");
+    long entryBytes = measured.listFiles()[0].length();
+
+    File directory = temporaryFolder.newFolder();
+    ResponseCache cache = newDiskCache(directory, entryBytes * 5 / 2);
+    for (int i = 1; i <= 3; i++) {
+      execute(cache, "item?id=" + i);
+    }
+    assertEquals(2, directory.listFiles().length);
+
+    // A new cache over the directory only finds the two most recent responses
+    cache = newDiskCache(directory, entryBytes * 5 / 2);
+    int requests = server.getRequestCount();
+    execute(cache, "item?id=3");
+    execute(cache, "item?id=2");
+    assertEquals(requests, server.getRequestCount());
+    execute(cache, "item?id=1");
+    assertEquals(requests + 1, server.getRequestCount());
+  }
+
+  @Test
+  public void diskTier_deletesAbandonedTemporaryFiles() throws Exception {
+    File directory = temporaryFolder.newFolder();
+    File abandoned = new File(directory, "0123.json.gz.tmp");
+    File foreign = new File(directory, "notes.tmp");
+    assertTrue(abandoned.createNewFile());
+    assertTrue(foreign.createNewFile());
+    execute(newDiskCache(directory, 1024 * 1024), "item?id=1");
+
+    assertFalse(abandoned.exists());
+    assertTrue(foreign.exists());
+    assertEquals(2, directory.listFiles().length);
+  }
+
+  private Response<JsonObject> execute(ResponseCache cache, String path) throws IOException {
+    return execute(cache, new TestService(server, path));
+  }
+
+  private static Response<JsonObject> execute(ResponseCache cache, TestService service)
+    throws IOException {
+    service.setResponseCache(cache);
+    return service.executeCall();
+  }
+
+  private static ResponseCache newDiskCache(File directory, long maxDiskBytes) {
+    return ResponseCache.builder()
+      .directory(directory, maxDiskBytes)
+      .ttl(TestService.class, 1, TimeUnit.HOURS)
+      .build();
+  }
+}
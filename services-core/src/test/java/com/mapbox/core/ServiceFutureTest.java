@@ -0,0 +1,95 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+import retrofit2.Call;
+import retrofit2.Response;
+
+public class ServiceFutureTest extends TestUtils {
+
+  private static final Executor DIRECT = new Executor() {
+    @Override
+    public void execute(Runnable command) {
+      command.run();
+    }
+  };
+
+  @SuppressWarnings("unchecked")
+  private final Call<JsonObject> call = mock(Call.class);
+
+  @Test
+  public void addListener_runsListenersOnceDone() throws Exception {
+    ServiceFuture<JsonObject> future = new ServiceFuture<>(call);
+    List<String> runs = new ArrayList<>();
+    future.addListener(recording(runs, "before"), DIRECT);
+    assertTrue(runs.isEmpty());
+
+    Response<JsonObject> response = Response.success(new JsonObject());
+    assertTrue(future.complete(response));
+    assertEquals(1, runs.size());
+    // Added after completion, the listener runs right away
+    future.addListener(recording(runs, "after"), DIRECT);
+    assertEquals(2, runs.size());
+    assertEquals("after", runs.get(1));
+    assertSame(response, future.get());
+  }
+
+  @Test(expected = TimeoutException.class)
+  public void get_timesOutWhilePending() throws Exception {
+    ServiceFuture<JsonObject> future = new ServiceFuture<>(call);
+    future.get(50, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void cancel_cancelsCall() throws Exception {
+    ServiceFuture<JsonObject> future = new ServiceFuture<>(call);
+    assertTrue(future.cancel(true));
+
+    verify(call).cancel();
+    assertTrue(future.isDone());
+    assertTrue(future.isCancelled());
+    assertFalse(future.cancel(true));
+  }
+
+  @Test(expected = CancellationException.class)
+  public void get_throwsOnceCancelled() throws Exception {
+    ServiceFuture<JsonObject> future = new ServiceFuture<>(call);
+    future.cancel(true);
+    future.get(50, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void cancel_afterCompletionLeavesCallAlone() throws Exception {
+    ServiceFuture<JsonObject> future = new ServiceFuture<>(call);
+    future.complete(Response.success(new JsonObject()));
+
+    assertFalse(future.cancel(true));
+    verify(call, never()).cancel();
+    assertFalse(future.isCancelled());
+  }
+
+  private static Runnable recording(final List<String> runs, final String name) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        runs.add(name);
+      }
+    };
+  }
+}
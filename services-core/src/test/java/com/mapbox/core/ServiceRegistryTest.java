@@ -0,0 +1,61 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Test;
+
+public class ServiceRegistryTest extends TestUtils {
+
+  private static final ServiceRegistry.Factory<OkHttpClient> FACTORY =
+    new ServiceRegistry.Factory<OkHttpClient>() {
+      @Override
+      public OkHttpClient create() {
+        return ServiceRegistry.sharedClient().newBuilder().build();
+      }
+    };
+
+  @After
+  public void tearDown() {
+    ServiceRegistry.setSharedClient(null);
+  }
+
+  @Test
+  public void client_reusedForSameKey() {
+    OkHttpClient client = ServiceRegistry.client(Arrays.asList("service", false), FACTORY);
+    assertSame(client, ServiceRegistry.client(Arrays.asList("service", false), FACTORY));
+    assertNotSame(client, ServiceRegistry.client(Arrays.asList("service", true), FACTORY));
+  }
+
+  @Test
+  public void client_sharesConnectionPoolAndDispatcher() {
+    OkHttpClient client = ServiceRegistry.client(Arrays.asList("service", false), FACTORY);
+    assertSame(ServiceRegistry.sharedClient().connectionPool(), client.connectionPool());
+    assertSame(ServiceRegistry.sharedClient().dispatcher(), client.dispatcher());
+  }
+
+  @Test
+  public void setSharedClient_dropsDerivedClients() {
+    OkHttpClient client = ServiceRegistry.client(Arrays.asList("service", false), FACTORY);
+    OkHttpClient shared = new OkHttpClient();
+    ServiceRegistry.setSharedClient(shared);
+
+    assertSame(shared, ServiceRegistry.sharedClient());
+    OkHttpClient derived = ServiceRegistry.client(Arrays.asList("service", false), FACTORY);
+    assertNotSame(client, derived);
+    assertSame(shared.connectionPool(), derived.connectionPool());
+  }
+
+  @Test
+  public void client_evictsLeastRecentlyUsed() {
+    OkHttpClient first = ServiceRegistry.client(Arrays.asList("service", 0), FACTORY);
+    for (int i = 1; i <= 32; i++) {
+      ServiceRegistry.client(Arrays.asList("service", i), FACTORY);
+    }
+    assertNotSame(first, ServiceRegistry.client(Arrays.asList("service", 0), FACTORY));
+  }
+}
@@ -0,0 +1,128 @@
+package com.mapbox.core;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Call;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+import retrofit2.http.Url;
+
+/**
+ * A service of the JSON objects served at a path of a mock server, for testing the machinery
+ * shared by every service.
+ */
+class TestService extends MapboxService<JsonObject, TestService.Api> {
+
+  interface Api {
+
+    @GET
+    Call<JsonObject> get(@Url String path);
+
+    @POST
+    Call<JsonObject> post(@Url String path, @Body JsonObject body);
+  }
+
+  final AtomicInteger processedCount = new AtomicInteger();
+  private final String baseUrl;
+  private final String path;
+  private final JsonObject body;
+  private Executor callbackExecutor;
+  private Retrofit callbackRetrofit;
+  private Api callbackService;
+
+  TestService(MockWebServer server, String path) {
+    this(server, path, null);
+  }
+
+  TestService(MockWebServer server, String path, JsonObject body) {
+    super(Api.class);
+    this.baseUrl = server.url("").toString();
+    this.path = path;
+    this.body = body;
+  }
+
+  /**
+   * Starts a server answering every request with its sequence number, {"request":1} for the first
+   * one, after the given delay. The delay and the status code of a request can be set with its
+   * delay and code query parameters.
+   */
+  static MockWebServer startServer(final long bodyDelayMillis) throws IOException {
+    MockWebServer server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+      private final AtomicInteger requests = new AtomicInteger();
+
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        HttpUrl url = request.getRequestUrl();
+        String delay = url.queryParameter("delay");
+        String code = url.queryParameter("code");
+        return new MockResponse()
+          .setResponseCode(code == null ? 200 : Integer.parseInt(code))
+          .setBody("{\"request\":" + requests.incrementAndGet() + "}")
+          .setBodyDelay(delay == null ? bodyDelayMillis : Long.parseLong(delay),
+            TimeUnit.MILLISECONDS);
+      }
+    });
+    server.start();
+    return server;
+  }
+
+  /**
+   * Makes Retrofit call back on the given executor, like it does on the main thread on Android.
+   */
+  void setCallbackExecutor(Executor callbackExecutor) {
+    this.callbackExecutor = callbackExecutor;
+  }
+
+  @Override
+  protected String baseUrl() {
+    return baseUrl;
+  }
+
+  @Override
+  protected Call<JsonObject> initializeCall() {
+    return body == null ? getService().get(path) : getService().post(path, body);
+  }
+
+  @Override
+  protected Response<JsonObject> processResponse(Response<JsonObject> response) {
+    processedCount.incrementAndGet();
+    return response;
+  }
+
+  @Override
+  protected Api getService() {
+    if (callbackExecutor == null) {
+      return super.getService();
+    }
+    if (callbackService == null) {
+      callbackRetrofit = new Retrofit.Builder()
+        .baseUrl(baseUrl)
+        .addConverterFactory(GsonConverterFactory.create())
+        .callFactory(resolveCallFactory())
+        .callbackExecutor(callbackExecutor)
+        .build();
+      callbackService = callbackRetrofit.create(Api.class);
+    }
+    return callbackService;
+  }
+
+  @Override
+  public Retrofit getRetrofit() {
+    return callbackRetrofit != null ? callbackRetrofit : super.getRetrofit();
+  }
+}
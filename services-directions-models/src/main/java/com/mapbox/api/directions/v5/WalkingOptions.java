@@ -6,7 +6,6 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
 
@@ -62,9 +61,7 @@ public abstract class WalkingOptions {
    * @since 4.8.0
    */
   public static WalkingOptions fromJson(String json) {
-    GsonBuilder gsonBuilder = new GsonBuilder()
-      .registerTypeAdapterFactory(WalkingOptionsAdapterFactory.create());
-    return gsonBuilder.create().fromJson(json, WalkingOptions.class);
+    return DirectionsGson.gson().fromJson(json, WalkingOptions.class);
   }
 
   /**
@@ -75,9 +72,7 @@ public abstract class WalkingOptions {
    * @since 4.8.0
    */
   public final String toJson() {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(WalkingOptionsAdapterFactory.create())
-      .create();
+    Gson gson = DirectionsGson.gson();
     return gson.toJson(this, WalkingOptions.class);
   }
 
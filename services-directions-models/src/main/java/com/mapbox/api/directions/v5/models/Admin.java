@@ -3,10 +3,9 @@ package com.mapbox.api.directions.v5.models;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * An objects describing the administrative boundaries the route leg travels through.
@@ -66,9 +65,7 @@ public abstract class Admin extends DirectionsJsonObject {
    * @return a new instance of this class defined by the values passed in the method
    */
   public static Admin fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, Admin.class);
+    return DirectionsGson.gson().fromJson(json, Admin.class);
   }
 
   /**
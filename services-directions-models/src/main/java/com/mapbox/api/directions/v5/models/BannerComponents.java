@@ -6,10 +6,9 @@ import androidx.annotation.StringDef;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -281,9 +280,7 @@ public abstract class BannerComponents extends DirectionsJsonObject
    * @since 3.4.0
    */
   public static BannerComponents fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, BannerComponents.class);
+    return DirectionsGson.gson().fromJson(json, BannerComponents.class);
   }
 
   /**
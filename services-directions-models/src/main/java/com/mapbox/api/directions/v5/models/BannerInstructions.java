@@ -5,9 +5,8 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * Visual instruction information related to a particular {@link LegStep} useful for making UI
@@ -113,9 +112,7 @@ public abstract class BannerInstructions extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static BannerInstructions fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, BannerInstructions.class);
+    return DirectionsGson.gson().fromJson(json, BannerInstructions.class);
   }
 
   /**
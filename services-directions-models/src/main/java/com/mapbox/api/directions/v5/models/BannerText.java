@@ -5,10 +5,9 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 import java.util.List;
 
@@ -127,9 +126,7 @@ public abstract class BannerText extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static BannerText fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, BannerText.class);
+    return DirectionsGson.gson().fromJson(json, BannerText.class);
   }
 
   /**
@@ -5,9 +5,8 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 import java.util.List;
 
@@ -104,9 +103,7 @@ public abstract class BannerView extends DirectionsJsonObject {
    * @since 5.0.0
    */
   public static BannerView fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, BannerView.class);
+    return DirectionsGson.gson().fromJson(json, BannerView.class);
   }
 
   /**
@@ -4,10 +4,9 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * An object indicating the geometry indexes defining a road closure.
@@ -65,9 +64,7 @@ public abstract class Closure extends DirectionsJsonObject {
    * @return a new instance of this class defined by the values passed in the method
    */
   public static Closure fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, Closure.class);
+    return DirectionsGson.gson().fromJson(json, Closure.class);
   }
 
   /**
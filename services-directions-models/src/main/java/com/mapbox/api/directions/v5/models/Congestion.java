@@ -2,9 +2,8 @@ package com.mapbox.api.directions.v5.models;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * Quantitative descriptor of congestion.
@@ -53,9 +52,7 @@ public abstract class Congestion extends DirectionsJsonObject {
    * @return a new instance of this class defined by the values passed in the method
    */
   public static Congestion fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, Congestion.class);
+    return DirectionsGson.gson().fromJson(json, Congestion.class);
   }
 
   /**
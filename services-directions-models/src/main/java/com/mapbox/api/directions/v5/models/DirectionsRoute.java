@@ -5,12 +5,9 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
-import com.mapbox.geojson.Point;
-import com.mapbox.geojson.PointAsCoordinatesTypeAdapter;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 import java.util.List;
 
@@ -176,10 +173,7 @@ public abstract class DirectionsRoute extends DirectionsJsonObject {
    * @since 3.0.0
    */
   public static DirectionsRoute fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    gson.registerTypeAdapter(Point.class, new PointAsCoordinatesTypeAdapter());
-    return gson.create().fromJson(json, DirectionsRoute.class);
+    return DirectionsGson.gson().fromJson(json, DirectionsRoute.class);
   }
 
   /**
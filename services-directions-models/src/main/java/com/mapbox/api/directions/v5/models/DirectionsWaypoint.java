@@ -3,10 +3,9 @@ package com.mapbox.api.directions.v5.models;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 import com.mapbox.geojson.Point;
 
 /**
@@ -89,9 +88,7 @@ public abstract class DirectionsWaypoint extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static DirectionsWaypoint fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, DirectionsWaypoint.class);
+    return DirectionsGson.gson().fromJson(json, DirectionsWaypoint.class);
   }
 
   /**
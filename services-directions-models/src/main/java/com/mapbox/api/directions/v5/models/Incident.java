@@ -5,10 +5,9 @@ import androidx.annotation.Nullable;
 import androidx.annotation.StringDef;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.List;
@@ -285,9 +284,7 @@ public abstract class Incident extends DirectionsJsonObject {
    * @return a new instance of this class defined by the values passed in the method
    */
   public static Incident fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, Incident.class);
+    return DirectionsGson.gson().fromJson(json, Incident.class);
   }
 
   /**
@@ -6,10 +6,9 @@ import androidx.annotation.Nullable;
 import androidx.annotation.StringDef;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -287,9 +286,7 @@ public abstract class LegStep extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static LegStep fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, LegStep.class);
+    return DirectionsGson.gson().fromJson(json, LegStep.class);
   }
 
   /**
@@ -3,11 +3,10 @@ package com.mapbox.api.directions.v5.models;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.DirectionsCriteria;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * An object containing detailed information about the road exiting the intersection along the
@@ -67,9 +66,7 @@ public abstract class MapboxStreetsV8 extends DirectionsJsonObject {
    * @return a new instance of this class defined by the values passed in the method
    */
   public static MapboxStreetsV8 fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, MapboxStreetsV8.class);
+    return DirectionsGson.gson().fromJson(json, MapboxStreetsV8.class);
   }
 
   /**
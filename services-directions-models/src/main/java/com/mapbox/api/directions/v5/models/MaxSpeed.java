@@ -4,9 +4,8 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * Object representing max speeds along a route.
@@ -95,9 +94,7 @@ public abstract class MaxSpeed extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static MaxSpeed fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, MaxSpeed.class);
+    return DirectionsGson.gson().fromJson(json, MaxSpeed.class);
   }
 
   /**
@@ -4,10 +4,9 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.DirectionsCriteria;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * An object containing information about passing rest stops along the route.
@@ -60,9 +59,7 @@ public abstract class RestStop extends DirectionsJsonObject {
    * @return a new instance of this class defined by the values passed in the method
    */
   public static RestStop fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, RestStop.class);
+    return DirectionsGson.gson().fromJson(json, RestStop.class);
   }
 
   /**
@@ -3,10 +3,9 @@ package com.mapbox.api.directions.v5.models;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * A route between only two {@link DirectionsWaypoint}.
@@ -57,9 +56,7 @@ public abstract class RouteEvent extends DirectionsJsonObject {
      * @since 3.4.0
      */
     public static RouteEvent fromJson(String json) {
-        GsonBuilder gson = new GsonBuilder();
-        gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-        return gson.create().fromJson(json, RouteEvent.class);
+        return DirectionsGson.gson().fromJson(json, RouteEvent.class);
     }
 
     public abstract RouteEvent.Builder toBuilder();
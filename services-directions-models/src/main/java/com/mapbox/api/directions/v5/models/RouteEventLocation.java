@@ -4,11 +4,10 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.DirectionsCriteria;
+import com.mapbox.api.directions.v5.DirectionsGson;
 import com.mapbox.geojson.Point;
 import com.mapbox.api.directions.v5.models.RouteEventLocation;
 /**
@@ -51,9 +50,7 @@ public abstract class RouteEventLocation extends DirectionsJsonObject {
      * @return a new instance of this class defined by the values passed in the method
      */
     public static RouteEventLocation fromJson(String json) {
-        GsonBuilder gson = new GsonBuilder();
-        gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-        return gson.create().fromJson(json, RouteEventLocation.class);
+        return DirectionsGson.gson().fromJson(json, RouteEventLocation.class);
     }
 
     public abstract RouteEventLocation.Builder toBuilder();
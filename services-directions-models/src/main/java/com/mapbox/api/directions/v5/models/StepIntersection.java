@@ -4,11 +4,10 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.DirectionsCriteria;
+import com.mapbox.api.directions.v5.DirectionsGson;
 import com.mapbox.geojson.Point;
 
 import java.util.List;
@@ -236,9 +235,7 @@ public abstract class StepIntersection extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static StepIntersection fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, StepIntersection.class);
+    return DirectionsGson.gson().fromJson(json, StepIntersection.class);
   }
 
   /**
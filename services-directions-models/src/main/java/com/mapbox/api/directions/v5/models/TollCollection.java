@@ -4,10 +4,9 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.DirectionsCriteria;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * An object containing information about a toll collection point along the route.
@@ -63,9 +62,7 @@ public abstract class TollCollection extends DirectionsJsonObject {
    * @return a new instance of this class defined by the values passed in the method
    */
   public static TollCollection fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, TollCollection.class);
+    return DirectionsGson.gson().fromJson(json, TollCollection.class);
   }
 
   /**
@@ -3,9 +3,8 @@ package com.mapbox.api.directions.v5.models;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.DirectionsGson;
 
 /**
  * This class provides information thats useful for properly making navigation announcements at the
@@ -90,9 +89,7 @@ public abstract class VoiceInstructions extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static VoiceInstructions fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, VoiceInstructions.class);
+    return DirectionsGson.gson().fromJson(json, VoiceInstructions.class);
   }
 
   /**
@@ -0,0 +1,47 @@
+package com.mapbox.api.directionsrefresh.v1;
+
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.PointAsCoordinatesTypeAdapter;
+
+/**
+ * Holds the {@link Gson} instance shared by the static {@code fromJson} and {@code toJson} methods
+ * of the directions refresh models. It is created once the first time it is needed and reused
+ * afterwards, since a built Gson instance is immutable and thread safe.
+ *
+ * @since 5.10.0
+ */
+public final class DirectionsRefreshGson {
+
+  private DirectionsRefreshGson() {
+    // Empty private constructor since only static methods are found inside class.
+  }
+
+  /**
+   * The shared Gson instance with {@link DirectionsAdapterFactory},
+   * {@link PointAsCoordinatesTypeAdapter} and {@link DirectionsRefreshAdapterFactory} registered.
+   *
+   * @return the shared {@link Gson} instance
+   * @since 5.10.0
+   */
+  @NonNull
+  public static Gson gson() {
+    return Holder.GSON;
+  }
+
+  /**
+   * Lazily initialized on first access, the class loader guarantees a single instance.
+   */
+  private static final class Holder {
+
+    private static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapterFactory(DirectionsAdapterFactory.create())
+      .registerTypeAdapter(Point.class, new PointAsCoordinatesTypeAdapter())
+      .registerTypeAdapterFactory(DirectionsRefreshAdapterFactory.create())
+      .create();
+  }
+}
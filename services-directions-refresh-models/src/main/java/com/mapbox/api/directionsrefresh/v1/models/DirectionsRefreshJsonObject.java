@@ -1,10 +1,6 @@
 package com.mapbox.api.directionsrefresh.v1.models;
 
-import com.google.gson.GsonBuilder;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
-import com.mapbox.api.directionsrefresh.v1.DirectionsRefreshAdapterFactory;
-import com.mapbox.geojson.Point;
-import com.mapbox.geojson.PointAsCoordinatesTypeAdapter;
+import com.mapbox.api.directionsrefresh.v1.DirectionsRefreshGson;
 import java.io.Serializable;
 
 /**
@@ -19,10 +15,6 @@ public class DirectionsRefreshJsonObject implements Serializable {
    * @return a JSON string which represents this DirectionsJsonObject
    */
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    gson.registerTypeAdapter(Point.class, new PointAsCoordinatesTypeAdapter());
-    gson.registerTypeAdapterFactory(DirectionsRefreshAdapterFactory.create());
-    return gson.create().toJson(this);
+    return DirectionsRefreshGson.gson().toJson(this);
   }
 }
@@ -5,10 +5,8 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
-import com.mapbox.api.directionsrefresh.v1.DirectionsRefreshAdapterFactory;
+import com.mapbox.api.directionsrefresh.v1.DirectionsRefreshGson;
 
 /**
  * Response object for Directions Refresh requests.
@@ -88,10 +86,7 @@ public abstract class DirectionsRefreshResponse extends DirectionsRefreshJsonObj
    * @since 4.4.0
    */
   public static DirectionsRefreshResponse fromJson(String json) {
-    GsonBuilder gsonBuilder = new GsonBuilder();
-    gsonBuilder.registerTypeAdapterFactory(DirectionsRefreshAdapterFactory.create())
-      .registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gsonBuilder.create().fromJson(json, DirectionsRefreshResponse.class);
+    return DirectionsRefreshGson.gson().fromJson(json, DirectionsRefreshResponse.class);
   }
 
   /**
@@ -3,11 +3,9 @@ package com.mapbox.api.directionsrefresh.v1.models;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.models.DirectionsWaypoint;
-import com.mapbox.api.directionsrefresh.v1.DirectionsRefreshAdapterFactory;
+import com.mapbox.api.directionsrefresh.v1.DirectionsRefreshGson;
 import java.util.List;
 
 /**
@@ -61,10 +59,7 @@ public abstract class DirectionsRouteRefresh extends DirectionsRefreshJsonObject
    *   method
    */
   public static DirectionsRouteRefresh fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsRefreshAdapterFactory.create());
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, DirectionsRouteRefresh.class);
+    return DirectionsRefreshGson.gson().fromJson(json, DirectionsRouteRefresh.class);
   }
 
   /**
@@ -3,12 +3,10 @@ package com.mapbox.api.directionsrefresh.v1.models;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.models.DirectionsWaypoint;
 import com.mapbox.api.directions.v5.models.LegAnnotation;
-import com.mapbox.api.directionsrefresh.v1.DirectionsRefreshAdapterFactory;
+import com.mapbox.api.directionsrefresh.v1.DirectionsRefreshGson;
 
 /**
  * A route refresh data between only two {@link DirectionsWaypoint}.
@@ -64,10 +62,7 @@ public abstract class RouteLegRefresh extends DirectionsRefreshJsonObject {
    *   method
    */
   public static RouteLegRefresh fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    gson.registerTypeAdapterFactory(DirectionsRefreshAdapterFactory.create());
-    return gson.create().fromJson(json, RouteLegRefresh.class);
+    return DirectionsRefreshGson.gson().fromJson(json, RouteLegRefresh.class);
   }
 
   /**
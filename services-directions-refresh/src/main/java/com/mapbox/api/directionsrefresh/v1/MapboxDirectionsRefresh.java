@@ -9,8 +9,11 @@ import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.models.RouteOptions;
 import com.mapbox.api.directionsrefresh.v1.models.DirectionsRefreshResponse;
 import com.mapbox.core.MapboxService;
+import com.mapbox.core.ServiceRegistry;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.core.utils.ApiCallHelper;
+import java.util.Arrays;
+import java.util.List;
 
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
@@ -48,22 +51,32 @@ public abstract class MapboxDirectionsRefresh extends MapboxService<DirectionsRe
   @Override
   protected synchronized OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
-      OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
-      if (isEnableDebug()) {
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
-        httpClient.addInterceptor(logging);
-      }
-      Interceptor interceptor = interceptor();
-      if (interceptor != null) {
-        httpClient.addInterceptor(interceptor);
-      }
-
-      okHttpClient = httpClient.build();
+      List<?> key = Arrays.asList(MapboxDirectionsRefresh.class, isEnableDebug(), interceptor());
+      okHttpClient = ServiceRegistry.client(key, new ServiceRegistry.Factory<OkHttpClient>() {
+        @Override
+        public OkHttpClient create() {
+          return newHttpClient();
+        }
+      });
     }
     return okHttpClient;
   }
 
+  private OkHttpClient newHttpClient() {
+    OkHttpClient.Builder httpClient = ServiceRegistry.sharedClient().newBuilder();
+    if (isEnableDebug()) {
+      HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
+      logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
+      httpClient.addInterceptor(logging);
+    }
+    Interceptor interceptor = interceptor();
+    if (interceptor != null) {
+      httpClient.addInterceptor(interceptor);
+    }
+
+    return httpClient.build();
+  }
+
   abstract String requestId();
 
   abstract int routeIndex();
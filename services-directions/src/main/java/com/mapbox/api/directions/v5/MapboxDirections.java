@@ -17,13 +17,13 @@ import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.utils.FormatUtils;
 import com.mapbox.core.MapboxService;
+import com.mapbox.core.ServiceRegistry;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.core.utils.ApiCallHelper;
 import com.mapbox.core.utils.MapboxUtils;
 import com.mapbox.geojson.Point;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -33,7 +33,6 @@ import java.util.concurrent.TimeUnit;
 import okhttp3.*;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Call;
-import retrofit2.Callback;
 import retrofit2.Response;
 
 /**
@@ -155,92 +154,77 @@ public abstract class MapboxDirections extends
   }
 
   /**
-   * Wrapper method for Retrofits {@link Call#execute()} call returning a response specific to the
-   * Directions API.
+   * Adds the route options of this request to every route of a successful response, whichever
+   * way the request is executed.
    *
-   * @return the Directions v5 response once the call completes successfully
-   * @throws IOException Signals that an I/O exception of some sort has occurred
-   * @since 1.0.0
+   * @param response the response as received
+   * @return the response with the route options of this request
+   * @since 5.10.0
    */
   @Override
-  public Response<DirectionsResponse> executeCall() throws IOException {
-    Response<DirectionsResponse> response = super.executeCall();
+  protected Response<DirectionsResponse> processResponse(Response<DirectionsResponse> response) {
     DirectionsResponseFactory factory = new DirectionsResponseFactory(this);
     return factory.generate(response);
   }
 
-  /**
-   * Wrapper method for Retrofits {@link Call#enqueue(Callback)} call returning a response specific
-   * to the Directions API. Use this method to make a directions request on the Main Thread.
-   *
-   * @param callback a {@link Callback} which is used once the {@link DirectionsResponse} is
-   *                 created.
-   * @since 1.0.0
-   */
-  @Override
-  public void enqueueCall(final Callback<DirectionsResponse> callback) {
-    getCall().enqueue(new Callback<DirectionsResponse>() {
-      @Override
-      public void onResponse(Call<DirectionsResponse> call, Response<DirectionsResponse> response) {
-        DirectionsResponseFactory factory = new DirectionsResponseFactory(MapboxDirections.this);
-        Response<DirectionsResponse> generatedResponse = factory.generate(response);
-        callback.onResponse(call, generatedResponse);
-      }
-
-      @Override
-      public void onFailure(Call<DirectionsResponse> call, Throwable throwable) {
-        callback.onFailure(call, throwable);
-      }
-    });
-  }
-
   @Override
   protected synchronized OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
-      ConnectionSpec spec = new ConnectionSpec.Builder(ConnectionSpec.COMPATIBLE_TLS)
-              .supportsTlsExtensions(true)
-              .tlsVersions(TlsVersion.TLS_1_2, TlsVersion.TLS_1_1, TlsVersion.TLS_1_0)
-              .cipherSuites(
-                      CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256,
-                      CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256,
-                      CipherSuite.TLS_DHE_RSA_WITH_AES_128_GCM_SHA256,
-                      CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_CBC_SHA,
-                      CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_CBC_SHA,
-                      CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA,
-                      CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_CBC_SHA,
-                      CipherSuite.TLS_ECDHE_ECDSA_WITH_RC4_128_SHA,
-                      CipherSuite.TLS_ECDHE_RSA_WITH_RC4_128_SHA,
-                      CipherSuite.TLS_DHE_RSA_WITH_AES_128_CBC_SHA,
-                      CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA,
-                      CipherSuite.TLS_DHE_RSA_WITH_AES_256_CBC_SHA)
-              .build();
-      OkHttpClient.Builder httpClient = new OkHttpClient.Builder()
-              .connectTimeout(30, TimeUnit.SECONDS)
-              .writeTimeout(30, TimeUnit.SECONDS)
-              .readTimeout(30, TimeUnit.SECONDS);
-      if (isEnableDebug()) {
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
-        httpClient.addInterceptor(logging);
-      }
-      Interceptor interceptor = interceptor();
-      if (interceptor != null) {
-        httpClient.addInterceptor(interceptor);
-      }
-      Interceptor networkInterceptor = networkInterceptor();
-      if (networkInterceptor != null) {
-        httpClient.addNetworkInterceptor(networkInterceptor);
-      }
-      EventListener eventListener = eventListener();
-      if (eventListener != null) {
-        httpClient.eventListener(eventListener);
-      }
-
-      okHttpClient = httpClient.build();
+      List<?> key = Arrays.asList(MapboxDirections.class, isEnableDebug(),
+        interceptor(), networkInterceptor(), eventListener());
+      okHttpClient = ServiceRegistry.client(key, new ServiceRegistry.Factory<OkHttpClient>() {
+        @Override
+        public OkHttpClient create() {
+          return newHttpClient();
+        }
+      });
     }
     return okHttpClient;
   }
 
+  private OkHttpClient newHttpClient() {
+    ConnectionSpec spec = new ConnectionSpec.Builder(ConnectionSpec.COMPATIBLE_TLS)
+            .supportsTlsExtensions(true)
+            .tlsVersions(TlsVersion.TLS_1_2, TlsVersion.TLS_1_1, TlsVersion.TLS_1_0)
+            .cipherSuites(
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256,
+                    CipherSuite.TLS_DHE_RSA_WITH_AES_128_GCM_SHA256,
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_CBC_SHA,
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_CBC_SHA,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_CBC_SHA,
+                    CipherSuite.TLS_ECDHE_ECDSA_WITH_RC4_128_SHA,
+                    CipherSuite.TLS_ECDHE_RSA_WITH_RC4_128_SHA,
+                    CipherSuite.TLS_DHE_RSA_WITH_AES_128_CBC_SHA,
+                    CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA,
+                    CipherSuite.TLS_DHE_RSA_WITH_AES_256_CBC_SHA)
+            .build();
+    OkHttpClient.Builder httpClient = ServiceRegistry.sharedClient().newBuilder()
+            .connectTimeout(30, TimeUnit.SECONDS)
+            .writeTimeout(30, TimeUnit.SECONDS)
+            .readTimeout(30, TimeUnit.SECONDS);
+    if (isEnableDebug()) {
+      HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
+      logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
+      httpClient.addInterceptor(logging);
+    }
+    Interceptor interceptor = interceptor();
+    if (interceptor != null) {
+      httpClient.addInterceptor(interceptor);
+    }
+    Interceptor networkInterceptor = networkInterceptor();
+    if (networkInterceptor != null) {
+      httpClient.addNetworkInterceptor(networkInterceptor);
+    }
+    EventListener eventListener = eventListener();
+    if (eventListener != null) {
+      httpClient.eventListener(eventListener);
+    }
+
+    return httpClient.build();
+  }
+
   @NonNull
   abstract String user();
 
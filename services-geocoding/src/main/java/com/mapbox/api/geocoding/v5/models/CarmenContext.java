@@ -4,7 +4,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
 
@@ -40,9 +39,7 @@ public abstract class CarmenContext implements Serializable {
    */
   @SuppressWarnings("unused")
   public static CarmenContext fromJson(@NonNull String json) {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
-      .create();
+    Gson gson = GeocodingGson.gson();
     return gson.fromJson(json, CarmenContext.class);
   }
 
@@ -125,9 +122,7 @@ public abstract class CarmenContext implements Serializable {
    */
   @SuppressWarnings("unused")
   public String toJson() {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
-      .create();
+    Gson gson = GeocodingGson.gson();
     return gson.toJson(this);
   }
 
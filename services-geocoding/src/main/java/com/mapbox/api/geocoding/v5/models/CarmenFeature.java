@@ -4,7 +4,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
@@ -13,9 +12,7 @@ import com.mapbox.geojson.BoundingBox;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.GeoJson;
 import com.mapbox.geojson.Geometry;
-import com.mapbox.geojson.GeometryAdapterFactory;
 import com.mapbox.geojson.Point;
-import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
 
 import java.util.List;
 
@@ -52,11 +49,7 @@ public abstract class CarmenFeature implements GeoJson {
   @NonNull
   public static CarmenFeature fromJson(@NonNull String json) {
 
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
-      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
-      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
-      .create();
+    Gson gson = GeocodingGson.gson();
     CarmenFeature feature = gson.fromJson(json, CarmenFeature.class);
     // Even thought properties are Nullable,
     // Feature object will be created with properties set to an empty object,
@@ -293,11 +286,7 @@ public abstract class CarmenFeature implements GeoJson {
   @SuppressWarnings("unused")
   public String toJson() {
 
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
-      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
-      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
-      .create();
+    Gson gson = GeocodingGson.gson();
 
     // Empty properties -> should not appear in json string
     CarmenFeature feature = this;
@@ -0,0 +1,33 @@
+package com.mapbox.api.geocoding.v5.models;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.geojson.BoundingBox;
+import com.mapbox.geojson.GeometryAdapterFactory;
+import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
+
+/**
+ * Holds the {@link Gson} instance shared by the static {@code fromJson} and {@code toJson} methods
+ * of the geocoding models, created once the first time it is needed.
+ *
+ * @since 5.10.0
+ */
+final class GeocodingGson {
+
+  private GeocodingGson() {
+    // Empty private constructor since only static methods are found inside class.
+  }
+
+  static Gson gson() {
+    return Holder.GSON;
+  }
+
+  private static final class Holder {
+
+    private static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
+      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
+      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
+      .create();
+  }
+}
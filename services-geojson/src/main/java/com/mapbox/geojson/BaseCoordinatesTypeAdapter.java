@@ -29,14 +29,51 @@ abstract class BaseCoordinatesTypeAdapter<T> extends TypeAdapter<T> {
     if (point == null) {
       return;
     }
-    writePointList(out, point.coordinates());
+    if (!CoordinateShifterManager.isUsingDefaultShifter()) {
+      writePointList(out, point.coordinates());
+      return;
+    }
+
+    // Nothing to unshift, write the primitive values directly
+    out.beginArray();
+    out.value(GeoJsonUtils.trim(point.longitude()));
+    out.value(GeoJsonUtils.trim(point.latitude()));
+
+    // Includes altitude
+    if (point.dimensions() > 2) {
+      out.value(point.altitude());
+    }
+    out.endArray();
   }
 
   protected Point readPoint(JsonReader in) throws IOException {
 
-    List<Double> coordinates = readPointList(in);
-    if (coordinates != null && coordinates.size() > 1) {
-      return new Point("Point",null, coordinates);
+    if (in.peek() == JsonToken.NULL) {
+      throw new NullPointerException();
+    }
+
+    double longitude = 0;
+    double latitude = 0;
+    double altitude = Double.NaN;
+    int count = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      double value = in.nextDouble();
+      if (count == 0) {
+        longitude = value;
+      } else if (count == 1) {
+        latitude = value;
+      } else if (count == 2) {
+        altitude = value;
+      }
+      count++;
+    }
+    in.endArray();
+
+    if (count > 2) {
+      return Point.fromLngLat(longitude, latitude, altitude);
+    } else if (count == 2) {
+      return Point.fromLngLat(longitude, latitude);
     }
 
     throw new GeoJsonException(" Point coordinates should be non-null double array");
@@ -7,10 +7,10 @@ import androidx.annotation.FloatRange;
 import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.mapbox.geojson.constants.GeoJsonConstants;
 import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
+import com.mapbox.geojson.gson.GeoJsonGson;
 
 import java.io.Serializable;
 
@@ -45,9 +45,7 @@ public class BoundingBox implements Serializable {
    * @since 3.0.0
    */
   public static BoundingBox fromJson(String json) {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
-      .create();
+    Gson gson = GeoJsonGson.gson();
     return gson.fromJson(json, BoundingBox.class);
   }
 
@@ -263,9 +261,7 @@ public class BoundingBox implements Serializable {
    * @since 3.0.0
    */
   public final String toJson() {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
-      .create();
+    Gson gson = GeoJsonGson.gson();
     return gson.toJson(this, BoundingBox.class);
   }
 
@@ -0,0 +1,25 @@
+package com.mapbox.geojson;
+
+import androidx.annotation.Keep;
+
+/**
+ * Callback used to walk the coordinates of a geometry as primitive values, without creating any
+ * {@link Point} instances along the way.
+ *
+ * @see PackedCoordinates#forEachCoordinate(CoordinateCallback)
+ * @since 5.10.0
+ */
+@Keep
+public interface CoordinateCallback {
+
+  /**
+   * Called once for every coordinate, in the order they appear in the geometry.
+   *
+   * @param index     the flat index of the coordinate inside the geometry
+   * @param longitude the longitude of the coordinate
+   * @param latitude  the latitude of the coordinate
+   * @param altitude  the altitude of the coordinate or {@link Double#NaN} if it has none
+   * @since 5.10.0
+   */
+  void onCoordinate(int index, double longitude, double latitude, double altitude);
+}
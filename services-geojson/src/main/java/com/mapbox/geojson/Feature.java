@@ -4,8 +4,8 @@ import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
@@ -13,9 +13,11 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.gson.GeoJsonGson;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 
 /**
  * This defines a GeoJson Feature object which represents a spatially bound thing. Every Feature
@@ -75,11 +77,7 @@ public final class Feature implements GeoJson {
    */
   public static Feature fromJson(@NonNull String json) {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-
-    Feature feature = gson.create().fromJson(json, Feature.class);
+    Feature feature = GeoJsonGson.gson().fromJson(json, Feature.class);
 
     // Even thought properties are Nullable,
     // Feature object will be created with properties set to an empty object,
@@ -270,20 +268,29 @@ public final class Feature implements GeoJson {
    */
   @Override
   public String toJson() {
+    StringWriter writer = new StringWriter();
+    toJson(writer);
+    return writer.toString();
+  }
 
-    Gson gson = new GsonBuilder()
-            .registerTypeAdapterFactory(GeoJsonAdapterFactory.create())
-            .registerTypeAdapterFactory(GeometryAdapterFactory.create())
-            .create();
-
-
-    // Empty properties -> should not appear in json string
-    Feature feature = this;
-    if (properties().size() == 0) {
-      feature = new Feature(TYPE, bbox(), id(), geometry(), null);
+  /**
+   * This takes the currently defined values found inside this instance and writes them as GeoJson
+   * straight to the given {@link Writer}, without building the JSON string in memory first. The
+   * output is the same as the one of {@link #toJson()}.
+   *
+   * @param writer the destination of the JSON, it is neither flushed nor closed
+   * @throws JsonIOException if there was a problem writing to the writer
+   * @since 5.10.0
+   */
+  public void toJson(@NonNull Writer writer) {
+    try {
+      JsonWriter jsonWriter = GeoJsonGson.gson().newJsonWriter(writer);
+      jsonWriter.setLenient(true);
+      // Empty properties -> should not appear in json string
+      AdapterHolder.ADAPTER.write(jsonWriter, this, true);
+    } catch (IOException exception) {
+      throw new JsonIOException(exception);
     }
-
-    return gson.toJson(feature);
   }
 
   /**
@@ -507,6 +514,15 @@ public final class Feature implements GeoJson {
 
     @Override
     public void write(JsonWriter jsonWriter, Feature object) throws IOException {
+      write(jsonWriter, object, false);
+    }
+
+    /**
+     * Writes the feature, leaving out empty properties when {@code skipEmptyProperties} is set
+     * instead of writing them as an empty JSON object.
+     */
+    void write(JsonWriter jsonWriter, Feature object, boolean skipEmptyProperties)
+      throws IOException {
       if (object == null) {
         jsonWriter.nullValue();
         return;
@@ -557,7 +573,8 @@ public final class Feature implements GeoJson {
         geometryTypeAdapter.write(jsonWriter, object.geometry());
       }
       jsonWriter.name("properties");
-      if (object.properties() == null) {
+      if (object.properties() == null
+        || (skipEmptyProperties && object.properties().size() == 0)) {
         jsonWriter.nullValue();
       } else {
         TypeAdapter<JsonObject> jsonObjectTypeAdapter = this.jsonObjectTypeAdapter;
@@ -643,4 +660,15 @@ public final class Feature implements GeoJson {
       return new Feature(type, bbox, id, geometry, properties);
     }
   }
+
+  /**
+   * The adapter shared by every {@link #toJson(Writer)} call, created on first access like the
+   * shared {@link Gson} instance it reads its delegate adapters from.
+   *
+   * @since 5.10.0
+   */
+  private static final class AdapterHolder {
+
+    private static final GsonTypeAdapter ADAPTER = new GsonTypeAdapter(GeoJsonGson.gson());
+  }
 }
@@ -4,7 +4,7 @@ import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.reflect.TypeToken;
@@ -12,9 +12,10 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.gson.GeoJsonGson;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.List;
 
@@ -53,7 +54,8 @@ public final class FeatureCollection implements GeoJson {
   /**
    * Create a new instance of this class by passing in a formatted valid JSON String. If you are
    * creating a FeatureCollection object from scratch it is better to use one of the other provided
-   * static factory methods such as {@link #fromFeatures(List)}.
+   * static factory methods such as {@link #fromFeatures(List)}. To process large documents without
+   * holding every feature in memory, use {@link FeatureCollectionReader} instead.
    *
    * @param json a formatted valid JSON string defining a GeoJson Feature Collection
    * @return a new instance of this class defined by the values passed inside this static factory
@@ -62,10 +64,7 @@ public final class FeatureCollection implements GeoJson {
    */
   public static FeatureCollection fromJson(@NonNull String json) {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-    return gson.create().fromJson(json, FeatureCollection.class);
+    return GeoJsonGson.gson().fromJson(json, FeatureCollection.class);
   }
 
   /**
@@ -217,10 +216,21 @@ public final class FeatureCollection implements GeoJson {
   @Override
   public String toJson() {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.gson().toJson(this);
+  }
+
+  /**
+   * This takes the currently defined values found inside this instance and writes them as GeoJson
+   * straight to the given {@link Writer}, without building the JSON string in memory first. The
+   * output is the same as the one of {@link #toJson()}. To write features as they are produced,
+   * without holding them in a list, use {@link FeatureCollectionWriter} instead.
+   *
+   * @param writer the destination of the JSON, it is neither flushed nor closed
+   * @throws JsonIOException if there was a problem writing to the writer
+   * @since 5.10.0
+   */
+  public void toJson(@NonNull Writer writer) {
+    GeoJsonGson.gson().toJson(this, writer);
   }
 
   /**
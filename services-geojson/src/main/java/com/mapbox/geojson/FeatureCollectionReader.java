@@ -0,0 +1,236 @@
+package com.mapbox.geojson;
+
+import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import com.mapbox.geojson.gson.GeoJsonGson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Pull style reader which walks the {@code features} array of a GeoJson Feature Collection one
+ * {@link Feature} at a time. Unlike {@link FeatureCollection#fromJson(String)}, only the feature
+ * currently being returned is kept in memory, so arbitrarily large documents can be processed with
+ * a bounded heap.
+ * <p>
+ * The reader is single use and not thread safe. Members of the Feature Collection other than
+ * {@code features} are skipped, except for {@code bbox} which is made available through
+ * {@link #bbox()} once it has been read. Call {@link #close()} when done to release the underlying
+ * input.
+ * </p>
+ * <pre>
+ * FeatureCollectionReader reader = FeatureCollectionReader.fromReader(new FileReader(file));
+ * try {
+ *   while (reader.hasNext()) {
+ *     Feature feature = reader.next();
+ *     // ...
+ *   }
+ * } finally {
+ *   reader.close();
+ * }
+ * </pre>
+ *
+ * @since 5.10.0
+ */
+@Keep
+public final class FeatureCollectionReader implements Iterator<Feature>, Closeable {
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private static final int STATE_START = 0;
+  private static final int STATE_FEATURES = 1;
+  private static final int STATE_DONE = 2;
+
+  private final JsonReader jsonReader;
+  private final TypeAdapter<Feature> featureAdapter;
+  private final TypeAdapter<BoundingBox> boundingBoxAdapter;
+
+  private int state = STATE_START;
+  private BoundingBox bbox;
+
+  /**
+   * Create a new reader consuming a GeoJson Feature Collection from the given {@link Reader}.
+   * Nothing is read until {@link #hasNext()} or {@link #next()} is first called.
+   *
+   * @param reader the source of the Feature Collection JSON
+   * @return a new reader positioned before the first feature
+   * @since 5.10.0
+   */
+  @NonNull
+  public static FeatureCollectionReader fromReader(@NonNull Reader reader) {
+    return new FeatureCollectionReader(new JsonReader(reader));
+  }
+
+  /**
+   * Create a new reader consuming a UTF-8 encoded GeoJson Feature Collection from the given
+   * {@link InputStream}. Nothing is read until {@link #hasNext()} or {@link #next()} is first
+   * called.
+   *
+   * @param inputStream the source of the Feature Collection JSON
+   * @return a new reader positioned before the first feature
+   * @since 5.10.0
+   */
+  @NonNull
+  public static FeatureCollectionReader fromInputStream(@NonNull InputStream inputStream) {
+    return fromReader(new InputStreamReader(inputStream, UTF_8));
+  }
+
+  /**
+   * Create a new reader consuming a GeoJson Feature Collection from an existing
+   * {@link JsonReader}, which must be positioned at the start of the Feature Collection object.
+   *
+   * @param jsonReader the source of the Feature Collection JSON
+   * @return a new reader positioned before the first feature
+   * @since 5.10.0
+   */
+  @NonNull
+  public static FeatureCollectionReader fromJsonReader(@NonNull JsonReader jsonReader) {
+    return new FeatureCollectionReader(jsonReader);
+  }
+
+  private FeatureCollectionReader(JsonReader jsonReader) {
+    this.jsonReader = jsonReader;
+    this.featureAdapter = GeoJsonGson.gson().getAdapter(Feature.class);
+    this.boundingBoxAdapter = GeoJsonGson.gson().getAdapter(BoundingBox.class);
+  }
+
+  /**
+   * The bounding box of the Feature Collection. Since members are read in document order, this is
+   * only available once the {@code bbox} member has been consumed: straight away when it comes
+   * before {@code features}, otherwise after {@link #hasNext()} has returned false.
+   *
+   * @return the bounding box read so far, or null if none has been read
+   * @since 5.10.0
+   */
+  @Nullable
+  public BoundingBox bbox() {
+    return bbox;
+  }
+
+  /**
+   * Returns true if there is another {@link Feature} to read, advancing past the members preceding
+   * the {@code features} array on the first call.
+   *
+   * @return true if {@link #next()} will return another feature
+   * @throws JsonIOException     if the underlying input can't be read
+   * @throws JsonSyntaxException if the input isn't a valid Feature Collection
+   * @since 5.10.0
+   */
+  @Override
+  public boolean hasNext() {
+    try {
+      if (state == STATE_START) {
+        advanceToFeatures();
+      }
+      if (state == STATE_FEATURES) {
+        if (jsonReader.hasNext()) {
+          return true;
+        }
+        jsonReader.endArray();
+        state = STATE_DONE;
+        readMembers();
+      }
+      return false;
+    } catch (IOException exception) {
+      throw wrap(exception);
+    } catch (IllegalStateException exception) {
+      throw new JsonSyntaxException(exception);
+    }
+  }
+
+  /**
+   * Reads and returns the next {@link Feature} of the collection.
+   *
+   * @return the next feature
+   * @throws NoSuchElementException if all the features have been read
+   * @throws JsonIOException        if the underlying input can't be read
+   * @throws JsonSyntaxException    if the input isn't a valid Feature Collection
+   * @since 5.10.0
+   */
+  @Override
+  public Feature next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      return featureAdapter.read(jsonReader);
+    } catch (IOException exception) {
+      throw wrap(exception);
+    } catch (IllegalStateException exception) {
+      throw new JsonSyntaxException(exception);
+    }
+  }
+
+  /**
+   * Not supported, the features are read from a stream.
+   *
+   * @throws UnsupportedOperationException always
+   * @since 5.10.0
+   */
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("remove");
+  }
+
+  /**
+   * Closes the underlying {@link JsonReader} and its source.
+   *
+   * @throws IOException if the source can't be closed
+   * @since 5.10.0
+   */
+  @Override
+  public void close() throws IOException {
+    state = STATE_DONE;
+    jsonReader.close();
+  }
+
+  private void advanceToFeatures() throws IOException {
+    jsonReader.beginObject();
+    state = STATE_DONE;
+    while (jsonReader.hasNext()) {
+      String name = jsonReader.nextName();
+      if ("features".equals(name) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+        jsonReader.beginArray();
+        state = STATE_FEATURES;
+        return;
+      }
+      readMember(name);
+    }
+    jsonReader.endObject();
+  }
+
+  private void readMembers() throws IOException {
+    while (jsonReader.hasNext()) {
+      readMember(jsonReader.nextName());
+    }
+    jsonReader.endObject();
+  }
+
+  private void readMember(String name) throws IOException {
+    if ("bbox".equals(name) && jsonReader.peek() != JsonToken.NULL) {
+      bbox = boundingBoxAdapter.read(jsonReader);
+    } else {
+      jsonReader.skipValue();
+    }
+  }
+
+  private static RuntimeException wrap(IOException exception) {
+    if (exception instanceof MalformedJsonException) {
+      return new JsonSyntaxException(exception);
+    }
+    return new JsonIOException(exception);
+  }
+}
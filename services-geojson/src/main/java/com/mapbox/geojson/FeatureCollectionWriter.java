@@ -0,0 +1,203 @@
+package com.mapbox.geojson;
+
+import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import com.mapbox.geojson.gson.GeoJsonGson;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+
+/**
+ * Writes a GeoJson Feature Collection to a {@link Writer} or {@link OutputStream} one
+ * {@link Feature} at a time, so features can be emitted as they are produced without the whole
+ * collection, or its JSON string, ever being held in memory.
+ * <p>
+ * The output is the same as the one of {@link FeatureCollection#toJson()} for the same features:
+ * coordinates are unshifted through the current
+ * {@link com.mapbox.geojson.shifter.CoordinateShifter} and trimmed with
+ * {@link com.mapbox.geojson.utils.GeoJsonUtils#trim(double)}, since the same type adapters are
+ * used. The writer is not thread safe and {@link #close()} must be called to complete the
+ * document.
+ * </p>
+ * <pre>
+ * FeatureCollectionWriter writer = FeatureCollectionWriter.fromOutputStream(outputStream);
+ * try {
+ *   for (...) {
+ *     writer.write(Feature.fromGeometry(geometry));
+ *   }
+ * } finally {
+ *   writer.close();
+ * }
+ * </pre>
+ *
+ * @since 5.10.0
+ */
+@Keep
+public final class FeatureCollectionWriter implements Closeable, Flushable {
+
+  private static final String TYPE = "FeatureCollection";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final JsonWriter jsonWriter;
+  private final Feature.GsonTypeAdapter featureAdapter;
+  private final TypeAdapter<BoundingBox> boundingBoxAdapter;
+  @Nullable
+  private final BoundingBox bbox;
+
+  private boolean started;
+  private boolean closed;
+
+  /**
+   * Create a new writer emitting a Feature Collection to the given {@link Writer}.
+   *
+   * @param writer the destination of the JSON, closed along with this writer
+   * @return a new writer
+   * @since 5.10.0
+   */
+  @NonNull
+  public static FeatureCollectionWriter fromWriter(@NonNull Writer writer) {
+    return new FeatureCollectionWriter(writer, null);
+  }
+
+  /**
+   * Create a new writer emitting a Feature Collection with the given bounding box to the given
+   * {@link Writer}.
+   *
+   * @param writer the destination of the JSON, closed along with this writer
+   * @param bbox   optionally include a bbox definition for the Feature Collection
+   * @return a new writer
+   * @since 5.10.0
+   */
+  @NonNull
+  public static FeatureCollectionWriter fromWriter(@NonNull Writer writer,
+                                                   @Nullable BoundingBox bbox) {
+    return new FeatureCollectionWriter(writer, bbox);
+  }
+
+  /**
+   * Create a new writer emitting a UTF-8 encoded Feature Collection to the given
+   * {@link OutputStream}.
+   *
+   * @param outputStream the destination of the JSON, closed along with this writer
+   * @return a new writer
+   * @since 5.10.0
+   */
+  @NonNull
+  public static FeatureCollectionWriter fromOutputStream(@NonNull OutputStream outputStream) {
+    return fromOutputStream(outputStream, null);
+  }
+
+  /**
+   * Create a new writer emitting a UTF-8 encoded Feature Collection with the given bounding box to
+   * the given {@link OutputStream}.
+   *
+   * @param outputStream the destination of the JSON, closed along with this writer
+   * @param bbox         optionally include a bbox definition for the Feature Collection
+   * @return a new writer
+   * @since 5.10.0
+   */
+  @NonNull
+  public static FeatureCollectionWriter fromOutputStream(@NonNull OutputStream outputStream,
+                                                         @Nullable BoundingBox bbox) {
+    return new FeatureCollectionWriter(
+      new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8)), bbox);
+  }
+
+  private FeatureCollectionWriter(Writer writer, @Nullable BoundingBox bbox) {
+    Gson gson = GeoJsonGson.gson();
+    try {
+      this.jsonWriter = gson.newJsonWriter(writer);
+    } catch (IOException exception) {
+      throw new JsonIOException(exception);
+    }
+    this.jsonWriter.setLenient(true);
+    this.featureAdapter = new Feature.GsonTypeAdapter(gson);
+    this.boundingBoxAdapter = gson.getAdapter(BoundingBox.class);
+    this.bbox = bbox;
+  }
+
+  /**
+   * Writes a single {@link Feature} to the {@code features} array of the collection.
+   *
+   * @param feature the feature to write
+   * @throws IOException if there was a problem writing to the destination
+   * @since 5.10.0
+   */
+  public void write(@NonNull Feature feature) throws IOException {
+    begin();
+    featureAdapter.write(jsonWriter, feature);
+  }
+
+  /**
+   * Writes every remaining {@link Feature} of the given iterator to the {@code features} array of
+   * the collection. Combined with {@link FeatureCollectionReader} this allows copying a collection
+   * without ever holding it in memory.
+   *
+   * @param features the features to write
+   * @throws IOException if there was a problem writing to the destination
+   * @since 5.10.0
+   */
+  public void writeAll(@NonNull Iterator<Feature> features) throws IOException {
+    begin();
+    while (features.hasNext()) {
+      featureAdapter.write(jsonWriter, features.next());
+    }
+  }
+
+  /**
+   * Flushes the JSON written so far to the destination.
+   *
+   * @throws IOException if there was a problem writing to the destination
+   * @since 5.10.0
+   */
+  @Override
+  public void flush() throws IOException {
+    jsonWriter.flush();
+  }
+
+  /**
+   * Completes the Feature Collection, writing an empty {@code features} array when no feature was
+   * written, and closes the destination.
+   *
+   * @throws IOException if there was a problem writing to the destination
+   * @since 5.10.0
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    begin();
+    jsonWriter.endArray();
+    jsonWriter.endObject();
+    jsonWriter.close();
+  }
+
+  private void begin() throws IOException {
+    if (started) {
+      return;
+    }
+    started = true;
+    jsonWriter.beginObject();
+    jsonWriter.name("type").value(TYPE);
+    if (bbox != null) {
+      jsonWriter.name("bbox");
+      boundingBoxAdapter.write(jsonWriter, bbox);
+    }
+    jsonWriter.name("features");
+    jsonWriter.beginArray();
+  }
+}
@@ -5,13 +5,12 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.gson.GeoJsonGson;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -82,10 +81,7 @@ public final class GeometryCollection implements Geometry {
    */
   public static GeometryCollection fromJson(String json) {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-    return gson.create().fromJson(json, GeometryCollection.class);
+    return GeoJsonGson.gson().fromJson(json, GeometryCollection.class);
   }
 
   /**
@@ -216,10 +212,7 @@ public final class GeometryCollection implements Geometry {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.gson().toJson(this);
   }
 
   /**
@@ -4,11 +4,10 @@ import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.gson.GeoJsonGson;
 import com.mapbox.geojson.utils.PolylineUtils;
 
 import java.io.IOException;
@@ -57,8 +56,18 @@ public final class LineString implements CoordinateContainer<List<Point>> {
 
   private final BoundingBox bbox;
 
+  @Nullable
   private final List<Point> coordinates;
 
+  @Nullable
+  private final PackedCoordinates packedCoordinates;
+
+  @Nullable
+  private transient List<Point> coordinatesView;
+
+  @Nullable
+  private transient PackedCoordinates packedCoordinatesView;
+
   /**
    * Create a new instance of this class by passing in a formatted valid JSON String. If you are
    * creating a LineString object from scratch it is better to use one of the other provided static
@@ -72,9 +81,7 @@ public final class LineString implements CoordinateContainer<List<Point>> {
    * @since 1.0.0
    */
   public static LineString fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, LineString.class);
+    return GeoJsonGson.gson().fromJson(json, LineString.class);
   }
 
   /**
@@ -141,6 +148,41 @@ public final class LineString implements CoordinateContainer<List<Point>> {
     return new LineString(TYPE, bbox, multiPoint.coordinates());
   }
 
+  /**
+   * Create a new instance of this class from packed coordinates, a flat array of interleaved
+   * longitude, latitude and optionally altitude values. The values are copied into a single
+   * primitive buffer and {@link #coordinates()} only creates {@link Point}s when it gets accessed,
+   * which makes this the preferred way to hold long lines in memory.
+   *
+   * @param coordinates interleaved longitude, latitude (and altitude) values
+   * @param dimensions  2 for longitude, latitude pairs or 3 when altitude values are included
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 5.10.0
+   */
+  public static LineString fromLngLats(@NonNull double[] coordinates, int dimensions) {
+    return fromLngLats(coordinates, dimensions, null);
+  }
+
+  /**
+   * Create a new instance of this class from packed coordinates, a flat array of interleaved
+   * longitude, latitude and optionally altitude values. The values are copied into a single
+   * primitive buffer and {@link #coordinates()} only creates {@link Point}s when it gets accessed,
+   * which makes this the preferred way to hold long lines in memory.
+   *
+   * @param coordinates interleaved longitude, latitude (and altitude) values
+   * @param dimensions  2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param bbox        optionally include a bbox definition as a double array
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 5.10.0
+   */
+  public static LineString fromLngLats(@NonNull double[] coordinates, int dimensions,
+                                       @Nullable BoundingBox bbox) {
+    return new LineString(TYPE, bbox,
+      PackedCoordinates.fromLngLats(coordinates, dimensions, null, null));
+  }
+
   LineString(String type, @Nullable BoundingBox bbox, List<Point> coordinates) {
     if (type == null) {
       throw new NullPointerException("Null type");
@@ -151,6 +193,20 @@ public final class LineString implements CoordinateContainer<List<Point>> {
       throw new NullPointerException("Null coordinates");
     }
     this.coordinates = coordinates;
+    this.packedCoordinates = null;
+  }
+
+  LineString(String type, @Nullable BoundingBox bbox, PackedCoordinates packedCoordinates) {
+    if (type == null) {
+      throw new NullPointerException("Null type");
+    }
+    this.type = type;
+    this.bbox = bbox;
+    if (packedCoordinates == null) {
+      throw new NullPointerException("Null coordinates");
+    }
+    this.coordinates = null;
+    this.packedCoordinates = packedCoordinates;
   }
 
   static LineString fromLngLats(double[][] coordinates) {
@@ -176,7 +232,7 @@ public final class LineString implements CoordinateContainer<List<Point>> {
    * @since 1.0.0
    */
   public static LineString fromPolyline(@NonNull String polyline, int precision) {
-    return LineString.fromLngLats(PolylineUtils.decode(polyline, precision), null);
+    return LineString.fromLngLats(PolylineUtils.decodeToArray(polyline, precision), 2);
   }
 
   /**
@@ -210,7 +266,8 @@ public final class LineString implements CoordinateContainer<List<Point>> {
   }
 
   /**
-   * Provides the list of {@link Point}s that make up the LineString geometry.
+   * Provides the list of {@link Point}s that make up the LineString geometry. For a LineString
+   * created from packed coordinates this is a read-only view creating points on access.
    *
    * @return a list of points
    * @since 3.0.0
@@ -218,7 +275,95 @@ public final class LineString implements CoordinateContainer<List<Point>> {
   @NonNull
   @Override
   public List<Point> coordinates()  {
-    return coordinates;
+    if (coordinates != null) {
+      return coordinates;
+    }
+    List<Point> coordinatesView = this.coordinatesView;
+    if (coordinatesView == null) {
+      coordinatesView = packedCoordinates.points(0);
+      this.coordinatesView = coordinatesView;
+    }
+    return coordinatesView;
+  }
+
+  /**
+   * Provides the coordinates of this LineString as primitive values. LineStrings created from a
+   * list of points get packed the first time this is called.
+   *
+   * @return the packed coordinates of this geometry
+   * @since 5.10.0
+   */
+  @NonNull
+  public PackedCoordinates packedCoordinates() {
+    if (packedCoordinates != null) {
+      return packedCoordinates;
+    }
+    PackedCoordinates packedCoordinatesView = this.packedCoordinatesView;
+    if (packedCoordinatesView == null) {
+      packedCoordinatesView = PackedCoordinates.fromPoints(coordinates);
+      this.packedCoordinatesView = packedCoordinatesView;
+    }
+    return packedCoordinatesView;
+  }
+
+  /**
+   * Whether this LineString holds packed coordinates. When it does,
+   * {@link #packedCoordinates()} costs nothing while {@link #coordinates()} creates points on
+   * access, otherwise the list of points is the cheaper way to read the coordinates once.
+   *
+   * @return true if this LineString was created from packed coordinates
+   * @since 5.10.0
+   */
+  public boolean isPacked() {
+    return packedCoordinates != null;
+  }
+
+  /**
+   * Number of coordinates making up this LineString.
+   *
+   * @return the number of coordinates
+   * @since 5.10.0
+   */
+  public int coordinateCount() {
+    return coordinates != null ? coordinates.size() : packedCoordinates.coordinateCount();
+  }
+
+  /**
+   * Longitude of the coordinate at the given index, read without creating a {@link Point} when
+   * this LineString is packed.
+   *
+   * @param index index of the coordinate
+   * @return the longitude value
+   * @since 5.10.0
+   */
+  public double lon(int index) {
+    return coordinates != null ? coordinates.get(index).longitude() : packedCoordinates.lon(index);
+  }
+
+  /**
+   * Latitude of the coordinate at the given index, read without creating a {@link Point} when
+   * this LineString is packed.
+   *
+   * @param index index of the coordinate
+   * @return the latitude value
+   * @since 5.10.0
+   */
+  public double lat(int index) {
+    return coordinates != null ? coordinates.get(index).latitude() : packedCoordinates.lat(index);
+  }
+
+  /**
+   * Calls the callback for every coordinate of this LineString, in order.
+   *
+   * @param callback the callback to be notified
+   * @since 5.10.0
+   */
+  public void forEachCoordinate(@NonNull CoordinateCallback callback) {
+    if (coordinates != null) {
+      PackedCoordinates.forEachCoordinate(coordinates, 0, callback);
+    } else {
+      packedCoordinates.forEachCoordinate(callback);
+    }
   }
 
   /**
@@ -230,9 +375,7 @@ public final class LineString implements CoordinateContainer<List<Point>> {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.gson().toJson(this);
   }
 
   /**
@@ -245,7 +388,10 @@ public final class LineString implements CoordinateContainer<List<Point>> {
    * @since 1.0.0
    */
   public String toPolyline(int precision) {
-    return PolylineUtils.encode(coordinates(), precision);
+    if (packedCoordinates != null) {
+      return PolylineUtils.encode(packedCoordinates, precision);
+    }
+    return PolylineUtils.encode(coordinates, precision);
   }
 
   /**
@@ -264,7 +410,7 @@ public final class LineString implements CoordinateContainer<List<Point>> {
     return "LineString{"
             + "type=" + type + ", "
             + "bbox=" + bbox + ", "
-            + "coordinates=" + coordinates
+            + "coordinates=" + coordinates()
             + "}";
   }
 
@@ -277,7 +423,7 @@ public final class LineString implements CoordinateContainer<List<Point>> {
       LineString that = (LineString) obj;
       return (this.type.equals(that.type()))
               && ((this.bbox == null) ? (that.bbox() == null) : this.bbox.equals(that.bbox()))
-              && (this.coordinates.equals(that.coordinates()));
+              && (this.coordinates().equals(that.coordinates()));
     }
     return false;
   }
@@ -290,7 +436,7 @@ public final class LineString implements CoordinateContainer<List<Point>> {
     hashCode *= 1000003;
     hashCode ^= (bbox == null) ? 0 : bbox.hashCode();
     hashCode *= 1000003;
-    hashCode ^= coordinates.hashCode();
+    hashCode ^= coordinates().hashCode();
     return hashCode;
   }
 
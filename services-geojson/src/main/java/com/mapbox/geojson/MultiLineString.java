@@ -4,11 +4,10 @@ import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.gson.GeoJsonGson;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -59,8 +58,18 @@ public final class MultiLineString
 
   private final BoundingBox bbox;
 
+  @Nullable
   private final List<List<Point>> coordinates;
 
+  @Nullable
+  private final PackedCoordinates packedCoordinates;
+
+  @Nullable
+  private transient List<List<Point>> coordinatesView;
+
+  @Nullable
+  private transient PackedCoordinates packedCoordinatesView;
+
   /**
    * Create a new instance of this class by passing in a formatted valid JSON String. If you are
    * creating a MultiLineString object from scratch it is better to use one of the other provided
@@ -72,9 +81,7 @@ public final class MultiLineString
    * @since 1.0.0
    */
   public static MultiLineString fromJson(@NonNull String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, MultiLineString.class);
+    return GeoJsonGson.gson().fromJson(json, MultiLineString.class);
   }
 
   /**
@@ -191,6 +198,47 @@ public final class MultiLineString
     return new MultiLineString(TYPE, null, multiLine);
   }
 
+  /**
+   * Create a new instance of this class from packed coordinates, a flat array of interleaved
+   * longitude, latitude and optionally altitude values, split into lines by offset arrays. The
+   * values are copied into a single primitive buffer and {@link #coordinates()} only creates
+   * {@link Point}s when it gets accessed, which makes this the preferred way to hold large
+   * geometries in memory.
+   *
+   * @param coordinates interleaved longitude, latitude (and altitude) values
+   * @param dimensions  2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param lineOffsets the index of the first coordinate of every line, starting at 0
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 5.10.0
+   */
+  public static MultiLineString fromLngLats(@NonNull double[] coordinates, int dimensions,
+                                            @NonNull int[] lineOffsets) {
+    return fromLngLats(coordinates, dimensions, lineOffsets, null);
+  }
+
+  /**
+   * Create a new instance of this class from packed coordinates, a flat array of interleaved
+   * longitude, latitude and optionally altitude values, split into lines by offset arrays. The
+   * values are copied into a single primitive buffer and {@link #coordinates()} only creates
+   * {@link Point}s when it gets accessed, which makes this the preferred way to hold large
+   * geometries in memory.
+   *
+   * @param coordinates interleaved longitude, latitude (and altitude) values
+   * @param dimensions  2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param lineOffsets the index of the first coordinate of every line, starting at 0
+   * @param bbox        optionally include a bbox definition
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 5.10.0
+   */
+  public static MultiLineString fromLngLats(@NonNull double[] coordinates, int dimensions,
+                                            @NonNull int[] lineOffsets,
+                                            @Nullable BoundingBox bbox) {
+    return new MultiLineString(TYPE, bbox,
+      PackedCoordinates.fromLngLats(coordinates, dimensions, lineOffsets, null));
+  }
+
   MultiLineString(String type, @Nullable BoundingBox bbox, List<List<Point>> coordinates) {
     if (type == null) {
       throw new NullPointerException("Null type");
@@ -201,6 +249,20 @@ public final class MultiLineString
       throw new NullPointerException("Null coordinates");
     }
     this.coordinates = coordinates;
+    this.packedCoordinates = null;
+  }
+
+  MultiLineString(String type, @Nullable BoundingBox bbox, PackedCoordinates packedCoordinates) {
+    if (type == null) {
+      throw new NullPointerException("Null type");
+    }
+    this.type = type;
+    this.bbox = bbox;
+    if (packedCoordinates == null) {
+      throw new NullPointerException("Null coordinates");
+    }
+    this.coordinates = null;
+    this.packedCoordinates = packedCoordinates;
   }
 
   /**
@@ -235,6 +297,8 @@ public final class MultiLineString
 
   /**
    * Provides the list of list of {@link Point}s that make up the MultiLineString geometry.
+   * For a MultiLineString created from packed coordinates this is a read-only view creating points
+   * on access.
    *
    * @return a list of points
    * @since 3.0.0
@@ -242,7 +306,97 @@ public final class MultiLineString
   @NonNull
   @Override
   public List<List<Point>> coordinates() {
-    return coordinates;
+    if (coordinates != null) {
+      return coordinates;
+    }
+    List<List<Point>> coordinatesView = this.coordinatesView;
+    if (coordinatesView == null) {
+      coordinatesView = packedCoordinates.parts(0, packedCoordinates.partCount());
+      this.coordinatesView = coordinatesView;
+    }
+    return coordinatesView;
+  }
+
+  /**
+   * Provides the coordinates of this MultiLineString as primitive values. Instances created from
+   * lists of points get packed the first time this is called.
+   *
+   * @return the packed coordinates of this geometry
+   * @since 5.10.0
+   */
+  @NonNull
+  public PackedCoordinates packedCoordinates() {
+    if (packedCoordinates != null) {
+      return packedCoordinates;
+    }
+    PackedCoordinates packedCoordinatesView = this.packedCoordinatesView;
+    if (packedCoordinatesView == null) {
+      packedCoordinatesView = PackedCoordinates.fromParts(coordinates);
+      this.packedCoordinatesView = packedCoordinatesView;
+    }
+    return packedCoordinatesView;
+  }
+
+  /**
+   * Whether this MultiLineString holds packed coordinates. When it does,
+   * {@link #packedCoordinates()} costs nothing while {@link #coordinates()} creates points on
+   * access, otherwise the list of points is the cheaper way to read the coordinates once.
+   *
+   * @return true if this MultiLineString was created from packed coordinates
+   * @since 5.10.0
+   */
+  public boolean isPacked() {
+    return packedCoordinates != null;
+  }
+
+  /**
+   * Total number of coordinates making up this MultiLineString, across all lines.
+   *
+   * @return the number of coordinates
+   * @since 5.10.0
+   */
+  public int coordinateCount() {
+    return packedCoordinates().coordinateCount();
+  }
+
+  /**
+   * Longitude of the coordinate at the given flat index, counting across all lines.
+   *
+   * @param index flat index of the coordinate
+   * @return the longitude value
+   * @since 5.10.0
+   */
+  public double lon(int index) {
+    return packedCoordinates().lon(index);
+  }
+
+  /**
+   * Latitude of the coordinate at the given flat index, counting across all lines.
+   *
+   * @param index flat index of the coordinate
+   * @return the latitude value
+   * @since 5.10.0
+   */
+  public double lat(int index) {
+    return packedCoordinates().lat(index);
+  }
+
+  /**
+   * Calls the callback for every coordinate of this MultiLineString, in order, without packing or
+   * creating any {@link Point}.
+   *
+   * @param callback the callback to be notified
+   * @since 5.10.0
+   */
+  public void forEachCoordinate(@NonNull CoordinateCallback callback) {
+    if (coordinates != null) {
+      int index = 0;
+      for (List<Point> line : coordinates) {
+        index = PackedCoordinates.forEachCoordinate(line, index, callback);
+      }
+    } else {
+      packedCoordinates.forEachCoordinate(callback);
+    }
   }
 
   /**
@@ -269,9 +423,7 @@ public final class MultiLineString
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.gson().toJson(this);
   }
 
   /**
@@ -290,7 +442,7 @@ public final class MultiLineString
     return "MultiLineString{"
             + "type=" + type + ", "
             + "bbox=" + bbox + ", "
-            + "coordinates=" + coordinates
+            + "coordinates=" + coordinates()
             + "}";
   }
 
@@ -303,7 +455,7 @@ public final class MultiLineString
       MultiLineString that = (MultiLineString) obj;
       return (this.type.equals(that.type()))
               && ((this.bbox == null) ? (that.bbox() == null) : this.bbox.equals(that.bbox()))
-              && (this.coordinates.equals(that.coordinates()));
+              && (this.coordinates().equals(that.coordinates()));
     }
     return false;
   }
@@ -316,7 +468,7 @@ public final class MultiLineString
     hashCode *= 1000003;
     hashCode ^= (bbox == null) ? 0 : bbox.hashCode();
     hashCode *= 1000003;
-    hashCode ^= coordinates.hashCode();
+    hashCode ^= coordinates().hashCode();
     return hashCode;
   }
 
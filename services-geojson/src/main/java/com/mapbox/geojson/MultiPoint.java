@@ -4,11 +4,10 @@ import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.gson.GeoJsonGson;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -57,9 +56,7 @@ public final class MultiPoint implements CoordinateContainer<List<Point>> {
    * @since 1.0.0
    */
   public static MultiPoint fromJson(@NonNull String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, MultiPoint.class);
+    return GeoJsonGson.gson().fromJson(json, MultiPoint.class);
   }
 
   /**
@@ -165,9 +162,7 @@ public final class MultiPoint implements CoordinateContainer<List<Point>> {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.gson().toJson(this);
   }
 
   /**
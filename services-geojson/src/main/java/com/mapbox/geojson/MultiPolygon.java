@@ -1,14 +1,16 @@
 package com.mapbox.geojson;
 
+import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+
 import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.gson.GeoJsonGson;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -77,8 +79,18 @@ public final class MultiPolygon
 
   private final BoundingBox bbox;
 
+  @Nullable
   private final List<List<List<Point>>> coordinates;
 
+  @Nullable
+  private final PackedCoordinates packedCoordinates;
+
+  @Nullable
+  private transient List<List<List<Point>>> coordinatesView;
+
+  @Nullable
+  private transient PackedCoordinates packedCoordinatesView;
+
   /**
    * Create a new instance of this class by passing in a formatted valid JSON String. If you are
    * creating a MultiPolygon object from scratch it is better to use one of the other provided
@@ -90,9 +102,7 @@ public final class MultiPolygon
    * @since 1.0.0
    */
   public static MultiPolygon fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, MultiPolygon.class);
+    return GeoJsonGson.gson().fromJson(json, MultiPolygon.class);
   }
 
   /**
@@ -210,6 +220,74 @@ public final class MultiPolygon
     return new MultiPolygon(TYPE, null, converted);
   }
 
+  /**
+   * Create a new instance of this class from packed coordinates, a flat array of interleaved
+   * longitude, latitude and optionally altitude values, split into polygons by offset arrays. The
+   * values are copied into a single primitive buffer and {@link #coordinates()} only creates
+   * {@link Point}s when it gets accessed, which makes this the preferred way to hold large
+   * geometries in memory.
+   *
+   * @param coordinates    interleaved longitude, latitude (and altitude) values
+   * @param dimensions     2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param ringOffsets    the index of the first coordinate of every ring, starting at 0
+   * @param polygonOffsets the index of the first ring of every polygon, starting at 0
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 5.10.0
+   */
+  public static MultiPolygon fromLngLats(@NonNull double[] coordinates, int dimensions,
+                                         @NonNull int[] ringOffsets,
+                                         @NonNull int[] polygonOffsets) {
+    return fromLngLats(coordinates, dimensions, ringOffsets, polygonOffsets, null);
+  }
+
+  /**
+   * Create a new instance of this class from packed coordinates, a flat array of interleaved
+   * longitude, latitude and optionally altitude values, split into polygons by offset arrays. The
+   * values are copied into a single primitive buffer and {@link #coordinates()} only creates
+   * {@link Point}s when it gets accessed, which makes this the preferred way to hold large
+   * geometries in memory.
+   *
+   * @param coordinates    interleaved longitude, latitude (and altitude) values
+   * @param dimensions     2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param ringOffsets    the index of the first coordinate of every ring, starting at 0
+   * @param polygonOffsets the index of the first ring of every polygon, starting at 0
+   * @param bbox           optionally include a bbox definition
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 5.10.0
+   */
+  public static MultiPolygon fromLngLats(@NonNull double[] coordinates, int dimensions,
+                                         @NonNull int[] ringOffsets,
+                                         @NonNull int[] polygonOffsets,
+                                         @Nullable BoundingBox bbox) {
+    return new MultiPolygon(TYPE, bbox,
+      PackedCoordinates.fromLngLats(coordinates, dimensions, ringOffsets, polygonOffsets));
+  }
+
+  /**
+   * Creates a multi polygon like {@link #fromLngLats(double[], int, int[], int[])}, but backed
+   * by the given array instead of a copy of it when the default coordinate shifter is in use.
+   * Meant for the modules of this library which fill a new array for every geometry they create,
+   * the array must not be modified afterwards.
+   *
+   * @param coordinates    interleaved longitude, latitude (and altitude) values, taken over by
+   *                       the polygons
+   * @param dimensions     2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param ringOffsets    the index of the first coordinate of every ring, starting at 0
+   * @param polygonOffsets the index of the first ring of every polygon, starting at 0
+   * @return a new instance of this class backed by the given values
+   * @since 5.10.0
+   */
+  @RestrictTo(LIBRARY_GROUP)
+  @NonNull
+  public static MultiPolygon wrapLngLats(@NonNull double[] coordinates, int dimensions,
+                                         @NonNull int[] ringOffsets,
+                                         @NonNull int[] polygonOffsets) {
+    return new MultiPolygon(TYPE, null,
+      PackedCoordinates.wrapLngLats(coordinates, dimensions, ringOffsets, polygonOffsets));
+  }
+
   MultiPolygon(String type, @Nullable BoundingBox bbox, List<List<List<Point>>> coordinates) {
     if (type == null) {
       throw new NullPointerException("Null type");
@@ -220,6 +298,20 @@ public final class MultiPolygon
       throw new NullPointerException("Null coordinates");
     }
     this.coordinates = coordinates;
+    this.packedCoordinates = null;
+  }
+
+  MultiPolygon(String type, @Nullable BoundingBox bbox, PackedCoordinates packedCoordinates) {
+    if (type == null) {
+      throw new NullPointerException("Null type");
+    }
+    this.type = type;
+    this.bbox = bbox;
+    if (packedCoordinates == null) {
+      throw new NullPointerException("Null coordinates");
+    }
+    this.coordinates = null;
+    this.packedCoordinates = packedCoordinates;
   }
 
   /**
@@ -269,6 +361,8 @@ public final class MultiPolygon
 
   /**
    * Provides the list of list of list of {@link Point}s that make up the MultiPolygon geometry.
+   * For a MultiPolygon created from packed coordinates this is a read-only view creating points
+   * on access.
    *
    * @return a list of points
    * @since 3.0.0
@@ -276,7 +370,99 @@ public final class MultiPolygon
   @NonNull
   @Override
   public List<List<List<Point>>> coordinates()  {
-    return coordinates;
+    if (coordinates != null) {
+      return coordinates;
+    }
+    List<List<List<Point>>> coordinatesView = this.coordinatesView;
+    if (coordinatesView == null) {
+      coordinatesView = packedCoordinates.polygons();
+      this.coordinatesView = coordinatesView;
+    }
+    return coordinatesView;
+  }
+
+  /**
+   * Provides the coordinates of this MultiPolygon as primitive values. Instances created from
+   * lists of points get packed the first time this is called.
+   *
+   * @return the packed coordinates of this geometry
+   * @since 5.10.0
+   */
+  @NonNull
+  public PackedCoordinates packedCoordinates() {
+    if (packedCoordinates != null) {
+      return packedCoordinates;
+    }
+    PackedCoordinates packedCoordinatesView = this.packedCoordinatesView;
+    if (packedCoordinatesView == null) {
+      packedCoordinatesView = PackedCoordinates.fromPolygons(coordinates);
+      this.packedCoordinatesView = packedCoordinatesView;
+    }
+    return packedCoordinatesView;
+  }
+
+  /**
+   * Whether this MultiPolygon holds packed coordinates. When it does,
+   * {@link #packedCoordinates()} costs nothing while {@link #coordinates()} creates points on
+   * access, otherwise the list of points is the cheaper way to read the coordinates once.
+   *
+   * @return true if this MultiPolygon was created from packed coordinates
+   * @since 5.10.0
+   */
+  public boolean isPacked() {
+    return packedCoordinates != null;
+  }
+
+  /**
+   * Total number of coordinates making up this MultiPolygon, across all polygons.
+   *
+   * @return the number of coordinates
+   * @since 5.10.0
+   */
+  public int coordinateCount() {
+    return packedCoordinates().coordinateCount();
+  }
+
+  /**
+   * Longitude of the coordinate at the given flat index, counting across all polygons.
+   *
+   * @param index flat index of the coordinate
+   * @return the longitude value
+   * @since 5.10.0
+   */
+  public double lon(int index) {
+    return packedCoordinates().lon(index);
+  }
+
+  /**
+   * Latitude of the coordinate at the given flat index, counting across all polygons.
+   *
+   * @param index flat index of the coordinate
+   * @return the latitude value
+   * @since 5.10.0
+   */
+  public double lat(int index) {
+    return packedCoordinates().lat(index);
+  }
+
+  /**
+   * Calls the callback for every coordinate of this MultiPolygon, in order, without packing or
+   * creating any {@link Point}.
+   *
+   * @param callback the callback to be notified
+   * @since 5.10.0
+   */
+  public void forEachCoordinate(@NonNull CoordinateCallback callback) {
+    if (coordinates != null) {
+      int index = 0;
+      for (List<List<Point>> polygon : coordinates) {
+        for (List<Point> ring : polygon) {
+          index = PackedCoordinates.forEachCoordinate(ring, index, callback);
+        }
+      }
+    } else {
+      packedCoordinates.forEachCoordinate(callback);
+    }
   }
 
   /**
@@ -288,9 +474,7 @@ public final class MultiPolygon
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.gson().toJson(this);
   }
 
   /**
@@ -309,7 +493,7 @@ public final class MultiPolygon
     return "Polygon{"
             + "type=" + type + ", "
             + "bbox=" + bbox + ", "
-            + "coordinates=" + coordinates
+            + "coordinates=" + coordinates()
             + "}";
   }
 
@@ -322,7 +506,7 @@ public final class MultiPolygon
       MultiPolygon that = (MultiPolygon) obj;
       return (this.type.equals(that.type()))
               && ((this.bbox == null) ? (that.bbox() == null) : this.bbox.equals(that.bbox()))
-              && (this.coordinates.equals(that.coordinates()));
+              && (this.coordinates().equals(that.coordinates()));
     }
     return false;
   }
@@ -335,7 +519,7 @@ public final class MultiPolygon
     hashCode *= 1000003;
     hashCode ^= (bbox == null) ? 0 : bbox.hashCode();
     hashCode *= 1000003;
-    hashCode ^= coordinates.hashCode();
+    hashCode ^= coordinates().hashCode();
     return hashCode;
   }
 
@@ -0,0 +1,559 @@
+package com.mapbox.geojson;
+
+import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.exception.GeoJsonException;
+import com.mapbox.geojson.shifter.CoordinateShifter;
+import com.mapbox.geojson.shifter.CoordinateShifterManager;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Flat, primitive storage for the coordinates of a {@link LineString}, {@link MultiLineString},
+ * {@link Polygon} or {@link MultiPolygon}.
+ * <p>
+ * All coordinates are kept in a single {@code double} array holding interleaved longitude,
+ * latitude and, when {@link #dimensions()} is 3, altitude values. Geometries made up of several
+ * lines or rings are split into parts, each part being a contiguous range of coordinates.
+ * MultiPolygons additionally group their parts (rings) into polygons. A LineString is made up of a
+ * single part and every geometry other than a MultiPolygon holds a single polygon.
+ * </p><p>
+ * Values are stored the same way {@link Point} stores them, so they already have the
+ * {@link CoordinateShifter} applied. Instances are immutable and safe to share between threads.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+@Keep
+public final class PackedCoordinates implements Serializable {
+
+  private static final int[] SINGLE_OFFSET = new int[] {0};
+
+  private final double[] coordinates;
+
+  private final int dimensions;
+
+  private final int[] partOffsets;
+
+  private final int[] polygonOffsets;
+
+  private PackedCoordinates(double[] coordinates, int dimensions, int[] partOffsets,
+                            int[] polygonOffsets) {
+    this.coordinates = coordinates;
+    this.dimensions = dimensions;
+    this.partOffsets = partOffsets;
+    this.polygonOffsets = polygonOffsets;
+  }
+
+  /**
+   * Creates packed coordinates from unshifted values, applying the current
+   * {@link CoordinateShifter} the same way {@link Point#fromLngLat(double, double)} does. The
+   * passed in arrays are copied.
+   *
+   * @param coordinates    interleaved longitude, latitude and optionally altitude values
+   * @param dimensions     2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param partOffsets    the index of the first coordinate of every part, starting at 0, or null
+   *                       for a single part
+   * @param polygonOffsets the index of the first part of every polygon, starting at 0, or null
+   *                       for a single polygon
+   * @return a new instance holding a copy of the given values
+   */
+  static PackedCoordinates fromLngLats(@NonNull double[] coordinates, int dimensions,
+                                       @Nullable int[] partOffsets,
+                                       @Nullable int[] polygonOffsets) {
+    return create(coordinates, dimensions, partOffsets, polygonOffsets, true);
+  }
+
+  /**
+   * Creates packed coordinates like {@link #fromLngLats(double[], int, int[], int[])}, but takes
+   * over the coordinates array instead of copying it when the default {@link CoordinateShifter}
+   * is in use. The array must not be modified afterwards.
+   */
+  static PackedCoordinates wrapLngLats(@NonNull double[] coordinates, int dimensions,
+                                       @Nullable int[] partOffsets,
+                                       @Nullable int[] polygonOffsets) {
+    return create(coordinates, dimensions, partOffsets, polygonOffsets, false);
+  }
+
+  private static PackedCoordinates create(double[] coordinates, int dimensions, int[] partOffsets,
+                                          int[] polygonOffsets, boolean copy) {
+    if (dimensions != 2 && dimensions != 3) {
+      throw new GeoJsonException("Packed coordinates need to have 2 or 3 dimensions.");
+    }
+    if (coordinates.length % dimensions != 0) {
+      throw new GeoJsonException("Packed coordinates length must be a multiple of dimensions.");
+    }
+    int count = coordinates.length / dimensions;
+    int[] parts = checkOffsets(partOffsets, count, "part");
+    int[] polygons = checkOffsets(polygonOffsets, parts.length, "polygon");
+    return new PackedCoordinates(shift(coordinates, dimensions, copy), dimensions, parts,
+      polygons);
+  }
+
+  /**
+   * Packs a single list of points, keeping their already shifted values.
+   */
+  static PackedCoordinates fromPoints(@NonNull List<Point> points) {
+    int dimensions = dimensionsOf(points);
+    double[] coordinates = new double[points.size() * dimensions];
+    pack(points, coordinates, 0, dimensions);
+    return new PackedCoordinates(coordinates, dimensions, SINGLE_OFFSET, SINGLE_OFFSET);
+  }
+
+  /**
+   * Packs a list of lines or rings, each one becoming a part.
+   */
+  static PackedCoordinates fromParts(@NonNull List<List<Point>> parts) {
+    int dimensions = 2;
+    int count = 0;
+    for (List<Point> part : parts) {
+      dimensions = Math.max(dimensions, dimensionsOf(part));
+      count += part.size();
+    }
+    double[] coordinates = new double[count * dimensions];
+    int[] partOffsets = new int[parts.size()];
+    int index = 0;
+    for (int i = 0; i < parts.size(); i++) {
+      partOffsets[i] = index;
+      index = pack(parts.get(i), coordinates, index, dimensions);
+    }
+    return new PackedCoordinates(coordinates, dimensions, partOffsets, SINGLE_OFFSET);
+  }
+
+  /**
+   * Packs a list of polygons, each ring becoming a part.
+   */
+  static PackedCoordinates fromPolygons(@NonNull List<List<List<Point>>> polygons) {
+    int dimensions = 2;
+    int count = 0;
+    int partCount = 0;
+    for (List<List<Point>> polygon : polygons) {
+      for (List<Point> ring : polygon) {
+        dimensions = Math.max(dimensions, dimensionsOf(ring));
+        count += ring.size();
+      }
+      partCount += polygon.size();
+    }
+    double[] coordinates = new double[count * dimensions];
+    int[] partOffsets = new int[partCount];
+    int[] polygonOffsets = new int[polygons.size()];
+    int index = 0;
+    int part = 0;
+    for (int i = 0; i < polygons.size(); i++) {
+      polygonOffsets[i] = part;
+      for (List<Point> ring : polygons.get(i)) {
+        partOffsets[part++] = index;
+        index = pack(ring, coordinates, index, dimensions);
+      }
+    }
+    return new PackedCoordinates(coordinates, dimensions, partOffsets, polygonOffsets);
+  }
+
+  /**
+   * Number of values stored for every coordinate: 2 for longitude and latitude or 3 when altitude
+   * values are included.
+   *
+   * @return 2 or 3
+   * @since 5.10.0
+   */
+  public int dimensions() {
+    return dimensions;
+  }
+
+  /**
+   * Total number of coordinates, across all parts.
+   *
+   * @return the number of coordinates
+   * @since 5.10.0
+   */
+  public int coordinateCount() {
+    return coordinates.length / dimensions;
+  }
+
+  /**
+   * Longitude of the coordinate at the given flat index.
+   *
+   * @param index flat index of the coordinate, between 0 and {@link #coordinateCount()}
+   * @return the longitude value
+   * @since 5.10.0
+   */
+  public double lon(int index) {
+    return coordinates[index * dimensions];
+  }
+
+  /**
+   * Latitude of the coordinate at the given flat index.
+   *
+   * @param index flat index of the coordinate, between 0 and {@link #coordinateCount()}
+   * @return the latitude value
+   * @since 5.10.0
+   */
+  public double lat(int index) {
+    return coordinates[index * dimensions + 1];
+  }
+
+  /**
+   * Altitude of the coordinate at the given flat index.
+   *
+   * @param index flat index of the coordinate, between 0 and {@link #coordinateCount()}
+   * @return the altitude value or {@link Double#NaN} if the coordinate has none
+   * @since 5.10.0
+   */
+  public double altitude(int index) {
+    return dimensions > 2 ? coordinates[index * dimensions + 2] : Double.NaN;
+  }
+
+  /**
+   * Number of parts, being the lines of a MultiLineString or the rings of a (Multi)Polygon. A
+   * LineString has a single part.
+   *
+   * @return the number of parts
+   * @since 5.10.0
+   */
+  public int partCount() {
+    return partOffsets.length;
+  }
+
+  /**
+   * Flat index of the first coordinate of the given part.
+   *
+   * @param part index of the part
+   * @return the index of its first coordinate
+   * @since 5.10.0
+   */
+  public int partStart(int part) {
+    return partOffsets[part];
+  }
+
+  /**
+   * Flat index following the last coordinate of the given part.
+   *
+   * @param part index of the part
+   * @return the exclusive end index of its coordinates
+   * @since 5.10.0
+   */
+  public int partEnd(int part) {
+    return part + 1 < partOffsets.length ? partOffsets[part + 1] : coordinateCount();
+  }
+
+  /**
+   * Number of polygons. Only a MultiPolygon can have more than one.
+   *
+   * @return the number of polygons
+   * @since 5.10.0
+   */
+  public int polygonCount() {
+    return polygonOffsets.length;
+  }
+
+  /**
+   * Index of the first part (outer ring) of the given polygon.
+   *
+   * @param polygon index of the polygon
+   * @return the index of its first part
+   * @since 5.10.0
+   */
+  public int polygonStart(int polygon) {
+    return polygonOffsets[polygon];
+  }
+
+  /**
+   * Index following the last part (ring) of the given polygon.
+   *
+   * @param polygon index of the polygon
+   * @return the exclusive end index of its parts
+   * @since 5.10.0
+   */
+  public int polygonEnd(int polygon) {
+    return polygon + 1 < polygonOffsets.length ? polygonOffsets[polygon + 1] : partCount();
+  }
+
+  /**
+   * Copies the interleaved values into a new array.
+   *
+   * @return a copy of the packed values, {@link #dimensions()} values per coordinate
+   * @since 5.10.0
+   */
+  @NonNull
+  public double[] toArray() {
+    return coordinates.clone();
+  }
+
+  /**
+   * Calls the callback for every coordinate, in order, without creating any {@link Point}.
+   *
+   * @param callback the callback to be notified
+   * @since 5.10.0
+   */
+  public void forEachCoordinate(@NonNull CoordinateCallback callback) {
+    int count = coordinateCount();
+    for (int i = 0; i < count; i++) {
+      callback.onCoordinate(i, lon(i), lat(i), altitude(i));
+    }
+  }
+
+  /**
+   * Walks a list of points the same way {@link #forEachCoordinate(CoordinateCallback)} walks
+   * packed values, numbering them from the given index.
+   *
+   * @return the index following the last visited point
+   */
+  static int forEachCoordinate(List<Point> points, int index, CoordinateCallback callback) {
+    for (Point point : points) {
+      callback.onCoordinate(index++, point.longitude(), point.latitude(), point.altitude());
+    }
+    return index;
+  }
+
+  /**
+   * Creates the point found at the given flat index. The values are already shifted.
+   */
+  Point point(int index) {
+    return new Point("Point", null, lon(index), lat(index), altitude(index));
+  }
+
+  /**
+   * Read-only view over the points of a single part.
+   */
+  List<Point> points(int part) {
+    return new PointListView(this, partStart(part), partEnd(part));
+  }
+
+  /**
+   * Read-only view over a range of parts.
+   */
+  List<List<Point>> parts(int firstPart, int endPart) {
+    return new PartListView(this, firstPart, endPart);
+  }
+
+  /**
+   * Read-only view over all polygons.
+   */
+  List<List<List<Point>>> polygons() {
+    return new PolygonListView(this);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof PackedCoordinates) {
+      PackedCoordinates that = (PackedCoordinates) obj;
+      return this.dimensions == that.dimensions
+        && Arrays.equals(this.coordinates, that.coordinates)
+        && Arrays.equals(this.partOffsets, that.partOffsets)
+        && Arrays.equals(this.polygonOffsets, that.polygonOffsets);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    hashCode *= 1000003;
+    hashCode ^= dimensions;
+    hashCode *= 1000003;
+    hashCode ^= Arrays.hashCode(coordinates);
+    hashCode *= 1000003;
+    hashCode ^= Arrays.hashCode(partOffsets);
+    hashCode *= 1000003;
+    hashCode ^= Arrays.hashCode(polygonOffsets);
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return "PackedCoordinates{"
+      + "dimensions=" + dimensions + ", "
+      + "coordinates=" + Arrays.toString(coordinates) + ", "
+      + "partOffsets=" + Arrays.toString(partOffsets) + ", "
+      + "polygonOffsets=" + Arrays.toString(polygonOffsets)
+      + "}";
+  }
+
+  private static int[] checkOffsets(@Nullable int[] offsets, int count, String name) {
+    if (offsets == null || offsets.length == 0) {
+      return SINGLE_OFFSET;
+    }
+    if (offsets[0] != 0) {
+      throw new GeoJsonException("The first " + name + " offset must be 0.");
+    }
+    for (int i = 1; i < offsets.length; i++) {
+      if (offsets[i] < offsets[i - 1] || offsets[i] > count) {
+        throw new GeoJsonException("The " + name + " offsets must be ascending and in range.");
+      }
+    }
+    return offsets.clone();
+  }
+
+  private static double[] shift(double[] coordinates, int dimensions, boolean copy) {
+    if (CoordinateShifterManager.isUsingDefaultShifter()) {
+      return copy ? coordinates.clone() : coordinates;
+    }
+    CoordinateShifter shifter = CoordinateShifterManager.getCoordinateShifter();
+    double[] shifted = new double[coordinates.length];
+    for (int i = 0; i < coordinates.length; i += dimensions) {
+      List<Double> values = dimensions > 2
+        ? shifter.shiftLonLatAlt(coordinates[i], coordinates[i + 1], coordinates[i + 2])
+        : shifter.shiftLonLat(coordinates[i], coordinates[i + 1]);
+      shifted[i] = values.get(0);
+      shifted[i + 1] = values.get(1);
+      if (dimensions > 2) {
+        shifted[i + 2] = values.size() > 2 ? values.get(2) : Double.NaN;
+      }
+    }
+    return shifted;
+  }
+
+  private static int dimensionsOf(List<Point> points) {
+    for (Point point : points) {
+      if (point.dimensions() > 2) {
+        return 3;
+      }
+    }
+    return 2;
+  }
+
+  private static int pack(List<Point> points, double[] coordinates, int index, int dimensions) {
+    for (Point point : points) {
+      int offset = index * dimensions;
+      coordinates[offset] = point.longitude();
+      coordinates[offset + 1] = point.latitude();
+      if (dimensions > 2) {
+        coordinates[offset + 2] = point.altitude();
+      }
+      index++;
+    }
+    return index;
+  }
+
+  private static boolean sameValue(double first, double second) {
+    return Double.doubleToLongBits(first) == Double.doubleToLongBits(second);
+  }
+
+  /**
+   * List of points backed by a range of packed coordinates. Points are created on access.
+   *
+   * @since 5.10.0
+   */
+  private static final class PointListView extends AbstractList<Point> implements RandomAccess {
+
+    private final PackedCoordinates packed;
+    private final int start;
+    private final int end;
+
+    PointListView(PackedCoordinates packed, int start, int end) {
+      this.packed = packed;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public Point get(int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+      }
+      return packed.point(start + index);
+    }
+
+    @Override
+    public int size() {
+      return end - start;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof PointListView)) {
+        return super.equals(obj);
+      }
+      PointListView that = (PointListView) obj;
+      if (this.size() != that.size()) {
+        return false;
+      }
+      for (int i = 0; i < size(); i++) {
+        int first = this.start + i;
+        int second = that.start + i;
+        if (!sameValue(this.packed.lon(first), that.packed.lon(second))
+          || !sameValue(this.packed.lat(first), that.packed.lat(second))
+          || !sameValue(this.packed.altitude(first), that.packed.altitude(second))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+      for (int i = start; i < end; i++) {
+        hashCode = 31 * hashCode
+          + Point.pointHashCode(packed.lon(i), packed.lat(i), packed.altitude(i));
+      }
+      return hashCode;
+    }
+  }
+
+  /**
+   * List of lines or rings backed by a range of packed parts.
+   *
+   * @since 5.10.0
+   */
+  private static final class PartListView extends AbstractList<List<Point>>
+    implements RandomAccess {
+
+    private final PackedCoordinates packed;
+    private final int firstPart;
+    private final int endPart;
+
+    PartListView(PackedCoordinates packed, int firstPart, int endPart) {
+      this.packed = packed;
+      this.firstPart = firstPart;
+      this.endPart = endPart;
+    }
+
+    @Override
+    public List<Point> get(int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+      }
+      return packed.points(firstPart + index);
+    }
+
+    @Override
+    public int size() {
+      return endPart - firstPart;
+    }
+  }
+
+  /**
+   * List of polygons backed by packed coordinates.
+   *
+   * @since 5.10.0
+   */
+  private static final class PolygonListView extends AbstractList<List<List<Point>>>
+    implements RandomAccess {
+
+    private final PackedCoordinates packed;
+
+    PolygonListView(PackedCoordinates packed) {
+      this.packed = packed;
+    }
+
+    @Override
+    public List<List<Point>> get(int index) {
+      return packed.parts(packed.polygonStart(index), packed.polygonEnd(index));
+    }
+
+    @Override
+    public int size() {
+      return packed.polygonCount();
+    }
+  }
+}
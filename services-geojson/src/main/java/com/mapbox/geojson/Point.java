@@ -4,15 +4,16 @@ import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.gson.GeoJsonGson;
 import com.mapbox.geojson.shifter.CoordinateShifterManager;
 
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * A point represents a single geographic position and is one of the seven Geometries found in the
@@ -56,8 +57,16 @@ public final class Point implements CoordinateContainer<List<Double>> {
   @Nullable
   private final BoundingBox bbox;
 
-  @NonNull
-  private final List<Double> coordinates;
+  private final double longitude;
+
+  private final double latitude;
+
+  private final double altitude;
+
+  private final boolean hasAltitudeCoordinate;
+
+  @Nullable
+  private transient List<Double> coordinates;
 
   /**
    * Create a new instance of this class by passing in a formatted valid JSON String. If you are
@@ -72,9 +81,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 1.0.0
    */
   public static Point fromJson(@NonNull String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, Point.class);
+    return GeoJsonGson.gson().fromJson(json, Point.class);
   }
 
   /**
@@ -90,10 +97,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 3.0.0
    */
   public static Point fromLngLat(double longitude, double latitude) {
-
-    List<Double> coordinates =
-      CoordinateShifterManager.getCoordinateShifter().shiftLonLat(longitude, latitude);
-    return new Point(TYPE, null, coordinates);
+    return fromLngLat(longitude, latitude, (BoundingBox) null);
   }
 
   /**
@@ -113,6 +117,9 @@ public final class Point implements CoordinateContainer<List<Double>> {
   public static Point fromLngLat(double longitude, double latitude,
     @Nullable BoundingBox bbox) {
 
+    if (CoordinateShifterManager.isUsingDefaultShifter()) {
+      return new Point(TYPE, bbox, longitude, latitude, Double.NaN);
+    }
     List<Double> coordinates =
       CoordinateShifterManager.getCoordinateShifter().shiftLonLat(longitude, latitude);
     return new Point(TYPE, bbox, coordinates);
@@ -134,11 +141,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 3.0.0
    */
   public static Point fromLngLat(double longitude, double latitude, double altitude) {
-
-    List<Double> coordinates =
-      CoordinateShifterManager.getCoordinateShifter().shiftLonLatAlt(longitude, latitude, altitude);
-
-    return new Point(TYPE, null, coordinates);
+    return fromLngLat(longitude, latitude, altitude, null);
   }
 
   /**
@@ -160,6 +163,9 @@ public final class Point implements CoordinateContainer<List<Double>> {
   public static Point fromLngLat(double longitude, double latitude,
     double altitude, @Nullable BoundingBox bbox) {
 
+    if (CoordinateShifterManager.isUsingDefaultShifter()) {
+      return new Point(TYPE, bbox, longitude, latitude, altitude);
+    }
     List<Double> coordinates =
       CoordinateShifterManager.getCoordinateShifter().shiftLonLatAlt(longitude, latitude, altitude);
     return new Point(TYPE, bbox, coordinates);
@@ -184,7 +190,28 @@ public final class Point implements CoordinateContainer<List<Double>> {
     if (coordinates == null || coordinates.size() == 0) {
       throw new NullPointerException("Null coordinates");
     }
-    this.coordinates = coordinates;
+    this.longitude = coordinates.get(0);
+    this.latitude = coordinates.get(1);
+    this.hasAltitudeCoordinate = coordinates.size() > 2;
+    this.altitude = hasAltitudeCoordinate ? coordinates.get(2) : Double.NaN;
+  }
+
+  /**
+   * Creates a point straight from already shifted primitive values, without going through a
+   * boxed coordinate list. A {@code NaN} altitude is treated as absent, matching the default
+   * {@link com.mapbox.geojson.shifter.CoordinateShifter}.
+   */
+  Point(String type, @Nullable BoundingBox bbox, double longitude, double latitude,
+        double altitude) {
+    if (type == null) {
+      throw new NullPointerException("Null type");
+    }
+    this.type = type;
+    this.bbox = bbox;
+    this.longitude = longitude;
+    this.latitude = latitude;
+    this.hasAltitudeCoordinate = !Double.isNaN(altitude);
+    this.altitude = altitude;
   }
 
   /**
@@ -197,7 +224,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 3.0.0
    */
   public double longitude() {
-    return coordinates().get(0);
+    return longitude;
   }
 
   /**
@@ -210,7 +237,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 3.0.0
    */
   public double latitude() {
-    return coordinates().get(1);
+    return latitude;
   }
 
   /**
@@ -223,10 +250,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 3.0.0
    */
   public double altitude() {
-    if (coordinates().size() < 3) {
-      return Double.NaN;
-    }
-    return coordinates().get(2);
+    return altitude;
   }
 
   /**
@@ -275,6 +299,10 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * Provide a single double array containing the longitude, latitude, and optionally an
    * altitude/elevation. {@link #longitude()}, {@link #latitude()}, and {@link #altitude()} are all
    * avaliable which make getting specific coordinates more direct.
+   * <p>
+   * The returned list is a read-only view over the primitive values held by this point and is only
+   * created the first time it is requested.
+   * </p>
    *
    * @return a double array which holds this points coordinates
    * @since 3.0.0
@@ -282,9 +310,21 @@ public final class Point implements CoordinateContainer<List<Double>> {
   @NonNull
   @Override
   public List<Double> coordinates()  {
+    List<Double> coordinates = this.coordinates;
+    if (coordinates == null) {
+      coordinates = new CoordinatesView();
+      this.coordinates = coordinates;
+    }
     return coordinates;
   }
 
+  /**
+   * Number of values making up this point's coordinates, 2 or 3 if an altitude is included.
+   */
+  int dimensions() {
+    return hasAltitudeCoordinate ? 3 : 2;
+  }
+
   /**
    * This takes the currently defined values found inside this instance and converts it to a GeoJson
    * string.
@@ -294,9 +334,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.gson().toJson(this);
   }
 
   /**
@@ -315,7 +353,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
     return "Point{"
             + "type=" + type + ", "
             + "bbox=" + bbox + ", "
-            + "coordinates=" + coordinates
+            + "coordinates=" + coordinates()
             + "}";
   }
 
@@ -328,23 +366,98 @@ public final class Point implements CoordinateContainer<List<Double>> {
       Point that = (Point) obj;
       return (this.type.equals(that.type()))
               && ((this.bbox == null) ? (that.bbox() == null) : this.bbox.equals(that.bbox()))
-              && (this.coordinates.equals(that.coordinates()));
+              && (this.hasAltitudeCoordinate == that.hasAltitudeCoordinate)
+              && sameValue(this.longitude, that.longitude)
+              && sameValue(this.latitude, that.latitude)
+              && (!hasAltitudeCoordinate || sameValue(this.altitude, that.altitude));
     }
     return false;
   }
 
   @Override
   public int hashCode() {
+    return hashCode(type, bbox, coordinatesHashCode(longitude, latitude,
+      hasAltitudeCoordinate, altitude));
+  }
+
+  private static int hashCode(String type, @Nullable BoundingBox bbox, int coordinatesHashCode) {
     int hashCode = 1;
     hashCode *= 1000003;
     hashCode ^= type.hashCode();
     hashCode *= 1000003;
     hashCode ^= (bbox == null) ? 0 : bbox.hashCode();
     hashCode *= 1000003;
-    hashCode ^= coordinates.hashCode();
+    hashCode ^= coordinatesHashCode;
     return hashCode;
   }
 
+  /**
+   * Hash code of a point without bbox, as created from the given primitive values, computed
+   * without creating the point.
+   */
+  static int pointHashCode(double longitude, double latitude, double altitude) {
+    return hashCode(TYPE, null, coordinatesHashCode(longitude, latitude,
+      !Double.isNaN(altitude), altitude));
+  }
+
+  /**
+   * Same value as {@link List#hashCode()} of {@link #coordinates()}, computed without boxing.
+   */
+  private static int coordinatesHashCode(double longitude, double latitude,
+                                         boolean hasAltitudeCoordinate, double altitude) {
+    int hashCode = 1;
+    hashCode = 31 * hashCode + hash(longitude);
+    hashCode = 31 * hashCode + hash(latitude);
+    if (hasAltitudeCoordinate) {
+      hashCode = 31 * hashCode + hash(altitude);
+    }
+    return hashCode;
+  }
+
+  private static int hash(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return (int) (bits ^ (bits >>> 32));
+  }
+
+  /**
+   * Equality as defined by {@link Double#equals(Object)}, so that NaN equals NaN and 0.0 differs
+   * from -0.0 just like it did when comparing boxed coordinate lists.
+   */
+  private static boolean sameValue(double first, double second) {
+    return Double.doubleToLongBits(first) == Double.doubleToLongBits(second);
+  }
+
+  /**
+   * Read-only list view over the primitive coordinates of this point.
+   *
+   * @since 5.10.0
+   */
+  private final class CoordinatesView extends AbstractList<Double> implements RandomAccess {
+
+    @Override
+    public Double get(int index) {
+      switch (index) {
+        case 0:
+          return longitude;
+        case 1:
+          return latitude;
+        case 2:
+          if (hasAltitudeCoordinate) {
+            return altitude;
+          }
+          break;
+        default:
+          break;
+      }
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+
+    @Override
+    public int size() {
+      return dimensions();
+    }
+  }
+
   /**
    * TypeAdapter for Point geometry.
    *
@@ -1,17 +1,19 @@
 package com.mapbox.geojson;
 
+import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+
 import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
 import androidx.annotation.Size;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import com.mapbox.geojson.exception.GeoJsonException;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+import com.mapbox.geojson.gson.GeoJsonGson;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -64,8 +66,18 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
 
   private final BoundingBox bbox;
 
+  @Nullable
   private final List<List<Point>> coordinates;
 
+  @Nullable
+  private final PackedCoordinates packedCoordinates;
+
+  @Nullable
+  private transient List<List<Point>> coordinatesView;
+
+  @Nullable
+  private transient PackedCoordinates packedCoordinatesView;
+
   /**
    * Create a new instance of this class by passing in a formatted valid JSON String. If you are
    * creating a Polygon object from scratch it is better to use one of the other provided static
@@ -79,9 +91,7 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
    * @since 1.0.0
    */
   public static Polygon fromJson(@NonNull String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, Polygon.class);
+    return GeoJsonGson.gson().fromJson(json, Polygon.class);
   }
 
   /**
@@ -135,6 +145,71 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
     return new Polygon(TYPE, null, converted);
   }
 
+  /**
+   * Create a new instance of this class from packed coordinates, a flat array of interleaved
+   * longitude, latitude and optionally altitude values, split into rings by offset arrays. The
+   * values are copied into a single primitive buffer and {@link #coordinates()} only creates
+   * {@link Point}s when it gets accessed, which makes this the preferred way to hold large
+   * geometries in memory.
+   *
+   * @param coordinates interleaved longitude, latitude (and altitude) values
+   * @param dimensions  2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param ringOffsets the index of the first coordinate of every ring, the outer ring
+   *                    starting at 0
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 5.10.0
+   */
+  public static Polygon fromLngLats(@NonNull double[] coordinates, int dimensions,
+                                    @NonNull int[] ringOffsets) {
+    return fromLngLats(coordinates, dimensions, ringOffsets, null);
+  }
+
+  /**
+   * Create a new instance of this class from packed coordinates, a flat array of interleaved
+   * longitude, latitude and optionally altitude values, split into rings by offset arrays. The
+   * values are copied into a single primitive buffer and {@link #coordinates()} only creates
+   * {@link Point}s when it gets accessed, which makes this the preferred way to hold large
+   * geometries in memory.
+   *
+   * @param coordinates interleaved longitude, latitude (and altitude) values
+   * @param dimensions  2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param ringOffsets the index of the first coordinate of every ring, the outer ring
+   *                    starting at 0
+   * @param bbox        optionally include a bbox definition
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 5.10.0
+   */
+  public static Polygon fromLngLats(@NonNull double[] coordinates, int dimensions,
+                                    @NonNull int[] ringOffsets,
+                                    @Nullable BoundingBox bbox) {
+    return new Polygon(TYPE, bbox,
+      PackedCoordinates.fromLngLats(coordinates, dimensions, ringOffsets, null));
+  }
+
+  /**
+   * Creates a polygon like {@link #fromLngLats(double[], int, int[])}, but backed by the given
+   * array instead of a copy of it when the default coordinate shifter is in use. Meant for the
+   * modules of this library which fill a new array for every geometry they create, the array
+   * must not be modified afterwards.
+   *
+   * @param coordinates interleaved longitude, latitude (and altitude) values, taken over by the
+   *                    polygon
+   * @param dimensions  2 for longitude, latitude pairs or 3 when altitude values are included
+   * @param ringOffsets the index of the first coordinate of every ring, the outer ring
+   *                    starting at 0
+   * @return a new instance of this class backed by the given values
+   * @since 5.10.0
+   */
+  @RestrictTo(LIBRARY_GROUP)
+  @NonNull
+  public static Polygon wrapLngLats(@NonNull double[] coordinates, int dimensions,
+                                    @NonNull int[] ringOffsets) {
+    return new Polygon(TYPE, null,
+      PackedCoordinates.wrapLngLats(coordinates, dimensions, ringOffsets, null));
+  }
+
   /**
    * Create a new instance of this class by passing in an outer {@link LineString} and optionally
    * one or more inner LineStrings. Each of these LineStrings should follow the linear ring rules.
@@ -266,6 +341,20 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
       throw new NullPointerException("Null coordinates");
     }
     this.coordinates = coordinates;
+    this.packedCoordinates = null;
+  }
+
+  Polygon(String type, @Nullable BoundingBox bbox, PackedCoordinates packedCoordinates) {
+    if (type == null) {
+      throw new NullPointerException("Null type");
+    }
+    this.type = type;
+    this.bbox = bbox;
+    if (packedCoordinates == null) {
+      throw new NullPointerException("Null coordinates");
+    }
+    this.coordinates = null;
+    this.packedCoordinates = packedCoordinates;
   }
 
   /**
@@ -335,6 +424,8 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
    * Provides the list of {@link Point}s that make up the Polygon geometry. The first list holds the
    * different LineStrings, first being the outer ring and the following entries being inner holes
    * (if they exist).
+   * For a Polygon created from packed coordinates this is a read-only view creating points
+   * on access.
    *
    * @return a list of points
    * @since 3.0.0
@@ -342,7 +433,97 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
   @NonNull
   @Override
   public List<List<Point>> coordinates()  {
-    return coordinates;
+    if (coordinates != null) {
+      return coordinates;
+    }
+    List<List<Point>> coordinatesView = this.coordinatesView;
+    if (coordinatesView == null) {
+      coordinatesView = packedCoordinates.parts(0, packedCoordinates.partCount());
+      this.coordinatesView = coordinatesView;
+    }
+    return coordinatesView;
+  }
+
+  /**
+   * Provides the coordinates of this Polygon as primitive values. Instances created from
+   * lists of points get packed the first time this is called.
+   *
+   * @return the packed coordinates of this geometry
+   * @since 5.10.0
+   */
+  @NonNull
+  public PackedCoordinates packedCoordinates() {
+    if (packedCoordinates != null) {
+      return packedCoordinates;
+    }
+    PackedCoordinates packedCoordinatesView = this.packedCoordinatesView;
+    if (packedCoordinatesView == null) {
+      packedCoordinatesView = PackedCoordinates.fromParts(coordinates);
+      this.packedCoordinatesView = packedCoordinatesView;
+    }
+    return packedCoordinatesView;
+  }
+
+  /**
+   * Whether this Polygon holds packed coordinates. When it does,
+   * {@link #packedCoordinates()} costs nothing while {@link #coordinates()} creates points on
+   * access, otherwise the list of points is the cheaper way to read the coordinates once.
+   *
+   * @return true if this Polygon was created from packed coordinates
+   * @since 5.10.0
+   */
+  public boolean isPacked() {
+    return packedCoordinates != null;
+  }
+
+  /**
+   * Total number of coordinates making up this Polygon, across all rings.
+   *
+   * @return the number of coordinates
+   * @since 5.10.0
+   */
+  public int coordinateCount() {
+    return packedCoordinates().coordinateCount();
+  }
+
+  /**
+   * Longitude of the coordinate at the given flat index, counting across all rings.
+   *
+   * @param index flat index of the coordinate
+   * @return the longitude value
+   * @since 5.10.0
+   */
+  public double lon(int index) {
+    return packedCoordinates().lon(index);
+  }
+
+  /**
+   * Latitude of the coordinate at the given flat index, counting across all rings.
+   *
+   * @param index flat index of the coordinate
+   * @return the latitude value
+   * @since 5.10.0
+   */
+  public double lat(int index) {
+    return packedCoordinates().lat(index);
+  }
+
+  /**
+   * Calls the callback for every coordinate of this Polygon, in order, without packing or
+   * creating any {@link Point}.
+   *
+   * @param callback the callback to be notified
+   * @since 5.10.0
+   */
+  public void forEachCoordinate(@NonNull CoordinateCallback callback) {
+    if (coordinates != null) {
+      int index = 0;
+      for (List<Point> ring : coordinates) {
+        index = PackedCoordinates.forEachCoordinate(ring, index, callback);
+      }
+    } else {
+      packedCoordinates.forEachCoordinate(callback);
+    }
   }
 
   /**
@@ -354,9 +535,7 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.gson().toJson(this);
   }
 
   /**
@@ -397,7 +576,7 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
     return "Polygon{"
             + "type=" + type + ", "
             + "bbox=" + bbox + ", "
-            + "coordinates=" + coordinates
+            + "coordinates=" + coordinates()
             + "}";
   }
 
@@ -410,7 +589,7 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
       Polygon that = (Polygon) obj;
       return (this.type.equals(that.type()))
               && ((this.bbox == null) ? (that.bbox() == null) : this.bbox.equals(that.bbox()))
-              && (this.coordinates.equals(that.coordinates()));
+              && (this.coordinates().equals(that.coordinates()));
     }
     return false;
   }
@@ -423,7 +602,7 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
     hashCode *= 1000003;
     hashCode ^= (bbox == null) ? 0 : bbox.hashCode();
     hashCode *= 1000003;
-    hashCode ^= coordinates.hashCode();
+    hashCode ^= coordinates().hashCode();
     return hashCode;
   }
 
@@ -0,0 +1,54 @@
+package com.mapbox.geojson.gson;
+
+import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.geojson.GeometryAdapterFactory;
+
+/**
+ * Holds the {@link Gson} instance shared by the static {@code fromJson} and {@code toJson} methods
+ * of the GeoJson classes. Building a Gson instance and warming up its type adapter cache is
+ * expensive, while a built instance is immutable and thread safe, so it gets created once the
+ * first time it is needed and reused afterwards.
+ * <p>
+ * The registered type adapters look up the current
+ * {@link com.mapbox.geojson.shifter.CoordinateShifter} each time coordinates are read or written,
+ * so changing the shifter is honoured by the shared instance.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+@Keep
+public final class GeoJsonGson {
+
+  private GeoJsonGson() {
+    // Empty private constructor since only static methods are found inside class.
+  }
+
+  /**
+   * The shared Gson instance with both {@link GeoJsonAdapterFactory} and
+   * {@link GeometryAdapterFactory} registered.
+   *
+   * @return the shared {@link Gson} instance
+   * @since 5.10.0
+   */
+  @NonNull
+  public static Gson gson() {
+    return Holder.GSON;
+  }
+
+  /**
+   * Lazily initialized on first access, the class loader guarantees a single instance.
+   *
+   * @since 5.10.0
+   */
+  private static final class Holder {
+
+    private static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapterFactory(GeoJsonAdapterFactory.create())
+      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
+      .create();
+  }
+}
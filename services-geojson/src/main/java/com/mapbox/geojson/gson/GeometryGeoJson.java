@@ -3,9 +3,7 @@ package com.mapbox.geojson.gson;
 import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 
-import com.google.gson.GsonBuilder;
 import com.mapbox.geojson.Geometry;
-import com.mapbox.geojson.GeometryAdapterFactory;
 
 /**
  * This is a utility class that helps create a Geometry instance from a JSON string.
@@ -24,10 +22,6 @@ public class GeometryGeoJson {
    */
   public static Geometry fromJson(@NonNull String json) {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-
-    return gson.create().fromJson(json, Geometry.class);
+    return GeoJsonGson.gson().fromJson(json, Geometry.class);
   }
 }
@@ -1,10 +1,19 @@
 package com.mapbox.geojson.utils;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.mapbox.geojson.PackedCoordinates;
 import com.mapbox.geojson.Point;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Polyline utils class contains method that can decode/encode a polyline, simplify a line, and
@@ -25,6 +34,12 @@ public final class PolylineUtils {
   // simplification but runs slower)
   private static final boolean SIMPLIFY_DEFAULT_HIGHEST_QUALITY = false;
 
+  // Below this many coordinates a Douglas-Peucker range isn't worth splitting into tasks
+  private static final int PARALLEL_THRESHOLD = 8192;
+
+  // A zigzag encoded long takes up to 13 chunks of 5 bits, a coordinate holds two of them
+  private static final int MAX_ENCODED_PAIR_LENGTH = 26;
+
   /**
    * Decodes an encoded path string into a sequence of {@link Point}.
    *
@@ -37,17 +52,77 @@ public final class PolylineUtils {
    */
   @NonNull
   public static List<Point> decode(@NonNull final String encodedPath, int precision) {
+    return decode((CharSequence) encodedPath, precision);
+  }
+
+  /**
+   * Decodes an encoded path held by any {@link CharSequence}, such as a {@link StringBuilder} or
+   * a {@link java.nio.CharBuffer}, into a sequence of {@link Point}.
+   *
+   * @param encodedPath a CharSequence representing an encoded path string
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @return list of {@link Point} making up the line
+   * @since 5.10.0
+   */
+  @NonNull
+  public static List<Point> decode(@NonNull final CharSequence encodedPath, int precision) {
+    double[] coordinates = decodeToArray(encodedPath, precision);
+    final List<Point> path = new ArrayList<>(coordinates.length / 2);
+    for (int i = 0; i < coordinates.length; i += 2) {
+      path.add(Point.fromLngLat(coordinates[i], coordinates[i + 1]));
+    }
+    return path;
+  }
+
+  /**
+   * Decodes an encoded path into the given array as interleaved longitude and latitude values,
+   * {@code [lng0, lat0, lng1, lat1, ...]}, starting at {@code offset}. Nothing is allocated, so a
+   * single buffer sized with {@link #decodedCoordinateCount(CharSequence)} can be reused across
+   * many calls. The values are not passed through the
+   * {@link com.mapbox.geojson.shifter.CoordinateShifter}.
+   *
+   * @param encodedPath a CharSequence representing an encoded path string
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param destination the array receiving the coordinates
+   * @param offset      the index in {@code destination} of the first longitude
+   * @return the number of coordinates written, each taking up two array slots
+   * @throws IndexOutOfBoundsException if {@code destination} is too small
+   * @since 5.10.0
+   */
+  public static int decode(@NonNull final CharSequence encodedPath, int precision,
+                           @NonNull double[] destination, int offset) {
+    return decode(encodedPath, precision, destination, offset, null);
+  }
+
+  /**
+   * Decodes an encoded path into the given buffer as interleaved longitude and latitude values,
+   * starting at its current position, which is advanced past the written values. Nothing is
+   * allocated and the values are not passed through the
+   * {@link com.mapbox.geojson.shifter.CoordinateShifter}.
+   *
+   * @param encodedPath a CharSequence representing an encoded path string
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param destination the buffer receiving the coordinates
+   * @return the number of coordinates written, each taking up two buffer slots
+   * @throws java.nio.BufferOverflowException if {@code destination} has too little room left
+   * @since 5.10.0
+   */
+  public static int decode(@NonNull final CharSequence encodedPath, int precision,
+                           @NonNull DoubleBuffer destination) {
+    return decode(encodedPath, precision, null, 0, destination);
+  }
+
+  private static int decode(CharSequence encodedPath, int precision,
+                            double[] array, int offset, DoubleBuffer buffer) {
     int len = encodedPath.length();
 
     // OSRM uses precision=6, the default Polyline spec divides by 1E5, capping at precision=5
     double factor = Math.pow(10, precision);
 
-    // For speed we preallocate to an upper bound on the final length, then
-    // truncate the array before returning.
-    final List<Point> path = new ArrayList<>();
     int index = 0;
     int lat = 0;
     int lng = 0;
+    int count = 0;
 
     while (index < len) {
       int result = 1;
@@ -71,10 +146,55 @@ public final class PolylineUtils {
       while (temp >= 0x1f);
       lng += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
 
-      path.add(Point.fromLngLat(lng / factor, lat / factor));
+      if (buffer != null) {
+        buffer.put(lng / factor);
+        buffer.put(lat / factor);
+      } else {
+        array[offset++] = lng / factor;
+        array[offset++] = lat / factor;
+      }
+      count++;
     }
 
-    return path;
+    return count;
+  }
+
+  /**
+   * Decodes an encoded path into a new array of interleaved longitude and latitude values,
+   * {@code [lng0, lat0, lng1, lat1, ...]}, exactly twice as long as the number of coordinates.
+   * No {@link Point} is created and the values are not passed through the
+   * {@link com.mapbox.geojson.shifter.CoordinateShifter}.
+   *
+   * @param encodedPath a CharSequence representing an encoded path string
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @return the decoded coordinates as longitude and latitude pairs
+   * @since 5.10.0
+   */
+  @NonNull
+  public static double[] decodeToArray(@NonNull final CharSequence encodedPath, int precision) {
+    double[] coordinates = new double[decodedCoordinateCount(encodedPath) * 2];
+    decode(encodedPath, precision, coordinates, 0, null);
+    return coordinates;
+  }
+
+  /**
+   * Counts the coordinates of an encoded path without decoding them, which allows sizing the
+   * destination of {@link #decode(CharSequence, int, double[], int)} up front.
+   *
+   * @param encodedPath a CharSequence representing an encoded path string
+   * @return the number of coordinates the path decodes to
+   * @since 5.10.0
+   */
+  public static int decodedCoordinateCount(@NonNull final CharSequence encodedPath) {
+    int len = encodedPath.length();
+    int values = 0;
+    for (int i = 0; i < len; i++) {
+      // Every value ends with the only chunk lacking the 0x20 continuation bit
+      if (encodedPath.charAt(i) - 63 < 0x20) {
+        values++;
+      }
+    }
+    return values / 2;
   }
 
   /**
@@ -87,11 +207,25 @@ public final class PolylineUtils {
    */
   @NonNull
   public static String encode(@NonNull final List<Point> path, int precision) {
+    final StringBuilder result = new StringBuilder(path.size() * 8);
+    encode(path, precision, result);
+    return result.toString();
+  }
+
+  /**
+   * Encodes a sequence of Points, appending the encoded path to the given {@link StringBuilder} so
+   * it can be reused across many calls.
+   *
+   * @param path        list of {@link Point}s making up the line
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param destination the builder the encoded path is appended to
+   * @since 5.10.0
+   */
+  public static void encode(@NonNull final List<Point> path, int precision,
+                            @NonNull StringBuilder destination) {
     long lastLat = 0;
     long lastLng = 0;
 
-    final StringBuilder result = new StringBuilder();
-
     // OSRM uses precision=6, the default Polyline spec divides by 1E5, capping at precision=5
     double factor = Math.pow(10, precision);
 
@@ -99,25 +233,194 @@ public final class PolylineUtils {
       long lat = Math.round(point.latitude() * factor);
       long lng = Math.round(point.longitude() * factor);
 
-      long varLat = lat - lastLat;
-      long varLng = lng - lastLng;
+      encode(lat - lastLat, destination);
+      encode(lng - lastLng, destination);
+
+      lastLat = lat;
+      lastLng = lng;
+    }
+  }
+
+  /**
+   * Encodes coordinates stored as a flat array, {@code [lng0, lat0, lng1, lat1, ...]} or with an
+   * altitude after each pair when {@code dimensions} is 3, into an encoded path string. Altitudes
+   * are ignored.
+   *
+   * @param coordinates the coordinate values
+   * @param dimensions  2 or 3, the number of values stored per coordinate
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @return a String representing a path string
+   * @since 5.10.0
+   */
+  @NonNull
+  public static String encode(@NonNull double[] coordinates, int dimensions, int precision) {
+    final StringBuilder result = new StringBuilder(coordinates.length / dimensions * 8);
+    encode(coordinates, dimensions, precision, result);
+    return result.toString();
+  }
 
-      encode(varLat, result);
-      encode(varLng, result);
+  /**
+   * Encodes coordinates stored as a flat array, appending the encoded path to the given
+   * {@link StringBuilder}. See {@link #encode(double[], int, int)} for the array layout.
+   *
+   * @param coordinates the coordinate values
+   * @param dimensions  2 or 3, the number of values stored per coordinate
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param destination the builder the encoded path is appended to
+   * @since 5.10.0
+   */
+  public static void encode(@NonNull double[] coordinates, int dimensions, int precision,
+                            @NonNull StringBuilder destination) {
+    long lastLat = 0;
+    long lastLng = 0;
+    double factor = Math.pow(10, precision);
+
+    for (int i = 0; i + 1 < coordinates.length; i += dimensions) {
+      long lat = Math.round(coordinates[i + 1] * factor);
+      long lng = Math.round(coordinates[i] * factor);
+
+      encode(lat - lastLat, destination);
+      encode(lng - lastLng, destination);
 
       lastLat = lat;
       lastLng = lng;
     }
+  }
+
+  /**
+   * Encodes coordinates stored as a flat array, appending the encoded path to the given
+   * {@link Appendable}, such as a {@link java.io.Writer}. See {@link #encode(double[], int, int)}
+   * for the array layout.
+   *
+   * @param coordinates the coordinate values
+   * @param dimensions  2 or 3, the number of values stored per coordinate
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param destination the destination the encoded path is appended to
+   * @throws IOException if the destination can't be appended to
+   * @since 5.10.0
+   */
+  public static void encode(@NonNull double[] coordinates, int dimensions, int precision,
+                            @NonNull Appendable destination) throws IOException {
+    if (destination instanceof StringBuilder) {
+      encode(coordinates, dimensions, precision, (StringBuilder) destination);
+      return;
+    }
+    long lastLat = 0;
+    long lastLng = 0;
+    double factor = Math.pow(10, precision);
+    char[] chunk = new char[MAX_ENCODED_PAIR_LENGTH];
+
+    for (int i = 0; i + 1 < coordinates.length; i += dimensions) {
+      long lat = Math.round(coordinates[i + 1] * factor);
+      long lng = Math.round(coordinates[i] * factor);
+
+      int length = encode(lng - lastLng, chunk, encode(lat - lastLat, chunk, 0));
+      for (int j = 0; j < length; j++) {
+        destination.append(chunk[j]);
+      }
+
+      lastLat = lat;
+      lastLng = lng;
+    }
+  }
+
+  /**
+   * Encodes coordinates stored as a flat array, writing the encoded path as ASCII bytes to the
+   * given {@link OutputStream}. Bytes are written one coordinate at a time, so unbuffered
+   * streams should be wrapped in a {@link java.io.BufferedOutputStream}. See
+   * {@link #encode(double[], int, int)} for the array layout.
+   *
+   * @param coordinates the coordinate values
+   * @param dimensions  2 or 3, the number of values stored per coordinate
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param destination the stream the encoded path is written to
+   * @throws IOException if the destination can't be written to
+   * @since 5.10.0
+   */
+  public static void encode(@NonNull double[] coordinates, int dimensions, int precision,
+                            @NonNull OutputStream destination) throws IOException {
+    long lastLat = 0;
+    long lastLng = 0;
+    double factor = Math.pow(10, precision);
+    char[] chunk = new char[MAX_ENCODED_PAIR_LENGTH];
+    byte[] bytes = new byte[MAX_ENCODED_PAIR_LENGTH];
+
+    for (int i = 0; i + 1 < coordinates.length; i += dimensions) {
+      long lat = Math.round(coordinates[i + 1] * factor);
+      long lng = Math.round(coordinates[i] * factor);
+
+      int length = encode(lng - lastLng, chunk, encode(lat - lastLat, chunk, 0));
+      for (int j = 0; j < length; j++) {
+        bytes[j] = (byte) chunk[j];
+      }
+      destination.write(bytes, 0, length);
+
+      lastLat = lat;
+      lastLng = lng;
+    }
+  }
+
+  /**
+   * Encodes every coordinate of the given packed coordinates, in order, into an encoded path
+   * string. This is the cheapest way to encode a {@link com.mapbox.geojson.LineString} created
+   * from primitive values.
+   *
+   * @param coordinates the packed coordinates
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @return a String representing a path string
+   * @since 5.10.0
+   */
+  @NonNull
+  public static String encode(@NonNull PackedCoordinates coordinates, int precision) {
+    final StringBuilder result = new StringBuilder(coordinates.coordinateCount() * 8);
+    encode(coordinates, precision, result);
     return result.toString();
   }
 
+  /**
+   * Encodes every coordinate of the given packed coordinates, in order, appending the encoded
+   * path to the given {@link StringBuilder}.
+   *
+   * @param coordinates the packed coordinates
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param destination the builder the encoded path is appended to
+   * @since 5.10.0
+   */
+  public static void encode(@NonNull PackedCoordinates coordinates, int precision,
+                            @NonNull StringBuilder destination) {
+    long lastLat = 0;
+    long lastLng = 0;
+    double factor = Math.pow(10, precision);
+
+    for (int i = 0, count = coordinates.coordinateCount(); i < count; i++) {
+      long lat = Math.round(coordinates.lat(i) * factor);
+      long lng = Math.round(coordinates.lon(i) * factor);
+
+      encode(lat - lastLat, destination);
+      encode(lng - lastLng, destination);
+
+      lastLat = lat;
+      lastLng = lng;
+    }
+  }
+
   private static void encode(long variable, StringBuilder result) {
     variable = variable < 0 ? ~(variable << 1) : variable << 1;
     while (variable >= 0x20) {
-      result.append(Character.toChars((int) ((0x20 | (variable & 0x1f)) + 63)));
+      result.append((char) ((0x20 | (variable & 0x1f)) + 63));
+      variable >>= 5;
+    }
+    result.append((char) (variable + 63));
+  }
+
+  private static int encode(long variable, char[] chunk, int position) {
+    variable = variable < 0 ? ~(variable << 1) : variable << 1;
+    while (variable >= 0x20) {
+      chunk[position++] = (char) ((0x20 | (variable & 0x1f)) + 63);
       variable >>= 5;
     }
-    result.append(Character.toChars((int) (variable + 63)));
+    chunk[position++] = (char) (variable + 63);
+    return position;
   }
 
   /*
@@ -191,48 +494,202 @@ public final class PolylineUtils {
       return points;
     }
 
+    int size = points.size();
+    double[] coordinates = new double[size * 2];
+    int offset = 0;
+    for (Point point : points) {
+      coordinates[offset++] = point.longitude();
+      coordinates[offset++] = point.latitude();
+    }
+
     double sqTolerance = tolerance * tolerance;
 
-    points = highestQuality ? points : simplifyRadialDist(points, sqTolerance);
-    points = simplifyDouglasPeucker(points, sqTolerance);
+    int[] indices = null;
+    int count = size;
+    if (!highestQuality) {
+      indices = new int[size];
+      count = simplifyRadialDist(coordinates, 2, size, sqTolerance, indices);
+      // Same as in simplify.js, the last point is dropped when equal to the last one kept
+      if (!points.get(indices[count - 1]).equals(points.get(size - 1))) {
+        indices[count++] = size - 1;
+      }
+    }
 
-    return points;
+    boolean[] keep = new boolean[count];
+    simplifyDouglasPeucker(coordinates, 2, indices, 0, count - 1, sqTolerance, keep);
+
+    List<Point> simplified = new ArrayList<>();
+    simplified.add(points.get(index(indices, 0)));
+    for (int i = 1; i < count - 1; i++) {
+      if (keep[i]) {
+        simplified.add(points.get(index(indices, i)));
+      }
+    }
+    simplified.add(points.get(index(indices, count - 1)));
+    return simplified;
+  }
+
+  /**
+   * Reduces the number of coordinates of a line stored as a flat array,
+   * {@code [lng0, lat0, lng1, lat1, ...]} or with an altitude after each pair when
+   * {@code dimensions} is 3, using the same algorithm as {@link #simplify(List, double, boolean)}.
+   * Distances are computed on longitude and latitude only.
+   *
+   * @param coordinates    the coordinate values
+   * @param dimensions     2 or 3, the number of values stored per coordinate
+   * @param tolerance      affects the amount of simplification (in the same metric as the point
+   *                       coordinates)
+   * @param highestQuality excludes distance-based preprocessing step which leads to highest quality
+   *                       simplification
+   * @return a new array holding the retained coordinates, with the same layout
+   * @since 5.10.0
+   */
+  @NonNull
+  public static double[] simplify(@NonNull double[] coordinates, int dimensions, double tolerance,
+                                  boolean highestQuality) {
+    return compact(coordinates, dimensions,
+      simplifyIndices(coordinates, dimensions, tolerance, highestQuality, null));
+  }
+
+  /**
+   * Same as {@link #simplify(double[], int, double, boolean)}, splitting the Douglas-Peucker step
+   * of large inputs into tasks run by the given {@link ForkJoinPool}. The result is identical to
+   * the sequential one.
+   *
+   * @param coordinates    the coordinate values
+   * @param dimensions     2 or 3, the number of values stored per coordinate
+   * @param tolerance      affects the amount of simplification (in the same metric as the point
+   *                       coordinates)
+   * @param highestQuality excludes distance-based preprocessing step which leads to highest quality
+   *                       simplification
+   * @param pool           the pool running the simplification tasks
+   * @return a new array holding the retained coordinates, with the same layout
+   * @since 5.10.0
+   */
+  @NonNull
+  public static double[] simplify(@NonNull double[] coordinates, int dimensions, double tolerance,
+                                  boolean highestQuality, @NonNull ForkJoinPool pool) {
+    return compact(coordinates, dimensions,
+      simplifyIndices(coordinates, dimensions, tolerance, highestQuality, pool));
   }
 
   /**
-   * Square distance between 2 points.
+   * Runs the simplification of {@link #simplify(double[], int, double, boolean)} without copying
+   * any coordinate, returning the indices of the coordinates to retain instead. The first
+   * coordinate is always retained.
    *
-   * @param p1 first {@link Point}
-   * @param p2 second Point
-   * @return square of the distance between two input points
+   * @param coordinates    the coordinate values
+   * @param dimensions     2 or 3, the number of values stored per coordinate
+   * @param tolerance      affects the amount of simplification (in the same metric as the point
+   *                       coordinates)
+   * @param highestQuality excludes distance-based preprocessing step which leads to highest quality
+   *                       simplification
+   * @param pool           optionally, a pool splitting the work of large inputs into tasks
+   * @return the set of retained coordinate indices
+   * @since 5.10.0
    */
-  private static double getSqDist(Point p1, Point p2) {
-    double dx = p1.longitude() - p2.longitude();
-    double dy = p1.latitude() - p2.latitude();
+  @NonNull
+  public static BitSet simplifyIndices(@NonNull double[] coordinates, int dimensions,
+                                       double tolerance, boolean highestQuality,
+                                       @Nullable ForkJoinPool pool) {
+    int size = coordinates.length / dimensions;
+    BitSet retained = new BitSet(size);
+    if (size <= 2) {
+      retained.set(0, size);
+      return retained;
+    }
+
+    double sqTolerance = tolerance * tolerance;
+
+    int[] indices = null;
+    int count = size;
+    if (!highestQuality) {
+      indices = new int[size];
+      count = simplifyRadialDist(coordinates, dimensions, size, sqTolerance, indices);
+      if (!equals(coordinates, dimensions, indices[count - 1], size - 1)) {
+        indices[count++] = size - 1;
+      }
+    }
+
+    boolean[] keep = new boolean[count];
+    keep[0] = true;
+    keep[count - 1] = true;
+    if (pool != null && count > PARALLEL_THRESHOLD) {
+      pool.invoke(new DouglasPeuckerTask(coordinates, dimensions, indices, 0, count - 1,
+        sqTolerance, keep));
+    } else {
+      simplifyDouglasPeucker(coordinates, dimensions, indices, 0, count - 1, sqTolerance, keep);
+    }
+
+    for (int i = 0; i < count; i++) {
+      if (keep[i]) {
+        retained.set(index(indices, i));
+      }
+    }
+    return retained;
+  }
+
+  private static double[] compact(double[] coordinates, int dimensions, BitSet retained) {
+    double[] simplified = new double[retained.cardinality() * dimensions];
+    int offset = 0;
+    for (int i = retained.nextSetBit(0); i >= 0; i = retained.nextSetBit(i + 1)) {
+      System.arraycopy(coordinates, i * dimensions, simplified, offset, dimensions);
+      offset += dimensions;
+    }
+    return simplified;
+  }
+
+  /**
+   * Maps a position of the radial distance result to a coordinate index, a null array meaning
+   * every coordinate was kept.
+   */
+  private static int index(int[] indices, int position) {
+    return indices == null ? position : indices[position];
+  }
+
+  private static boolean equals(double[] coordinates, int dimensions, int first, int second) {
+    for (int i = 0; i < dimensions; i++) {
+      if (Double.compare(coordinates[first * dimensions + i],
+        coordinates[second * dimensions + i]) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Square distance between 2 coordinates.
+   *
+   * @return square of the distance between the two coordinates
+   */
+  private static double getSqDist(double[] coordinates, int dimensions, int first, int second) {
+    double dx = coordinates[first * dimensions] - coordinates[second * dimensions];
+    double dy = coordinates[first * dimensions + 1] - coordinates[second * dimensions + 1];
     return dx * dx + dy * dy;
   }
 
   /**
-   * Square distance from a point to a segment.
+   * Square distance from a coordinate to a segment.
    *
-   * @param point {@link Point} whose distance from segment needs to be determined
-   * @param p1,p2 points defining the segment
-   * @return square of the distance between first input point and segment defined by
-   *   other two input points
+   * @return square of the distance between the coordinate at {@code index} and the segment
+   *   defined by the coordinates at {@code first} and {@code last}
    */
-  private static double getSqSegDist(Point point, Point p1, Point p2) {
-    double horizontal = p1.longitude();
-    double vertical = p1.latitude();
-    double diffHorizontal = p2.longitude() - horizontal;
-    double diffVertical = p2.latitude() - vertical;
+  private static double getSqSegDist(double[] coordinates, int dimensions, int index, int first,
+                                     int last) {
+    double horizontal = coordinates[first * dimensions];
+    double vertical = coordinates[first * dimensions + 1];
+    double diffHorizontal = coordinates[last * dimensions] - horizontal;
+    double diffVertical = coordinates[last * dimensions + 1] - vertical;
+    double longitude = coordinates[index * dimensions];
+    double latitude = coordinates[index * dimensions + 1];
 
     if (diffHorizontal != 0 || diffVertical != 0) {
-      double total = ((point.longitude() - horizontal) * diffHorizontal + (point.latitude()
+      double total = ((longitude - horizontal) * diffHorizontal + (latitude
         - vertical) * diffVertical) / (diffHorizontal * diffHorizontal + diffVertical
         * diffVertical);
       if (total > 1) {
-        horizontal = p2.longitude();
-        vertical = p2.latitude();
+        horizontal = coordinates[last * dimensions];
+        vertical = coordinates[last * dimensions + 1];
 
       } else if (total > 0) {
         horizontal += diffHorizontal * total;
@@ -240,83 +697,133 @@ public final class PolylineUtils {
       }
     }
 
-    diffHorizontal = point.longitude() - horizontal;
-    diffVertical = point.latitude() - vertical;
+    diffHorizontal = longitude - horizontal;
+    diffVertical = latitude - vertical;
 
     return diffHorizontal * diffHorizontal + diffVertical * diffVertical;
   }
 
   /**
-   * Basic distance-based simplification.
+   * Basic distance-based simplification, writing the indices of the kept coordinates to
+   * {@code indices}. The last coordinate is left for the caller to append.
    *
-   * @param points a list of points to be simplified
-   * @param sqTolerance square of amount of simplification
-   * @return a list of simplified points
+   * @return the number of indices written
    */
-  private static List<Point> simplifyRadialDist(List<Point> points, double sqTolerance) {
-    Point prevPoint = points.get(0);
-    ArrayList<Point> newPoints = new ArrayList<>();
-    newPoints.add(prevPoint);
-    Point point = null;
-
-    for (int i = 1, len = points.size(); i < len; i++) {
-      point = points.get(i);
-
-      if (getSqDist(point, prevPoint) > sqTolerance) {
-        newPoints.add(point);
-        prevPoint = point;
+  private static int simplifyRadialDist(double[] coordinates, int dimensions, int size,
+                                        double sqTolerance, int[] indices) {
+    int prevIndex = 0;
+    int count = 0;
+    indices[count++] = prevIndex;
+
+    for (int i = 1; i < size; i++) {
+      if (getSqDist(coordinates, dimensions, i, prevIndex) > sqTolerance) {
+        indices[count++] = i;
+        prevIndex = i;
       }
     }
+    return count;
+  }
+
+  /**
+   * Simplification using Ramer-Douglas-Peucker algorithm, iterating with an explicit stack so
+   * that long lines can't overflow the call stack. Positions between {@code first} and
+   * {@code last} that must be retained are flagged in {@code keep}.
+   */
+  private static void simplifyDouglasPeucker(double[] coordinates, int dimensions, int[] indices,
+                                             int first, int last, double sqTolerance,
+                                             boolean[] keep) {
+    int[] stack = new int[64];
+    int top = 0;
+    stack[top++] = first;
+    stack[top++] = last;
+
+    while (top > 0) {
+      last = stack[--top];
+      first = stack[--top];
+      int index = simplifyDpStep(coordinates, dimensions, indices, first, last, sqTolerance);
+      if (index < 0) {
+        continue;
+      }
+      keep[index] = true;
 
-    if (!prevPoint.equals(point)) {
-      newPoints.add(point);
+      if (top + 4 > stack.length) {
+        stack = Arrays.copyOf(stack, stack.length * 2);
+      }
+      if (index - first > 1) {
+        stack[top++] = first;
+        stack[top++] = index;
+      }
+      if (last - index > 1) {
+        stack[top++] = index;
+        stack[top++] = last;
+      }
     }
-    return newPoints;
   }
 
-  private static List<Point> simplifyDpStep(
-    List<Point> points, int first, int last, double sqTolerance, List<Point> simplified) {
+  /**
+   * Finds the position between {@code first} and {@code last} the furthest from their segment.
+   *
+   * @return the position, or -1 if no coordinate is further than the tolerance
+   */
+  private static int simplifyDpStep(double[] coordinates, int dimensions, int[] indices,
+                                    int first, int last, double sqTolerance) {
     double maxSqDist = sqTolerance;
-    int index = 0;
-
-    ArrayList<Point> stepList = new ArrayList<>();
+    int index = -1;
+    int firstIndex = index(indices, first);
+    int lastIndex = index(indices, last);
 
     for (int i = first + 1; i < last; i++) {
-      double sqDist = getSqSegDist(points.get(i), points.get(first), points.get(last));
+      double sqDist = getSqSegDist(coordinates, dimensions, index(indices, i), firstIndex,
+        lastIndex);
       if (sqDist > maxSqDist) {
         index = i;
         maxSqDist = sqDist;
       }
     }
-
-    if (maxSqDist > sqTolerance) {
-      if (index - first > 1) {
-        stepList.addAll(simplifyDpStep(points, first, index, sqTolerance, simplified));
-      }
-
-      stepList.add(points.get(index));
-
-      if (last - index > 1) {
-        stepList.addAll(simplifyDpStep(points, index, last, sqTolerance, simplified));
-      }
-    }
-
-    return stepList;
+    return index;
   }
 
   /**
-   * Simplification using Ramer-Douglas-Peucker algorithm.
+   * Splits the Douglas-Peucker recursion into fork-join tasks while ranges are large, each task
+   * flagging a disjoint set of positions in the shared {@code keep} array.
    *
-   * @param points a list of points to be simplified
-   * @param sqTolerance square of amount of simplification
-   * @return a list of simplified points
+   * @since 5.10.0
    */
-  private static List<Point> simplifyDouglasPeucker(List<Point> points, double sqTolerance) {
-    int last = points.size() - 1;
-    ArrayList<Point> simplified = new ArrayList<>();
-    simplified.add(points.get(0));
-    simplified.addAll(simplifyDpStep(points, 0, last, sqTolerance, simplified));
-    simplified.add(points.get(last));
-    return simplified;
+  private static final class DouglasPeuckerTask extends RecursiveAction {
+
+    private final double[] coordinates;
+    private final int dimensions;
+    private final int[] indices;
+    private final int first;
+    private final int last;
+    private final double sqTolerance;
+    private final boolean[] keep;
+
+    DouglasPeuckerTask(double[] coordinates, int dimensions, int[] indices, int first, int last,
+                       double sqTolerance, boolean[] keep) {
+      this.coordinates = coordinates;
+      this.dimensions = dimensions;
+      this.indices = indices;
+      this.first = first;
+      this.last = last;
+      this.sqTolerance = sqTolerance;
+      this.keep = keep;
+    }
+
+    @Override
+    protected void compute() {
+      if (last - first <= PARALLEL_THRESHOLD) {
+        simplifyDouglasPeucker(coordinates, dimensions, indices, first, last, sqTolerance, keep);
+        return;
+      }
+      int index = simplifyDpStep(coordinates, dimensions, indices, first, last, sqTolerance);
+      if (index < 0) {
+        return;
+      }
+      keep[index] = true;
+      invokeAll(
+        new DouglasPeuckerTask(coordinates, dimensions, indices, first, index, sqTolerance, keep),
+        new DouglasPeuckerTask(coordinates, dimensions, indices, index, last, sqTolerance, keep));
+    }
   }
 }
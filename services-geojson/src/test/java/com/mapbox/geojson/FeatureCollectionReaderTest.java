@@ -0,0 +1,86 @@
+package com.mapbox.geojson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.JsonSyntaxException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class FeatureCollectionReaderTest extends TestUtils {
+
+  private static final String SAMPLE_FEATURECOLLECTION = "sample-featurecollection.json";
+  private static final String SAMPLE_FEATURECOLLECTION_BBOX =
+    "sample-feature-collection-with-bbox.json";
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void readsSameFeaturesAsFromJson() throws Exception {
+    String json = loadJsonFixture(SAMPLE_FEATURECOLLECTION);
+    FeatureCollectionReader reader = FeatureCollectionReader.fromReader(new StringReader(json));
+    List<Feature> features = new ArrayList<>();
+    while (reader.hasNext()) {
+      features.add(reader.next());
+    }
+    reader.close();
+
+    assertEquals(FeatureCollection.fromJson(json).features(), features);
+  }
+
+  @Test
+  public void readsFromInputStream() throws Exception {
+    String json = loadJsonFixture(SAMPLE_FEATURECOLLECTION_BBOX);
+    FeatureCollectionReader reader = FeatureCollectionReader.fromInputStream(
+      new ByteArrayInputStream(json.getBytes("UTF-8")));
+
+    assertTrue(reader.hasNext());
+    assertEquals(FeatureCollection.fromJson(json).bbox(), reader.bbox());
+    assertEquals("id0", reader.next().id());
+    assertEquals("id1", reader.next().id());
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  public void bboxAfterFeatures_availableOnceExhausted() throws Exception {
+    FeatureCollectionReader reader = FeatureCollectionReader.fromReader(new StringReader(
+      "{\"features\":[{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\","
+        + "\"coordinates\":[1,2]}}],\"bbox\":[1,2,3,4],\"type\":\"FeatureCollection\"}"));
+
+    assertTrue(reader.hasNext());
+    assertNull(reader.bbox());
+    assertEquals(Point.fromLngLat(1, 2), reader.next().geometry());
+    assertFalse(reader.hasNext());
+    assertEquals(BoundingBox.fromLngLats(1, 2, 3, 4), reader.bbox());
+  }
+
+  @Test
+  public void missingFeatures_hasNoNext() throws Exception {
+    FeatureCollectionReader reader = FeatureCollectionReader.fromReader(
+      new StringReader("{\"type\":\"FeatureCollection\",\"features\":null}"));
+    assertFalse(reader.hasNext());
+
+    thrown.expect(NoSuchElementException.class);
+    reader.next();
+  }
+
+  @Test
+  public void malformedInput_throwsJsonSyntaxException() throws Exception {
+    FeatureCollectionReader reader = FeatureCollectionReader.fromReader(
+      new StringReader("[\"type\",\"FeatureCollection\"]"));
+
+    thrown.expect(JsonSyntaxException.class);
+    reader.hasNext();
+  }
+}
@@ -0,0 +1,98 @@
+package com.mapbox.geojson;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.gson.JsonObject;
+
+import org.junit.Test;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FeatureCollectionWriterTest extends TestUtils {
+
+  private static final String SAMPLE_FEATURECOLLECTION = "sample-featurecollection.json";
+
+  @Test
+  public void writesSameJsonAsToJson() throws Exception {
+    FeatureCollection featureCollection =
+      FeatureCollection.fromJson(loadJsonFixture(SAMPLE_FEATURECOLLECTION));
+    StringWriter stringWriter = new StringWriter();
+    FeatureCollectionWriter writer = FeatureCollectionWriter.fromWriter(stringWriter);
+    for (Feature feature : featureCollection.features()) {
+      writer.write(feature);
+    }
+    writer.close();
+
+    assertEquals(featureCollection.toJson(), stringWriter.toString());
+  }
+
+  @Test
+  public void writesBboxAndTrimmedCoordinatesToOutputStream() throws Exception {
+    BoundingBox bbox = BoundingBox.fromLngLats(1, 2, 3, 4);
+    List<Feature> features = new ArrayList<>();
+    features.add(Feature.fromGeometry(Point.fromLngLat(1.123456789, 2.0)));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    FeatureCollectionWriter writer = FeatureCollectionWriter.fromOutputStream(outputStream, bbox);
+    writer.writeAll(features.iterator());
+    writer.close();
+
+    String json = new String(outputStream.toByteArray(), "UTF-8");
+    assertEquals(FeatureCollection.fromFeatures(features, bbox).toJson(), json);
+    compareJson("{\"type\":\"FeatureCollection\",\"bbox\":[1,2,3,4],\"features\":[{"
+      + "\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1.1234568,2]},"
+      + "\"properties\":{}}]}", json);
+  }
+
+  @Test
+  public void emptyCollection_isComplete() throws Exception {
+    StringWriter stringWriter = new StringWriter();
+    FeatureCollectionWriter.fromWriter(stringWriter).close();
+    compareJson("{\"type\":\"FeatureCollection\",\"features\":[]}", stringWriter.toString());
+  }
+
+  @Test
+  public void copiesFromReader() throws Exception {
+    String json = loadJsonFixture(SAMPLE_FEATURECOLLECTION);
+    StringWriter stringWriter = new StringWriter();
+    FeatureCollectionWriter writer = FeatureCollectionWriter.fromWriter(stringWriter);
+    writer.writeAll(FeatureCollectionReader.fromReader(new StringReader(json)));
+    writer.close();
+
+    assertEquals(FeatureCollection.fromJson(json),
+      FeatureCollection.fromJson(stringWriter.toString()));
+  }
+
+  @Test
+  public void featureToJsonWriter_matchesToJson() throws Exception {
+    JsonObject properties = new JsonObject();
+    properties.addProperty("name", "<value>");
+    Feature[] features = new Feature[] {
+      Feature.fromGeometry(LineString.fromLngLats(new double[] {1, 2, 3, 4}, 2)),
+      Feature.fromGeometry(Point.fromLngLat(1, 2), properties, "id")
+    };
+    for (Feature feature : features) {
+      StringWriter stringWriter = new StringWriter();
+      feature.toJson(stringWriter);
+      assertEquals(feature.toJson(), stringWriter.toString());
+    }
+    compareJson("{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\","
+      + "\"coordinates\":[[1,2],[3,4]]}}", features[0].toJson());
+  }
+
+  @Test
+  public void featureToJsonWriter_leavesFlushingToCaller() throws Exception {
+    Feature feature = Feature.fromGeometry(Point.fromLngLat(1, 2));
+    StringWriter stringWriter = new StringWriter();
+    BufferedWriter bufferedWriter = new BufferedWriter(stringWriter);
+    feature.toJson(bufferedWriter);
+    assertEquals("", stringWriter.toString());
+
+    bufferedWriter.flush();
+    assertEquals(feature.toJson(), stringWriter.toString());
+  }
+}
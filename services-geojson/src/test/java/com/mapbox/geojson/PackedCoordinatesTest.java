@@ -0,0 +1,170 @@
+package com.mapbox.geojson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.geojson.exception.GeoJsonException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class PackedCoordinatesTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void lineString_packedMatchesListBacked() throws Exception {
+    LineString packed = LineString.fromLngLats(new double[] {1.0, 2.0, 3.0, 4.0, 5.0, 6.0}, 2);
+    LineString listBacked = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(1.0, 2.0), Point.fromLngLat(3.0, 4.0), Point.fromLngLat(5.0, 6.0)));
+
+    assertEquals(listBacked.coordinates(), packed.coordinates());
+    assertEquals(3, packed.coordinateCount());
+    assertEquals(3.0, packed.lon(1), DELTA);
+    assertEquals(4.0, packed.lat(1), DELTA);
+    assertEquals(listBacked, packed);
+    assertEquals(packed, listBacked);
+    assertEquals(listBacked.hashCode(), packed.hashCode());
+    compareJson(listBacked.toJson(), packed.toJson());
+  }
+
+  @Test
+  public void lineString_listBackedExposesPackedCoordinates() throws Exception {
+    LineString lineString = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(1.0, 2.0), Point.fromLngLat(3.0, 4.0, 10.0)));
+    PackedCoordinates packed = lineString.packedCoordinates();
+
+    assertEquals(3, packed.dimensions());
+    assertEquals(2, packed.coordinateCount());
+    assertTrue(Double.isNaN(packed.altitude(0)));
+    assertEquals(10.0, packed.altitude(1), DELTA);
+    assertEquals(lineString, LineString.fromLngLats(packed.toArray(), 3));
+  }
+
+  @Test
+  public void polygon_packedMatchesListBacked() throws Exception {
+    double[] coordinates = new double[] {
+      0, 0, 10, 0, 10, 10, 0, 0,
+      2, 2, 4, 2, 4, 4, 2, 2
+    };
+    Polygon packed = Polygon.fromLngLats(coordinates, 2, new int[] {0, 4});
+    List<List<Point>> rings = new ArrayList<>();
+    rings.add(Arrays.asList(Point.fromLngLat(0, 0), Point.fromLngLat(10, 0),
+      Point.fromLngLat(10, 10), Point.fromLngLat(0, 0)));
+    rings.add(Arrays.asList(Point.fromLngLat(2, 2), Point.fromLngLat(4, 2),
+      Point.fromLngLat(4, 4), Point.fromLngLat(2, 2)));
+    Polygon listBacked = Polygon.fromLngLats(rings);
+
+    assertEquals(listBacked, packed);
+    assertEquals(8, packed.coordinateCount());
+    assertEquals(2, packed.packedCoordinates().partCount());
+    assertEquals(4, packed.packedCoordinates().partStart(1));
+    assertEquals(8, packed.packedCoordinates().partEnd(1));
+    assertEquals(listBacked.hashCode(), packed.hashCode());
+    assertEquals(listBacked.outer(), packed.outer());
+    assertEquals(listBacked.packedCoordinates(), packed.packedCoordinates());
+    compareJson(listBacked.toJson(), packed.toJson());
+  }
+
+  @Test
+  public void multiLineString_packedMatchesListBacked() throws Exception {
+    MultiLineString packed = MultiLineString.fromLngLats(
+      new double[] {1, 1, 2, 2, 3, 3, 4, 4, 5, 5}, 2, new int[] {0, 2});
+    List<List<Point>> lines = new ArrayList<>();
+    lines.add(Arrays.asList(Point.fromLngLat(1, 1), Point.fromLngLat(2, 2)));
+    lines.add(Arrays.asList(Point.fromLngLat(3, 3), Point.fromLngLat(4, 4),
+      Point.fromLngLat(5, 5)));
+    MultiLineString listBacked = MultiLineString.fromLngLats(lines);
+
+    assertEquals(5, packed.coordinateCount());
+    assertEquals(4.0, packed.lon(3), DELTA);
+    assertEquals(listBacked, packed);
+    assertEquals(listBacked.lineStrings(), packed.lineStrings());
+  }
+
+  @Test
+  public void multiPolygon_packedMatchesListBacked() throws Exception {
+    MultiPolygon packed = MultiPolygon.fromLngLats(new double[] {
+      0, 0, 1, 0, 1, 1, 0, 0,
+      5, 5, 6, 5, 6, 6, 5, 5
+    }, 2, new int[] {0, 4}, new int[] {0, 1});
+    List<List<List<Point>>> polygons = new ArrayList<>();
+    polygons.add(Arrays.asList(Arrays.asList(Point.fromLngLat(0, 0), Point.fromLngLat(1, 0),
+      Point.fromLngLat(1, 1), Point.fromLngLat(0, 0))));
+    polygons.add(Arrays.asList(Arrays.asList(Point.fromLngLat(5, 5), Point.fromLngLat(6, 5),
+      Point.fromLngLat(6, 6), Point.fromLngLat(5, 5))));
+    MultiPolygon listBacked = MultiPolygon.fromLngLats(polygons);
+
+    assertEquals(2, packed.packedCoordinates().polygonCount());
+    assertEquals(1, packed.packedCoordinates().polygonStart(1));
+    assertEquals(listBacked, packed);
+    assertEquals(listBacked.hashCode(), packed.hashCode());
+    assertEquals(listBacked.polygons(), packed.polygons());
+  }
+
+  @Test
+  public void forEachCoordinate_visitsEveryCoordinateInOrder() throws Exception {
+    final List<Double> visited = new ArrayList<>();
+    CoordinateCallback callback = new CoordinateCallback() {
+      @Override
+      public void onCoordinate(int index, double longitude, double latitude, double altitude) {
+        visited.add((double) index);
+        visited.add(longitude);
+        visited.add(latitude);
+      }
+    };
+    MultiLineString.fromLngLats(new double[] {1, 2, 3, 4, 5, 6}, 2, new int[] {0, 1})
+      .forEachCoordinate(callback);
+    assertEquals(Arrays.asList(0.0, 1.0, 2.0, 1.0, 3.0, 4.0, 2.0, 5.0, 6.0), visited);
+
+    visited.clear();
+    List<List<Point>> lines = new ArrayList<>();
+    lines.add(Arrays.asList(Point.fromLngLat(1, 2)));
+    lines.add(Arrays.asList(Point.fromLngLat(3, 4), Point.fromLngLat(5, 6)));
+    MultiLineString.fromLngLats(lines).forEachCoordinate(callback);
+    assertEquals(Arrays.asList(0.0, 1.0, 2.0, 1.0, 3.0, 4.0, 2.0, 5.0, 6.0), visited);
+  }
+
+  @Test
+  public void coordinatesView_isReadOnly() throws Exception {
+    thrown.expect(UnsupportedOperationException.class);
+    LineString.fromLngLats(new double[] {1, 2, 3, 4}, 2).coordinates()
+      .add(Point.fromLngLat(5, 6));
+  }
+
+  @Test
+  public void packedArrays_areCopied() throws Exception {
+    double[] coordinates = new double[] {1, 2, 3, 4};
+    LineString lineString = LineString.fromLngLats(coordinates, 2);
+    coordinates[0] = 10;
+    assertEquals(1.0, lineString.lon(0), DELTA);
+    assertFalse(lineString.packedCoordinates().toArray()[0] == 10);
+  }
+
+  @Test
+  public void invalidDimensions_throwsException() throws Exception {
+    thrown.expect(GeoJsonException.class);
+    LineString.fromLngLats(new double[] {1, 2, 3, 4}, 4);
+  }
+
+  @Test
+  public void invalidOffsets_throwsException() throws Exception {
+    thrown.expect(GeoJsonException.class);
+    Polygon.fromLngLats(new double[] {1, 2, 3, 4}, 2, new int[] {1});
+  }
+
+  @Test
+  public void testSerializable() throws Exception {
+    Polygon polygon = Polygon.fromLngLats(new double[] {0, 0, 1, 0, 1, 1, 0, 0}, 2,
+      new int[] {0});
+    byte[] bytes = serialize(polygon);
+    assertEquals(polygon, deserialize(bytes, Polygon.class));
+  }
+}
@@ -12,6 +12,7 @@ import org.junit.rules.ExpectedException;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class PointTest extends TestUtils {
@@ -158,4 +159,28 @@ public class PointTest extends TestUtils {
     thrown.expect(NullPointerException.class);
     Point.fromJson("{\"type\":\"Point\",\"coordinates\":null}");
   }
-}
\ No newline at end of file
+
+  @Test
+  public void coordinates_matchPrimitiveValues() throws Exception {
+    Point point = Point.fromLngLat(1.0, 2.0, 5.0);
+    assertEquals(Arrays.asList(1.0, 2.0, 5.0), point.coordinates());
+    assertEquals(3, point.coordinates().size());
+    assertEquals(2, Point.fromLngLat(1.0, 2.0).coordinates().size());
+  }
+
+  @Test
+  public void coordinates_areReadOnly() throws Exception {
+    thrown.expect(UnsupportedOperationException.class);
+    Point.fromLngLat(1.0, 2.0).coordinates().set(0, 3.0);
+  }
+
+  @Test
+  public void equalsAndHashCode_matchListBackedPoint() throws Exception {
+    Point point = Point.fromLngLat(1.0, 2.0, 5.0);
+    Point listBacked = new Point("Point", null, Arrays.asList(1.0, 2.0, 5.0));
+    assertEquals(point, listBacked);
+    assertEquals(point.hashCode(), listBacked.hashCode());
+    assertEquals(Arrays.asList(1.0, 2.0, 5.0).hashCode(), point.coordinates().hashCode());
+    assertFalse(point.equals(Point.fromLngLat(1.0, 2.0)));
+  }
+}
@@ -3,7 +3,9 @@ package com.mapbox.geojson.shifter;
 import com.google.gson.JsonParser;
 import com.mapbox.geojson.BoundingBox;
 import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiPolygon;
 import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
 
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -169,6 +171,26 @@ public class ShifterTest {
     CoordinateShifterManager.setCoordinateShifter(null);
   }
 
+  @Test
+  public void polygon_wrapLngLats_shift() {
+    double[] ring = {0, 0, 1, 0, 1, 1, 0, 0};
+    int[] ringOffsets = {0};
+    assertEquals(Polygon.fromLngLats(ring, 2, ringOffsets),
+            Polygon.wrapLngLats(ring.clone(), 2, ringOffsets));
+
+    // set shifter
+    CoordinateShifterManager.setCoordinateShifter(new TestCoordinateShifter());
+
+    Polygon polygon = Polygon.wrapLngLats(ring.clone(), 2, ringOffsets);
+    assertEquals(Polygon.fromLngLats(ring, 2, ringOffsets), polygon);
+    assertEquals(3.0, polygon.packedCoordinates().lon(0), 0);
+    MultiPolygon multiPolygon = MultiPolygon.wrapLngLats(ring.clone(), 2, ringOffsets,
+            new int[] {0});
+    assertEquals(5.0, multiPolygon.packedCoordinates().lat(0), 0);
+
+    CoordinateShifterManager.setCoordinateShifter(null);
+  }
+
   public void compareJson(String expectedJson, String actualJson) {
     JsonParser parser = new JsonParser();
     assertThat(parser.parse(actualJson), Matchers.equalTo(parser.parse(expectedJson)));
@@ -3,6 +3,7 @@ package com.mapbox.geojson.utils;
 import static com.mapbox.geojson.utils.PolylineUtils.decode;
 import static com.mapbox.geojson.utils.PolylineUtils.encode;
 import static com.mapbox.geojson.utils.PolylineUtils.simplify;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -13,10 +14,16 @@ import com.mapbox.geojson.TestUtils;
 
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class PolylineUtilsTest extends TestUtils {
 
@@ -109,6 +116,76 @@ public class PolylineUtilsTest extends TestUtils {
   }
 
 
+  @Test
+  public void decodeToArray_matchesDecode() {
+    List<Point> path = decode(TEST_LINE6, PRECISION_6);
+    double[] coordinates = PolylineUtils.decodeToArray(TEST_LINE6, PRECISION_6);
+
+    assertEquals(path.size(), PolylineUtils.decodedCoordinateCount(TEST_LINE6));
+    assertEquals(path.size() * 2, coordinates.length);
+    for (int i = 0; i < path.size(); i++) {
+      assertEquals(path.get(i).longitude(), coordinates[i * 2], 0);
+      assertEquals(path.get(i).latitude(), coordinates[i * 2 + 1], 0);
+    }
+  }
+
+  @Test
+  public void decode_intoArrayAndBufferWithOffset() {
+    double[] expected = PolylineUtils.decodeToArray(TEST_LINE, PRECISION_5);
+
+    double[] array = new double[expected.length + 2];
+    assertEquals(21, PolylineUtils.decode(new StringBuilder(TEST_LINE), PRECISION_5, array, 2));
+    assertArrayEquals(expected, Arrays.copyOfRange(array, 2, array.length), 0);
+
+    DoubleBuffer buffer = DoubleBuffer.allocate(expected.length);
+    assertEquals(21, PolylineUtils.decode(TEST_LINE, PRECISION_5, buffer));
+    assertEquals(expected.length, buffer.position());
+    assertArrayEquals(expected, buffer.array(), 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void decode_intoTooSmallArray() {
+    PolylineUtils.decode(TEST_LINE, PRECISION_5, new double[4], 0);
+  }
+
+  @Test
+  public void decode_charSequenceMatchesString() {
+    assertEquals(decode(TEST_LINE6, PRECISION_6),
+      decode(CharBuffer.wrap(TEST_LINE6), PRECISION_6));
+  }
+
+  @Test
+  public void encodePrimitive_matchesEncode() throws Exception {
+    double[] coordinates = PolylineUtils.decodeToArray(TEST_LINE6, PRECISION_6);
+    assertEquals(TEST_LINE6, PolylineUtils.encode(coordinates, 2, PRECISION_6));
+    assertEquals(TEST_LINE6,
+      LineString.fromLngLats(coordinates, 2).toPolyline(PRECISION_6));
+    assertEquals(TEST_LINE6, PolylineUtils.encode(
+      LineString.fromLngLats(coordinates, 2).packedCoordinates(), PRECISION_6));
+
+    StringBuilder builder = new StringBuilder("prefix");
+    PolylineUtils.encode(coordinates, 2, PRECISION_6, builder);
+    assertEquals("prefix" + TEST_LINE6, builder.toString());
+
+    StringWriter writer = new StringWriter();
+    PolylineUtils.encode(coordinates, 2, PRECISION_6, (Appendable) writer);
+    assertEquals(TEST_LINE6, writer.toString());
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    PolylineUtils.encode(coordinates, 2, PRECISION_6, outputStream);
+    assertEquals(TEST_LINE6, new String(outputStream.toByteArray(), "US-ASCII"));
+  }
+
+  @Test
+  public void encodePrimitive_ignoresAltitude() throws Exception {
+    double[] coordinates = new double[] {2.2862036, 48.8267868, 100, 2.4, 48.9, 200};
+    List<Point> path = Arrays.asList(
+      Point.fromLngLat(2.2862036, 48.8267868),
+      Point.fromLngLat(2.4, 48.9)
+    );
+    assertEquals(encode(path, PRECISION_5), PolylineUtils.encode(coordinates, 3, PRECISION_5));
+  }
+
   @Test
   public void decode_neverReturnsNullButRatherAnEmptyList() throws Exception {
     List<Point> path = decode("", PRECISION_5);
@@ -151,6 +228,49 @@ public class PolylineUtilsTest extends TestUtils {
     }
   }
 
+  @Test
+  public void simplifyPrimitive_matchesSimplify() throws IOException {
+    List<Point> path = createPointListFromResourceFile(SIMPLIFICATION_INPUT);
+    double[] coordinates = new double[path.size() * 2];
+    for (int i = 0; i < path.size(); i++) {
+      coordinates[i * 2] = path.get(i).longitude();
+      coordinates[i * 2 + 1] = path.get(i).latitude();
+    }
+
+    for (boolean highestQuality : new boolean[] {true, false}) {
+      List<Point> expected = simplify(path, PRECISION_5, highestQuality);
+      double[] simplified = PolylineUtils.simplify(coordinates, 2, PRECISION_5, highestQuality);
+      assertEquals(expected.size() * 2, simplified.length);
+      for (int i = 0; i < expected.size(); i++) {
+        assertEquals(expected.get(i).longitude(), simplified[i * 2], 0);
+        assertEquals(expected.get(i).latitude(), simplified[i * 2 + 1], 0);
+      }
+    }
+  }
+
+  @Test
+  public void simplifyParallel_matchesSequentialOnLongLine() {
+    int size = 200000;
+    double[] coordinates = new double[size * 3];
+    for (int i = 0; i < size; i++) {
+      coordinates[i * 3] = i * 0.001;
+      coordinates[i * 3 + 1] = Math.sin(i * 0.01) + Math.sin(i * 0.37) * 0.01;
+      coordinates[i * 3 + 2] = i;
+    }
+
+    BitSet sequential = PolylineUtils.simplifyIndices(coordinates, 3, 0.001, true, null);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertEquals(sequential, PolylineUtils.simplifyIndices(coordinates, 3, 0.001, true, pool));
+      assertArrayEquals(PolylineUtils.simplify(coordinates, 3, 0.001, false),
+        PolylineUtils.simplify(coordinates, 3, 0.001, false, pool), 0);
+    } finally {
+      pool.shutdown();
+    }
+    assertTrue(sequential.get(0));
+    assertTrue(sequential.get(size - 1));
+  }
+
   private List<Point> createPointListFromResourceFile(String fileName) throws IOException {
     String inputPoints = loadJsonFixture(fileName);
     String[] coords = inputPoints.split(",", -1);
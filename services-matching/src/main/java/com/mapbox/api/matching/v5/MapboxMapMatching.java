@@ -24,14 +24,12 @@ import com.mapbox.core.utils.MapboxUtils;
 import com.mapbox.core.utils.TextUtils;
 import com.mapbox.geojson.Point;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
 import retrofit2.Call;
-import retrofit2.Callback;
 import retrofit2.Response;
 
 /**
@@ -130,48 +128,19 @@ public abstract class MapboxMapMatching extends
   }
 
   /**
-   * Wrapper method for Retrofits {@link Call#execute()} call returning a response specific to the
-   * Map Matching API.
+   * Adds the route options of this request to every matching of a successful response,
+   * whichever way the request is executed.
    *
-   * @return the Map Matching v5 response once the call completes successfully
-   * @throws IOException Signals that an I/O exception of some sort has occurred
-   * @since 1.0.0
+   * @param response the response as received
+   * @return the response with the route options of this request
+   * @since 5.10.0
    */
   @Override
-  public Response<MapMatchingResponse> executeCall() throws IOException {
-
-    Response<MapMatchingResponse> response = getCall().execute();
-    MatchingResponseFactory factory = new MatchingResponseFactory(MapboxMapMatching.this);
+  protected Response<MapMatchingResponse> processResponse(Response<MapMatchingResponse> response) {
+    MatchingResponseFactory factory = new MatchingResponseFactory(this);
     return factory.generate(response);
   }
 
-  /**
-   * Wrapper method for Retrofits {@link Call#enqueue(Callback)} call returning a response specific
-   * to the Map Matching API. Use this method to make a directions request on the Main Thread.
-   *
-   * @param callback a {@link Callback} which is used once the {@link MapMatchingResponse} is
-   *                 created.
-   * @since 1.0.0
-   */
-  @Override
-  public void enqueueCall(final Callback<MapMatchingResponse> callback) {
-    getCall().enqueue(new Callback<MapMatchingResponse>() {
-      @Override
-      public void onResponse(Call<MapMatchingResponse> call,
-                             Response<MapMatchingResponse> response) {
-        MatchingResponseFactory factory = new MatchingResponseFactory(MapboxMapMatching.this);
-        Response<MapMatchingResponse> generatedResponse = factory.generate(response);
-        callback.onResponse(call, generatedResponse);
-      }
-
-
-      @Override
-      public void onFailure(Call<MapMatchingResponse> call, Throwable throwable) {
-        callback.onFailure(call, throwable);
-      }
-    });
-  }
-
   @Nullable
   abstract Boolean usePostMethod();
 
@@ -0,0 +1,30 @@
+package com.mapbox.api.matching.v5.models;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+
+/**
+ * Holds the {@link Gson} instance shared by the static {@code fromJson} methods of the map
+ * matching models, created once the first time it is needed.
+ *
+ * @since 5.10.0
+ */
+final class MapMatchingGson {
+
+  private MapMatchingGson() {
+    // Empty private constructor since only static methods are found inside class.
+  }
+
+  static Gson gson() {
+    return Holder.GSON;
+  }
+
+  private static final class Holder {
+
+    private static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapterFactory(MapMatchingAdapterFactory.create())
+      .registerTypeAdapterFactory(DirectionsAdapterFactory.create())
+      .create();
+  }
+}
@@ -5,9 +5,7 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 
 import java.io.Serializable;
 import java.util.List;
@@ -111,10 +109,7 @@ public abstract class MapMatchingResponse implements Serializable {
    * @since 3.4.0
    */
   public static MapMatchingResponse fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(MapMatchingAdapterFactory.create());
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, MapMatchingResponse.class);
+    return MapMatchingGson.gson().fromJson(json, MapMatchingResponse.class);
   }
 
   /**
@@ -6,12 +6,15 @@ import androidx.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.mapbox.api.routetiles.v1.versions.MapboxRouteTileVersions;
 import com.mapbox.core.MapboxService;
+import com.mapbox.core.ServiceRegistry;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.core.utils.ApiCallHelper;
 import com.mapbox.core.utils.MapboxUtils;
 import com.mapbox.geojson.BoundingBox;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import okhttp3.Interceptor;
@@ -46,26 +49,37 @@ public abstract class MapboxRouteTiles extends MapboxService<ResponseBody, Route
   @Override
   protected synchronized OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
-      OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
-      if (isEnableDebug()) {
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
-        httpClient.addInterceptor(logging);
-      }
-      Interceptor interceptor = interceptor();
-      if (interceptor != null) {
-        httpClient.addInterceptor(interceptor);
-      }
-      Interceptor networkInterceptor = networkInterceptor();
-      if (networkInterceptor != null) {
-        httpClient.addNetworkInterceptor(networkInterceptor);
-      }
-
-      okHttpClient = httpClient.build();
+      List<?> key = Arrays.asList(MapboxRouteTiles.class, isEnableDebug(),
+        interceptor(), networkInterceptor());
+      okHttpClient = ServiceRegistry.client(key, new ServiceRegistry.Factory<OkHttpClient>() {
+        @Override
+        public OkHttpClient create() {
+          return newHttpClient();
+        }
+      });
     }
     return okHttpClient;
   }
 
+  private OkHttpClient newHttpClient() {
+    OkHttpClient.Builder httpClient = ServiceRegistry.sharedClient().newBuilder();
+    if (isEnableDebug()) {
+      HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
+      logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
+      httpClient.addInterceptor(logging);
+    }
+    Interceptor interceptor = interceptor();
+    if (interceptor != null) {
+      httpClient.addInterceptor(interceptor);
+    }
+    Interceptor networkInterceptor = networkInterceptor();
+    if (networkInterceptor != null) {
+      httpClient.addNetworkInterceptor(networkInterceptor);
+    }
+
+    return httpClient.build();
+  }
+
   @Nullable
   abstract String clientAppName();
 
@@ -5,10 +5,13 @@ import androidx.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.mapbox.core.MapboxService;
+import com.mapbox.core.ServiceRegistry;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.core.utils.TextUtils;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 
 import okhttp3.Cache;
@@ -73,27 +76,38 @@ public abstract class MapboxSpeech extends MapboxService<ResponseBody, SpeechSer
   @Override
   public synchronized OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
-      OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
-      if (isEnableDebug()) {
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
-        httpClient.addInterceptor(logging);
-      }
-      if (cache() != null) {
-        httpClient.cache(cache());
-      }
-      if (interceptor() != null) {
-        httpClient.addInterceptor(interceptor());
-      }
-      if (networkInterceptor() != null) {
-        httpClient.addNetworkInterceptor(networkInterceptor());
-      }
-
-      okHttpClient = httpClient.build();
+      List<?> key = Arrays.asList(MapboxSpeech.class, isEnableDebug(),
+        cache(), interceptor(), networkInterceptor());
+      okHttpClient = ServiceRegistry.client(key, new ServiceRegistry.Factory<OkHttpClient>() {
+        @Override
+        public OkHttpClient create() {
+          return newHttpClient();
+        }
+      });
     }
     return okHttpClient;
   }
 
+  private OkHttpClient newHttpClient() {
+    OkHttpClient.Builder httpClient = ServiceRegistry.sharedClient().newBuilder();
+    if (isEnableDebug()) {
+      HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
+      logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
+      httpClient.addInterceptor(logging);
+    }
+    if (cache() != null) {
+      httpClient.cache(cache());
+    }
+    if (interceptor() != null) {
+      httpClient.addInterceptor(interceptor());
+    }
+    if (networkInterceptor() != null) {
+      httpClient.addNetworkInterceptor(networkInterceptor());
+    }
+
+    return httpClient.build();
+  }
+
   /**
    * Creates a builder for a MapboxSpeech object with a default cache size of 10 MB.
    *
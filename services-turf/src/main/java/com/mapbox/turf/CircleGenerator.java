@@ -0,0 +1,219 @@
+package com.mapbox.turf;
+
+import static com.mapbox.turf.TurfConversion.degreesToRadians;
+import static com.mapbox.turf.TurfConversion.radiansToDegrees;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates circle polygons, the buffers of points, for many centers with the same number of
+ * steps. The sine and cosine of every step bearing are computed once when the generator is
+ * created, and the vertices of each circle are written straight into a packed coordinate array,
+ * instead of going through {@link TurfMeasurement#destination(Point, double, double, String)} and
+ * a {@link Point} per vertex like {@link TurfTransformation#circle(Point, double, int, String)}.
+ * <p>
+ * The vertices are the same as the ones of {@link TurfTransformation#circle(Point, double, int,
+ * String)}, give or take rounding in the last digits. Generators are immutable and can be shared
+ * between threads.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class CircleGenerator {
+
+  private final int steps;
+  private final double[] sines;
+  private final double[] cosines;
+
+  /**
+   * Creates a generator for circles made up of the given number of steps.
+   *
+   * @param steps number of steps which make up the circle parameter
+   * @return a new generator
+   * @throws TurfException if the number of steps is less than 1
+   * @since 5.10.0
+   */
+  @NonNull
+  public static CircleGenerator fromSteps(@IntRange(from = 1) int steps) {
+    if (steps < 1) {
+      throw new TurfException("CircleGenerator requires at least 1 step.");
+    }
+    return new CircleGenerator(steps);
+  }
+
+  private CircleGenerator(int steps) {
+    this.steps = steps;
+    sines = new double[steps];
+    cosines = new double[steps];
+    for (int i = 0; i < steps; i++) {
+      double bearing = degreesToRadians(i * 360d / steps);
+      sines[i] = Math.sin(bearing);
+      cosines[i] = Math.cos(bearing);
+    }
+  }
+
+  /**
+   * The number of steps of the generated circles, their rings having one more coordinate to
+   * close them.
+   *
+   * @return the number of steps
+   * @since 5.10.0
+   */
+  public int steps() {
+    return steps;
+  }
+
+  /**
+   * Writes the closed ring of a circle into an array, without any allocation.
+   *
+   * @param longitude  longitude of the center
+   * @param latitude   latitude of the center
+   * @param radius     the radius of the circle
+   * @param unitFactor the length of one radian of arc in the units of the radius, see
+   *                   {@link TurfKernels#unitFactor(String)}
+   * @param out        receives the longitude and latitude of the {@code steps() + 1} coordinates
+   *                   of the ring, one after the other
+   * @param offset     position in {@code out} of the first longitude
+   * @since 5.10.0
+   */
+  public void circle(double longitude, double latitude, double radius, double unitFactor,
+                     @NonNull double[] out, int offset) {
+    double longitude1 = degreesToRadians(longitude);
+    double latitude1 = degreesToRadians(latitude);
+    double sinLatitude1 = Math.sin(latitude1);
+    double cosLatitude1 = Math.cos(latitude1);
+    double radians = radius / unitFactor;
+    double sinRadians = Math.sin(radians);
+    double cosRadians = Math.cos(radians);
+
+    for (int i = 0; i < steps; i++) {
+      double sinLatitude2 = sinLatitude1 * cosRadians + cosLatitude1 * sinRadians * cosines[i];
+      double longitude2 = longitude1 + Math.atan2(sines[i] * sinRadians * cosLatitude1,
+        cosRadians - sinLatitude1 * sinLatitude2);
+      out[offset + i * 2] = radiansToDegrees(longitude2);
+      out[offset + i * 2 + 1] = radiansToDegrees(Math.asin(sinLatitude2));
+    }
+    out[offset + steps * 2] = out[offset];
+    out[offset + steps * 2 + 1] = out[offset + 1];
+  }
+
+  /**
+   * Generates a circle polygon.
+   *
+   * @param center a {@link Point} which the circle will center around
+   * @param radius the radius of the circle
+   * @param units  one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a {@link Polygon} which represents the newly created circle
+   * @since 5.10.0
+   */
+  @NonNull
+  public Polygon circle(@NonNull Point center, double radius,
+                        @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    double[] ring = new double[(steps + 1) * 2];
+    circle(center.longitude(), center.latitude(), radius, TurfKernels.unitFactor(units), ring, 0);
+    return Polygon.wrapLngLats(ring, 2, new int[] {0});
+  }
+
+  /**
+   * Generates circles of the same radius around many centers, as a single {@link MultiPolygon}
+   * backed by one packed coordinate array.
+   *
+   * @param centers the {@link Point}s which the circles will center around
+   * @param radius  the radius of the circles
+   * @param units   one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a {@link MultiPolygon} holding a circle for every center, in order
+   * @since 5.10.0
+   */
+  @NonNull
+  public MultiPolygon circles(@NonNull List<Point> centers, double radius,
+                              @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return circles(centers, radii(centers.size(), radius), units);
+  }
+
+  /**
+   * Generates circles of different radii around many centers, as a single
+   * {@link MultiPolygon} backed by one packed coordinate array.
+   *
+   * @param centers the {@link Point}s which the circles will center around
+   * @param radii   the radius of the circle around every center, at its position
+   * @param units   one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a {@link MultiPolygon} holding a circle for every center, in order
+   * @since 5.10.0
+   */
+  @NonNull
+  public MultiPolygon circles(@NonNull List<Point> centers, @NonNull double[] radii,
+                              @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    double unitFactor = TurfKernels.unitFactor(units);
+    int ringSize = steps + 1;
+    double[] coordinates = new double[centers.size() * ringSize * 2];
+    int[] ringOffsets = new int[centers.size()];
+    // Every polygon is a single ring
+    int[] polygonOffsets = new int[centers.size()];
+    for (int i = 0; i < ringOffsets.length; i++) {
+      Point center = centers.get(i);
+      circle(center.longitude(), center.latitude(), radii[i], unitFactor, coordinates,
+        i * ringSize * 2);
+      ringOffsets[i] = i * ringSize;
+      polygonOffsets[i] = i;
+    }
+    return MultiPolygon.wrapLngLats(coordinates, 2, ringOffsets, polygonOffsets);
+  }
+
+  /**
+   * Generates circles of the same radius around many centers, as a {@link FeatureCollection}
+   * with one {@link Polygon} feature per center.
+   *
+   * @param centers the {@link Point}s which the circles will center around
+   * @param radius  the radius of the circles
+   * @param units   one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a {@link FeatureCollection} holding a circle for every center, in order
+   * @since 5.10.0
+   */
+  @NonNull
+  public FeatureCollection circleFeatures(@NonNull List<Point> centers, double radius,
+                                          @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return circleFeatures(centers, radii(centers.size(), radius), units);
+  }
+
+  /**
+   * Generates circles of different radii around many centers, as a {@link FeatureCollection}
+   * with one {@link Polygon} feature per center.
+   *
+   * @param centers the {@link Point}s which the circles will center around
+   * @param radii   the radius of the circle around every center, at its position
+   * @param units   one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return a {@link FeatureCollection} holding a circle for every center, in order
+   * @since 5.10.0
+   */
+  @NonNull
+  public FeatureCollection circleFeatures(@NonNull List<Point> centers, @NonNull double[] radii,
+                                          @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    double unitFactor = TurfKernels.unitFactor(units);
+    int[] offsets = {0};
+    List<Feature> features = new ArrayList<>(centers.size());
+    for (int i = 0; i < centers.size(); i++) {
+      Point center = centers.get(i);
+      // Every polygon takes over its ring
+      double[] ring = new double[(steps + 1) * 2];
+      circle(center.longitude(), center.latitude(), radii[i], unitFactor, ring, 0);
+      features.add(Feature.fromGeometry(Polygon.wrapLngLats(ring, 2, offsets)));
+    }
+    return FeatureCollection.fromFeatures(features);
+  }
+
+  private static double[] radii(int count, double radius) {
+    double[] radii = new double[count];
+    Arrays.fill(radii, radius);
+    return radii;
+  }
+}
@@ -0,0 +1,33 @@
+package com.mapbox.turf;
+
+/**
+ * A running sum keeping track of the low order bits lost by every addition, following Neumaier's
+ * variant of Kahan summation. Adding the same values in the same grouping always gives the same
+ * result, and the rounding error no longer grows with the number of values.
+ *
+ * @since 5.10.0
+ */
+final class CompensatedSum {
+
+  private double sum;
+  private double compensation;
+
+  void add(double value) {
+    double total = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      compensation += (sum - total) + value;
+    } else {
+      compensation += (value - total) + sum;
+    }
+    sum = total;
+  }
+
+  void add(CompensatedSum other) {
+    add(other.sum);
+    add(other.compensation);
+  }
+
+  double value() {
+    return sum + compensation;
+  }
+}
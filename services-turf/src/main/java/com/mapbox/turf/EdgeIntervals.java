@@ -0,0 +1,126 @@
+package com.mapbox.turf;
+
+/**
+ * Static interval tree over the latitude span of the edges of a ring, used to find the edges a
+ * horizontal ray crosses without walking the whole ring. Edges are sorted by their lowest latitude
+ * and packed level by level in flat arrays, like {@link StrTree}, so a query costs about
+ * {@code O(log n + k)} for {@code k} edges spanning the latitude.
+ * <p>
+ * Horizontal edges are left out since the crossing number test never counts them. The structure
+ * is never modified once built and can be queried from several threads at the same time.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+final class EdgeIntervals {
+
+  private static final int NODE_CAPACITY = 16;
+
+  private final int first;
+  private final int end;
+  private final int[] edges;
+  private final double[][] levels;
+
+  /**
+   * Builds the tree over the ring stored at {@code [first, end)} of the vertex arrays. Each edge
+   * is identified by its end vertex {@code i}, its start vertex being the one before it, wrapping
+   * around to the last vertex of the ring.
+   */
+  EdgeIntervals(double[] latitudes, int first, int end) {
+    this.first = first;
+    this.end = end;
+    int[] vertices = new int[end - first];
+    double[] minimums = new double[end - first];
+    int count = 0;
+    for (int i = first, j = end - 1; i < end; j = i++) {
+      if (latitudes[i] != latitudes[j]) {
+        vertices[count] = i;
+        minimums[count] = Math.min(latitudes[i], latitudes[j]);
+        count++;
+      }
+    }
+    int[] order = new int[count];
+    for (int i = 0; i < count; i++) {
+      order[i] = i;
+    }
+    StrTree.sort(order, 0, count, minimums);
+
+    edges = new int[count];
+    double[] leaves = new double[count * 2];
+    for (int k = 0; k < count; k++) {
+      int vertex = vertices[order[k]];
+      int previous = vertex == first ? end - 1 : vertex - 1;
+      edges[k] = vertex;
+      leaves[k * 2] = Math.min(latitudes[vertex], latitudes[previous]);
+      leaves[k * 2 + 1] = Math.max(latitudes[vertex], latitudes[previous]);
+    }
+
+    int levelCount = 1;
+    for (int size = count; size > NODE_CAPACITY; size = ceilDiv(size, NODE_CAPACITY)) {
+      levelCount++;
+    }
+    levels = new double[levelCount][];
+    levels[0] = leaves;
+    for (int level = 1; level < levelCount; level++) {
+      double[] children = levels[level - 1];
+      int childCount = children.length / 2;
+      double[] nodes = new double[ceilDiv(childCount, NODE_CAPACITY) * 2];
+      for (int child = 0; child < childCount; child++) {
+        int node = child / NODE_CAPACITY * 2;
+        if (child % NODE_CAPACITY == 0) {
+          nodes[node] = children[child * 2];
+          nodes[node + 1] = children[child * 2 + 1];
+        } else {
+          nodes[node + 1] = Math.max(nodes[node + 1], children[child * 2 + 1]);
+        }
+      }
+      levels[level] = nodes;
+    }
+  }
+
+  /**
+   * Counts the edges crossed by the ray going east from the given coordinate, with the same test
+   * as {@link TurfJoins#inside(com.mapbox.geojson.Point, com.mapbox.geojson.Polygon)}.
+   *
+   * @return true if the number of crossings is odd, that is if the coordinate is inside the ring
+   */
+  boolean contains(double[] longitudes, double[] latitudes, double longitude, double latitude) {
+    int top = levels.length - 1;
+    int count = levels[top].length / 2;
+    int crossings = 0;
+    for (int node = 0; node < count && levels[top][node * 2] <= latitude; node++) {
+      crossings += crossings(top, node, longitudes, latitudes, longitude, latitude);
+    }
+    return (crossings & 1) == 1;
+  }
+
+  private int crossings(int level, int node, double[] longitudes, double[] latitudes,
+                        double longitude, double latitude) {
+    if (levels[level][node * 2 + 1] <= latitude) {
+      return 0;
+    }
+    if (level == 0) {
+      int vertex = edges[node];
+      int previous = vertex == first ? end - 1 : vertex - 1;
+      double xi = longitudes[vertex];
+      double yi = latitudes[vertex];
+      double xj = longitudes[previous];
+      double yj = latitudes[previous];
+      boolean intersect = ((yi > latitude) != (yj > latitude))
+        && (longitude < (xj - xi) * (latitude - yi) / (yj - yi) + xi);
+      return intersect ? 1 : 0;
+    }
+    double[] children = levels[level - 1];
+    int firstChild = node * NODE_CAPACITY;
+    int lastChild = Math.min(firstChild + NODE_CAPACITY, children.length / 2);
+    int crossings = 0;
+    for (int child = firstChild; child < lastChild && children[child * 2] <= latitude; child++) {
+      crossings += crossings(level - 1, child, longitudes, latitudes, longitude, latitude);
+    }
+    return crossings;
+  }
+
+  private static int ceilDiv(int value, int divisor) {
+    return (value + divisor - 1) / divisor;
+  }
+}
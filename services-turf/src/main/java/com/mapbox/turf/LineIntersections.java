@@ -0,0 +1,422 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.PackedCoordinates;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds the points where lines and polygon rings cross each other or themselves. The segments of
+ * the geometries are read straight from their {@link PackedCoordinates} and swept from west to
+ * east: each segment is only tested against the segments whose longitude span overlaps its own
+ * and whose latitude span overlaps too, instead of against every other segment.
+ * <p>
+ * Segments intersect when they share at least one point, ends included, like turf's
+ * {@code lineIntersect}. Parallel segments are never reported, even when they overlap. The
+ * resulting points are listed once each, ordered by longitude then latitude.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class LineIntersections {
+
+  private LineIntersections() {
+    // Private constructor preventing initialization of this class
+  }
+
+  /**
+   * Finds the intersection of two segments, without any allocation.
+   *
+   * @param x1     longitude of the start of the first segment
+   * @param y1     latitude of the start of the first segment
+   * @param x2     longitude of the end of the first segment
+   * @param y2     latitude of the end of the first segment
+   * @param x3     longitude of the start of the second segment
+   * @param y3     latitude of the start of the second segment
+   * @param x4     longitude of the end of the second segment
+   * @param y4     latitude of the end of the second segment
+   * @param out    receives the longitude and latitude of the intersection, if any
+   * @param offset position in {@code out} of the longitude
+   * @return true if the segments intersect, false if they don't or if they are parallel
+   * @since 5.10.0
+   */
+  public static boolean lineIntersects(double x1, double y1, double x2, double y2,
+                                       double x3, double y3, double x4, double y4,
+                                       @NonNull double[] out, int offset) {
+    double denominator = ((y4 - y3) * (x2 - x1)) - ((x4 - x3) * (y2 - y1));
+    if (denominator == 0) {
+      return false;
+    }
+    double numeratorA = ((x4 - x3) * (y1 - y3)) - ((y4 - y3) * (x1 - x3));
+    double numeratorB = ((x2 - x1) * (y1 - y3)) - ((y2 - y1) * (x1 - x3));
+    double ua = numeratorA / denominator;
+    double ub = numeratorB / denominator;
+    if (ua < 0 || ua > 1 || ub < 0 || ub > 1) {
+      return false;
+    }
+    // Ends are reported exactly, so that touching segments agree on the point
+    if (ua == 0) {
+      out[offset] = x1;
+      out[offset + 1] = y1;
+    } else if (ua == 1) {
+      out[offset] = x2;
+      out[offset + 1] = y2;
+    } else if (ub == 0) {
+      out[offset] = x3;
+      out[offset + 1] = y3;
+    } else if (ub == 1) {
+      out[offset] = x4;
+      out[offset + 1] = y4;
+    } else {
+      out[offset] = x1 + ua * (x2 - x1);
+      out[offset + 1] = y1 + ua * (y2 - y1);
+    }
+    return true;
+  }
+
+  /**
+   * Finds the points where two geometries cross each other. Each geometry can be a
+   * {@link LineString}, {@link MultiLineString}, {@link Polygon} or {@link MultiPolygon}.
+   *
+   * @param geometry1 the first geometry
+   * @param geometry2 the second geometry
+   * @return the intersection points, ordered by longitude then latitude
+   * @throws TurfException if a geometry is of another type
+   * @since 5.10.0
+   */
+  @NonNull
+  public static List<Point> intersections(@NonNull Geometry geometry1,
+                                          @NonNull Geometry geometry2) {
+    return toPoints(intersections(packed(geometry1), packed(geometry2)));
+  }
+
+  /**
+   * Finds the points where the lines or rings of two sets of coordinates cross each other.
+   *
+   * @param coordinates1 the first lines or rings
+   * @param coordinates2 the second lines or rings
+   * @return the longitude and latitude of every intersection, one after the other, ordered by
+   *   longitude then latitude
+   * @since 5.10.0
+   */
+  @NonNull
+  public static double[] intersections(@NonNull PackedCoordinates coordinates1,
+                                       @NonNull PackedCoordinates coordinates2) {
+    return new Sweep(coordinates1, coordinates2).run();
+  }
+
+  /**
+   * Finds the points where a geometry crosses itself, such as a track going over its own path.
+   * The geometry can be a {@link LineString}, {@link MultiLineString}, {@link Polygon} or
+   * {@link MultiPolygon}. Consecutive segments of a line or ring, which always share a point, are
+   * not tested against each other.
+   *
+   * @param geometry the geometry
+   * @return the self intersection points, ordered by longitude then latitude
+   * @throws TurfException if the geometry is of another type
+   * @since 5.10.0
+   */
+  @NonNull
+  public static List<Point> selfIntersections(@NonNull Geometry geometry) {
+    return toPoints(selfIntersections(packed(geometry)));
+  }
+
+  /**
+   * Finds the points where the lines or rings of a set of coordinates cross each other or
+   * themselves.
+   *
+   * @param coordinates the lines or rings
+   * @return the longitude and latitude of every intersection, one after the other, ordered by
+   *   longitude then latitude
+   * @since 5.10.0
+   */
+  @NonNull
+  public static double[] selfIntersections(@NonNull PackedCoordinates coordinates) {
+    return new Sweep(coordinates, null).run();
+  }
+
+  private static PackedCoordinates packed(Geometry geometry) {
+    PackedCoordinates packed = TurfMeta.packedCoordinates(geometry);
+    if (packed == null) {
+      throw new TurfException("Intersections require LineString, MultiLineString, Polygon or "
+        + "MultiPolygon geometries, not " + geometry.type() + ".");
+    }
+    return packed;
+  }
+
+  private static List<Point> toPoints(double[] coordinates) {
+    List<Point> points = new ArrayList<>(coordinates.length / 2);
+    for (int i = 0; i < coordinates.length; i += 2) {
+      points.add(Point.fromLngLat(coordinates[i], coordinates[i + 1]));
+    }
+    return points;
+  }
+
+  /**
+   * Sweeps the segments of one or two sets of coordinates by increasing western end, keeping
+   * the segments whose eastern end hasn't been passed yet as active. Active segments are indexed
+   * by latitude, in a tree over the segments sorted by southern end holding the highest northern
+   * end of the active segments below each node, so only the active segments whose latitude span
+   * overlaps the new segment are visited, even along north-south tracks where every segment
+   * overlaps the longitude span of the others.
+   *
+   * @since 5.10.0
+   */
+  private static final class Sweep {
+
+    private final boolean self;
+    private final int count;
+    private final double[] boxes;
+    // Start coordinates of the segments in their set, the end being the next coordinate
+    private final int[] starts;
+    // Set of every segment, 0 or 1, and the first and last segment starts of its part
+    private final int[] sets;
+    private final int[] partFirsts;
+    private final int[] partLasts;
+    private final PackedCoordinates[] coordinates;
+
+    // Segments by southern end, and the tree over them: its leaves hold the northern end of the
+    // active segments, negative infinity otherwise, and every node the maximum of its children
+    private int[] bySouth;
+    private int leaves;
+    private double[] maxNorths;
+
+    private double[] found = new double[16];
+    private int foundCount;
+
+    Sweep(PackedCoordinates coordinates1, PackedCoordinates coordinates2) {
+      self = coordinates2 == null;
+      coordinates = self ? new PackedCoordinates[] {coordinates1}
+        : new PackedCoordinates[] {coordinates1, coordinates2};
+      int total = 0;
+      for (PackedCoordinates packed : coordinates) {
+        total += packed.coordinateCount();
+      }
+      boxes = new double[total * 4];
+      starts = new int[total];
+      sets = new int[total];
+      partFirsts = new int[total];
+      partLasts = new int[total];
+
+      int segment = 0;
+      for (int set = 0; set < coordinates.length; set++) {
+        PackedCoordinates packed = coordinates[set];
+        for (int part = 0; part < packed.partCount(); part++) {
+          int first = packed.partStart(part);
+          int last = packed.partEnd(part) - 2;
+          for (int i = first; i <= last; i++) {
+            double x1 = packed.lon(i);
+            double y1 = packed.lat(i);
+            double x2 = packed.lon(i + 1);
+            double y2 = packed.lat(i + 1);
+            if (x1 == x2 && y1 == y2) {
+              continue;
+            }
+            boxes[segment * 4] = Math.min(x1, x2);
+            boxes[segment * 4 + 1] = Math.min(y1, y2);
+            boxes[segment * 4 + 2] = Math.max(x1, x2);
+            boxes[segment * 4 + 3] = Math.max(y1, y2);
+            starts[segment] = i;
+            sets[segment] = set;
+            partFirsts[segment] = first;
+            partLasts[segment] = last;
+            segment++;
+          }
+        }
+      }
+      count = segment;
+    }
+
+    double[] run() {
+      int[] byWest = sortedBy(0);
+      int[] byEast = sortedBy(2);
+      bySouth = sortedBy(1);
+      int[] positions = new int[count];
+      double[] souths = new double[count];
+      for (int p = 0; p < count; p++) {
+        positions[bySouth[p]] = p;
+        souths[p] = boxes[bySouth[p] * 4 + 1];
+      }
+      leaves = 1;
+      while (leaves < count) {
+        leaves *= 2;
+      }
+      maxNorths = new double[leaves * 2];
+      Arrays.fill(maxNorths, Double.NEGATIVE_INFINITY);
+
+      double[] point = new double[2];
+      int passed = 0;
+      for (int k = 0; k < count; k++) {
+        int segment = byWest[k];
+        double west = boxes[segment * 4];
+        double south = boxes[segment * 4 + 1];
+        double north = boxes[segment * 4 + 3];
+        // Segments ending west of this one started before it, so they are active
+        while (passed < count && boxes[byEast[passed] * 4 + 2] < west) {
+          setNorth(positions[byEast[passed++]], Double.NEGATIVE_INFINITY);
+        }
+        visit(1, 0, leaves, upperBound(souths, north), south, segment, point);
+        setNorth(positions[segment], north);
+      }
+      return sortedUnique();
+    }
+
+    private int[] sortedBy(int offset) {
+      int[] order = new int[count];
+      double[] keys = new double[count];
+      for (int i = 0; i < count; i++) {
+        order[i] = i;
+        keys[i] = boxes[i * 4 + offset];
+      }
+      StrTree.sort(order, 0, count, keys);
+      return order;
+    }
+
+    /**
+     * The number of segments whose southern end isn't north of the given latitude.
+     */
+    private static int upperBound(double[] souths, double latitude) {
+      int low = 0;
+      int high = souths.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (souths[middle] <= latitude) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+
+    private void setNorth(int position, double north) {
+      int node = position + leaves;
+      maxNorths[node] = north;
+      for (node /= 2; node > 0; node /= 2) {
+        maxNorths[node] = Math.max(maxNorths[node * 2], maxNorths[node * 2 + 1]);
+      }
+    }
+
+    /**
+     * Tests the segment against the active segments of the node covering the positions
+     * {@code [from, to)}, among the first {@code upper} ones, which don't start north of it.
+     */
+    private void visit(int node, int from, int to, int upper, double south, int segment,
+                       double[] point) {
+      if (from >= upper || maxNorths[node] < south) {
+        return;
+      }
+      if (node >= leaves) {
+        int other = bySouth[from];
+        if (candidates(segment, other) && intersect(segment, other, point)) {
+          add(point[0], point[1]);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      visit(node * 2, from, middle, upper, south, segment, point);
+      visit(node * 2 + 1, middle, to, upper, south, segment, point);
+    }
+
+    private boolean candidates(int segment, int other) {
+      if (!self) {
+        return sets[segment] != sets[other];
+      }
+      if (partFirsts[segment] != partFirsts[other]) {
+        return true;
+      }
+      PackedCoordinates packed = coordinates[0];
+      int first = Math.min(starts[segment], starts[other]);
+      int second = Math.max(starts[segment], starts[other]);
+      // Consecutive segments, maybe with repeated coordinates between them, share a point
+      int shared = first + 1;
+      while (shared < second && packed.lon(shared) == packed.lon(shared + 1)
+        && packed.lat(shared) == packed.lat(shared + 1)) {
+        shared++;
+      }
+      if (shared == second) {
+        return false;
+      }
+      // The first and last segments of a closed ring share its closing point
+      int start = partFirsts[segment];
+      int end = partLasts[segment] + 1;
+      boolean closed = packed.lon(start) == packed.lon(end) && packed.lat(start) == packed.lat(end);
+      return !(closed && first == start && second == end - 1);
+    }
+
+    private boolean intersect(int segment, int other, double[] point) {
+      // Always in the same order, so the point doesn't depend on which segment came first
+      if (sets[segment] > sets[other]
+        || (sets[segment] == sets[other] && starts[segment] > starts[other])) {
+        int swapped = segment;
+        segment = other;
+        other = swapped;
+      }
+      PackedCoordinates packed1 = coordinates[sets[segment]];
+      PackedCoordinates packed2 = coordinates[sets[other]];
+      int start1 = starts[segment];
+      int start2 = starts[other];
+      return lineIntersects(packed1.lon(start1), packed1.lat(start1),
+        packed1.lon(start1 + 1), packed1.lat(start1 + 1),
+        packed2.lon(start2), packed2.lat(start2),
+        packed2.lon(start2 + 1), packed2.lat(start2 + 1), point, 0);
+    }
+
+    private void add(double longitude, double latitude) {
+      if (foundCount * 2 == found.length) {
+        found = Arrays.copyOf(found, found.length * 2);
+      }
+      found[foundCount * 2] = longitude;
+      found[foundCount * 2 + 1] = latitude;
+      foundCount++;
+    }
+
+    private double[] sortedUnique() {
+      int[] order = new int[foundCount];
+      double[] latitudes = new double[foundCount];
+      double[] longitudes = new double[foundCount];
+      for (int i = 0; i < foundCount; i++) {
+        order[i] = i;
+        longitudes[i] = found[i * 2];
+        latitudes[i] = found[i * 2 + 1];
+      }
+      sortByLongitudeThenLatitude(order, longitudes, latitudes);
+
+      double[] result = new double[foundCount * 2];
+      int size = 0;
+      for (int k = 0; k < foundCount; k++) {
+        double longitude = longitudes[order[k]];
+        double latitude = latitudes[order[k]];
+        if (size > 0 && result[size * 2 - 2] == longitude && result[size * 2 - 1] == latitude) {
+          continue;
+        }
+        result[size * 2] = longitude;
+        result[size * 2 + 1] = latitude;
+        size++;
+      }
+      return Arrays.copyOf(result, size * 2);
+    }
+
+    private static void sortByLongitudeThenLatitude(int[] order, double[] longitudes,
+                                                    double[] latitudes) {
+      StrTree.sort(order, 0, order.length, longitudes);
+      int start = 0;
+      while (start < order.length) {
+        int end = start + 1;
+        while (end < order.length && longitudes[order[end]] == longitudes[order[start]]) {
+          end++;
+        }
+        StrTree.sort(order, start, end, latitudes);
+        start = end;
+      }
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package com.mapbox.turf;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Distances along a line, measured once for many queries. The distance from the start of the line
+ * to every coordinate is summed up front, so finding the point at a given distance is a binary
+ * search instead of a walk from the start of the line, and the length of the line or of any part
+ * of it is a lookup.
+ * <p>
+ * The distances are summed in the same order as {@link TurfMeasurement#length(List, String)}, so
+ * the results are the same as the ones of {@link TurfMeasurement#along(List, double, String)},
+ * {@link TurfMisc#lineSliceAlong(LineString, double, double, String)} and
+ * {@link TurfMeasurement#length(List, String)}. Instances are immutable and can be queried from
+ * several threads at the same time.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class LineMeasure {
+
+  private final List<Point> coords;
+  private final double[] distances;
+  private final String units;
+
+  /**
+   * Measures the given line.
+   *
+   * @param line  the line to measure
+   * @param units one of the units found inside {@link TurfConstants.TurfUnitCriteria}, in which
+   *              distances are given
+   * @return a new measure
+   * @since 5.10.0
+   */
+  @NonNull
+  public static LineMeasure fromLineString(@NonNull LineString line,
+                                           @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return new LineMeasure(line.coordinates(), units);
+  }
+
+  /**
+   * Measures the line going through the given points. The list is kept as is, so it must not be
+   * modified afterwards.
+   *
+   * @param coords the points of the line to measure
+   * @param units  one of the units found inside {@link TurfConstants.TurfUnitCriteria}, in which
+   *               distances are given
+   * @return a new measure
+   * @since 5.10.0
+   */
+  @NonNull
+  public static LineMeasure fromLngLats(@NonNull List<Point> coords,
+                                        @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return new LineMeasure(coords, units);
+  }
+
+  private LineMeasure(List<Point> coords, String units) {
+    if (coords.isEmpty()) {
+      throw new TurfException("LineMeasure requires a line made up of at least 1 coordinate.");
+    }
+    this.coords = coords;
+    this.units = units;
+    distances = new double[coords.size()];
+    double unitFactor = TurfKernels.unitFactor(units);
+    double travelled = 0;
+    Point prevCoords = coords.get(0);
+    for (int i = 1; i < distances.length; i++) {
+      Point curCoords = coords.get(i);
+      travelled += TurfKernels.distance(prevCoords.longitude(), prevCoords.latitude(),
+        curCoords.longitude(), curCoords.latitude(), unitFactor);
+      distances[i] = travelled;
+      prevCoords = curCoords;
+    }
+  }
+
+  /**
+   * The length of the line.
+   *
+   * @return the length, in the units of the measure
+   * @since 5.10.0
+   */
+  public double length() {
+    return distances[distances.length - 1];
+  }
+
+  /**
+   * The distance along the line from its start to one of its coordinates.
+   *
+   * @param index the index of the coordinate
+   * @return the distance, in the units of the measure
+   * @since 5.10.0
+   */
+  public double distanceAtVertex(int index) {
+    return distances[index];
+  }
+
+  /**
+   * The index of the first coordinate at or beyond the given distance along the line.
+   *
+   * @param distance the distance along the line, in the units of the measure
+   * @return the index of the coordinate, or the number of coordinates if the line is shorter
+   * @since 5.10.0
+   */
+  public int vertexAtOrAfter(double distance) {
+    int low = 0;
+    int high = distances.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (distances[middle] < distance) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Returns the point at the given distance along the line, like
+   * {@link TurfMeasurement#along(List, double, String)}.
+   *
+   * @param distance along the line which the point should be placed on, in the units of the
+   *                 measure
+   * @return a {@link Point} on the line, at the distance from the start of the line
+   * @since 5.10.0
+   */
+  @NonNull
+  public Point along(@FloatRange(from = 0) double distance) {
+    int last = distances.length - 1;
+    int vertex = vertexAtOrAfter(distance);
+    if (vertex > last || (vertex == last && distance >= distances[last])) {
+      return coords.get(last);
+    }
+    double overshot = distance - distances[vertex];
+    if (overshot == 0) {
+      return coords.get(vertex);
+    }
+    double direction = TurfMeasurement.bearing(coords.get(vertex), coords.get(vertex - 1)) - 180;
+    return TurfMeasurement.destination(coords.get(vertex), overshot, direction, units);
+  }
+
+  /**
+   * Returns the part of the line between two distances along it, like
+   * {@link TurfMisc#lineSliceAlong(LineString, double, double, String)}.
+   *
+   * @param startDist distance along the line to the starting point, in the units of the measure
+   * @param stopDist  distance along the line to the ending point, in the units of the measure
+   * @return sliced line
+   * @throws TurfException if the line has less than 2 coordinates, if the distances are equal or
+   *                       if the start is beyond the line
+   * @since 5.10.0
+   */
+  @NonNull
+  public LineString lineSliceAlong(@FloatRange(from = 0) double startDist,
+                                   @FloatRange(from = 0) double stopDist) {
+    if (coords.size() < 2) {
+      throw new TurfException("Turf lineSlice requires a LineString Geometry made up of "
+        + "at least 2 coordinates. The LineString passed in only contains " + coords.size() + ".");
+    } else if (startDist == stopDist) {
+      throw new TurfException("Start and stop distance in Turf lineSliceAlong "
+        + "cannot equal each other.");
+    }
+
+    List<Point> slice = new ArrayList<>(2);
+
+    // Nothing happens before either distance is reached, so the walk starts there
+    int first = Math.min(Math.min(vertexAtOrAfter(startDist), vertexAtOrAfter(stopDist)),
+      coords.size() - 1);
+    for (int i = first; i < coords.size(); i++) {
+      double travelled = distances[i];
+
+      if (startDist >= travelled && i == coords.size() - 1) {
+        break;
+
+      } else if (travelled > startDist && slice.size() == 0) {
+        double direction = TurfMeasurement.bearing(coords.get(i), coords.get(i - 1)) - 180;
+        slice.add(TurfMeasurement.destination(coords.get(i), startDist - travelled, direction,
+          units));
+      }
+
+      if (travelled >= stopDist) {
+        double overshot = stopDist - travelled;
+        if (overshot == 0) {
+          slice.add(coords.get(i));
+          return LineString.fromLngLats(slice);
+        }
+        double direction = TurfMeasurement.bearing(coords.get(i), coords.get(i - 1)) - 180;
+        slice.add(TurfMeasurement.destination(coords.get(i), overshot, direction, units));
+        return LineString.fromLngLats(slice);
+      }
+
+      if (travelled >= startDist) {
+        slice.add(coords.get(i));
+      }
+    }
+
+    if (length() < startDist) {
+      throw new TurfException("Start position is beyond line");
+    }
+
+    return LineString.fromLngLats(slice);
+  }
+}
@@ -0,0 +1,487 @@
+package com.mapbox.turf;
+
+import static com.mapbox.turf.TurfConversion.degreesToRadians;
+import static com.mapbox.turf.TurfConversion.radiansToDegrees;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.PackedCoordinates;
+import com.mapbox.geojson.Point;
+
+import java.util.List;
+
+/**
+ * Snaps points to a line, prepared once for many queries. The coordinates of the line are copied
+ * into primitive arrays along with the bearing of every segment, and the bounding boxes of the
+ * segments are packed into a static R-tree, so a query only measures the few segments that could
+ * hold the nearest point instead of the whole line.
+ * <p>
+ * The snapped locations and distances are the same as the ones of
+ * {@link TurfMisc#nearestPointOnLine(Point, List, String)}. Instances are immutable and can be
+ * queried from several threads at the same time.
+ * </p>
+ * <pre>
+ * LineSnapper snapper = LineSnapper.fromLineString(route, TurfConstants.UNIT_METERS);
+ * LineSnapper.Result snapped = snapper.snap(location);
+ * // Following fixes are looked up around the last matched segment
+ * snapped = snapper.snapNear(nextLocation, snapped.index(), 10);
+ * </pre>
+ *
+ * @since 5.10.0
+ */
+public final class LineSnapper {
+
+  /**
+   * Lines with more segments than this get an index of their segments.
+   *
+   * @since 5.10.0
+   */
+  public static final int SEGMENT_INDEX_THRESHOLD = 32;
+
+  // Relative and absolute slack, in radians, keeping box bounds below the measured distances
+  private static final double BOUND_RELATIVE_SLACK = 1e-9;
+  private static final double BOUND_ABSOLUTE_SLACK = 1e-12;
+
+  private final double[] longitudes;
+  private final double[] latitudes;
+  private final double[] latitudeCosines;
+  private final double[] rightBearingSines;
+  private final double[] rightBearingCosines;
+  private final double[] leftBearingSines;
+  private final double[] leftBearingCosines;
+  private final double factor;
+  @Nullable
+  private final StrTree tree;
+
+  /**
+   * Prepares the given line, measuring distances in kilometers.
+   *
+   * @param line the line to snap to
+   * @return a new snapper
+   * @throws TurfException if the line has less than 2 coordinates
+   * @since 5.10.0
+   */
+  @NonNull
+  public static LineSnapper fromLineString(@NonNull LineString line) {
+    return fromLineString(line, TurfConstants.UNIT_KILOMETERS);
+  }
+
+  /**
+   * Prepares the given line.
+   *
+   * @param line  the line to snap to
+   * @param units one of the units found inside {@link TurfConstants.TurfUnitCriteria}, in which
+   *              the distances of the results are given
+   * @return a new snapper
+   * @throws TurfException if the line has less than 2 coordinates
+   * @since 5.10.0
+   */
+  @NonNull
+  public static LineSnapper fromLineString(@NonNull LineString line,
+                                           @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    if (!line.isPacked()) {
+      return fromLngLats(line.coordinates(), units);
+    }
+    PackedCoordinates coordinates = line.packedCoordinates();
+    int count = coordinates.coordinateCount();
+    double[] longitudes = new double[count];
+    double[] latitudes = new double[count];
+    for (int i = 0; i < count; i++) {
+      longitudes[i] = coordinates.lon(i);
+      latitudes[i] = coordinates.lat(i);
+    }
+    return new LineSnapper(longitudes, latitudes, units, true);
+  }
+
+  /**
+   * Prepares the line going through the given points.
+   *
+   * @param coords the points of the line to snap to
+   * @param units  one of the units found inside {@link TurfConstants.TurfUnitCriteria}, in which
+   *               the distances of the results are given
+   * @return a new snapper
+   * @throws TurfException if there are less than 2 points
+   * @since 5.10.0
+   */
+  @NonNull
+  public static LineSnapper fromLngLats(@NonNull List<Point> coords,
+                                        @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return fromLngLats(coords, units, true);
+  }
+
+  static LineSnapper fromLngLats(List<Point> coords, String units, boolean indexSegments) {
+    double[] longitudes = new double[coords.size()];
+    double[] latitudes = new double[coords.size()];
+    for (int i = 0; i < longitudes.length; i++) {
+      Point point = coords.get(i);
+      longitudes[i] = point.longitude();
+      latitudes[i] = point.latitude();
+    }
+    return new LineSnapper(longitudes, latitudes, units, indexSegments);
+  }
+
+  private LineSnapper(double[] longitudes, double[] latitudes, String units,
+                      boolean indexSegments) {
+    if (longitudes.length < 2) {
+      throw new TurfException("LineSnapper requires a line made up of at least 2 coordinates.");
+    }
+    this.longitudes = longitudes;
+    this.latitudes = latitudes;
+    this.factor = TurfConversion.radiansToLength(1, units);
+
+    int count = longitudes.length;
+    latitudeCosines = new double[count];
+    for (int i = 0; i < count; i++) {
+      latitudeCosines[i] = Math.cos(degreesToRadians(latitudes[i]));
+    }
+
+    int segments = count - 1;
+    rightBearingSines = new double[segments];
+    rightBearingCosines = new double[segments];
+    leftBearingSines = new double[segments];
+    leftBearingCosines = new double[segments];
+    for (int i = 0; i < segments; i++) {
+      double direction = bearing(i);
+      double right = degreesToRadians(direction + 90);
+      double left = degreesToRadians(direction - 90);
+      rightBearingSines[i] = Math.sin(right);
+      rightBearingCosines[i] = Math.cos(right);
+      leftBearingSines[i] = Math.sin(left);
+      leftBearingCosines[i] = Math.cos(left);
+    }
+
+    if (indexSegments && segments > SEGMENT_INDEX_THRESHOLD) {
+      double[] boxes = new double[segments * 4];
+      for (int i = 0; i < segments; i++) {
+        boxes[i * 4] = Math.min(longitudes[i], longitudes[i + 1]);
+        boxes[i * 4 + 1] = Math.min(latitudes[i], latitudes[i + 1]);
+        boxes[i * 4 + 2] = Math.max(longitudes[i], longitudes[i + 1]);
+        boxes[i * 4 + 3] = Math.max(latitudes[i], latitudes[i + 1]);
+      }
+      tree = new StrTree(boxes);
+    } else {
+      tree = null;
+    }
+  }
+
+  /**
+   * The number of segments of the line, one less than its number of coordinates.
+   *
+   * @return the number of segments
+   * @since 5.10.0
+   */
+  public int segmentCount() {
+    return longitudes.length - 1;
+  }
+
+  /**
+   * Finds the point of the line nearest to the given point.
+   *
+   * @param point the point to snap
+   * @return the nearest point of the line
+   * @since 5.10.0
+   */
+  @NonNull
+  public Result snap(@NonNull Point point) {
+    return snap(point.longitude(), point.latitude());
+  }
+
+  /**
+   * Finds the point of the line nearest to the given coordinate.
+   *
+   * @param longitude the longitude of the coordinate to snap
+   * @param latitude  the latitude of the coordinate to snap
+   * @return the nearest point of the line
+   * @since 5.10.0
+   */
+  @NonNull
+  public Result snap(double longitude, double latitude) {
+    Query query = new Query(longitude, latitude);
+    if (tree != null) {
+      tree.nearest(query, Double.POSITIVE_INFINITY);
+    } else {
+      for (int i = 0; i < segmentCount(); i++) {
+        query.visit(i);
+      }
+    }
+    return query.result();
+  }
+
+  /**
+   * Finds the point nearest to the given point among the segments around a previously matched
+   * one. Only the segments from {@code segmentIndex - window} to {@code segmentIndex + window}
+   * are measured, which is faster than {@link #snap(Point)} when following a moving location and
+   * keeps it from jumping to another part of a line that comes back close to itself.
+   *
+   * @param point        the point to snap
+   * @param segmentIndex the segment matched previously, usually {@link Result#index()}
+   * @param window       how many segments before and after to measure
+   * @return the nearest point of the measured segments
+   * @since 5.10.0
+   */
+  @NonNull
+  public Result snapNear(@NonNull Point point, int segmentIndex, int window) {
+    return snapNear(point.longitude(), point.latitude(), segmentIndex, window);
+  }
+
+  /**
+   * Finds the point nearest to the given coordinate among the segments around a previously
+   * matched one, see {@link #snapNear(Point, int, int)}.
+   *
+   * @param longitude    the longitude of the coordinate to snap
+   * @param latitude     the latitude of the coordinate to snap
+   * @param segmentIndex the segment matched previously, usually {@link Result#index()}
+   * @param window       how many segments before and after to measure
+   * @return the nearest point of the measured segments
+   * @since 5.10.0
+   */
+  @NonNull
+  public Result snapNear(double longitude, double latitude, int segmentIndex, int window) {
+    int first = Math.max(0, Math.min(segmentIndex, segmentCount() - 1) - Math.max(0, window));
+    int last = Math.min(segmentCount() - 1, Math.max(segmentIndex, 0) + Math.max(0, window));
+    Query query = new Query(longitude, latitude);
+    for (int i = first; i <= last; i++) {
+      query.visit(i);
+    }
+    return query.result();
+  }
+
+  private double bearing(int segment) {
+    double lon1 = degreesToRadians(longitudes[segment]);
+    double lon2 = degreesToRadians(longitudes[segment + 1]);
+    double lat1 = degreesToRadians(latitudes[segment]);
+    double lat2 = degreesToRadians(latitudes[segment + 1]);
+    double value1 = Math.sin(lon2 - lon1) * Math.cos(lat2);
+    double value2 = Math.cos(lat1) * Math.sin(lat2) - Math.sin(lat1)
+      * Math.cos(lat2) * Math.cos(lon2 - lon1);
+
+    return radiansToDegrees(Math.atan2(value1, value2));
+  }
+
+  /**
+   * The point of a line nearest to a snapped point.
+   *
+   * @since 5.10.0
+   */
+  public static final class Result {
+
+    private final double longitude;
+    private final double latitude;
+    private final double distance;
+    private final int index;
+    private final int vertex;
+
+    Result(double longitude, double latitude, double distance, int index, int vertex) {
+      this.longitude = longitude;
+      this.latitude = latitude;
+      this.distance = distance;
+      this.index = index;
+      this.vertex = vertex;
+    }
+
+    /**
+     * The longitude of the nearest point.
+     *
+     * @return the longitude
+     * @since 5.10.0
+     */
+    public double longitude() {
+      return longitude;
+    }
+
+    /**
+     * The latitude of the nearest point.
+     *
+     * @return the latitude
+     * @since 5.10.0
+     */
+    public double latitude() {
+      return latitude;
+    }
+
+    /**
+     * The distance between the snapped point and the nearest point, in the units of the snapper.
+     *
+     * @return the distance
+     * @since 5.10.0
+     */
+    public double distance() {
+      return distance;
+    }
+
+    /**
+     * The index of the segment holding the nearest point, the segment {@code i} going from the
+     * coordinate {@code i} to the coordinate {@code i + 1}.
+     *
+     * @return the index of the segment
+     * @since 5.10.0
+     */
+    public int index() {
+      return index;
+    }
+
+    /**
+     * The index of the coordinate of the line the nearest point is on, if any.
+     *
+     * @return the index of the coordinate, or -1 if the nearest point lies between two
+     *   coordinates
+     * @since 5.10.0
+     */
+    public int vertex() {
+      return vertex;
+    }
+
+    /**
+     * Creates a {@link Point} out of the nearest point.
+     *
+     * @return a new point
+     * @since 5.10.0
+     */
+    @NonNull
+    public Point point() {
+      return Point.fromLngLat(longitude, latitude);
+    }
+  }
+
+  /**
+   * Measures segments against one snapped coordinate, keeping the nearest point so far. Ties are
+   * settled the way {@link TurfMisc#nearestPointOnLine(Point, List, String)} does by walking the
+   * line in order: lowest segment first, then its start, its end and the perpendicular foot.
+   *
+   * @since 5.10.0
+   */
+  private final class Query implements StrTree.NearestVisitor {
+
+    private final double longitude;
+    private final double latitude;
+    private final double longitudeRadians;
+    private final double latitudeRadians;
+    private final double latitudeSine;
+    private final double latitudeCosine;
+
+    private double bestLongitude = Double.POSITIVE_INFINITY;
+    private double bestLatitude = Double.POSITIVE_INFINITY;
+    private double bestDistance = Double.POSITIVE_INFINITY;
+    private int bestIndex = Integer.MAX_VALUE;
+    private int bestRank;
+    private int bestVertex = -1;
+
+    Query(double longitude, double latitude) {
+      this.longitude = longitude;
+      this.latitude = latitude;
+      this.longitudeRadians = degreesToRadians(longitude);
+      this.latitudeRadians = degreesToRadians(latitude);
+      this.latitudeSine = Math.sin(latitudeRadians);
+      this.latitudeCosine = Math.cos(latitudeRadians);
+    }
+
+    @Override
+    public double bound(double minX, double minY, double maxX, double maxY) {
+      // The latitude difference never exceeds the great circle distance
+      double angle = degreesToRadians(Math.max(0, Math.max(minY - latitude, latitude - maxY)));
+      if (longitude < minX || longitude > maxX) {
+        // Neither does the distance to the great circle of the nearest meridian of the box
+        double near = Math.min(Math.abs(longitude - minX), Math.abs(longitude - maxX));
+        double far = Math.max(Math.abs(longitude - minX), Math.abs(longitude - maxX));
+        if (far <= 90) {
+          angle = Math.max(angle,
+            Math.asin(Math.min(1, latitudeCosine * Math.sin(degreesToRadians(near)))));
+        }
+      }
+      return (angle * (1 - BOUND_RELATIVE_SLACK) - BOUND_ABSOLUTE_SLACK) * factor;
+    }
+
+    @Override
+    public double visit(int segment) {
+      double startDistance = distance(longitudes[segment], latitudes[segment],
+        latitudeCosines[segment]);
+      double stopDistance = distance(longitudes[segment + 1], latitudes[segment + 1],
+        latitudeCosines[segment + 1]);
+      offer(longitudes[segment], latitudes[segment], startDistance, segment, 0, segment);
+      offer(longitudes[segment + 1], latitudes[segment + 1], stopDistance, segment, 1,
+        segment + 1);
+
+      // Perpendicular through the point, as long as the furthest end of the segment
+      double radians = Math.max(startDistance, stopDistance) / factor;
+      double radiansSine = Math.sin(radians);
+      double radiansCosine = Math.cos(radians);
+      double rightLatitude = destinationLatitude(radiansSine, radiansCosine,
+        rightBearingCosines[segment]);
+      double rightLongitude = destinationLongitude(radiansSine, radiansCosine,
+        rightBearingSines[segment], rightLatitude);
+      double leftLatitude = destinationLatitude(radiansSine, radiansCosine,
+        leftBearingCosines[segment]);
+      double leftLongitude = destinationLongitude(radiansSine, radiansCosine,
+        leftBearingSines[segment], leftLatitude);
+      rightLatitude = radiansToDegrees(rightLatitude);
+      leftLatitude = radiansToDegrees(leftLatitude);
+
+      double startX = longitudes[segment];
+      double startY = latitudes[segment];
+      double stopX = longitudes[segment + 1];
+      double stopY = latitudes[segment + 1];
+      double denominator = ((stopY - startY) * (leftLongitude - rightLongitude))
+        - ((stopX - startX) * (leftLatitude - rightLatitude));
+      if (denominator != 0) {
+        double varA = rightLatitude - startY;
+        double varB = rightLongitude - startX;
+        double numerator1 = ((stopX - startX) * varA) - ((stopY - startY) * varB);
+        double numerator2 = ((leftLongitude - rightLongitude) * varA)
+          - ((leftLatitude - rightLatitude) * varB);
+        varA = numerator1 / denominator;
+        varB = numerator2 / denominator;
+        if (varA > 0 && varA < 1 && varB > 0 && varB < 1) {
+          double lon = rightLongitude + (varA * (leftLongitude - rightLongitude));
+          double lat = rightLatitude + (varA * (leftLatitude - rightLatitude));
+          offer(lon, lat, distance(lon, lat, Math.cos(degreesToRadians(lat))), segment, 2, -1);
+        }
+      }
+      return bestDistance;
+    }
+
+    Result result() {
+      return new Result(bestLongitude, bestLatitude, bestDistance, bestIndex, bestVertex);
+    }
+
+    private void offer(double lon, double lat, double distance, int index, int rank, int vertex) {
+      if (distance < bestDistance || (distance == bestDistance
+        && (index < bestIndex || (index == bestIndex && rank < bestRank)))) {
+        bestLongitude = lon;
+        bestLatitude = lat;
+        bestDistance = distance;
+        bestIndex = index;
+        bestRank = rank;
+        bestVertex = vertex;
+      }
+    }
+
+    /**
+     * Same haversine formula as {@link TurfMeasurement#distance(Point, Point, String)}.
+     */
+    private double distance(double lon, double lat, double latCosine) {
+      double difLat = degreesToRadians((lat - latitude));
+      double difLon = degreesToRadians((lon - longitude));
+      double value = Math.pow(Math.sin(difLat / 2), 2)
+        + Math.pow(Math.sin(difLon / 2), 2) * latitudeCosine * latCosine;
+      return 2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value)) * factor;
+    }
+
+    /**
+     * Same formula as {@link TurfMeasurement#destination(Point, double, double, String)}, in
+     * radians.
+     */
+    private double destinationLatitude(double radiansSine, double radiansCosine,
+                                       double bearingCosine) {
+      return Math.asin(latitudeSine * radiansCosine
+        + latitudeCosine * radiansSine * bearingCosine);
+    }
+
+    private double destinationLongitude(double radiansSine, double radiansCosine,
+                                        double bearingSine, double destinationLatitude) {
+      return radiansToDegrees(longitudeRadians + Math.atan2(bearingSine
+        * radiansSine * latitudeCosine, radiansCosine - latitudeSine
+        * Math.sin(destinationLatitude)));
+    }
+  }
+}
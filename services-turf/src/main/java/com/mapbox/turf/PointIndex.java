@@ -0,0 +1,437 @@
+package com.mapbox.turf;
+
+import static com.mapbox.turf.TurfConversion.degreesToRadians;
+
+import androidx.annotation.NonNull;
+import com.mapbox.geojson.Point;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Static nearest neighbour index over a set of points. Every point is turned into a unit vector
+ * of 3D space, where the straight line distance between two vectors grows with the great circle
+ * distance between the points, and the vectors are organized as a balanced kd-tree. Nearest
+ * neighbours are then found by visiting only the few branches of the tree that could hold them,
+ * with plain arithmetic instead of the trigonometry of the haversine formula, and without any
+ * special case around the poles or the antimeridian.
+ * <p>
+ * The index is built in {@code O(n log n)}. Instances are immutable and can be queried from
+ * several threads at the same time.
+ * </p>
+ *
+ * @see TurfClassification#nearestPoint(Point, PointIndex)
+ * @since 5.10.0
+ */
+public final class PointIndex {
+
+  private final Point[] points;
+  // Tree nodes in order: the node of a range [low, high) is at its middle, (low + high) >>> 1
+  private final int[] items;
+  private final double[] vectors;
+  private final byte[] axes;
+
+  /**
+   * Builds an index over the given points.
+   *
+   * @param points the points to index
+   * @return a new index, in which the points keep their position in the list
+   * @since 5.10.0
+   */
+  @NonNull
+  public static PointIndex fromPoints(@NonNull List<Point> points) {
+    return new PointIndex(points.toArray(new Point[points.size()]));
+  }
+
+  private PointIndex(Point[] points) {
+    this.points = points;
+    int size = points.length;
+    double[] pointVectors = new double[size * 3];
+    for (int i = 0; i < size; i++) {
+      toVector(points[i].longitude(), points[i].latitude(), pointVectors, i * 3);
+    }
+    items = new int[size];
+    for (int i = 0; i < size; i++) {
+      items[i] = i;
+    }
+    axes = new byte[size];
+    build(pointVectors, 0, size);
+
+    vectors = new double[size * 3];
+    for (int i = 0; i < size; i++) {
+      System.arraycopy(pointVectors, items[i] * 3, vectors, i * 3, 3);
+    }
+  }
+
+  /**
+   * The number of indexed points.
+   *
+   * @return the number of points
+   * @since 5.10.0
+   */
+  public int size() {
+    return points.length;
+  }
+
+  /**
+   * The point at the given position.
+   *
+   * @param index the position of the point
+   * @return the point
+   * @since 5.10.0
+   */
+  @NonNull
+  public Point get(int index) {
+    return points[index];
+  }
+
+  /**
+   * Finds the point nearest to the given point.
+   *
+   * @param point the reference point
+   * @return the position of the nearest point, or -1 if the index is empty; among points at the
+   *   same distance, the lowest position is returned
+   * @since 5.10.0
+   */
+  public int nearest(@NonNull Point point) {
+    return nearest(point.longitude(), point.latitude());
+  }
+
+  /**
+   * Finds the point nearest to the given coordinate.
+   *
+   * @param longitude the longitude of the reference coordinate
+   * @param latitude  the latitude of the reference coordinate
+   * @return the position of the nearest point, or -1 if the index is empty; among points at the
+   *   same distance, the lowest position is returned
+   * @since 5.10.0
+   */
+  public int nearest(double longitude, double latitude) {
+    int[] nearest = nearest(longitude, latitude, 1);
+    return nearest.length == 0 ? -1 : nearest[0];
+  }
+
+  /**
+   * Finds the given number of points nearest to the given point.
+   *
+   * @param point the reference point
+   * @param count the number of points to find
+   * @return the positions of the nearest points, nearest first, with fewer than {@code count}
+   *   positions if the index holds fewer points
+   * @since 5.10.0
+   */
+  @NonNull
+  public int[] nearest(@NonNull Point point, int count) {
+    return nearest(point.longitude(), point.latitude(), count);
+  }
+
+  /**
+   * Finds the given number of points nearest to the given coordinate.
+   *
+   * @param longitude the longitude of the reference coordinate
+   * @param latitude  the latitude of the reference coordinate
+   * @param count     the number of points to find
+   * @return the positions of the nearest points, nearest first, with fewer than {@code count}
+   *   positions if the index holds fewer points
+   * @since 5.10.0
+   */
+  @NonNull
+  public int[] nearest(double longitude, double latitude, int count) {
+    if (count < 0) {
+      throw new TurfException("The count of nearest points must not be negative.");
+    }
+    Nearest nearest = new Nearest(longitude, latitude, Math.min(count, points.length));
+    if (nearest.capacity > 0) {
+      nearest.search(0, points.length);
+    }
+    return nearest.sorted();
+  }
+
+  /**
+   * Finds the points within the given distance of the given point, borders included.
+   *
+   * @param point  the reference point
+   * @param radius the distance
+   * @param units  one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the positions of the points within the radius, in ascending order
+   * @since 5.10.0
+   */
+  @NonNull
+  public int[] withinRadius(@NonNull Point point, double radius,
+                            @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return withinRadius(point.longitude(), point.latitude(), radius, units);
+  }
+
+  /**
+   * Finds the points within the given distance of the given coordinate, borders included.
+   *
+   * @param longitude the longitude of the reference coordinate
+   * @param latitude  the latitude of the reference coordinate
+   * @param radius    the distance
+   * @param units     one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the positions of the points within the radius, in ascending order
+   * @since 5.10.0
+   */
+  @NonNull
+  public int[] withinRadius(double longitude, double latitude, double radius,
+                            @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    double radians = Math.min(TurfConversion.lengthToRadians(radius, units), Math.PI);
+    double chord = 2 * Math.sin(radians / 2);
+    Within within = new Within(longitude, latitude, chord * chord);
+    within.search(0, points.length);
+    int[] result = Arrays.copyOf(within.matches, within.count);
+    Arrays.sort(result);
+    return result;
+  }
+
+  private static void toVector(double longitude, double latitude, double[] vectors, int offset) {
+    double lambda = degreesToRadians(longitude);
+    double phi = degreesToRadians(latitude);
+    double cosPhi = Math.cos(phi);
+    vectors[offset] = cosPhi * Math.cos(lambda);
+    vectors[offset + 1] = cosPhi * Math.sin(lambda);
+    vectors[offset + 2] = Math.sin(phi);
+  }
+
+  /**
+   * Puts the median of {@code items[low, high)} along the axis of widest spread in the middle of
+   * the range, smaller ones before it and larger ones after it, and repeats on both halves.
+   */
+  private void build(double[] pointVectors, int low, int high) {
+    while (high - low > 1) {
+      double[] min = new double[] {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+        Double.POSITIVE_INFINITY};
+      double[] max = new double[] {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY,
+        Double.NEGATIVE_INFINITY};
+      for (int i = low; i < high; i++) {
+        for (int axis = 0; axis < 3; axis++) {
+          double value = pointVectors[items[i] * 3 + axis];
+          min[axis] = Math.min(min[axis], value);
+          max[axis] = Math.max(max[axis], value);
+        }
+      }
+      int axis = 0;
+      for (int candidate = 1; candidate < 3; candidate++) {
+        if (max[candidate] - min[candidate] > max[axis] - min[axis]) {
+          axis = candidate;
+        }
+      }
+      int middle = (low + high) >>> 1;
+      select(pointVectors, axis, low, high, middle);
+      axes[middle] = (byte) axis;
+
+      // Recurse into the smaller half so the depth stays logarithmic
+      if (middle - low < high - middle - 1) {
+        build(pointVectors, low, middle);
+        low = middle + 1;
+      } else {
+        build(pointVectors, middle + 1, high);
+        high = middle;
+      }
+    }
+  }
+
+  /**
+   * Quickselect of the {@code nth} item of {@code items[low, high)} by the given axis.
+   */
+  private void select(double[] pointVectors, int axis, int low, int high, int nth) {
+    int left = low;
+    int right = high - 1;
+    while (right > left) {
+      int middle = (left + right) >>> 1;
+      double first = pointVectors[items[left] * 3 + axis];
+      double second = pointVectors[items[middle] * 3 + axis];
+      double third = pointVectors[items[right] * 3 + axis];
+      double pivot = Math.max(Math.min(first, second), Math.min(Math.max(first, second), third));
+      int front = left;
+      int back = right;
+      while (front <= back) {
+        while (pointVectors[items[front] * 3 + axis] < pivot) {
+          front++;
+        }
+        while (pointVectors[items[back] * 3 + axis] > pivot) {
+          back--;
+        }
+        if (front <= back) {
+          int swap = items[front];
+          items[front++] = items[back];
+          items[back--] = swap;
+        }
+      }
+      if (nth <= back) {
+        right = back;
+      } else if (nth >= front) {
+        left = front;
+      } else {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Walks the tree around a query vector, nearest side of each node first.
+   *
+   * @since 5.10.0
+   */
+  private abstract class Search {
+
+    final double[] query = new double[3];
+
+    Search(double longitude, double latitude) {
+      toVector(longitude, latitude, query, 0);
+    }
+
+    /**
+     * Squared chord length under which a node may still hold a match.
+     */
+    abstract double limit();
+
+    abstract void visit(int item, double squaredChord);
+
+    void search(int low, int high) {
+      if (low >= high) {
+        return;
+      }
+      int node = (low + high) >>> 1;
+      int offset = node * 3;
+      double dx = query[0] - vectors[offset];
+      double dy = query[1] - vectors[offset + 1];
+      double dz = query[2] - vectors[offset + 2];
+      double squaredChord = dx * dx + dy * dy + dz * dz;
+      if (squaredChord <= limit()) {
+        visit(items[node], squaredChord);
+      }
+      double difference = query[axes[node]] - vectors[offset + axes[node]];
+      if (difference < 0) {
+        search(low, node);
+        if (difference * difference <= limit()) {
+          search(node + 1, high);
+        }
+      } else {
+        search(node + 1, high);
+        if (difference * difference <= limit()) {
+          search(low, node);
+        }
+      }
+    }
+  }
+
+  /**
+   * Keeps the {@code capacity} nearest items as a max heap on distance, then position.
+   *
+   * @since 5.10.0
+   */
+  private final class Nearest extends Search {
+
+    final int capacity;
+    private final int[] heapItems;
+    private final double[] heapChords;
+    private int count;
+
+    Nearest(double longitude, double latitude, int capacity) {
+      super(longitude, latitude);
+      this.capacity = capacity;
+      this.heapItems = new int[capacity];
+      this.heapChords = new double[capacity];
+    }
+
+    @Override
+    double limit() {
+      return count < capacity ? Double.POSITIVE_INFINITY : heapChords[0];
+    }
+
+    @Override
+    void visit(int item, double squaredChord) {
+      if (count < capacity) {
+        heapItems[count] = item;
+        heapChords[count] = squaredChord;
+        siftUp(count++);
+      } else if (before(item, squaredChord, heapItems[0], heapChords[0])) {
+        heapItems[0] = item;
+        heapChords[0] = squaredChord;
+        siftDown(0, count);
+      }
+    }
+
+    int[] sorted() {
+      // Heap sort, the furthest item is moved to the end each time
+      for (int end = count - 1; end > 0; end--) {
+        swap(0, end);
+        siftDown(0, end);
+      }
+      return Arrays.copyOf(heapItems, count);
+    }
+
+    private boolean before(int item, double chord, int otherItem, double otherChord) {
+      return chord < otherChord || (chord == otherChord && item < otherItem);
+    }
+
+    private void siftUp(int child) {
+      while (child > 0) {
+        int parent = (child - 1) / 2;
+        if (!before(heapItems[parent], heapChords[parent], heapItems[child], heapChords[child])) {
+          return;
+        }
+        swap(parent, child);
+        child = parent;
+      }
+    }
+
+    private void siftDown(int parent, int end) {
+      while (true) {
+        int child = parent * 2 + 1;
+        if (child >= end) {
+          return;
+        }
+        if (child + 1 < end && before(heapItems[child], heapChords[child],
+          heapItems[child + 1], heapChords[child + 1])) {
+          child++;
+        }
+        if (!before(heapItems[parent], heapChords[parent], heapItems[child], heapChords[child])) {
+          return;
+        }
+        swap(parent, child);
+        parent = child;
+      }
+    }
+
+    private void swap(int first, int second) {
+      int item = heapItems[first];
+      heapItems[first] = heapItems[second];
+      heapItems[second] = item;
+      double chord = heapChords[first];
+      heapChords[first] = heapChords[second];
+      heapChords[second] = chord;
+    }
+  }
+
+  /**
+   * Collects every item within a squared chord length.
+   *
+   * @since 5.10.0
+   */
+  private final class Within extends Search {
+
+    private final double squaredRadius;
+    private int[] matches = new int[16];
+    private int count;
+
+    Within(double longitude, double latitude, double squaredRadius) {
+      super(longitude, latitude);
+      this.squaredRadius = squaredRadius;
+    }
+
+    @Override
+    double limit() {
+      return squaredRadius;
+    }
+
+    @Override
+    void visit(int item, double squaredChord) {
+      if (count == matches.length) {
+        matches = Arrays.copyOf(matches, count * 2);
+      }
+      matches[count++] = item;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Spatial index over a set of polygons, answering which of them contain a given point. The
+ * polygons are prepared as {@link PreparedPolygon}s and their bounding boxes, computed with
+ * {@link TurfMeasurement#bbox(Polygon)}, are packed into a static R-tree, so a query only tests the
+ * few polygons whose bounding box contains the point.
+ * <p>
+ * Instances are immutable and can be queried from several threads at the same time.
+ * </p>
+ *
+ * @see TurfJoins#pointsWithinPolygon(FeatureCollection, FeatureCollection)
+ * @since 5.10.0
+ */
+public final class PolygonIndex {
+
+  private final PreparedPolygon[] polygons;
+  private final StrTree tree;
+
+  /**
+   * Builds an index over the given polygons.
+   *
+   * @param polygons the polygons to index
+   * @return a new index, in which the polygons keep their position in the list
+   * @since 5.10.0
+   */
+  @NonNull
+  public static PolygonIndex fromPolygons(@NonNull List<Polygon> polygons) {
+    PreparedPolygon[] prepared = new PreparedPolygon[polygons.size()];
+    for (int i = 0; i < prepared.length; i++) {
+      prepared[i] = PreparedPolygon.fromPolygon(polygons.get(i));
+    }
+    return new PolygonIndex(prepared);
+  }
+
+  /**
+   * Builds an index over the geometries of the given features, which must all be
+   * {@link Polygon}s.
+   *
+   * @param featureCollection the features whose geometries are indexed
+   * @return a new index, in which the polygons keep the position of their feature
+   * @throws TurfException if a feature doesn't have a polygon geometry
+   * @since 5.10.0
+   */
+  @NonNull
+  public static PolygonIndex fromFeatureCollection(@NonNull FeatureCollection featureCollection) {
+    List<Feature> features = featureCollection.features();
+    int size = features == null ? 0 : features.size();
+    PreparedPolygon[] prepared = new PreparedPolygon[size];
+    for (int i = 0; i < size; i++) {
+      Geometry geometry = features.get(i).geometry();
+      if (!(geometry instanceof Polygon)) {
+        throw new TurfException("Feature " + i + " doesn't have a Polygon geometry.");
+      }
+      prepared[i] = PreparedPolygon.fromPolygon((Polygon) geometry);
+    }
+    return new PolygonIndex(prepared);
+  }
+
+  private PolygonIndex(PreparedPolygon[] polygons) {
+    this.polygons = polygons;
+    double[] boxes = new double[polygons.length * 4];
+    for (int i = 0; i < polygons.length; i++) {
+      System.arraycopy(polygons[i].bbox(), 0, boxes, i * 4, 4);
+    }
+    this.tree = new StrTree(boxes);
+  }
+
+  /**
+   * The number of indexed polygons.
+   *
+   * @return the number of polygons
+   * @since 5.10.0
+   */
+  public int size() {
+    return polygons.length;
+  }
+
+  /**
+   * The prepared polygon at the given position.
+   *
+   * @param index the position of the polygon
+   * @return the prepared polygon
+   * @since 5.10.0
+   */
+  @NonNull
+  public PreparedPolygon get(int index) {
+    return polygons[index];
+  }
+
+  /**
+   * Determines if the point resides inside at least one of the polygons.
+   *
+   * @param point the point to test
+   * @return true if any polygon contains the point
+   * @since 5.10.0
+   */
+  public boolean contains(@NonNull Point point) {
+    return contains(point.longitude(), point.latitude());
+  }
+
+  /**
+   * Determines if the coordinate resides inside at least one of the polygons.
+   *
+   * @param longitude the longitude of the coordinate to test
+   * @param latitude  the latitude of the coordinate to test
+   * @return true if any polygon contains the coordinate
+   * @since 5.10.0
+   */
+  public boolean contains(final double longitude, final double latitude) {
+    return !tree.search(longitude, latitude, longitude, latitude, new StrTree.Visitor() {
+      @Override
+      public boolean visit(int item) {
+        return !polygons[item].contains(longitude, latitude);
+      }
+    });
+  }
+
+  /**
+   * Finds every polygon the coordinate resides inside.
+   *
+   * @param longitude the longitude of the coordinate to test
+   * @param latitude  the latitude of the coordinate to test
+   * @return the positions of the polygons containing the coordinate, in ascending order
+   * @since 5.10.0
+   */
+  @NonNull
+  public int[] containing(double longitude, double latitude) {
+    Matches matches = new Matches(longitude, latitude);
+    tree.search(longitude, latitude, longitude, latitude, matches);
+    int[] result = Arrays.copyOf(matches.items, matches.count);
+    Arrays.sort(result);
+    return result;
+  }
+
+  /**
+   * Collects the polygons containing a coordinate.
+   *
+   * @since 5.10.0
+   */
+  private final class Matches implements StrTree.Visitor {
+
+    private final double longitude;
+    private final double latitude;
+    private int[] items = new int[4];
+    private int count;
+
+    Matches(double longitude, double latitude) {
+      this.longitude = longitude;
+      this.latitude = latitude;
+    }
+
+    @Override
+    public boolean visit(int item) {
+      if (polygons[item].contains(longitude, latitude)) {
+        if (count == items.length) {
+          items = Arrays.copyOf(items, count * 2);
+        }
+        items[count++] = item;
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.List;
+
+/**
+ * A {@link MultiPolygon} prepared for repeated point in polygon tests, each of its polygons being
+ * held as a {@link PreparedPolygon}. Polygons whose bounding box doesn't contain the point are
+ * skipped without looking at their rings.
+ * <p>
+ * Instances are immutable and can be shared between threads. The results are the same as the
+ * ones of {@link TurfJoins#inside(Point, MultiPolygon)}.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class PreparedMultiPolygon {
+
+  private final PreparedPolygon[] polygons;
+  private final double[] boxes;
+  private final double[] bbox;
+
+  /**
+   * Prepares the given multi polygon, indexing the edges of rings of more than
+   * {@value PreparedPolygon#EDGE_INDEX_THRESHOLD} points.
+   *
+   * @param multiPolygon the multi polygon to prepare
+   * @return a new prepared multi polygon
+   * @since 5.10.0
+   */
+  @NonNull
+  public static PreparedMultiPolygon fromMultiPolygon(@NonNull MultiPolygon multiPolygon) {
+    return fromMultiPolygon(multiPolygon, true);
+  }
+
+  /**
+   * Prepares the given multi polygon.
+   *
+   * @param multiPolygon the multi polygon to prepare
+   * @param indexEdges   false to never index the edges of the rings, see
+   *                     {@link PreparedPolygon#fromPolygon(Polygon, boolean)}
+   * @return a new prepared multi polygon
+   * @since 5.10.0
+   */
+  @NonNull
+  public static PreparedMultiPolygon fromMultiPolygon(@NonNull MultiPolygon multiPolygon,
+                                                      boolean indexEdges) {
+    List<Polygon> parts = multiPolygon.polygons();
+    PreparedPolygon[] polygons = new PreparedPolygon[parts.size()];
+    for (int i = 0; i < polygons.length; i++) {
+      polygons[i] = PreparedPolygon.fromPolygon(parts.get(i), indexEdges);
+    }
+    return new PreparedMultiPolygon(polygons, TurfMeasurement.bbox(multiPolygon));
+  }
+
+  private PreparedMultiPolygon(PreparedPolygon[] polygons, double[] bbox) {
+    this.polygons = polygons;
+    this.boxes = new double[polygons.length * 4];
+    for (int i = 0; i < polygons.length; i++) {
+      System.arraycopy(polygons[i].bbox(), 0, boxes, i * 4, 4);
+    }
+    this.bbox = bbox;
+  }
+
+  /**
+   * The bounding box of the multi polygon, as returned by
+   * {@link TurfMeasurement#bbox(MultiPolygon)}.
+   *
+   * @return a new array holding {@code west, south, east, north}
+   * @since 5.10.0
+   */
+  @NonNull
+  public double[] bbox() {
+    return bbox.clone();
+  }
+
+  /**
+   * The number of polygons of the multi polygon.
+   *
+   * @return the number of polygons
+   * @since 5.10.0
+   */
+  public int polygonCount() {
+    return polygons.length;
+  }
+
+  /**
+   * The prepared polygon at the given position.
+   *
+   * @param index the position of the polygon
+   * @return the prepared polygon
+   * @since 5.10.0
+   */
+  @NonNull
+  public PreparedPolygon polygon(int index) {
+    return polygons[index];
+  }
+
+  /**
+   * Determines if the point resides inside any of the polygons, accounting for holes.
+   *
+   * @param point the point to test
+   * @return true if the point is inside the multi polygon
+   * @since 5.10.0
+   */
+  public boolean contains(@NonNull Point point) {
+    return contains(point.longitude(), point.latitude());
+  }
+
+  /**
+   * Determines if the given coordinate resides inside any of the polygons, accounting for holes.
+   *
+   * @param longitude the longitude of the coordinate to test
+   * @param latitude  the latitude of the coordinate to test
+   * @return true if the coordinate is inside the multi polygon
+   * @since 5.10.0
+   */
+  public boolean contains(double longitude, double latitude) {
+    for (int i = 0; i < polygons.length; i++) {
+      int box = i * 4;
+      if (longitude >= boxes[box] && latitude >= boxes[box + 1]
+        && longitude <= boxes[box + 2] && latitude <= boxes[box + 3]
+        && polygons[i].contains(longitude, latitude)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
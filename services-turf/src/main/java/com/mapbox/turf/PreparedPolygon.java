@@ -0,0 +1,178 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.List;
+
+/**
+ * A {@link Polygon} prepared for repeated point in polygon tests. The coordinates of every ring
+ * are copied once into primitive arrays along with the bounding box of each ring, so a test
+ * doesn't go through any {@link Point} and points outside of a ring's bounding box are rejected
+ * without walking its edges. Large rings additionally get their edges sorted into an interval
+ * tree on latitude, so a test only looks at the edges spanning the latitude of the point instead
+ * of the whole ring.
+ * <p>
+ * Instances are immutable and can be shared between threads. The results are the same as the
+ * ones of {@link TurfJoins#inside(Point, Polygon)}.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class PreparedPolygon {
+
+  /**
+   * Rings with more points than this get an index of their edges.
+   *
+   * @since 5.10.0
+   */
+  public static final int EDGE_INDEX_THRESHOLD = 32;
+
+  private final double[] longitudes;
+  private final double[] latitudes;
+  private final int[] ringOffsets;
+  private final double[] ringBoxes;
+  private final EdgeIntervals[] ringEdges;
+  private final double[] bbox;
+
+  /**
+   * Prepares the given polygon, indexing the edges of rings of more than
+   * {@value #EDGE_INDEX_THRESHOLD} points.
+   *
+   * @param polygon the polygon to prepare
+   * @return a new prepared polygon
+   * @since 5.10.0
+   */
+  @NonNull
+  public static PreparedPolygon fromPolygon(@NonNull Polygon polygon) {
+    return fromPolygon(polygon, true);
+  }
+
+  /**
+   * Prepares the given polygon.
+   *
+   * @param polygon    the polygon to prepare
+   * @param indexEdges false to never index the edges of the rings, saving the memory of the index
+   *                   at the cost of walking every edge of a ring on each test
+   * @return a new prepared polygon
+   * @since 5.10.0
+   */
+  @NonNull
+  public static PreparedPolygon fromPolygon(@NonNull Polygon polygon, boolean indexEdges) {
+    return new PreparedPolygon(polygon.coordinates(), TurfMeasurement.bbox(polygon), indexEdges);
+  }
+
+  private PreparedPolygon(List<List<Point>> rings, double[] bbox, boolean indexEdges) {
+    int count = 0;
+    for (List<Point> ring : rings) {
+      count += ring.size();
+    }
+    longitudes = new double[count];
+    latitudes = new double[count];
+    ringOffsets = new int[rings.size() + 1];
+    ringBoxes = new double[rings.size() * 4];
+    ringEdges = new EdgeIntervals[rings.size()];
+
+    int index = 0;
+    for (int ring = 0; ring < rings.size(); ring++) {
+      ringOffsets[ring] = index;
+      double minX = Double.POSITIVE_INFINITY;
+      double minY = Double.POSITIVE_INFINITY;
+      double maxX = Double.NEGATIVE_INFINITY;
+      double maxY = Double.NEGATIVE_INFINITY;
+      for (Point point : rings.get(ring)) {
+        double longitude = point.longitude();
+        double latitude = point.latitude();
+        longitudes[index] = longitude;
+        latitudes[index] = latitude;
+        index++;
+        minX = Math.min(minX, longitude);
+        minY = Math.min(minY, latitude);
+        maxX = Math.max(maxX, longitude);
+        maxY = Math.max(maxY, latitude);
+      }
+      ringBoxes[ring * 4] = minX;
+      ringBoxes[ring * 4 + 1] = minY;
+      ringBoxes[ring * 4 + 2] = maxX;
+      ringBoxes[ring * 4 + 3] = maxY;
+      if (indexEdges && index - ringOffsets[ring] > EDGE_INDEX_THRESHOLD) {
+        ringEdges[ring] = new EdgeIntervals(latitudes, ringOffsets[ring], index);
+      }
+    }
+    ringOffsets[rings.size()] = index;
+    this.bbox = bbox;
+  }
+
+  /**
+   * The bounding box of the polygon, as returned by {@link TurfMeasurement#bbox(Polygon)}.
+   *
+   * @return a new array holding {@code west, south, east, north}
+   * @since 5.10.0
+   */
+  @NonNull
+  public double[] bbox() {
+    return bbox.clone();
+  }
+
+  /**
+   * Determines if the point resides inside the polygon, accounting for holes.
+   *
+   * @param point the point to test
+   * @return true if the point is inside the polygon
+   * @since 5.10.0
+   */
+  public boolean contains(@NonNull Point point) {
+    return contains(point.longitude(), point.latitude());
+  }
+
+  /**
+   * Determines if the given coordinate resides inside the polygon, accounting for holes.
+   *
+   * @param longitude the longitude of the coordinate to test
+   * @param latitude  the latitude of the coordinate to test
+   * @return true if the coordinate is inside the polygon
+   * @since 5.10.0
+   */
+  public boolean contains(double longitude, double latitude) {
+    int ringCount = ringOffsets.length - 1;
+    if (ringCount == 0 || !inRing(0, longitude, latitude)) {
+      return false;
+    }
+    for (int ring = 1; ring < ringCount; ring++) {
+      if (inRing(ring, longitude, latitude)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Same crossing number test as {@link TurfJoins}, over the primitive ring arrays.
+   */
+  private boolean inRing(int ring, double longitude, double latitude) {
+    int box = ring * 4;
+    if (longitude < ringBoxes[box] || latitude < ringBoxes[box + 1]
+      || longitude > ringBoxes[box + 2] || latitude > ringBoxes[box + 3]) {
+      return false;
+    }
+    if (ringEdges[ring] != null) {
+      return ringEdges[ring].contains(longitudes, latitudes, longitude, latitude);
+    }
+    boolean isInside = false;
+    int first = ringOffsets[ring];
+    int end = ringOffsets[ring + 1];
+    for (int i = first, j = end - 1; i < end; j = i++) {
+      double xi = longitudes[i];
+      double yi = latitudes[i];
+      double xj = longitudes[j];
+      double yj = latitudes[j];
+      boolean intersect = ((yi > latitude) != (yj > latitude))
+        && (longitude < (xj - xi) * (latitude - yi) / (yj - yi) + xi);
+      if (intersect) {
+        isInside = !isInside;
+      }
+    }
+    return isInside;
+  }
+}
@@ -0,0 +1,263 @@
+package com.mapbox.turf;
+
+/**
+ * Static R-tree over axis aligned boxes, bulk loaded with the Sort-Tile-Recursive algorithm. The
+ * tree is built once and never modified afterwards, so it can be queried from several threads at
+ * the same time.
+ * <p>
+ * Nodes are stored level by level in flat arrays: the leaf level holds the item boxes in STR
+ * order, and each node of a level covers {@link #NODE_CAPACITY} consecutive entries of the level
+ * below.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+final class StrTree {
+
+  static final int NODE_CAPACITY = 16;
+
+  /**
+   * Receives the items whose box intersects a query.
+   *
+   * @since 5.10.0
+   */
+  interface Visitor {
+
+    /**
+     * Called once for every matching item, in no particular order.
+     *
+     * @param item the index of the item, as passed to the tree
+     * @return false to stop the search
+     */
+    boolean visit(int item);
+  }
+
+  /**
+   * Drives a nearest item search, measuring boxes and items against the query.
+   *
+   * @since 5.10.0
+   */
+  interface NearestVisitor {
+
+    /**
+     * Gives a lower bound of the distance between the query and anything inside the box.
+     */
+    double bound(double minX, double minY, double maxX, double maxY);
+
+    /**
+     * Called for every item whose box could hold something closer than the best match so far.
+     *
+     * @param item the index of the item, as passed to the tree
+     * @return the distance of the best match so far, boxes further away are skipped
+     */
+    double visit(int item);
+  }
+
+  private final int size;
+  private final int[] items;
+  private final double[][] levels;
+
+  /**
+   * Builds the tree.
+   *
+   * @param boxes {@code minX, minY, maxX, maxY} of every item, one after the other
+   */
+  StrTree(double[] boxes) {
+    size = boxes.length / 4;
+    items = new int[size];
+    for (int i = 0; i < size; i++) {
+      items[i] = i;
+    }
+    sortTiles(boxes);
+
+    int levelCount = 1;
+    for (int count = size; count > NODE_CAPACITY; count = ceilDiv(count, NODE_CAPACITY)) {
+      levelCount++;
+    }
+    levels = new double[levelCount][];
+
+    double[] leaves = new double[size * 4];
+    for (int i = 0; i < size; i++) {
+      System.arraycopy(boxes, items[i] * 4, leaves, i * 4, 4);
+    }
+    levels[0] = leaves;
+    for (int level = 1; level < levelCount; level++) {
+      double[] children = levels[level - 1];
+      int childCount = children.length / 4;
+      double[] nodes = new double[ceilDiv(childCount, NODE_CAPACITY) * 4];
+      for (int child = 0; child < childCount; child++) {
+        int node = child / NODE_CAPACITY * 4;
+        if (child % NODE_CAPACITY == 0) {
+          System.arraycopy(children, child * 4, nodes, node, 4);
+        } else {
+          nodes[node] = Math.min(nodes[node], children[child * 4]);
+          nodes[node + 1] = Math.min(nodes[node + 1], children[child * 4 + 1]);
+          nodes[node + 2] = Math.max(nodes[node + 2], children[child * 4 + 2]);
+          nodes[node + 3] = Math.max(nodes[node + 3], children[child * 4 + 3]);
+        }
+      }
+      levels[level] = nodes;
+    }
+  }
+
+  /**
+   * The number of items in the tree.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Visits every item whose box intersects the given box, borders included.
+   *
+   * @return false if the visitor stopped the search
+   */
+  boolean search(double minX, double minY, double maxX, double maxY, Visitor visitor) {
+    int top = levels.length - 1;
+    int count = levels[top].length / 4;
+    for (int node = 0; node < count; node++) {
+      if (!search(top, node, minX, minY, maxX, maxY, visitor)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean search(int level, int node, double minX, double minY, double maxX, double maxY,
+                         Visitor visitor) {
+    double[] boxes = levels[level];
+    int offset = node * 4;
+    if (boxes[offset] > maxX || boxes[offset + 1] > maxY
+      || boxes[offset + 2] < minX || boxes[offset + 3] < minY) {
+      return true;
+    }
+    if (level == 0) {
+      return visitor.visit(items[node]);
+    }
+    int first = node * NODE_CAPACITY;
+    int last = Math.min(first + NODE_CAPACITY, levels[level - 1].length / 4);
+    for (int child = first; child < last; child++) {
+      if (!search(level - 1, child, minX, minY, maxX, maxY, visitor)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Visits the items whose box could hold something closer than the best match so far, nearest
+   * boxes first. Boxes whose bound is equal to the best distance are still visited, so ties can
+   * be settled by the visitor.
+   *
+   * @param limit the distance above which boxes are skipped from the start
+   */
+  void nearest(NearestVisitor visitor, double limit) {
+    int top = levels.length - 1;
+    int count = levels[top].length / 4;
+    double[][] bounds = new double[levels.length][NODE_CAPACITY];
+    int[][] orders = new int[levels.length][NODE_CAPACITY];
+    nearest(top, 0, count, visitor, limit, bounds, orders);
+  }
+
+  private double nearest(int level, int first, int last, NearestVisitor visitor, double limit,
+                         double[][] bounds, int[][] orders) {
+    double[] boxes = levels[level];
+    double[] bound = bounds[level];
+    int[] order = orders[level];
+    int count = last - first;
+    for (int k = 0; k < count; k++) {
+      int offset = (first + k) * 4;
+      bound[k] = visitor.bound(boxes[offset], boxes[offset + 1], boxes[offset + 2],
+        boxes[offset + 3]);
+      order[k] = k;
+      for (int m = k; m > 0 && bound[order[m - 1]] > bound[order[m]]; m--) {
+        int swap = order[m];
+        order[m] = order[m - 1];
+        order[m - 1] = swap;
+      }
+    }
+    for (int k = 0; k < count && bound[order[k]] <= limit; k++) {
+      int node = first + order[k];
+      if (level == 0) {
+        limit = visitor.visit(items[node]);
+      } else {
+        int firstChild = node * NODE_CAPACITY;
+        int lastChild = Math.min(firstChild + NODE_CAPACITY, levels[level - 1].length / 4);
+        limit = nearest(level - 1, firstChild, lastChild, visitor, limit, bounds, orders);
+      }
+    }
+    return limit;
+  }
+
+  /**
+   * Orders {@link #items} so that consecutive runs of {@link #NODE_CAPACITY} items form the
+   * leaves: items are sorted by the x of their center, cut into vertical slices, and each slice
+   * is sorted by the y of their center.
+   */
+  private void sortTiles(double[] boxes) {
+    double[] centerX = new double[size];
+    double[] centerY = new double[size];
+    for (int i = 0; i < size; i++) {
+      centerX[i] = (boxes[i * 4] + boxes[i * 4 + 2]) / 2;
+      centerY[i] = (boxes[i * 4 + 1] + boxes[i * 4 + 3]) / 2;
+    }
+    int leafCount = ceilDiv(size, NODE_CAPACITY);
+    int sliceSize = NODE_CAPACITY * (int) Math.ceil(Math.sqrt(leafCount));
+
+    sort(items, 0, size, centerX);
+    for (int start = 0; start < size; start += sliceSize) {
+      sort(items, start, Math.min(start + sliceSize, size), centerY);
+    }
+  }
+
+  private static int ceilDiv(int value, int divisor) {
+    return (value + divisor - 1) / divisor;
+  }
+
+  /**
+   * Sorts {@code indices[from, to)} by their key, recursing only into the smaller partition so
+   * the depth stays logarithmic.
+   */
+  static void sort(int[] indices, int from, int to, double[] keys) {
+    while (to - from > 16) {
+      int middle = (from + to) >>> 1;
+      double pivot = median(keys[indices[from]], keys[indices[middle]], keys[indices[to - 1]]);
+      int left = from;
+      int right = to - 1;
+      while (left <= right) {
+        while (keys[indices[left]] < pivot) {
+          left++;
+        }
+        while (keys[indices[right]] > pivot) {
+          right--;
+        }
+        if (left <= right) {
+          int swap = indices[left];
+          indices[left++] = indices[right];
+          indices[right--] = swap;
+        }
+      }
+      if (right - from < to - left) {
+        sort(indices, from, right + 1, keys);
+        from = left;
+      } else {
+        sort(indices, left, to, keys);
+        to = right + 1;
+      }
+    }
+    for (int i = from + 1; i < to; i++) {
+      int index = indices[i];
+      double key = keys[index];
+      int position = i - 1;
+      while (position >= from && keys[indices[position]] > key) {
+        indices[position + 1] = indices[position];
+        position--;
+      }
+      indices[position + 1] = index;
+    }
+  }
+
+  private static double median(double first, double second, double third) {
+    return Math.max(Math.min(first, second), Math.min(Math.max(first, second), third));
+  }
+}
@@ -0,0 +1,442 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.GeometryCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.MultiPoint;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.PackedCoordinates;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Aggregates over every feature of a {@link FeatureCollection} at once: area, length, bounding
+ * box, center, centroid and coordinate count, computed in a single pass without collecting the
+ * coordinates into a list first. Large collections can be split into tasks run by a
+ * {@link ForkJoinPool}.
+ * <p>
+ * The features are always split into the same ranges and their partial results merged in the
+ * same order, with compensated summation, so the results are the same whether a pool is used or
+ * not and whatever its parallelism.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class TurfAggregates {
+
+  // Below this many features a range isn't split any further
+  private static final int PARALLEL_THRESHOLD = 1024;
+
+  // Cancellation is checked every this many features
+  static final int CANCELLATION_INTERVAL = 256;
+
+  private TurfAggregates() {
+    // Private constructor preventing initialization of this class
+  }
+
+  /**
+   * Computes the aggregates of a collection on the calling thread.
+   *
+   * @param featureCollection the features to aggregate
+   * @param units             one of the units found inside {@link TurfConstants.TurfUnitCriteria},
+   *                          in which lengths are given
+   * @return the aggregates
+   * @since 5.10.0
+   */
+  @NonNull
+  public static Summary summarize(@NonNull FeatureCollection featureCollection,
+                                  @NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return summarize(featureCollection, units, null);
+  }
+
+  /**
+   * Computes the aggregates of a collection. When a {@link ForkJoinPool} is given, large
+   * collections are split into tasks run by the pool and this method waits for them.
+   *
+   * @param featureCollection the features to aggregate
+   * @param units             one of the units found inside {@link TurfConstants.TurfUnitCriteria},
+   *                          in which lengths are given
+   * @param pool              optionally, the pool computing the aggregates in parallel
+   * @return the aggregates
+   * @since 5.10.0
+   */
+  @NonNull
+  public static Summary summarize(@NonNull FeatureCollection featureCollection,
+                                  @NonNull @TurfConstants.TurfUnitCriteria String units,
+                                  @Nullable ForkJoinPool pool) {
+    SummaryTask task = new SummaryTask(features(featureCollection), units);
+    if (pool != null && task.features.size() > PARALLEL_THRESHOLD) {
+      return pool.invoke(task);
+    }
+    return task.compute();
+  }
+
+  /**
+   * Starts computing the aggregates of a collection in the given pool, without waiting for them.
+   * The returned task gives the result through {@link ForkJoinTask#get()} or
+   * {@link ForkJoinTask#join()}. Cancelling it with {@link ForkJoinTask#cancel(boolean)} stops
+   * the work in progress within a few hundred features.
+   *
+   * @param featureCollection the features to aggregate
+   * @param units             one of the units found inside {@link TurfConstants.TurfUnitCriteria},
+   *                          in which lengths are given
+   * @param pool              the pool computing the aggregates
+   * @return the running task
+   * @since 5.10.0
+   */
+  @NonNull
+  public static ForkJoinTask<Summary> submit(@NonNull FeatureCollection featureCollection,
+                                             @NonNull @TurfConstants.TurfUnitCriteria String units,
+                                             @NonNull ForkJoinPool pool) {
+    return pool.submit(new SummaryTask(features(featureCollection), units));
+  }
+
+  private static List<Feature> features(FeatureCollection featureCollection) {
+    List<Feature> features = featureCollection.features();
+    return features != null ? features : Collections.<Feature>emptyList();
+  }
+
+  /**
+   * The aggregates of a collection of features.
+   *
+   * @since 5.10.0
+   */
+  public static final class Summary {
+
+    private final int featureCount;
+    private final long coordinateCount;
+    private final double area;
+    private final double length;
+    private final double[] bbox;
+    private final Point centroid;
+
+    Summary(int featureCount, long coordinateCount, double area, double length, double[] bbox,
+            @Nullable Point centroid) {
+      this.featureCount = featureCount;
+      this.coordinateCount = coordinateCount;
+      this.area = area;
+      this.length = length;
+      this.bbox = bbox;
+      this.centroid = centroid;
+    }
+
+    /**
+     * The number of features.
+     *
+     * @return the number of features
+     * @since 5.10.0
+     */
+    public int featureCount() {
+      return featureCount;
+    }
+
+    /**
+     * The number of coordinates of all the features, the closing coordinates of polygon rings
+     * included, as listed by {@link TurfMeta#coordAll(FeatureCollection, boolean)}.
+     *
+     * @return the number of coordinates
+     * @since 5.10.0
+     */
+    public long coordinateCount() {
+      return coordinateCount;
+    }
+
+    /**
+     * The total area of the polygons, as computed by {@link TurfMeasurement#area(Geometry)}.
+     *
+     * @return area in square meters
+     * @since 5.10.0
+     */
+    public double area() {
+      return area;
+    }
+
+    /**
+     * The total length of the lines and of the polygon rings.
+     *
+     * @return the length, in the units the aggregates were computed in
+     * @since 5.10.0
+     */
+    public double length() {
+      return length;
+    }
+
+    /**
+     * The bounding box of all the features, like {@link TurfMeasurement#bbox(FeatureCollection)}.
+     *
+     * @return a double array defining the bounding box in this order
+     *   {@code [minX, minY, maxX, maxY]}
+     * @since 5.10.0
+     */
+    @NonNull
+    public double[] bbox() {
+      return bbox.clone();
+    }
+
+    /**
+     * The center of the bounding box of all the features, like
+     * {@link TurfMeasurement#center(FeatureCollection)}.
+     *
+     * @return the center
+     * @since 5.10.0
+     */
+    @NonNull
+    public Point center() {
+      return Point.fromLngLat((bbox[0] + bbox[2]) / 2, (bbox[1] + bbox[3]) / 2);
+    }
+
+    /**
+     * The mean of all the coordinates, the closing coordinates of polygon rings excluded.
+     *
+     * @return the centroid, or null if there are no coordinates
+     * @since 5.10.0
+     */
+    @Nullable
+    public Point centroid() {
+      return centroid;
+    }
+  }
+
+  /**
+   * Partial aggregates of a range of features.
+   *
+   * @since 5.10.0
+   */
+  private static final class Accumulator {
+
+    private final double unitFactor;
+    private final CompensatedSum area = new CompensatedSum();
+    private final CompensatedSum length = new CompensatedSum();
+    private final CompensatedSum longitudes = new CompensatedSum();
+    private final CompensatedSum latitudes = new CompensatedSum();
+    private final double[] bbox = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+    private int featureCount;
+    private long coordinateCount;
+    private long centroidCount;
+
+    Accumulator(double unitFactor) {
+      this.unitFactor = unitFactor;
+    }
+
+    void add(Feature feature) {
+      featureCount++;
+      Geometry geometry = feature.geometry();
+      if (geometry != null) {
+        area.add(TurfMeasurement.area(geometry));
+        add(geometry);
+      }
+    }
+
+    private void add(Geometry geometry) {
+      if (geometry instanceof Point) {
+        add((Point) geometry);
+      } else if (geometry instanceof MultiPoint) {
+        for (Point point : ((MultiPoint) geometry).coordinates()) {
+          add(point);
+        }
+      } else if (geometry instanceof LineString) {
+        LineString line = (LineString) geometry;
+        if (line.isPacked()) {
+          add(line.packedCoordinates(), false);
+        } else {
+          addPart(line.coordinates(), false);
+        }
+      } else if (geometry instanceof MultiLineString) {
+        MultiLineString lines = (MultiLineString) geometry;
+        if (lines.isPacked()) {
+          add(lines.packedCoordinates(), false);
+        } else {
+          addParts(lines.coordinates(), false);
+        }
+      } else if (geometry instanceof Polygon) {
+        Polygon polygon = (Polygon) geometry;
+        if (polygon.isPacked()) {
+          add(polygon.packedCoordinates(), true);
+        } else {
+          addParts(polygon.coordinates(), true);
+        }
+      } else if (geometry instanceof MultiPolygon) {
+        MultiPolygon polygons = (MultiPolygon) geometry;
+        if (polygons.isPacked()) {
+          add(polygons.packedCoordinates(), true);
+        } else {
+          for (List<List<Point>> polygon : polygons.coordinates()) {
+            addParts(polygon, true);
+          }
+        }
+      } else if (geometry instanceof GeometryCollection) {
+        // recursive
+        for (Geometry singleGeometry : ((GeometryCollection) geometry).geometries()) {
+          add(singleGeometry);
+        }
+      }
+    }
+
+    private void add(Point point) {
+      addCoordinate(point.longitude(), point.latitude(), true);
+    }
+
+    private void add(PackedCoordinates packed, boolean rings) {
+      for (int part = 0; part < packed.partCount(); part++) {
+        int start = packed.partStart(part);
+        int end = packed.partEnd(part);
+        for (int i = start; i < end; i++) {
+          double longitude = packed.lon(i);
+          double latitude = packed.lat(i);
+          addCoordinate(longitude, latitude, !rings || i < end - 1);
+          if (i > start) {
+            length.add(TurfKernels.distance(packed.lon(i - 1), packed.lat(i - 1), longitude,
+              latitude, unitFactor));
+          }
+        }
+      }
+    }
+
+    void add(Accumulator other) {
+      featureCount += other.featureCount;
+      coordinateCount += other.coordinateCount;
+      centroidCount += other.centroidCount;
+      area.add(other.area);
+      length.add(other.length);
+      longitudes.add(other.longitudes);
+      latitudes.add(other.latitudes);
+      bbox[0] = Math.min(bbox[0], other.bbox[0]);
+      bbox[1] = Math.min(bbox[1], other.bbox[1]);
+      bbox[2] = Math.max(bbox[2], other.bbox[2]);
+      bbox[3] = Math.max(bbox[3], other.bbox[3]);
+    }
+
+    private void addParts(List<List<Point>> parts, boolean rings) {
+      for (List<Point> part : parts) {
+        addPart(part, rings);
+      }
+    }
+
+    private void addPart(List<Point> part, boolean ring) {
+      int end = part.size();
+      for (int i = 0; i < end; i++) {
+        Point point = part.get(i);
+        addCoordinate(point.longitude(), point.latitude(), !ring || i < end - 1);
+        if (i > 0) {
+          Point previous = part.get(i - 1);
+          length.add(TurfKernels.distance(previous.longitude(), previous.latitude(),
+            point.longitude(), point.latitude(), unitFactor));
+        }
+      }
+    }
+
+    private void addCoordinate(double longitude, double latitude, boolean centroid) {
+      coordinateCount++;
+      if (bbox[0] > longitude) {
+        bbox[0] = longitude;
+      }
+      if (bbox[1] > latitude) {
+        bbox[1] = latitude;
+      }
+      if (bbox[2] < longitude) {
+        bbox[2] = longitude;
+      }
+      if (bbox[3] < latitude) {
+        bbox[3] = latitude;
+      }
+      if (centroid) {
+        longitudes.add(longitude);
+        latitudes.add(latitude);
+        centroidCount++;
+      }
+    }
+
+    Summary toSummary() {
+      Point centroid = centroidCount == 0 ? null : Point.fromLngLat(
+        longitudes.value() / centroidCount, latitudes.value() / centroidCount);
+      return new Summary(featureCount, coordinateCount, area.value(), length.value(),
+        bbox.clone(), centroid);
+    }
+  }
+
+  /**
+   * Computes the aggregates of a whole collection, the task handed out to callers.
+   *
+   * @since 5.10.0
+   */
+  private static final class SummaryTask extends RecursiveTask<Summary> {
+
+    private final List<Feature> features;
+    private final String units;
+
+    SummaryTask(List<Feature> features, String units) {
+      this.features = features;
+      this.units = units;
+    }
+
+    @Override
+    protected Summary compute() {
+      return new AccumulateTask(this, features, TurfKernels.unitFactor(units), 0,
+        features.size()).compute().toSummary();
+    }
+  }
+
+  /**
+   * Aggregates a range of features, splitting large ranges in halves. The ranges don't depend on
+   * whether the task runs in a pool, so neither do the results.
+   *
+   * @since 5.10.0
+   */
+  private static final class AccumulateTask extends RecursiveTask<Accumulator> {
+
+    private final ForkJoinTask<?> root;
+    private final List<Feature> features;
+    private final double unitFactor;
+    private final int from;
+    private final int to;
+
+    AccumulateTask(ForkJoinTask<?> root, List<Feature> features, double unitFactor, int from,
+                   int to) {
+      this.root = root;
+      this.features = features;
+      this.unitFactor = unitFactor;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Accumulator compute() {
+      if (to - from > PARALLEL_THRESHOLD) {
+        int middle = (from + to) >>> 1;
+        AccumulateTask first = new AccumulateTask(root, features, unitFactor, from, middle);
+        AccumulateTask second = new AccumulateTask(root, features, unitFactor, middle, to);
+        Accumulator accumulator;
+        if (inForkJoinPool()) {
+          second.fork();
+          accumulator = first.compute();
+          accumulator.add(second.join());
+        } else {
+          accumulator = first.compute();
+          accumulator.add(second.compute());
+        }
+        return accumulator;
+      }
+      Accumulator accumulator = new Accumulator(unitFactor);
+      for (int i = from; i < to; i++) {
+        if ((i - from) % CANCELLATION_INTERVAL == 0 && root.isCancelled()) {
+          throw new CancellationException();
+        }
+        accumulator.add(features.get(i));
+      }
+      return accumulator;
+    }
+  }
+}
@@ -43,4 +43,22 @@ public class TurfClassification {
     }
     return nearestPoint;
   }
+
+  /**
+   * Takes a reference point and an index of {@link Point} geometries and returns the point from
+   * the index closest to the reference. This calculation is geodesic and only looks at the few
+   * points of the index that could be the closest, instead of measuring the distance to every
+   * point.
+   *
+   * @param targetPoint the reference point
+   * @param points      index of the points to run against the input point
+   * @return the closest point in the index to the reference point, or the reference point itself
+   *   if the index is empty
+   * @since 5.10.0
+   */
+  @NonNull
+  public static Point nearestPoint(@NonNull Point targetPoint, @NonNull PointIndex points) {
+    int nearest = points.nearest(targetPoint);
+    return nearest < 0 ? targetPoint : points.get(nearest);
+  }
 }
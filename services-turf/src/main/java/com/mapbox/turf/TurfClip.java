@@ -0,0 +1,444 @@
+package com.mapbox.turf;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.mapbox.geojson.BoundingBox;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.MultiPoint;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.PackedCoordinates;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Methods in this class cut geometries to a bounding box, like turf's {@code bboxClip}. Lines are
+ * clipped with the Cohen-Sutherland algorithm and polygon rings with the Sutherland-Hodgman
+ * algorithm, both in a single pass over the packed coordinates of the geometry. Altitudes are
+ * not kept.
+ *
+ * @see <a href="http://turfjs.org/docs/#bboxClip">Turf bboxClip documentation</a>
+ * @since 5.10.0
+ */
+public final class TurfClip {
+
+  private static final int LEFT = 1;
+  private static final int RIGHT = 2;
+  private static final int BOTTOM = 4;
+  private static final int TOP = 8;
+
+  private TurfClip() {
+    // Private constructor preventing initialization of this class
+  }
+
+  /**
+   * Clips a {@link LineString} to a bounding box. A line leaving and entering the box again is
+   * cut into several lines.
+   *
+   * @param lineString the line to clip
+   * @param bbox       the box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the parts of the line within the box, possibly none
+   * @since 5.10.0
+   */
+  @NonNull
+  public static MultiLineString bboxClip(@NonNull LineString lineString, @NonNull double[] bbox) {
+    return clipLines(TurfMeta.packedCoordinates(lineString), bbox);
+  }
+
+  /**
+   * Clips a {@link MultiLineString} to a bounding box. A line leaving and entering the box again
+   * is cut into several lines.
+   *
+   * @param multiLineString the lines to clip
+   * @param bbox            the box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the parts of the lines within the box, possibly none
+   * @since 5.10.0
+   */
+  @NonNull
+  public static MultiLineString bboxClip(@NonNull MultiLineString multiLineString,
+                                         @NonNull double[] bbox) {
+    return clipLines(TurfMeta.packedCoordinates(multiLineString), bbox);
+  }
+
+  /**
+   * Clips a {@link Polygon} to a bounding box. Rings left with less than 4 coordinates are
+   * dropped.
+   *
+   * @param polygon the polygon to clip
+   * @param bbox    the box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the part of the polygon within the box, or null if its outer ring is outside
+   * @since 5.10.0
+   */
+  @Nullable
+  public static Polygon bboxClip(@NonNull Polygon polygon, @NonNull double[] bbox) {
+    Clipper clipper = new Clipper(bbox);
+    PackedCoordinates packed = TurfMeta.packedCoordinates(polygon);
+    if (!clipper.clipPolygon(packed, 0)) {
+      return null;
+    }
+    return Polygon.fromLngLats(clipper.coordinates(), 2, clipper.parts());
+  }
+
+  /**
+   * Clips a {@link MultiPolygon} to a bounding box. Rings left with less than 4 coordinates are
+   * dropped, and so are polygons whose outer ring is outside the box.
+   *
+   * @param multiPolygon the polygons to clip
+   * @param bbox         the box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the parts of the polygons within the box, possibly none
+   * @since 5.10.0
+   */
+  @NonNull
+  public static MultiPolygon bboxClip(@NonNull MultiPolygon multiPolygon,
+                                      @NonNull double[] bbox) {
+    Clipper clipper = new Clipper(bbox);
+    PackedCoordinates packed = TurfMeta.packedCoordinates(multiPolygon);
+    int[] polygonOffsets = new int[packed.polygonCount()];
+    int polygonCount = 0;
+    for (int i = 0; i < packed.polygonCount(); i++) {
+      int firstRing = clipper.partCount;
+      if (clipper.clipPolygon(packed, i)) {
+        polygonOffsets[polygonCount++] = firstRing;
+      }
+    }
+    if (polygonCount == 0) {
+      return MultiPolygon.fromLngLats(new ArrayList<List<List<Point>>>());
+    }
+    return MultiPolygon.fromLngLats(clipper.coordinates(), 2, clipper.parts(),
+      Arrays.copyOf(polygonOffsets, polygonCount));
+  }
+
+  /**
+   * Clips the geometry of a {@link Feature} to a bounding box, keeping its properties and id.
+   * Lines and polygons are clipped as by the other {@code bboxClip} methods, a clipped line left
+   * in a single part becoming a {@link LineString}. Points and multi points keep the points within
+   * the box.
+   *
+   * @param feature the feature to clip
+   * @param bbox    the box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the clipped feature, or null if nothing of it is within the box
+   * @throws TurfException if the feature has no geometry or a {@code GeometryCollection}
+   * @since 5.10.0
+   */
+  @Nullable
+  public static Feature bboxClip(@NonNull Feature feature, @NonNull double[] bbox) {
+    Geometry clipped = clip(feature.geometry(), bbox);
+    return clipped == null ? null
+      : Feature.fromGeometry(clipped, feature.properties(), feature.id());
+  }
+
+  /**
+   * Clips every feature of a {@link FeatureCollection} to a bounding box, like
+   * {@link #bboxClip(Feature, double[])}. The bounding box of every feature, its own one or else
+   * a computed one, is checked first: features fully outside the box, or without any geometry,
+   * are dropped and features fully inside it are kept as they are, without clipping them.
+   *
+   * @param featureCollection the features to clip
+   * @param bbox              the box in this order {@code [minX, minY, maxX, maxY]}
+   * @return the clipped features, in order, without the ones that are outside the box
+   * @throws TurfException if a feature crossing the box has a {@code GeometryCollection}
+   * @since 5.10.0
+   */
+  @NonNull
+  public static FeatureCollection bboxClip(@NonNull FeatureCollection featureCollection,
+                                           @NonNull double[] bbox) {
+    List<Feature> features = featureCollection.features();
+    List<Feature> clipped = new ArrayList<>();
+    if (features != null) {
+      for (Feature feature : features) {
+        double[] extent = extent(feature);
+        if (extent[0] > bbox[2] || extent[2] < bbox[0]
+          || extent[1] > bbox[3] || extent[3] < bbox[1]) {
+          continue;
+        }
+        if (extent[0] >= bbox[0] && extent[2] <= bbox[2]
+          && extent[1] >= bbox[1] && extent[3] <= bbox[3]) {
+          clipped.add(feature);
+          continue;
+        }
+        Feature clippedFeature = bboxClip(feature, bbox);
+        if (clippedFeature != null) {
+          clipped.add(clippedFeature);
+        }
+      }
+    }
+    return FeatureCollection.fromFeatures(clipped);
+  }
+
+  private static double[] extent(Feature feature) {
+    BoundingBox boundingBox = feature.bbox();
+    if (boundingBox == null && feature.geometry() != null) {
+      boundingBox = feature.geometry().bbox();
+    }
+    if (boundingBox != null) {
+      return new double[] {boundingBox.west(), boundingBox.south(), boundingBox.east(),
+        boundingBox.north()};
+    }
+    return TurfMeasurement.bbox(feature);
+  }
+
+  @Nullable
+  private static Geometry clip(@Nullable Geometry geometry, double[] bbox) {
+    if (geometry instanceof Point) {
+      return bitCode(((Point) geometry).longitude(), ((Point) geometry).latitude(), bbox) == 0
+        ? geometry : null;
+    } else if (geometry instanceof MultiPoint) {
+      List<Point> inside = new ArrayList<>();
+      for (Point point : ((MultiPoint) geometry).coordinates()) {
+        if (bitCode(point.longitude(), point.latitude(), bbox) == 0) {
+          inside.add(point);
+        }
+      }
+      return inside.isEmpty() ? null : MultiPoint.fromLngLats(inside);
+    } else if (geometry instanceof LineString || geometry instanceof MultiLineString) {
+      MultiLineString lines = geometry instanceof LineString
+        ? bboxClip((LineString) geometry, bbox) : bboxClip((MultiLineString) geometry, bbox);
+      int lineCount = lines.isPacked() ? lines.packedCoordinates().partCount()
+        : lines.coordinates().size();
+      if (lineCount == 0) {
+        return null;
+      }
+      return lineCount == 1 ? lines.lineStrings().get(0) : lines;
+    } else if (geometry instanceof Polygon) {
+      return bboxClip((Polygon) geometry, bbox);
+    } else if (geometry instanceof MultiPolygon) {
+      MultiPolygon polygons = bboxClip((MultiPolygon) geometry, bbox);
+      return polygons.coordinates().isEmpty() ? null : polygons;
+    }
+    throw new TurfException("bboxClip requires a Point, MultiPoint, LineString, "
+      + "MultiLineString, Polygon or MultiPolygon geometry.");
+  }
+
+  private static MultiLineString clipLines(PackedCoordinates packed, double[] bbox) {
+    Clipper clipper = new Clipper(bbox);
+    for (int part = 0; part < packed.partCount(); part++) {
+      clipper.clipLine(packed, packed.partStart(part), packed.partEnd(part));
+    }
+    if (clipper.partCount == 0) {
+      return MultiLineString.fromLngLats(new ArrayList<List<Point>>());
+    }
+    return MultiLineString.fromLngLats(clipper.coordinates(), 2, clipper.parts());
+  }
+
+  private static int bitCode(double lon, double lat, double[] bbox) {
+    int code = 0;
+    if (lon < bbox[0]) {
+      code |= LEFT;
+    } else if (lon > bbox[2]) {
+      code |= RIGHT;
+    }
+    if (lat < bbox[1]) {
+      code |= BOTTOM;
+    } else if (lat > bbox[3]) {
+      code |= TOP;
+    }
+    return code;
+  }
+
+  /**
+   * Clips lines and rings into growing packed coordinates, one part after the other.
+   *
+   * @since 5.10.0
+   */
+  private static final class Clipper {
+
+    private final double[] bbox;
+    private double[] coordinates = new double[64];
+    private int size;
+    private int[] parts = new int[4];
+    private int partCount;
+    // Sutherland-Hodgman passes go back and forth between these two
+    private double[] ring = new double[64];
+    private double[] nextRing = new double[64];
+
+    Clipper(double[] bbox) {
+      this.bbox = bbox;
+    }
+
+    double[] coordinates() {
+      return Arrays.copyOf(coordinates, size * 2);
+    }
+
+    int[] parts() {
+      return Arrays.copyOf(parts, partCount);
+    }
+
+    /**
+     * Cohen-Sutherland clipping of the line between the given coordinates, adding a part every
+     * time the line gets into the box.
+     */
+    void clipLine(PackedCoordinates packed, int start, int end) {
+      boolean inPart = false;
+      int codeA = bitCode(packed.lon(start), packed.lat(start), bbox);
+      for (int i = start + 1; i < end; i++) {
+        double ax = packed.lon(i - 1);
+        double ay = packed.lat(i - 1);
+        double bx = packed.lon(i);
+        double by = packed.lat(i);
+        int lastCode = bitCode(bx, by, bbox);
+        int codeB = lastCode;
+
+        while (true) {
+          if ((codeA | codeB) == 0) {
+            // Accepted, from the possibly moved a to the possibly moved b
+            if (!inPart) {
+              startPart();
+              inPart = true;
+            }
+            add(ax, ay);
+            if (codeB != lastCode) {
+              // The segment leaves the box
+              add(bx, by);
+              inPart = false;
+            } else if (i == end - 1) {
+              add(bx, by);
+            }
+            break;
+          } else if ((codeA & codeB) != 0) {
+            break;
+          } else if (codeA != 0) {
+            double lon = intersectX(ax, ay, bx, by, codeA);
+            ay = intersectY(ax, ay, bx, by, codeA);
+            ax = lon;
+            codeA = bitCode(ax, ay, bbox);
+          } else {
+            double lon = intersectX(ax, ay, bx, by, codeB);
+            by = intersectY(ax, ay, bx, by, codeB);
+            bx = lon;
+            codeB = bitCode(bx, by, bbox);
+          }
+        }
+        codeA = lastCode;
+      }
+    }
+
+    /**
+     * Sutherland-Hodgman clipping of the rings of a polygon against every side of the box,
+     * keeping the rings left with at least 4 coordinates once closed.
+     *
+     * @return false if the outer ring is dropped, in which case nothing is added
+     */
+    boolean clipPolygon(PackedCoordinates packed, int polygon) {
+      int firstPart = partCount;
+      int firstSize = size;
+      for (int part = packed.polygonStart(polygon); part < packed.polygonEnd(polygon); part++) {
+        int count = clipRing(packed, packed.partStart(part), packed.partEnd(part));
+        boolean outer = part == packed.polygonStart(polygon);
+        if (count == 0) {
+          if (outer) {
+            return false;
+          }
+          continue;
+        }
+        boolean closed = ring[0] == ring[count * 2 - 2] && ring[1] == ring[count * 2 - 1];
+        if (count + (closed ? 0 : 1) < 4) {
+          if (outer) {
+            partCount = firstPart;
+            size = firstSize;
+            return false;
+          }
+          continue;
+        }
+        startPart();
+        for (int i = 0; i < count; i++) {
+          add(ring[i * 2], ring[i * 2 + 1]);
+        }
+        if (!closed) {
+          add(ring[0], ring[1]);
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Clips a ring into {@link #ring}.
+     *
+     * @return the number of coordinates left
+     */
+    private int clipRing(PackedCoordinates packed, int start, int end) {
+      int count = end - start;
+      ring = ensure(ring, count * 2);
+      for (int i = 0; i < count; i++) {
+        ring[i * 2] = packed.lon(start + i);
+        ring[i * 2 + 1] = packed.lat(start + i);
+      }
+      for (int edge = LEFT; edge <= TOP && count > 0; edge *= 2) {
+        // Every coordinate adds at most two, the crossing and itself
+        nextRing = ensure(nextRing, count * 4);
+        int nextCount = 0;
+        double prevX = ring[count * 2 - 2];
+        double prevY = ring[count * 2 - 1];
+        boolean prevInside = (bitCode(prevX, prevY, bbox) & edge) == 0;
+        for (int i = 0; i < count; i++) {
+          double lon = ring[i * 2];
+          double lat = ring[i * 2 + 1];
+          boolean inside = (bitCode(lon, lat, bbox) & edge) == 0;
+          if (inside != prevInside) {
+            nextRing[nextCount * 2] = intersectX(prevX, prevY, lon, lat, edge);
+            nextRing[nextCount * 2 + 1] = intersectY(prevX, prevY, lon, lat, edge);
+            nextCount++;
+          }
+          if (inside) {
+            nextRing[nextCount * 2] = lon;
+            nextRing[nextCount * 2 + 1] = lat;
+            nextCount++;
+          }
+          prevX = lon;
+          prevY = lat;
+          prevInside = inside;
+        }
+        double[] swapped = ring;
+        ring = nextRing;
+        nextRing = swapped;
+        count = nextCount;
+      }
+      return count;
+    }
+
+    private double intersectX(double ax, double ay, double bx, double by, int edge) {
+      if ((edge & TOP) != 0) {
+        return ax + (bx - ax) * (bbox[3] - ay) / (by - ay);
+      } else if ((edge & BOTTOM) != 0) {
+        return ax + (bx - ax) * (bbox[1] - ay) / (by - ay);
+      }
+      return (edge & RIGHT) != 0 ? bbox[2] : bbox[0];
+    }
+
+    private double intersectY(double ax, double ay, double bx, double by, int edge) {
+      if ((edge & TOP) != 0) {
+        return bbox[3];
+      } else if ((edge & BOTTOM) != 0) {
+        return bbox[1];
+      } else if ((edge & RIGHT) != 0) {
+        return ay + (by - ay) * (bbox[2] - ax) / (bx - ax);
+      }
+      return ay + (by - ay) * (bbox[0] - ax) / (bx - ax);
+    }
+
+    private void startPart() {
+      if (partCount == parts.length) {
+        parts = Arrays.copyOf(parts, partCount * 2);
+      }
+      parts[partCount++] = size;
+    }
+
+    private void add(double lon, double lat) {
+      coordinates = ensure(coordinates, size * 2 + 2);
+      coordinates[size * 2] = lon;
+      coordinates[size * 2 + 1] = lat;
+      size++;
+    }
+
+    private static double[] ensure(double[] values, int length) {
+      return values.length >= length ? values : Arrays.copyOf(values, Math.max(length,
+        values.length * 2));
+    }
+  }
+}
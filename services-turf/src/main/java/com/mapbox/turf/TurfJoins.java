@@ -1,5 +1,6 @@
 package com.mapbox.turf;
 
+import androidx.annotation.Nullable;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.Point;
@@ -7,7 +8,11 @@ import com.mapbox.geojson.Polygon;
 import com.mapbox.geojson.MultiPolygon;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Class contains methods that can determine if points lie within a polygon or not.
@@ -17,6 +22,9 @@ import java.util.List;
  */
 public final class TurfJoins {
 
+  // Below this many points a join isn't worth splitting into fork-join tasks
+  private static final int PARALLEL_THRESHOLD = 4096;
+
   private TurfJoins() {
     // Private constructor preventing initialization of this class
   }
@@ -32,11 +40,7 @@ public final class TurfJoins {
    * @since 1.3.0
    */
   public static boolean inside(Point point, Polygon polygon) {
-    // This API needs to get better
-    List<List<Point>> coordinates = polygon.coordinates();
-    List<List<List<Point>>> multiCoordinates = new ArrayList<>();
-    multiCoordinates.add(coordinates);
-    return inside(point, MultiPolygon.fromLngLats(multiCoordinates));
+    return insidePolygon(point, polygon.coordinates());
   }
 
   /**
@@ -55,25 +59,48 @@ public final class TurfJoins {
 
     boolean insidePoly = false;
     for (int i = 0; i < polys.size() && !insidePoly; i++) {
-      // check if it is in the outer ring first
-      if (inRing(point, polys.get(i).get(0))) {
-        boolean inHole = false;
-        int temp = 1;
-        // check for the point in any of the holes
-        while (temp < polys.get(i).size() && !inHole) {
-          if (inRing(point, polys.get(i).get(temp))) {
-            inHole = true;
-          }
-          temp++;
-        }
-        if (!inHole) {
-          insidePoly = true;
-        }
-      }
+      insidePoly = insidePolygon(point, polys.get(i));
     }
     return insidePoly;
   }
 
+  /**
+   * Takes a list of {@link Point}s and a {@link PolygonIndex} and determines, for every point, if
+   * it resides inside at least one of the indexed polygons.
+   *
+   * @param points   which you'd like to check if inside the polygons
+   * @param polygons the index of the polygons
+   * @return an array holding, at the position of each point, true if the point is inside
+   * @since 5.10.0
+   */
+  public static boolean[] inside(List<Point> points, PolygonIndex polygons) {
+    return inside(points, polygons, null);
+  }
+
+  /**
+   * Takes a list of {@link Point}s and a {@link PolygonIndex} and determines, for every point, if
+   * it resides inside at least one of the indexed polygons. When a {@link ForkJoinPool} is given,
+   * large lists of points are split into tasks run by the pool.
+   *
+   * @param points   which you'd like to check if inside the polygons
+   * @param polygons the index of the polygons
+   * @param pool     optionally, the pool running the tests in parallel
+   * @return an array holding, at the position of each point, true if the point is inside
+   * @since 5.10.0
+   */
+  public static boolean[] inside(List<Point> points, PolygonIndex polygons,
+                                 @Nullable ForkJoinPool pool) {
+    double[] coordinates = coordinates(points);
+    boolean[] inside = new boolean[points.size()];
+    InsideTask task = new InsideTask(polygons, coordinates, inside, 0, inside.length);
+    if (pool != null && inside.length > PARALLEL_THRESHOLD) {
+      pool.invoke(task);
+    } else {
+      task.compute();
+    }
+    return inside;
+  }
+
   /**
    * Takes a {@link FeatureCollection} of {@link Point} and a {@link FeatureCollection} of
    * {@link Polygon} and returns the points that fall within the polygons.
@@ -85,18 +112,85 @@ public final class TurfJoins {
    */
   public static FeatureCollection pointsWithinPolygon(FeatureCollection points,
                                                       FeatureCollection polygons) {
-    ArrayList<Feature> features = new ArrayList<>();
-    for (int i = 0; i < polygons.features().size(); i++) {
-      for (int j = 0; j < points.features().size(); j++) {
-        Point point = (Point) points.features().get(j).geometry();
-        boolean isInside
-          = TurfJoins.inside(point, (Polygon) polygons.features().get(i).geometry());
-        if (isInside) {
-          features.add(Feature.fromGeometry(point));
+    return pointsWithinPolygon(points, polygons, null);
+  }
+
+  /**
+   * Takes a {@link FeatureCollection} of {@link Point} and a {@link FeatureCollection} of
+   * {@link Polygon} and returns the points that fall within the polygons. The polygons are put in
+   * a {@link PolygonIndex} first, so each point is only tested against the polygons whose bounding
+   * box contains it. When a {@link ForkJoinPool} is given, large collections of points are split
+   * into tasks run by the pool.
+   * <p>
+   * As with {@link #pointsWithinPolygon(FeatureCollection, FeatureCollection)}, the result lists
+   * the points within the first polygon, then the ones within the second polygon and so on, so a
+   * point is listed once for every polygon it lands within.
+   * </p>
+   *
+   * @param points   input points.
+   * @param polygons input polygons.
+   * @param pool     optionally, the pool running the tests in parallel.
+   * @return points that land within at least one polygon.
+   * @since 5.10.0
+   */
+  public static FeatureCollection pointsWithinPolygon(FeatureCollection points,
+                                                      FeatureCollection polygons,
+                                                      @Nullable ForkJoinPool pool) {
+    PolygonIndex index = PolygonIndex.fromFeatureCollection(polygons);
+    List<Point> pointList = new ArrayList<>(points.features().size());
+    for (Feature feature : points.features()) {
+      pointList.add((Point) feature.geometry());
+    }
+
+    // Matches come out as polygon and point pairs, ordered by point
+    JoinTask task = new JoinTask(index, coordinates(pointList), 0, pointList.size());
+    int[] matches = pool != null && pointList.size() > PARALLEL_THRESHOLD
+      ? pool.invoke(task) : task.compute();
+
+    // Stable counting sort of the pairs by polygon
+    int[] offsets = new int[index.size() + 1];
+    for (int i = 0; i < matches.length; i += 2) {
+      offsets[matches[i] + 1]++;
+    }
+    for (int i = 1; i < offsets.length; i++) {
+      offsets[i] += offsets[i - 1];
+    }
+    Point[] sorted = new Point[matches.length / 2];
+    for (int i = 0; i < matches.length; i += 2) {
+      sorted[offsets[matches[i]]++] = pointList.get(matches[i + 1]);
+    }
+
+    ArrayList<Feature> features = new ArrayList<>(sorted.length);
+    for (Point point : sorted) {
+      features.add(Feature.fromGeometry(point));
+    }
+    return FeatureCollection.fromFeatures(features);
+  }
+
+  private static boolean insidePolygon(Point point, List<List<Point>> rings) {
+    // check if it is in the outer ring first
+    if (inRing(point, rings.get(0))) {
+      int temp = 1;
+      // check for the point in any of the holes
+      while (temp < rings.size()) {
+        if (inRing(point, rings.get(temp))) {
+          return false;
         }
+        temp++;
       }
+      return true;
     }
-    return FeatureCollection.fromFeatures(features);
+    return false;
+  }
+
+  private static double[] coordinates(List<Point> points) {
+    double[] coordinates = new double[points.size() * 2];
+    int offset = 0;
+    for (Point point : points) {
+      coordinates[offset++] = point.longitude();
+      coordinates[offset++] = point.latitude();
+    }
+    return coordinates;
   }
 
   // pt is [x,y] and ring is [[x,y], [x,y],..]
@@ -117,4 +211,86 @@ public final class TurfJoins {
     }
     return isInside;
   }
+
+  /**
+   * Tests a range of points against a {@link PolygonIndex}, splitting large ranges in halves.
+   *
+   * @since 5.10.0
+   */
+  private static final class InsideTask extends RecursiveAction {
+
+    private final PolygonIndex polygons;
+    private final double[] coordinates;
+    private final boolean[] inside;
+    private final int from;
+    private final int to;
+
+    InsideTask(PolygonIndex polygons, double[] coordinates, boolean[] inside, int from, int to) {
+      this.polygons = polygons;
+      this.coordinates = coordinates;
+      this.inside = inside;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > PARALLEL_THRESHOLD && inForkJoinPool()) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new InsideTask(polygons, coordinates, inside, from, middle),
+          new InsideTask(polygons, coordinates, inside, middle, to));
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        inside[i] = polygons.contains(coordinates[i * 2], coordinates[i * 2 + 1]);
+      }
+    }
+  }
+
+  /**
+   * Finds the polygons containing each point of a range, as polygon and point index pairs ordered
+   * by point, splitting large ranges in halves.
+   *
+   * @since 5.10.0
+   */
+  private static final class JoinTask extends RecursiveTask<int[]> {
+
+    private final PolygonIndex polygons;
+    private final double[] coordinates;
+    private final int from;
+    private final int to;
+
+    JoinTask(PolygonIndex polygons, double[] coordinates, int from, int to) {
+      this.polygons = polygons;
+      this.coordinates = coordinates;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected int[] compute() {
+      if (to - from > PARALLEL_THRESHOLD && inForkJoinPool()) {
+        int middle = (from + to) >>> 1;
+        JoinTask second = new JoinTask(polygons, coordinates, middle, to);
+        second.fork();
+        int[] first = new JoinTask(polygons, coordinates, from, middle).compute();
+        int[] last = second.join();
+        int[] matches = Arrays.copyOf(first, first.length + last.length);
+        System.arraycopy(last, 0, matches, first.length, last.length);
+        return matches;
+      }
+      int[] matches = new int[16];
+      int count = 0;
+      for (int i = from; i < to; i++) {
+        for (int polygon : polygons.containing(coordinates[i * 2], coordinates[i * 2 + 1])) {
+          if (count == matches.length) {
+            matches = Arrays.copyOf(matches, count * 2);
+          }
+          matches[count++] = polygon;
+          matches[count++] = i;
+        }
+      }
+      return Arrays.copyOf(matches, count);
+    }
+  }
 }
@@ -0,0 +1,198 @@
+package com.mapbox.turf;
+
+import static com.mapbox.turf.TurfConversion.degreesToRadians;
+import static com.mapbox.turf.TurfConversion.radiansToDegrees;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Low level measurement kernels working on raw longitudes and latitudes, for hot loops that
+ * can't afford a {@link com.mapbox.geojson.Point} per coordinate or a units lookup per call.
+ * Units are given as a factor, the length of one radian of arc, resolved once with
+ * {@link #unitFactor(String)}. The bulk forms read coordinates from separate longitude and latitude
+ * arrays and write their results to an output array in a single tight loop.
+ * <p>
+ * The results are the same as the ones of the {@link TurfMeasurement} methods, which delegate to
+ * these kernels.
+ * </p>
+ *
+ * @since 5.10.0
+ */
+public final class TurfKernels {
+
+  private TurfKernels() {
+    // Private constructor preventing initialization of this class
+  }
+
+  /**
+   * Resolves the factor turning radians of arc into the given units, as used by
+   * {@link TurfConversion#radiansToLength(double, String)}.
+   *
+   * @param units one of the units found inside {@link TurfConstants.TurfUnitCriteria}
+   * @return the length of one radian of arc in the given units
+   * @since 5.10.0
+   */
+  public static double unitFactor(@NonNull @TurfConstants.TurfUnitCriteria String units) {
+    return TurfConversion.radiansToLength(1, units);
+  }
+
+  /**
+   * Calculates the distance between two coordinates with the Haversine formula, like
+   * {@link TurfMeasurement#distance(com.mapbox.geojson.Point, com.mapbox.geojson.Point, String)}.
+   *
+   * @param longitude1 longitude of the first coordinate
+   * @param latitude1  latitude of the first coordinate
+   * @param longitude2 longitude of the second coordinate
+   * @param latitude2  latitude of the second coordinate
+   * @param unitFactor the length of one radian of arc, see {@link #unitFactor(String)}
+   * @return the distance between the two coordinates
+   * @since 5.10.0
+   */
+  public static double distance(double longitude1, double latitude1, double longitude2,
+                                double latitude2, double unitFactor) {
+    double difLat = degreesToRadians((latitude2 - latitude1));
+    double difLon = degreesToRadians((longitude2 - longitude1));
+    double lat1 = degreesToRadians(latitude1);
+    double lat2 = degreesToRadians(latitude2);
+
+    double value = Math.pow(Math.sin(difLat / 2), 2)
+      + Math.pow(Math.sin(difLon / 2), 2) * Math.cos(lat1) * Math.cos(lat2);
+
+    return 2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value)) * unitFactor;
+  }
+
+  /**
+   * Calculates the geographic bearing between two coordinates, like
+   * {@link TurfMeasurement#bearing(com.mapbox.geojson.Point, com.mapbox.geojson.Point)}.
+   *
+   * @param longitude1 longitude of the first coordinate
+   * @param latitude1  latitude of the first coordinate
+   * @param longitude2 longitude of the second coordinate
+   * @param latitude2  latitude of the second coordinate
+   * @return bearing in decimal degrees
+   * @since 5.10.0
+   */
+  public static double bearing(double longitude1, double latitude1, double longitude2,
+                               double latitude2) {
+    double lon1 = degreesToRadians(longitude1);
+    double lon2 = degreesToRadians(longitude2);
+    double lat1 = degreesToRadians(latitude1);
+    double lat2 = degreesToRadians(latitude2);
+    double value1 = Math.sin(lon2 - lon1) * Math.cos(lat2);
+    double value2 = Math.cos(lat1) * Math.sin(lat2) - Math.sin(lat1)
+      * Math.cos(lat2) * Math.cos(lon2 - lon1);
+
+    return radiansToDegrees(Math.atan2(value1, value2));
+  }
+
+  /**
+   * Calculates the location of a destination given a distance and a bearing, like
+   * {@link TurfMeasurement#destination(com.mapbox.geojson.Point, double, double, String)}.
+   *
+   * @param longitude  longitude of the starting coordinate
+   * @param latitude   latitude of the starting coordinate
+   * @param distance   distance from the starting coordinate
+   * @param bearing    ranging from -180 to 180 in decimal degrees
+   * @param unitFactor the length of one radian of arc, see {@link #unitFactor(String)}
+   * @param out        receives the longitude and the latitude of the destination
+   * @param offset     position in {@code out} of the longitude
+   * @since 5.10.0
+   */
+  public static void destination(double longitude, double latitude, double distance,
+                                 double bearing, double unitFactor, @NonNull double[] out,
+                                 int offset) {
+    double longitude1 = degreesToRadians(longitude);
+    double latitude1 = degreesToRadians(latitude);
+    double bearingRad = degreesToRadians(bearing);
+
+    double radians = distance / unitFactor;
+
+    double latitude2 = Math.asin(Math.sin(latitude1) * Math.cos(radians)
+      + Math.cos(latitude1) * Math.sin(radians) * Math.cos(bearingRad));
+    double longitude2 = longitude1 + Math.atan2(Math.sin(bearingRad)
+        * Math.sin(radians) * Math.cos(latitude1),
+      Math.cos(radians) - Math.sin(latitude1) * Math.sin(latitude2));
+
+    out[offset] = radiansToDegrees(longitude2);
+    out[offset + 1] = radiansToDegrees(latitude2);
+  }
+
+  /**
+   * Calculates the distances from one coordinate to many.
+   *
+   * @param longitude  longitude of the reference coordinate
+   * @param latitude   latitude of the reference coordinate
+   * @param longitudes longitudes of the other coordinates
+   * @param latitudes  latitudes of the other coordinates
+   * @param out        receives the distance to each coordinate at its position
+   * @param count      the number of coordinates
+   * @param unitFactor the length of one radian of arc, see {@link #unitFactor(String)}
+   * @since 5.10.0
+   */
+  public static void distances(double longitude, double latitude, @NonNull double[] longitudes,
+                               @NonNull double[] latitudes, @NonNull double[] out, int count,
+                               double unitFactor) {
+    double lat1 = degreesToRadians(latitude);
+    double cosLat1 = Math.cos(lat1);
+    for (int i = 0; i < count; i++) {
+      double difLat = degreesToRadians((latitudes[i] - latitude));
+      double difLon = degreesToRadians((longitudes[i] - longitude));
+      double lat2 = degreesToRadians(latitudes[i]);
+      double value = Math.pow(Math.sin(difLat / 2), 2)
+        + Math.pow(Math.sin(difLon / 2), 2) * cosLat1 * Math.cos(lat2);
+      out[i] = 2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value)) * unitFactor;
+    }
+  }
+
+  /**
+   * Calculates the length of every segment of a line, the segment {@code i} going from the
+   * coordinate {@code i} to the coordinate {@code i + 1}.
+   *
+   * @param longitudes longitudes of the coordinates of the line
+   * @param latitudes  latitudes of the coordinates of the line
+   * @param out        receives the length of each segment at its position, {@code count - 1}
+   *                   values
+   * @param count      the number of coordinates
+   * @param unitFactor the length of one radian of arc, see {@link #unitFactor(String)}
+   * @since 5.10.0
+   */
+  public static void segmentDistances(@NonNull double[] longitudes, @NonNull double[] latitudes,
+                                      @NonNull double[] out, int count, double unitFactor) {
+    for (int i = 0; i < count - 1; i++) {
+      double difLat = degreesToRadians((latitudes[i + 1] - latitudes[i]));
+      double difLon = degreesToRadians((longitudes[i + 1] - longitudes[i]));
+      double lat1 = degreesToRadians(latitudes[i]);
+      double lat2 = degreesToRadians(latitudes[i + 1]);
+      double value = Math.pow(Math.sin(difLat / 2), 2)
+        + Math.pow(Math.sin(difLon / 2), 2) * Math.cos(lat1) * Math.cos(lat2);
+      out[i] = 2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value)) * unitFactor;
+    }
+  }
+
+  /**
+   * Calculates the bearings from one coordinate to many.
+   *
+   * @param longitude  longitude of the reference coordinate
+   * @param latitude   latitude of the reference coordinate
+   * @param longitudes longitudes of the other coordinates
+   * @param latitudes  latitudes of the other coordinates
+   * @param out        receives the bearing to each coordinate at its position, in decimal degrees
+   * @param count      the number of coordinates
+   * @since 5.10.0
+   */
+  public static void bearings(double longitude, double latitude, @NonNull double[] longitudes,
+                              @NonNull double[] latitudes, @NonNull double[] out, int count) {
+    double lon1 = degreesToRadians(longitude);
+    double lat1 = degreesToRadians(latitude);
+    double sinLat1 = Math.sin(lat1);
+    double cosLat1 = Math.cos(lat1);
+    for (int i = 0; i < count; i++) {
+      double lon2 = degreesToRadians(longitudes[i]);
+      double lat2 = degreesToRadians(latitudes[i]);
+      double value1 = Math.sin(lon2 - lon1) * Math.cos(lat2);
+      double value2 = cosLat1 * Math.sin(lat2) - sinLat1
+        * Math.cos(lat2) * Math.cos(lon2 - lon1);
+      out[i] = radiansToDegrees(Math.atan2(value1, value2));
+    }
+  }
+}
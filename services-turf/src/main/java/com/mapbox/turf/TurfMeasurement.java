@@ -1,8 +1,5 @@
 package com.mapbox.turf;
 
-import static com.mapbox.turf.TurfConversion.degreesToRadians;
-import static com.mapbox.turf.TurfConversion.radiansToDegrees;
-
 import androidx.annotation.FloatRange;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -54,16 +51,8 @@ public final class TurfMeasurement {
    * @since 1.3.0
    */
   public static double bearing(@NonNull Point point1, @NonNull Point point2) {
-
-    double lon1 = degreesToRadians(point1.longitude());
-    double lon2 = degreesToRadians(point2.longitude());
-    double lat1 = degreesToRadians(point1.latitude());
-    double lat2 = degreesToRadians(point2.latitude());
-    double value1 = Math.sin(lon2 - lon1) * Math.cos(lat2);
-    double value2 = Math.cos(lat1) * Math.sin(lat2) - Math.sin(lat1)
-      * Math.cos(lat2) * Math.cos(lon2 - lon1);
-
-    return radiansToDegrees(Math.atan2(value1, value2));
+    return TurfKernels.bearing(point1.longitude(), point1.latitude(),
+      point2.longitude(), point2.latitude());
   }
 
   /**
@@ -83,21 +72,10 @@ public final class TurfMeasurement {
   public static Point destination(@NonNull Point point, @FloatRange(from = 0) double distance,
                                   @FloatRange(from = -180, to = 180) double bearing,
                                   @NonNull @TurfConstants.TurfUnitCriteria String units) {
-
-    double longitude1 = degreesToRadians(point.longitude());
-    double latitude1 = degreesToRadians(point.latitude());
-    double bearingRad = degreesToRadians(bearing);
-
-    double radians = TurfConversion.lengthToRadians(distance, units);
-
-    double latitude2 = Math.asin(Math.sin(latitude1) * Math.cos(radians)
-      + Math.cos(latitude1) * Math.sin(radians) * Math.cos(bearingRad));
-    double longitude2 = longitude1 + Math.atan2(Math.sin(bearingRad)
-        * Math.sin(radians) * Math.cos(latitude1),
-      Math.cos(radians) - Math.sin(latitude1) * Math.sin(latitude2));
-
-    return Point.fromLngLat(
-      radiansToDegrees(longitude2), radiansToDegrees(latitude2));
+    double[] destination = new double[2];
+    TurfKernels.destination(point.longitude(), point.latitude(), distance, bearing,
+      TurfKernels.unitFactor(units), destination, 0);
+    return Point.fromLngLat(destination[0], destination[1]);
   }
 
   /**
@@ -127,16 +105,8 @@ public final class TurfMeasurement {
    */
   public static double distance(@NonNull Point point1, @NonNull Point point2,
                                 @NonNull @TurfConstants.TurfUnitCriteria String units) {
-    double difLat = degreesToRadians((point2.latitude() - point1.latitude()));
-    double difLon = degreesToRadians((point2.longitude() - point1.longitude()));
-    double lat1 = degreesToRadians(point1.latitude());
-    double lat2 = degreesToRadians(point2.latitude());
-
-    double value = Math.pow(Math.sin(difLat / 2), 2)
-      + Math.pow(Math.sin(difLon / 2), 2) * Math.cos(lat1) * Math.cos(lat2);
-
-    return TurfConversion.radiansToLength(
-      2 * Math.atan2(Math.sqrt(value), Math.sqrt(1 - value)), units);
+    return TurfKernels.distance(point1.longitude(), point1.latitude(),
+      point2.longitude(), point2.latitude(), TurfKernels.unitFactor(units));
   }
 
   /**
@@ -223,12 +193,14 @@ public final class TurfMeasurement {
    * @since 5.2.0
    */
   public static double length(List<Point> coords, String units) {
+    double unitFactor = TurfKernels.unitFactor(units);
     double travelled = 0;
     Point prevCoords = coords.get(0);
     Point curCoords;
     for (int i = 1; i < coords.size(); i++) {
       curCoords = coords.get(i);
-      travelled += distance(prevCoords, curCoords, units);
+      travelled += TurfKernels.distance(prevCoords.longitude(), prevCoords.latitude(),
+        curCoords.longitude(), curCoords.latitude(), unitFactor);
       prevCoords = curCoords;
     }
     return travelled;
@@ -306,8 +278,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull Point point) {
-    List<Point> resultCoords = TurfMeta.coordAll(point);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(point);
   }
 
   /**
@@ -318,8 +289,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull LineString lineString) {
-    List<Point> resultCoords = TurfMeta.coordAll(lineString);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(lineString);
   }
 
   /**
@@ -330,8 +300,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull MultiPoint multiPoint) {
-    List<Point> resultCoords = TurfMeta.coordAll(multiPoint);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(multiPoint);
   }
 
   /**
@@ -342,8 +311,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull Polygon polygon) {
-    List<Point> resultCoords = TurfMeta.coordAll(polygon, false);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(polygon);
   }
 
   /**
@@ -354,8 +322,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(@NonNull MultiLineString multiLineString) {
-    List<Point> resultCoords = TurfMeta.coordAll(multiLineString);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(multiLineString);
   }
 
   /**
@@ -366,8 +333,7 @@ public final class TurfMeasurement {
    * @since 2.0.0
    */
   public static double[] bbox(MultiPolygon multiPolygon) {
-    List<Point> resultCoords = TurfMeta.coordAll(multiPolygon, false);
-    return bboxCalculator(resultCoords);
+    return bboxCalculator(multiPolygon);
   }
 
   /**
@@ -407,7 +373,7 @@ public final class TurfMeasurement {
    * @since 4.8.0
    */
   public static double[] bbox(FeatureCollection featureCollection) {
-    return bboxCalculator(TurfMeta.coordAll(featureCollection, false));
+    return bboxCalculator(featureCollection);
   }
 
   /**
@@ -418,7 +384,7 @@ public final class TurfMeasurement {
    * @since 4.8.0
    */
   public static double[] bbox(Feature feature) {
-    return bboxCalculator(TurfMeta.coordAll(feature, false));
+    return bboxCalculator(feature);
   }
 
   /**
@@ -457,28 +423,33 @@ public final class TurfMeasurement {
     }
   }
 
-  private static double[] bboxCalculator(List<Point> resultCoords) {
-    double[] bbox = new double[4];
+  private static double[] bboxCalculator(GeoJson geoJson) {
+    final double[] bbox = new double[4];
 
     bbox[0] = Double.POSITIVE_INFINITY;
     bbox[1] = Double.POSITIVE_INFINITY;
     bbox[2] = Double.NEGATIVE_INFINITY;
     bbox[3] = Double.NEGATIVE_INFINITY;
 
-    for (Point point : resultCoords) {
-      if (bbox[0] > point.longitude()) {
-        bbox[0] = point.longitude();
-      }
-      if (bbox[1] > point.latitude()) {
-        bbox[1] = point.latitude();
-      }
-      if (bbox[2] < point.longitude()) {
-        bbox[2] = point.longitude();
-      }
-      if (bbox[3] < point.latitude()) {
-        bbox[3] = point.latitude();
+    TurfMeta.coordEach(geoJson, new TurfMeta.CoordinateVisitor() {
+      @Override
+      public boolean onCoordinate(double longitude, double latitude, int coordIndex,
+                                  int featureIndex, int multiFeatureIndex, int geometryIndex) {
+        if (bbox[0] > longitude) {
+          bbox[0] = longitude;
+        }
+        if (bbox[1] > latitude) {
+          bbox[1] = latitude;
+        }
+        if (bbox[2] < longitude) {
+          bbox[2] = longitude;
+        }
+        if (bbox[3] < latitude) {
+          bbox[3] = latitude;
+        }
+        return true;
       }
-    }
+    }, false);
     return bbox;
   }
 
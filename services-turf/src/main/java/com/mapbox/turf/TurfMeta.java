@@ -1,24 +1,28 @@
 package com.mapbox.turf;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.GeoJson;
 import com.mapbox.geojson.Geometry;
 import com.mapbox.geojson.GeometryCollection;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.MultiLineString;
 import com.mapbox.geojson.MultiPoint;
 import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.PackedCoordinates;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.Polygon;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Class contains methods that are useful for getting all coordinates from a specific GeoJson
- * geometry.
+ * geometry, or for walking its coordinates, segments, geometries or features one by one.
  *
  * @see <a href="http://turfjs.org/docs/">Turf documentation</a>
  * @since 2.0.0
@@ -329,6 +333,150 @@ public final class TurfMeta {
     return pointList;
   }
 
+  /**
+   * Calls the visitor for every coordinate of any GeoJson object, from a single {@link Point} to
+   * a {@link FeatureCollection}, like turf's {@code coordEach}. Unlike {@link #coordAll}, nothing
+   * is collected, and no {@link Point} is created for packed lines and polygons, the coordinates
+   * being read straight from their packed values. Lines and polygons built from points are read
+   * from their points, without packing them.
+   * <p>
+   * The visitor can stop the iteration early by returning false.
+   * </p>
+   *
+   * @param geoJson          the {@link GeoJson} object to walk
+   * @param visitor          called for every coordinate
+   * @param excludeWrapCoord whether or not to include the final coordinate of LinearRings that
+   *                         wraps the ring in its iteration
+   * @return true if every coordinate was visited, false if the visitor stopped the iteration
+   * @see <a href="http://turfjs.org/docs/#coordEach">Turf coordEach documentation</a>
+   * @since 5.10.0
+   */
+  public static boolean coordEach(@NonNull GeoJson geoJson, @NonNull CoordinateVisitor visitor,
+                                  boolean excludeWrapCoord) {
+    return new CoordinateWalk(visitor, null, excludeWrapCoord).walk(geoJson);
+  }
+
+  /**
+   * Calls the visitor for every segment of the lines and polygon rings of any GeoJson object,
+   * like turf's {@code segmentEach}. Points have no segments and are skipped.
+   * <p>
+   * The visitor can stop the iteration early by returning false.
+   * </p>
+   *
+   * @param geoJson the {@link GeoJson} object to walk
+   * @param visitor called for every segment
+   * @return true if every segment was visited, false if the visitor stopped the iteration
+   * @see <a href="http://turfjs.org/docs/#segmentEach">Turf segmentEach documentation</a>
+   * @since 5.10.0
+   */
+  public static boolean segmentEach(@NonNull GeoJson geoJson, @NonNull SegmentVisitor visitor) {
+    return new CoordinateWalk(null, visitor, false).walk(geoJson);
+  }
+
+  /**
+   * Reduces every coordinate of any GeoJson object to a single value, like turf's
+   * {@code coordReduce}, without creating any {@link Point} for lines and polygons.
+   *
+   * @param geoJson          the {@link GeoJson} object to walk
+   * @param reducer          combines the value so far with every coordinate
+   * @param initialValue     the value given to the reducer along with the first coordinate
+   * @param excludeWrapCoord whether or not to include the final coordinate of LinearRings that
+   *                         wraps the ring in its iteration
+   * @return the value returned by the reducer for the last coordinate, or the initial value if
+   *   there are no coordinates
+   * @see <a href="http://turfjs.org/docs/#coordReduce">Turf coordReduce documentation</a>
+   * @since 5.10.0
+   */
+  public static double coordReduce(@NonNull GeoJson geoJson,
+                                   @NonNull final CoordinateReducer reducer,
+                                   double initialValue, boolean excludeWrapCoord) {
+    final double[] value = {initialValue};
+    coordEach(geoJson, new CoordinateVisitor() {
+      @Override
+      public boolean onCoordinate(double longitude, double latitude, int coordIndex,
+                                  int featureIndex, int multiFeatureIndex, int geometryIndex) {
+        value[0] = reducer.reduce(value[0], longitude, latitude, coordIndex);
+        return true;
+      }
+    }, excludeWrapCoord);
+    return value[0];
+  }
+
+  /**
+   * Calls the visitor for the geometry of every feature, like turf's {@code geomEach}. The
+   * members of a {@link GeometryCollection} are visited one by one, and a bare {@link Geometry}
+   * is visited as is.
+   * <p>
+   * The visitor can stop the iteration early by returning false.
+   * </p>
+   *
+   * @param geoJson the {@link GeoJson} object to walk
+   * @param visitor called for every geometry
+   * @return true if every geometry was visited, false if the visitor stopped the iteration
+   * @see <a href="http://turfjs.org/docs/#geomEach">Turf geomEach documentation</a>
+   * @since 5.10.0
+   */
+  public static boolean geomEach(@NonNull GeoJson geoJson, @NonNull GeometryVisitor visitor) {
+    if (geoJson instanceof FeatureCollection) {
+      List<Feature> features = ((FeatureCollection) geoJson).features();
+      if (features != null) {
+        for (int i = 0; i < features.size(); i++) {
+          if (!geomEach(features.get(i).geometry(), i, visitor)) {
+            return false;
+          }
+        }
+      }
+      return true;
+    } else if (geoJson instanceof Feature) {
+      return geomEach(((Feature) geoJson).geometry(), 0, visitor);
+    }
+    return geomEach((Geometry) geoJson, 0, visitor);
+  }
+
+  private static boolean geomEach(@Nullable Geometry geometry, int featureIndex,
+                                  GeometryVisitor visitor) {
+    if (geometry instanceof GeometryCollection) {
+      for (Geometry singleGeometry : ((GeometryCollection) geometry).geometries()) {
+        if (!visitor.onGeometry(singleGeometry, featureIndex)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return visitor.onGeometry(geometry, featureIndex);
+  }
+
+  /**
+   * Calls the visitor for every feature of a {@link FeatureCollection}, like turf's
+   * {@code featureEach}. A single {@link Feature} is visited as is.
+   * <p>
+   * The visitor can stop the iteration early by returning false.
+   * </p>
+   *
+   * @param geoJson the {@link FeatureCollection} or {@link Feature} to walk
+   * @param visitor called for every feature
+   * @return true if every feature was visited, false if the visitor stopped the iteration
+   * @throws TurfException if the GeoJson object is neither a feature nor a collection of them
+   * @see <a href="http://turfjs.org/docs/#featureEach">Turf featureEach documentation</a>
+   * @since 5.10.0
+   */
+  public static boolean featureEach(@NonNull GeoJson geoJson, @NonNull FeatureVisitor visitor) {
+    if (geoJson instanceof Feature) {
+      return visitor.onFeature((Feature) geoJson, 0);
+    } else if (!(geoJson instanceof FeatureCollection)) {
+      throw new TurfException("A Feature or FeatureCollection is required.");
+    }
+    List<Feature> features = ((FeatureCollection) geoJson).features();
+    if (features != null) {
+      for (int i = 0; i < features.size(); i++) {
+        if (!visitor.onFeature(features.get(i), i)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
   /**
    * Unwrap a coordinate {@link Point} from a {@link Feature} with a {@link Point} geometry.
    *
@@ -343,4 +491,327 @@ public final class TurfMeta {
     }
     throw new TurfException("A Feature with a Point geometry is required.");
   }
+
+  /**
+   * Visitor called by {@link #coordEach(GeoJson, CoordinateVisitor, boolean)} with the primitive
+   * values of every coordinate.
+   *
+   * @since 5.10.0
+   */
+  public interface CoordinateVisitor {
+
+    /**
+     * Called once for every coordinate, in the order they appear.
+     *
+     * @param longitude         the longitude of the coordinate
+     * @param latitude          the latitude of the coordinate
+     * @param coordIndex        the index of the coordinate among all the visited ones
+     * @param featureIndex      the index of the feature in its collection, 0 otherwise
+     * @param multiFeatureIndex the index of the point, line or polygon within its multi geometry,
+     *                          0 otherwise
+     * @param geometryIndex     the index of the ring within its polygon, 0 otherwise
+     * @return true to carry on, false to stop the iteration
+     * @since 5.10.0
+     */
+    boolean onCoordinate(double longitude, double latitude, int coordIndex, int featureIndex,
+                         int multiFeatureIndex, int geometryIndex);
+  }
+
+  /**
+   * Visitor called by {@link #segmentEach(GeoJson, SegmentVisitor)} with the primitive values of
+   * every segment.
+   *
+   * @since 5.10.0
+   */
+  public interface SegmentVisitor {
+
+    /**
+     * Called once for every segment, in the order they appear.
+     *
+     * @param longitude1        the longitude of the start of the segment
+     * @param latitude1         the latitude of the start of the segment
+     * @param longitude2        the longitude of the end of the segment
+     * @param latitude2         the latitude of the end of the segment
+     * @param featureIndex      the index of the feature in its collection, 0 otherwise
+     * @param multiFeatureIndex the index of the line or polygon within its multi geometry,
+     *                          0 otherwise
+     * @param geometryIndex     the index of the ring within its polygon, 0 otherwise
+     * @param segmentIndex      the index of the segment within its line or ring
+     * @return true to carry on, false to stop the iteration
+     * @since 5.10.0
+     */
+    boolean onSegment(double longitude1, double latitude1, double longitude2, double latitude2,
+                      int featureIndex, int multiFeatureIndex, int geometryIndex,
+                      int segmentIndex);
+  }
+
+  /**
+   * Reducer called by {@link #coordReduce(GeoJson, CoordinateReducer, double, boolean)} with the
+   * primitive values of every coordinate.
+   *
+   * @since 5.10.0
+   */
+  public interface CoordinateReducer {
+
+    /**
+     * Combines the value so far with a coordinate.
+     *
+     * @param previousValue the value returned for the previous coordinate, or the initial value
+     * @param longitude     the longitude of the coordinate
+     * @param latitude      the latitude of the coordinate
+     * @param coordIndex    the index of the coordinate among all the visited ones
+     * @return the new value
+     * @since 5.10.0
+     */
+    double reduce(double previousValue, double longitude, double latitude, int coordIndex);
+  }
+
+  /**
+   * Visitor called by {@link #geomEach(GeoJson, GeometryVisitor)} with every geometry.
+   *
+   * @since 5.10.0
+   */
+  public interface GeometryVisitor {
+
+    /**
+     * Called once for every geometry, in the order they appear.
+     *
+     * @param geometry     the geometry, null for a feature without any
+     * @param featureIndex the index of the feature in its collection, 0 otherwise
+     * @return true to carry on, false to stop the iteration
+     * @since 5.10.0
+     */
+    boolean onGeometry(@Nullable Geometry geometry, int featureIndex);
+  }
+
+  /**
+   * Visitor called by {@link #featureEach(GeoJson, FeatureVisitor)} with every feature.
+   *
+   * @since 5.10.0
+   */
+  public interface FeatureVisitor {
+
+    /**
+     * Called once for every feature, in the order they appear.
+     *
+     * @param feature      the feature
+     * @param featureIndex the index of the feature in its collection, 0 for a single feature
+     * @return true to carry on, false to stop the iteration
+     * @since 5.10.0
+     */
+    boolean onFeature(@NonNull Feature feature, int featureIndex);
+  }
+
+  /**
+   * Returns the packed coordinates of a line or polygon geometry. A geometry holding lists of
+   * points is packed into a temporary copy, so it doesn't keep a packed copy of its own.
+   *
+   * @param geometry the geometry
+   * @return the packed coordinates, or null if the geometry isn't a line or a polygon
+   */
+  @Nullable
+  static PackedCoordinates packedCoordinates(@Nullable Geometry geometry) {
+    if (geometry instanceof LineString) {
+      LineString line = (LineString) geometry;
+      return line.isPacked() ? line.packedCoordinates()
+        : LineString.fromLngLats(line.coordinates()).packedCoordinates();
+    } else if (geometry instanceof MultiLineString) {
+      MultiLineString lines = (MultiLineString) geometry;
+      return lines.isPacked() ? lines.packedCoordinates()
+        : MultiLineString.fromLngLats(lines.coordinates()).packedCoordinates();
+    } else if (geometry instanceof Polygon) {
+      Polygon polygon = (Polygon) geometry;
+      return polygon.isPacked() ? polygon.packedCoordinates()
+        : Polygon.fromLngLats(polygon.coordinates()).packedCoordinates();
+    } else if (geometry instanceof MultiPolygon) {
+      MultiPolygon polygons = (MultiPolygon) geometry;
+      return polygons.isPacked() ? polygons.packedCoordinates()
+        : MultiPolygon.fromLngLats(polygons.coordinates()).packedCoordinates();
+    }
+    return null;
+  }
+
+  /**
+   * Walks the coordinates or the segments of a GeoJson object, keeping track of the turf indices.
+   * Every point, line and polygon moves the multi feature index forward, so the members of a
+   * multi geometry are numbered in order, and like turf.js the numbering starts over for every
+   * member of a geometry collection. Packed geometries are read through their packed coordinates
+   * and the others through their lists of points, which are never packed along the way.
+   *
+   * @since 5.10.0
+   */
+  private static final class CoordinateWalk {
+
+    private final CoordinateVisitor coordinateVisitor;
+    private final SegmentVisitor segmentVisitor;
+    private final boolean excludeWrapCoord;
+    private int coordIndex;
+    private int featureIndex;
+    private int multiFeatureIndex;
+
+    CoordinateWalk(@Nullable CoordinateVisitor coordinateVisitor,
+                   @Nullable SegmentVisitor segmentVisitor, boolean excludeWrapCoord) {
+      this.coordinateVisitor = coordinateVisitor;
+      this.segmentVisitor = segmentVisitor;
+      this.excludeWrapCoord = excludeWrapCoord;
+    }
+
+    boolean walk(GeoJson geoJson) {
+      if (geoJson instanceof FeatureCollection) {
+        List<Feature> features = ((FeatureCollection) geoJson).features();
+        if (features != null) {
+          for (featureIndex = 0; featureIndex < features.size(); featureIndex++) {
+            multiFeatureIndex = 0;
+            if (!walk(features.get(featureIndex).geometry())) {
+              return false;
+            }
+          }
+        }
+        return true;
+      } else if (geoJson instanceof Feature) {
+        return walk(((Feature) geoJson).geometry());
+      }
+      return walk((Geometry) geoJson);
+    }
+
+    private boolean walk(@Nullable Geometry geometry) {
+      if (geometry instanceof Point) {
+        return point((Point) geometry);
+      } else if (geometry instanceof MultiPoint) {
+        for (Point point : ((MultiPoint) geometry).coordinates()) {
+          if (!point(point)) {
+            return false;
+          }
+        }
+      } else if (geometry instanceof LineString) {
+        LineString line = (LineString) geometry;
+        return line.isPacked() ? lines(line.packedCoordinates())
+          : lines(Collections.singletonList(line.coordinates()));
+      } else if (geometry instanceof MultiLineString) {
+        MultiLineString lines = (MultiLineString) geometry;
+        return lines.isPacked() ? lines(lines.packedCoordinates()) : lines(lines.coordinates());
+      } else if (geometry instanceof Polygon) {
+        Polygon polygon = (Polygon) geometry;
+        return polygon.isPacked() ? polygons(polygon.packedCoordinates())
+          : polygons(Collections.singletonList(polygon.coordinates()));
+      } else if (geometry instanceof MultiPolygon) {
+        MultiPolygon polygons = (MultiPolygon) geometry;
+        return polygons.isPacked() ? polygons(polygons.packedCoordinates())
+          : polygons(polygons.coordinates());
+      } else if (geometry instanceof GeometryCollection) {
+        // recursive
+        for (Geometry singleGeometry : ((GeometryCollection) geometry).geometries()) {
+          multiFeatureIndex = 0;
+          if (!walk(singleGeometry)) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+
+    private boolean point(Point point) {
+      if (coordinateVisitor != null && !coordinateVisitor.onCoordinate(point.longitude(),
+        point.latitude(), coordIndex++, featureIndex, multiFeatureIndex, 0)) {
+        return false;
+      }
+      multiFeatureIndex++;
+      return true;
+    }
+
+    private boolean lines(PackedCoordinates packed) {
+      for (int part = 0; part < packed.partCount(); part++) {
+        if (!part(packed, part, false, 0)) {
+          return false;
+        }
+        multiFeatureIndex++;
+      }
+      return true;
+    }
+
+    private boolean lines(List<List<Point>> lines) {
+      for (List<Point> line : lines) {
+        if (!part(line, false, 0)) {
+          return false;
+        }
+        multiFeatureIndex++;
+      }
+      return true;
+    }
+
+    private boolean polygons(PackedCoordinates packed) {
+      for (int polygon = 0; polygon < packed.polygonCount(); polygon++) {
+        int first = packed.polygonStart(polygon);
+        for (int ring = first; ring < packed.polygonEnd(polygon); ring++) {
+          if (!part(packed, ring, true, ring - first)) {
+            return false;
+          }
+        }
+        multiFeatureIndex++;
+      }
+      return true;
+    }
+
+    private boolean polygons(List<List<List<Point>>> polygons) {
+      for (List<List<Point>> polygon : polygons) {
+        for (int ring = 0; ring < polygon.size(); ring++) {
+          if (!part(polygon.get(ring), true, ring)) {
+            return false;
+          }
+        }
+        multiFeatureIndex++;
+      }
+      return true;
+    }
+
+    private boolean part(PackedCoordinates packed, int part, boolean ring, int geometryIndex) {
+      int start = packed.partStart(part);
+      int end = packed.partEnd(part);
+      if (segmentVisitor != null) {
+        for (int i = start + 1; i < end; i++) {
+          if (!segmentVisitor.onSegment(packed.lon(i - 1), packed.lat(i - 1), packed.lon(i),
+            packed.lat(i), featureIndex, multiFeatureIndex, geometryIndex, i - start - 1)) {
+            return false;
+          }
+        }
+        return true;
+      }
+      if (ring && excludeWrapCoord) {
+        end--;
+      }
+      for (int i = start; i < end; i++) {
+        if (!coordinateVisitor.onCoordinate(packed.lon(i), packed.lat(i), coordIndex++,
+          featureIndex, multiFeatureIndex, geometryIndex)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean part(List<Point> points, boolean ring, int geometryIndex) {
+      int end = points.size();
+      if (segmentVisitor != null) {
+        for (int i = 1; i < end; i++) {
+          Point start = points.get(i - 1);
+          Point stop = points.get(i);
+          if (!segmentVisitor.onSegment(start.longitude(), start.latitude(), stop.longitude(),
+            stop.latitude(), featureIndex, multiFeatureIndex, geometryIndex, i - 1)) {
+            return false;
+          }
+        }
+        return true;
+      }
+      if (ring && excludeWrapCoord) {
+        end--;
+      }
+      for (int i = 0; i < end; i++) {
+        Point point = points.get(i);
+        if (!coordinateVisitor.onCoordinate(point.longitude(), point.latitude(), coordIndex++,
+          featureIndex, multiFeatureIndex, geometryIndex)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
 }
@@ -7,7 +7,6 @@ import androidx.annotation.Nullable;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
-import com.mapbox.turf.models.LineIntersectsResult;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -247,117 +246,12 @@ public final class TurfMisc {
       units = TurfConstants.UNIT_KILOMETERS;
     }
 
-    Feature closestPt = Feature.fromGeometry(
-        Point.fromLngLat(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY));
-    closestPt.addNumberProperty("dist", Double.POSITIVE_INFINITY);
-
-    for (int i = 0; i < coords.size() - 1; i++) {
-      Feature start = Feature.fromGeometry(coords.get(i));
-      Feature stop = Feature.fromGeometry(coords.get(i + 1));
-      //start
-      start.addNumberProperty("dist", TurfMeasurement.distance(
-        pt, (Point) start.geometry(), units));
-      //stop
-      stop.addNumberProperty("dist", TurfMeasurement.distance(
-        pt, (Point) stop.geometry(), units));
-      //perpendicular
-      double heightDistance = Math.max(
-        start.properties().get("dist").getAsDouble(),
-        stop.properties().get("dist").getAsDouble()
-      );
-      double direction = TurfMeasurement.bearing((Point) start.geometry(),
-        (Point) stop.geometry());
-      Feature perpendicularPt1 = Feature.fromGeometry(
-        TurfMeasurement.destination(pt, heightDistance, direction + 90, units));
-      Feature perpendicularPt2 = Feature.fromGeometry(
-        TurfMeasurement.destination(pt, heightDistance, direction - 90, units));
-      LineIntersectsResult intersect = lineIntersects(
-        ((Point) perpendicularPt1.geometry()).longitude(),
-        ((Point) perpendicularPt1.geometry()).latitude(),
-        ((Point) perpendicularPt2.geometry()).longitude(),
-        ((Point) perpendicularPt2.geometry()).latitude(),
-        ((Point) start.geometry()).longitude(),
-        ((Point) start.geometry()).latitude(),
-        ((Point) stop.geometry()).longitude(),
-        ((Point) stop.geometry()).latitude()
-      );
-
-      Feature intersectPt = null;
-      if (intersect != null) {
-        intersectPt = Feature.fromGeometry(
-          Point.fromLngLat(intersect.horizontalIntersection(), intersect.verticalIntersection()));
-        intersectPt.addNumberProperty("dist", TurfMeasurement.distance(pt,
-          (Point) intersectPt.geometry(), units));
-      }
-
-      if ((double) start.getNumberProperty("dist")
-        < (double) closestPt.getNumberProperty("dist")) {
-        closestPt = start;
-        closestPt.addNumberProperty(INDEX_KEY, i);
-      }
-      if ((double) stop.getNumberProperty("dist")
-        < (double) closestPt.getNumberProperty("dist")) {
-        closestPt = stop;
-        closestPt.addNumberProperty(INDEX_KEY, i);
-      }
-      if (intersectPt != null
-        && (double) intersectPt.getNumberProperty("dist")
-        < (double) closestPt.getNumberProperty("dist")) {
-        closestPt = intersectPt;
-        closestPt.addNumberProperty(INDEX_KEY, i);
-      }
-    }
-
+    LineSnapper.Result snapped = LineSnapper.fromLngLats(coords, units, false).snap(pt);
+    Feature closestPt = Feature.fromGeometry(snapped.vertex() >= 0
+      ? coords.get(snapped.vertex()) : snapped.point());
+    closestPt.addNumberProperty("dist", snapped.distance());
+    closestPt.addNumberProperty(INDEX_KEY, snapped.index());
     return closestPt;
   }
 
-  private static LineIntersectsResult lineIntersects(double line1StartX, double line1StartY,
-                                                     double line1EndX, double line1EndY,
-                                                     double line2StartX, double line2StartY,
-                                                     double line2EndX, double line2EndY) {
-    // If the lines intersect, the result contains the x and y of the intersection
-    // (treating the lines as infinite) and booleans for whether line segment 1 or line
-    // segment 2 contain the point
-    LineIntersectsResult result = LineIntersectsResult.builder()
-      .onLine1(false)
-      .onLine2(false)
-      .build();
-
-    double denominator = ((line2EndY - line2StartY) * (line1EndX - line1StartX))
-      - ((line2EndX - line2StartX) * (line1EndY - line1StartY));
-    if (denominator == 0) {
-      if (result.horizontalIntersection() != null && result.verticalIntersection() != null) {
-        return result;
-      } else {
-        return null;
-      }
-    }
-    double varA = line1StartY - line2StartY;
-    double varB = line1StartX - line2StartX;
-    double numerator1 = ((line2EndX - line2StartX) * varA) - ((line2EndY - line2StartY) * varB);
-    double numerator2 = ((line1EndX - line1StartX) * varA) - ((line1EndY - line1StartY) * varB);
-    varA = numerator1 / denominator;
-    varB = numerator2 / denominator;
-
-    // if we cast these lines infinitely in both directions, they intersect here:
-    result = result.toBuilder().horizontalIntersection(line1StartX
-      + (varA * (line1EndX - line1StartX))).build();
-    result = result.toBuilder().verticalIntersection(line1StartY
-      + (varA * (line1EndY - line1StartY))).build();
-
-    // if line1 is a segment and line2 is infinite, they intersect if:
-    if (varA > 0 && varA < 1) {
-      result = result.toBuilder().onLine1(true).build();
-    }
-    // if line2 is a segment and line1 is infinite, they intersect if:
-    if (varB > 0 && varB < 1) {
-      result = result.toBuilder().onLine2(true).build();
-    }
-    // if line1 and line2 are segments, they intersect if both of the above are true
-    if (result.onLine1() && result.onLine2()) {
-      return result;
-    } else {
-      return null;
-    }
-  }
 }
@@ -0,0 +1,94 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CheapRulerTest extends TestUtils {
+
+  // The ruler follows the ellipsoid while TurfMeasurement uses a sphere
+  private static final double MODEL_TOLERANCE = 0.006;
+
+  private static List<Point> route() {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      points.add(Point.fromLngLat(13.35 + i * 0.001, 52.5 + Math.sin(i / 5.0) * 0.002));
+    }
+    return points;
+  }
+
+  @Test
+  public void distanceAndBearing_closeToTurfMeasurement() {
+    CheapRuler ruler = CheapRuler.fromLatitude(52.5, TurfConstants.UNIT_METERS);
+    Point origin = Point.fromLngLat(13.4, 52.5);
+    for (int bearing = -180; bearing < 180; bearing += 15) {
+      Point destination = TurfMeasurement.destination(origin, 2000, bearing,
+        TurfConstants.UNIT_METERS);
+      assertEquals(2000, ruler.distance(origin, destination), 2000 * MODEL_TOLERANCE);
+      assertEquals(0, wrap(ruler.bearing(origin, destination) - bearing), 0.5);
+
+      Point cheapDestination = ruler.destination(origin, 2000, bearing);
+      assertEquals(2000, ruler.distance(origin, cheapDestination), 1e-6);
+      assertEquals(0, wrap(ruler.bearing(origin, cheapDestination) - bearing), 1e-9);
+    }
+  }
+
+  @Test
+  public void lineMeasurements_closeToTurf() {
+    CheapRuler ruler = CheapRuler.fromLatitude(52.5);
+    List<Point> line = route();
+    double length = TurfMeasurement.length(line, TurfConstants.UNIT_KILOMETERS);
+    assertEquals(length, ruler.length(LineString.fromLngLats(line)), length * MODEL_TOLERANCE);
+
+    Point along = ruler.along(line, 2.5);
+    Point expected = TurfMeasurement.along(line, 2.5, TurfConstants.UNIT_KILOMETERS);
+    assertEquals(0, TurfMeasurement.distance(along, expected), 2.5 * MODEL_TOLERANCE);
+    assertEquals(line.get(0), ruler.along(line, 0));
+    assertEquals(line.get(line.size() - 1), ruler.along(line, 100));
+
+    Point point = Point.fromLngLat(13.39, 52.51);
+    LineSnapper.Result snapped = ruler.nearestPointOnLine(line, point);
+    LineSnapper.Result turf = LineSnapper.fromLngLats(line, TurfConstants.UNIT_KILOMETERS)
+      .snap(point);
+    assertEquals(turf.index(), snapped.index());
+    assertEquals(turf.distance(), snapped.distance(), turf.distance() * MODEL_TOLERANCE);
+    assertEquals(0, TurfMeasurement.distance(turf.point(), snapped.point()), 0.001);
+  }
+
+  @Test
+  public void area_closeToTurfMeasurement() {
+    CheapRuler ruler = CheapRuler.fromLatitude(52.5, TurfConstants.UNIT_METERS);
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(
+      Arrays.asList(Point.fromLngLat(13.3, 52.4), Point.fromLngLat(13.5, 52.4),
+        Point.fromLngLat(13.5, 52.6), Point.fromLngLat(13.3, 52.6), Point.fromLngLat(13.3, 52.4)),
+      Arrays.asList(Point.fromLngLat(13.35, 52.45), Point.fromLngLat(13.35, 52.5),
+        Point.fromLngLat(13.4, 52.5), Point.fromLngLat(13.4, 52.45),
+        Point.fromLngLat(13.35, 52.45))));
+    double area = TurfMeasurement.area(polygon);
+    assertEquals(area, ruler.area(polygon), area * MODEL_TOLERANCE * 2);
+  }
+
+  @Test
+  public void distance_wrapsLargeAndNonFiniteLongitudes() {
+    CheapRuler ruler = CheapRuler.fromLatitude(0, TurfConstants.UNIT_METERS);
+    assertEquals(ruler.distance(10, 0, 0, 0), ruler.distance(370, 0, 0, 0), 1e-6);
+    assertEquals(ruler.distance(180, 0, 0, 0), ruler.distance(540, 0, 0, 0), 1e-6);
+    assertEquals(ruler.distance(-180, 0, 0, 0), ruler.distance(-540, 0, 0, 0), 1e-6);
+    assertTrue(ruler.distance(1e300, 0, 0, 0) <= ruler.distance(180, 0, 0, 0));
+    assertTrue(Double.isNaN(ruler.distance(Double.POSITIVE_INFINITY, 0, 0, 0)));
+    assertTrue(Double.isNaN(ruler.distance(Double.NEGATIVE_INFINITY, 0, 0, 0)));
+  }
+
+  private static double wrap(double degrees) {
+    return degrees > 180 ? degrees - 360 : degrees < -180 ? degrees + 360 : degrees;
+  }
+}
@@ -0,0 +1,72 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class CircleGeneratorTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private static void assertSameRing(List<Point> expected, List<Point> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).longitude(), actual.get(i).longitude(), 1e-12);
+      assertEquals(expected.get(i).latitude(), actual.get(i).latitude(), 1e-12);
+    }
+  }
+
+  @Test
+  public void circle_matchesTurfTransformation() {
+    CircleGenerator generator = CircleGenerator.fromSteps(64);
+    assertEquals(64, generator.steps());
+    for (Point center : Arrays.asList(Point.fromLngLat(0, 0), Point.fromLngLat(-75.3, 39.98),
+      Point.fromLngLat(170.5, -65.2))) {
+      Polygon expected = TurfTransformation.circle(center, 12.5, 64,
+        TurfConstants.UNIT_KILOMETERS);
+      Polygon actual = generator.circle(center, 12.5, TurfConstants.UNIT_KILOMETERS);
+      assertSameRing(expected.outer().coordinates(), actual.outer().coordinates());
+    }
+  }
+
+  @Test
+  public void circles_oneRingPerCenter() {
+    CircleGenerator generator = CircleGenerator.fromSteps(16);
+    List<Point> centers = Arrays.asList(Point.fromLngLat(2.35, 48.85),
+      Point.fromLngLat(13.4, 52.5), Point.fromLngLat(-0.12, 51.5));
+    double[] radii = {100, 250, 400};
+
+    MultiPolygon multiPolygon = generator.circles(centers, radii, TurfConstants.UNIT_METERS);
+    FeatureCollection features = generator.circleFeatures(centers, radii,
+      TurfConstants.UNIT_METERS);
+    assertEquals(3, multiPolygon.polygons().size());
+    assertEquals(3, features.features().size());
+    for (int i = 0; i < centers.size(); i++) {
+      List<Point> expected = TurfTransformation.circle(centers.get(i), radii[i], 16,
+        TurfConstants.UNIT_METERS).outer().coordinates();
+      assertSameRing(expected, multiPolygon.polygons().get(i).outer().coordinates());
+      assertSameRing(expected,
+        ((Polygon) features.features().get(i).geometry()).outer().coordinates());
+    }
+
+    MultiPolygon sameRadius = generator.circles(centers, 250, TurfConstants.UNIT_METERS);
+    assertEquals(multiPolygon.polygons().get(1), sameRadius.polygons().get(1));
+  }
+
+  @Test
+  public void fromSteps_requiresOneStep() {
+    thrown.expect(TurfException.class);
+    CircleGenerator.fromSteps(0);
+  }
+}
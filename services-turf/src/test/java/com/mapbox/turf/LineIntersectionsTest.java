@@ -0,0 +1,157 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LineIntersectionsTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void lineIntersects_crossingTouchingAndParallel() {
+    double[] out = new double[4];
+    assertTrue(LineIntersections.lineIntersects(0, 0, 2, 2, 0, 2, 2, 0, out, 2));
+    assertEquals(1, out[2], DELTA);
+    assertEquals(1, out[3], DELTA);
+
+    assertTrue(LineIntersections.lineIntersects(0, 0, 2, 0, 1, 0, 1, 5, out, 0));
+    assertEquals(1, out[0], 0);
+    assertEquals(0, out[1], 0);
+
+    assertFalse(LineIntersections.lineIntersects(0, 0, 1, 1, 2, 0, 3, -1, out, 0));
+    assertFalse(LineIntersections.lineIntersects(0, 0, 2, 0, 1, 0, 3, 0, out, 0));
+    assertFalse(LineIntersections.lineIntersects(0, 0, 2, 0, 0, 1, 2, 1, out, 0));
+  }
+
+  @Test
+  public void intersections_lineAndPolygon() {
+    LineString line = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-1, 0.5), Point.fromLngLat(2, 0.5)));
+    Polygon square = Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(1, 0), Point.fromLngLat(1, 1),
+      Point.fromLngLat(0, 1), Point.fromLngLat(0, 0))));
+
+    List<Point> points = LineIntersections.intersections(line, square);
+    assertEquals(Arrays.asList(Point.fromLngLat(0, 0.5), Point.fromLngLat(1, 0.5)), points);
+    assertEquals(points, LineIntersections.intersections(square, line));
+  }
+
+  @Test
+  public void intersections_sharedVertexReportedOnce() {
+    LineString line = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-1, -1), Point.fromLngLat(1, 1)));
+    LineString corner = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 1), Point.fromLngLat(0, 0), Point.fromLngLat(1, 0)));
+
+    assertEquals(Arrays.asList(Point.fromLngLat(0, 0)),
+      LineIntersections.intersections(line, corner));
+  }
+
+  @Test
+  public void selfIntersections_skipsConsecutiveSegments() {
+    LineString loop = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(2, 2), Point.fromLngLat(2, 0),
+      Point.fromLngLat(2, 0), Point.fromLngLat(0, 2)));
+    assertEquals(Arrays.asList(Point.fromLngLat(1, 1)),
+      LineIntersections.selfIntersections(loop));
+
+    Polygon square = Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(1, 0), Point.fromLngLat(1, 1),
+      Point.fromLngLat(0, 1), Point.fromLngLat(0, 0))));
+    assertTrue(LineIntersections.selfIntersections(square).isEmpty());
+
+    Polygon bowtie = Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(2, 2), Point.fromLngLat(2, 0),
+      Point.fromLngLat(0, 2), Point.fromLngLat(0, 0))));
+    assertEquals(Arrays.asList(Point.fromLngLat(1, 1)),
+      LineIntersections.selfIntersections(bowtie));
+  }
+
+  @Test
+  public void selfIntersections_betweenParts() {
+    MultiLineString lines = MultiLineString.fromLineStrings(Arrays.asList(
+      LineString.fromLngLats(Arrays.asList(Point.fromLngLat(0, 0), Point.fromLngLat(2, 0))),
+      LineString.fromLngLats(Arrays.asList(Point.fromLngLat(1, -1), Point.fromLngLat(1, 1)))));
+    assertEquals(Arrays.asList(Point.fromLngLat(1, 0)),
+      LineIntersections.selfIntersections(lines));
+  }
+
+  @Test
+  public void intersections_matchesAllPairs() {
+    Random random = new Random(16);
+    for (int round = 0; round < 20; round++) {
+      LineString line1 = randomLine(random, 40);
+      LineString line2 = randomLine(random, 40);
+      assertArrayEquals(allPairs(line1.coordinates(), line2.coordinates()),
+        LineIntersections.intersections(line1.packedCoordinates(), line2.packedCoordinates()),
+        0);
+    }
+  }
+
+  @Test
+  public void intersections_unsupportedGeometry() {
+    thrown.expect(TurfException.class);
+    LineIntersections.selfIntersections(Point.fromLngLat(0, 0));
+  }
+
+  private static LineString randomLine(Random random, int size) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      points.add(Point.fromLngLat(random.nextDouble() * 10, random.nextDouble() * 10));
+    }
+    return LineString.fromLngLats(points);
+  }
+
+  private static double[] allPairs(List<Point> line1, List<Point> line2) {
+    List<Point> found = new ArrayList<>();
+    double[] out = new double[2];
+    for (int i = 0; i < line1.size() - 1; i++) {
+      for (int j = 0; j < line2.size() - 1; j++) {
+        Point start1 = line1.get(i);
+        Point end1 = line1.get(i + 1);
+        Point start2 = line2.get(j);
+        Point end2 = line2.get(j + 1);
+        if (LineIntersections.lineIntersects(start1.longitude(), start1.latitude(),
+          end1.longitude(), end1.latitude(), start2.longitude(), start2.latitude(),
+          end2.longitude(), end2.latitude(), out, 0)) {
+          found.add(Point.fromLngLat(out[0], out[1]));
+        }
+      }
+    }
+    double[][] sorted = new double[found.size()][];
+    for (int i = 0; i < sorted.length; i++) {
+      sorted[i] = new double[] {found.get(i).longitude(), found.get(i).latitude()};
+    }
+    Arrays.sort(sorted, new Comparator<double[]>() {
+      @Override
+      public int compare(double[] first, double[] second) {
+        int compared = Double.compare(first[0], second[0]);
+        return compared != 0 ? compared : Double.compare(first[1], second[1]);
+      }
+    });
+    double[] result = new double[sorted.length * 2];
+    for (int i = 0; i < sorted.length; i++) {
+      result[i * 2] = sorted[i][0];
+      result[i * 2 + 1] = sorted[i][1];
+    }
+    return result;
+  }
+}
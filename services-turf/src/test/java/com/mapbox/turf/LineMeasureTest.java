@@ -0,0 +1,80 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class LineMeasureTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private static LineString route() {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      points.add(Point.fromLngLat(-122.4 + i * 0.002, 37.7 + Math.sin(i / 7.0) * 0.003));
+      if (i % 50 == 0) {
+        // Repeated coordinates give zero length segments
+        points.add(points.get(points.size() - 1));
+      }
+    }
+    return LineString.fromLngLats(points);
+  }
+
+  @Test
+  public void matchesTurfMeasurement() {
+    LineString line = route();
+    List<Point> coords = line.coordinates();
+    LineMeasure measure = LineMeasure.fromLineString(line, TurfConstants.UNIT_METERS);
+
+    assertEquals(TurfMeasurement.length(line, TurfConstants.UNIT_METERS), measure.length(), 0);
+    assertEquals(TurfMeasurement.length(coords.subList(0, 120), TurfConstants.UNIT_METERS),
+      measure.distanceAtVertex(119), 0);
+
+    for (double distance = 0; distance < measure.length() + 1000; distance += 97.3) {
+      assertEquals(TurfMeasurement.along(line, distance, TurfConstants.UNIT_METERS),
+        measure.along(distance));
+    }
+    for (int i = 0; i < coords.size(); i++) {
+      double distance = measure.distanceAtVertex(i);
+      assertEquals(TurfMeasurement.along(coords, distance, TurfConstants.UNIT_METERS),
+        measure.along(distance));
+      assertEquals(distance,
+        measure.distanceAtVertex(measure.vertexAtOrAfter(distance)), 0);
+    }
+  }
+
+  @Test
+  public void lineSliceAlong_matchesTurfMisc() {
+    LineString line = route();
+    LineMeasure measure = LineMeasure.fromLineString(line, TurfConstants.UNIT_KILOMETERS);
+    double[] distances = new double[] {0, 0.35, measure.distanceAtVertex(10),
+      measure.distanceAtVertex(51), 12.5, measure.length(), measure.length() + 1};
+
+    for (double start : distances) {
+      for (double stop : distances) {
+        if (start != stop && start <= measure.length()) {
+          assertEquals(
+            TurfMisc.lineSliceAlong(line, start, stop, TurfConstants.UNIT_KILOMETERS),
+            measure.lineSliceAlong(start, stop));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void lineSliceAlong_startBeyondLine() {
+    LineMeasure measure = LineMeasure.fromLineString(route(), TurfConstants.UNIT_KILOMETERS);
+    thrown.expect(TurfException.class);
+    thrown.expectMessage("Start position is beyond line");
+    measure.lineSliceAlong(measure.length() + 1, measure.length() + 2);
+  }
+}
@@ -0,0 +1,92 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class LineSnapperTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void snap_matchesNearestPointOnLine() {
+    List<Point> line = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      line.add(Point.fromLngLat(-77 + i * 0.001, 38.9 + Math.sin(i / 10.0) * 0.01));
+    }
+    LineSnapper indexed = LineSnapper.fromLineString(LineString.fromLngLats(line),
+      TurfConstants.UNIT_METERS);
+    LineSnapper scanned = LineSnapper.fromLngLats(line, TurfConstants.UNIT_METERS, false);
+
+    for (int i = 0; i < 200; i++) {
+      Point point = Point.fromLngLat(-77.05 + i * 0.003, 38.9 + Math.cos(i) * 0.03);
+      Feature expected = TurfMisc.nearestPointOnLine(point, line, TurfConstants.UNIT_METERS);
+      for (LineSnapper snapper : Arrays.asList(indexed, scanned)) {
+        LineSnapper.Result snapped = snapper.snap(point);
+        assertEquals(expected.geometry(), snapped.point());
+        assertEquals(expected.getNumberProperty("dist").doubleValue(), snapped.distance(), 0);
+        assertEquals(expected.getNumberProperty("index").intValue(), snapped.index());
+      }
+    }
+  }
+
+  @Test
+  public void snap_reportsVertex() {
+    LineSnapper snapper = LineSnapper.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(1, 0), Point.fromLngLat(1, 1)),
+      TurfConstants.UNIT_KILOMETERS);
+    assertEquals(2, snapper.segmentCount());
+
+    LineSnapper.Result snapped = snapper.snap(Point.fromLngLat(1.5, -0.5));
+    assertEquals(1, snapped.vertex());
+    assertEquals(0, snapped.index());
+    assertEquals(Point.fromLngLat(1, 0), snapped.point());
+
+    snapped = snapper.snap(0.5, 0.1);
+    assertEquals(-1, snapped.vertex());
+    assertEquals(0, snapped.index());
+    assertEquals(0, snapped.latitude(), 1e-4);
+  }
+
+  @Test
+  public void fromLineString_packedAndListBackedLinesAgree() {
+    LineString line = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(1, 0), Point.fromLngLat(1, 1)));
+    LineString packed = LineString.fromLngLats(new double[] {0, 0, 1, 0, 1, 1}, 2);
+    Point point = Point.fromLngLat(1.2, 0.4);
+
+    LineSnapper.Result snapped = LineSnapper.fromLineString(line).snap(point);
+    assertEquals(LineSnapper.fromLineString(packed).snap(point).point(), snapped.point());
+    assertEquals(1, snapped.index());
+  }
+
+  @Test
+  public void snapNear_onlyLooksAroundSegment() {
+    // The line comes back next to its start
+    LineSnapper snapper = LineSnapper.fromLineString(LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(1, 0), Point.fromLngLat(2, 0),
+      Point.fromLngLat(2, 0.01), Point.fromLngLat(1, 0.01), Point.fromLngLat(0, 0.01))));
+    Point point = Point.fromLngLat(0.5, 0.006);
+
+    assertEquals(4, snapper.snap(point).index());
+    assertEquals(0, snapper.snapNear(point, 0, 1).index());
+    assertEquals(4, snapper.snapNear(point, 3, 1).index());
+  }
+
+  @Test
+  public void fromLngLats_requiresTwoPoints() {
+    thrown.expect(TurfException.class);
+    LineSnapper.fromLngLats(Arrays.asList(Point.fromLngLat(0, 0)), TurfConstants.UNIT_KILOMETERS);
+  }
+}
@@ -0,0 +1,80 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PointIndexTest extends TestUtils {
+
+  @Test
+  public void queries_matchLinearScan() {
+    Random random = new Random(42);
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      points.add(Point.fromLngLat(random.nextDouble() * 360 - 180,
+        random.nextDouble() * 180 - 90));
+    }
+    // Duplicates and points across the antimeridian
+    points.add(points.get(10));
+    points.add(Point.fromLngLat(179.9, 0));
+    points.add(Point.fromLngLat(-179.9, 0));
+    PointIndex index = PointIndex.fromPoints(points);
+    assertEquals(points.size(), index.size());
+
+    for (int q = 0; q < 200; q++) {
+      Point target = q == 0 ? Point.fromLngLat(180, 0.01)
+        : Point.fromLngLat(random.nextDouble() * 360 - 180, random.nextDouble() * 180 - 90);
+      final List<Double> distances = new ArrayList<>();
+      List<Integer> order = new ArrayList<>();
+      for (int i = 0; i < points.size(); i++) {
+        distances.add(TurfMeasurement.distance(target, points.get(i)));
+        order.add(i);
+      }
+      Collections.sort(order, new Comparator<Integer>() {
+        @Override
+        public int compare(Integer first, Integer second) {
+          return distances.get(first).compareTo(distances.get(second));
+        }
+      });
+
+      assertEquals(TurfClassification.nearestPoint(target, points),
+        TurfClassification.nearestPoint(target, index));
+      int[] nearest = index.nearest(target, 5);
+      assertEquals(5, nearest.length);
+      for (int i = 0; i < nearest.length; i++) {
+        assertEquals(distances.get(order.get(i)), distances.get(nearest[i]), 1e-9);
+      }
+
+      double radius = distances.get(order.get(20)) + 1e-6;
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < points.size(); i++) {
+        if (distances.get(i) <= radius) {
+          expected.add(i);
+        }
+      }
+      int[] within = index.withinRadius(target, radius, TurfConstants.UNIT_KILOMETERS);
+      assertEquals(expected.size(), within.length);
+      for (int i = 0; i < within.length; i++) {
+        assertEquals((int) expected.get(i), within[i]);
+      }
+    }
+  }
+
+  @Test
+  public void emptyIndex() {
+    PointIndex index = PointIndex.fromPoints(new ArrayList<Point>());
+    Point target = Point.fromLngLat(1, 2);
+    assertEquals(-1, index.nearest(target));
+    assertArrayEquals(new int[0], index.nearest(target, 3));
+    assertEquals(target, TurfClassification.nearestPoint(target, index));
+  }
+}
@@ -0,0 +1,81 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PolygonIndexTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void containing_matchesInsideForGridOfSquares() {
+    List<Polygon> polygons = new ArrayList<>();
+    for (int x = 0; x < 20; x++) {
+      for (int y = 0; y < 20; y++) {
+        polygons.add(square(x, y, 1.5));
+      }
+    }
+    PolygonIndex index = PolygonIndex.fromPolygons(polygons);
+    assertEquals(400, index.size());
+
+    for (double lon = -0.75; lon < 22; lon += 0.5) {
+      for (double lat = -0.75; lat < 22; lat += 0.5) {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < polygons.size(); i++) {
+          if (TurfJoins.inside(Point.fromLngLat(lon, lat), polygons.get(i))) {
+            expected.add(i);
+          }
+        }
+        int[] containing = index.containing(lon, lat);
+        assertEquals(expected.size(), containing.length);
+        for (int i = 0; i < containing.length; i++) {
+          assertEquals((int) expected.get(i), containing[i]);
+        }
+        assertEquals(!expected.isEmpty(), index.contains(lon, lat));
+      }
+    }
+  }
+
+  @Test
+  public void preparedPolygon_handlesHoles() {
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(
+      square(0, 0, 10).coordinates().get(0),
+      square(2, 2, 2).coordinates().get(0)));
+    PreparedPolygon prepared = PreparedPolygon.fromPolygon(polygon);
+
+    assertArrayEquals(new double[] {0, 0, 10, 10}, prepared.bbox(), DELTA);
+    assertTrue(prepared.contains(Point.fromLngLat(1, 1)));
+    assertFalse(prepared.contains(Point.fromLngLat(3, 3)));
+    assertFalse(prepared.contains(Point.fromLngLat(11, 3)));
+  }
+
+  @Test
+  public void fromFeatureCollection_rejectsOtherGeometries() {
+    thrown.expect(TurfException.class);
+    PolygonIndex.fromFeatureCollection(FeatureCollection.fromFeatures(new Feature[] {
+      Feature.fromGeometry(square(0, 0, 1)), Feature.fromGeometry(Point.fromLngLat(0, 0))}));
+  }
+
+  private static Polygon square(double west, double south, double size) {
+    return Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      Point.fromLngLat(west, south), Point.fromLngLat(west + size, south),
+      Point.fromLngLat(west + size, south + size), Point.fromLngLat(west, south + size),
+      Point.fromLngLat(west, south))));
+  }
+}
@@ -0,0 +1,69 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class PreparedPolygonTest extends TestUtils {
+
+  private static final String POLY_WITH_HOLE_FIXTURE = "turf-inside/poly-with-hole.geojson";
+  private static final String MULTIPOLY_WITH_HOLE_FIXTURE
+    = "turf-inside/multipoly-with-hole.geojson";
+
+  @Test
+  public void indexedRings_matchInside() {
+    Polygon outer = TurfTransformation.circle(Point.fromLngLat(10, 20), 50, 500,
+      TurfConstants.UNIT_KILOMETERS);
+    Polygon hole = TurfTransformation.circle(Point.fromLngLat(10.1, 20), 20, 100,
+      TurfConstants.UNIT_KILOMETERS);
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(
+      outer.coordinates().get(0), hole.coordinates().get(0)));
+    PreparedPolygon indexed = PreparedPolygon.fromPolygon(polygon);
+    PreparedPolygon walked = PreparedPolygon.fromPolygon(polygon, false);
+
+    double[] bbox = TurfMeasurement.bbox(polygon);
+    for (int x = -10; x <= 110; x++) {
+      for (int y = -10; y <= 110; y++) {
+        Point point = Point.fromLngLat(bbox[0] + (bbox[2] - bbox[0]) * x / 100,
+          bbox[1] + (bbox[3] - bbox[1]) * y / 100);
+        boolean expected = TurfJoins.inside(point, polygon);
+        assertEquals(expected, indexed.contains(point));
+        assertEquals(expected, walked.contains(point));
+      }
+    }
+    // Coordinates on the latitude of a vertex
+    for (Point vertex : outer.coordinates().get(0)) {
+      Point point = Point.fromLngLat(vertex.longitude() - 0.01, vertex.latitude());
+      assertEquals(TurfJoins.inside(point, polygon), indexed.contains(point));
+    }
+  }
+
+  @Test
+  public void fixtures_matchInside() throws IOException {
+    Polygon polygon = (Polygon) Feature.fromJson(loadJsonFixture(POLY_WITH_HOLE_FIXTURE))
+      .geometry();
+    MultiPolygon multiPolygon = (MultiPolygon) Feature.fromJson(
+      loadJsonFixture(MULTIPOLY_WITH_HOLE_FIXTURE)).geometry();
+    PreparedPolygon preparedPolygon = PreparedPolygon.fromPolygon(polygon);
+    PreparedMultiPolygon preparedMultiPolygon = PreparedMultiPolygon.fromMultiPolygon(multiPolygon);
+    assertEquals(multiPolygon.coordinates().size(), preparedMultiPolygon.polygonCount());
+
+    double[] bbox = TurfMeasurement.bbox(multiPolygon);
+    for (int x = 0; x <= 50; x++) {
+      for (int y = 0; y <= 50; y++) {
+        Point point = Point.fromLngLat(bbox[0] + (bbox[2] - bbox[0]) * x / 50,
+          bbox[1] + (bbox[3] - bbox[1]) * y / 50);
+        assertEquals(TurfJoins.inside(point, polygon), preparedPolygon.contains(point));
+        assertEquals(TurfJoins.inside(point, multiPolygon), preparedMultiPolygon.contains(point));
+      }
+    }
+  }
+}
@@ -0,0 +1,229 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TurfAggregatesTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private static FeatureCollection randomFeatures(int count) {
+    Random random = new Random(17);
+    List<Feature> features = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      double lon = random.nextDouble() * 360 - 180;
+      double lat = random.nextDouble() * 160 - 80;
+      double size = random.nextDouble() * 0.1;
+      switch (i % 3) {
+        case 0:
+          features.add(Feature.fromGeometry(Point.fromLngLat(lon, lat)));
+          break;
+        case 1:
+          features.add(Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+            Point.fromLngLat(lon, lat), Point.fromLngLat(lon + size, lat + size)))));
+          break;
+        default:
+          features.add(Feature.fromGeometry(Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+            Point.fromLngLat(lon, lat), Point.fromLngLat(lon + size, lat),
+            Point.fromLngLat(lon + size, lat + size), Point.fromLngLat(lon, lat))))));
+          break;
+      }
+    }
+    return FeatureCollection.fromFeatures(features);
+  }
+
+  @Test
+  public void summarize_matchesTurfMeasurement() {
+    FeatureCollection features = randomFeatures(5000);
+    TurfAggregates.Summary summary = TurfAggregates.summarize(features,
+      TurfConstants.UNIT_KILOMETERS);
+
+    assertEquals(5000, summary.featureCount());
+    assertEquals(TurfMeta.coordAll(features, false).size(), summary.coordinateCount());
+    double area = TurfMeasurement.area(features);
+    assertEquals(area, summary.area(), area * 1e-12);
+    assertArrayEquals(TurfMeasurement.bbox(features), summary.bbox(), 0);
+    assertEquals(TurfMeasurement.center(features).geometry(), summary.center());
+
+    double length = 0;
+    for (Feature feature : features.features()) {
+      if (feature.geometry() instanceof LineString) {
+        length += TurfMeasurement.length((LineString) feature.geometry(),
+          TurfConstants.UNIT_KILOMETERS);
+      } else if (feature.geometry() instanceof Polygon) {
+        length += TurfMeasurement.length((Polygon) feature.geometry(),
+          TurfConstants.UNIT_KILOMETERS);
+      }
+    }
+    assertEquals(length, summary.length(), length * 1e-12);
+
+    double lon = 0;
+    double lat = 0;
+    List<Point> points = TurfMeta.coordAll(features, true);
+    for (Point point : points) {
+      lon += point.longitude();
+      lat += point.latitude();
+    }
+    assertEquals(lon / points.size(), summary.centroid().longitude(), 1e-9);
+    assertEquals(lat / points.size(), summary.centroid().latitude(), 1e-9);
+  }
+
+  @Test
+  public void summarize_sameResultsInParallel() {
+    FeatureCollection features = randomFeatures(20000);
+    TurfAggregates.Summary sequential = TurfAggregates.summarize(features,
+      TurfConstants.UNIT_METERS);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      TurfAggregates.Summary parallel = TurfAggregates.summarize(features,
+        TurfConstants.UNIT_METERS, pool);
+      assertEquals(sequential.area(), parallel.area(), 0);
+      assertEquals(sequential.length(), parallel.length(), 0);
+      assertEquals(sequential.coordinateCount(), parallel.coordinateCount());
+      assertArrayEquals(sequential.bbox(), parallel.bbox(), 0);
+      assertEquals(sequential.centroid(), parallel.centroid());
+      assertEquals(sequential.centroid(),
+        TurfAggregates.submit(features, TurfConstants.UNIT_METERS, pool).join().centroid());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void summarize_listBackedAndPackedGeometriesAgree() {
+    FeatureCollection features = randomFeatures(300);
+    FeatureCollection packed = randomFeatures(300);
+    for (Feature feature : packed.features()) {
+      if (feature.geometry() instanceof LineString) {
+        ((LineString) feature.geometry()).packedCoordinates();
+      } else if (feature.geometry() instanceof Polygon) {
+        ((Polygon) feature.geometry()).packedCoordinates();
+      }
+    }
+
+    TurfAggregates.Summary summary = TurfAggregates.summarize(features,
+      TurfConstants.UNIT_METERS);
+    TurfAggregates.Summary packedSummary = TurfAggregates.summarize(packed,
+      TurfConstants.UNIT_METERS);
+    assertEquals(packedSummary.length(), summary.length(), 0);
+    assertEquals(packedSummary.coordinateCount(), summary.coordinateCount());
+    assertArrayEquals(packedSummary.bbox(), summary.bbox(), 0);
+    assertEquals(packedSummary.centroid(), summary.centroid());
+  }
+
+  @Test
+  public void summarize_emptyCollection() {
+    TurfAggregates.Summary summary = TurfAggregates.summarize(
+      FeatureCollection.fromFeatures(new ArrayList<Feature>()), TurfConstants.UNIT_METERS);
+    assertEquals(0, summary.featureCount());
+    assertEquals(0, summary.coordinateCount());
+    assertEquals(0, summary.area(), 0);
+    assertNull(summary.centroid());
+  }
+
+  @Test
+  public void submit_cancelled() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    ForkJoinPool pool = new ForkJoinPool(1);
+    try {
+      // Keep the only worker busy so the aggregation can't start before it's cancelled
+      pool.execute(new Runnable() {
+        @Override
+        public void run() {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      });
+      started.await();
+      ForkJoinTask<TurfAggregates.Summary> task = TurfAggregates.submit(randomFeatures(5000),
+        TurfConstants.UNIT_METERS, pool);
+      assertTrue(task.cancel(true));
+      release.countDown();
+      thrown.expect(CancellationException.class);
+      task.get();
+    } finally {
+      release.countDown();
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void submit_cancelledWhileRunning() throws Exception {
+    final List<Feature> source = randomFeatures(5000).features();
+    final List<Integer> read = new CopyOnWriteArrayList<>();
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    // Blocks the first read, so the task is cancelled while a range is being aggregated
+    List<Feature> features = new AbstractList<Feature>() {
+      @Override
+      public Feature get(int index) {
+        read.add(index);
+        if (read.size() == 1) {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        return source.get(index);
+      }
+
+      @Override
+      public int size() {
+        return source.size();
+      }
+    };
+    ForkJoinPool pool = new ForkJoinPool(1);
+    ForkJoinTask<TurfAggregates.Summary> task;
+    try {
+      task = TurfAggregates.submit(FeatureCollection.fromFeatures(features),
+        TurfConstants.UNIT_METERS, pool);
+      assertTrue(started.await(10, TimeUnit.SECONDS));
+      assertTrue(task.cancel(true));
+    } finally {
+      release.countDown();
+      pool.shutdown();
+    }
+    assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+    // The running range stops at its next check, and the other ranges are never read
+    int first = read.get(0);
+    assertEquals(TurfAggregates.CANCELLATION_INTERVAL, read.size());
+    for (int index : read) {
+      assertTrue(index >= first && index < first + TurfAggregates.CANCELLATION_INTERVAL);
+    }
+    thrown.expect(CancellationException.class);
+    task.get();
+  }
+}
@@ -0,0 +1,123 @@
+package com.mapbox.turf;
+
+import com.google.gson.JsonObject;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.MultiPolygon;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.Polygon;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TurfClipTest extends TestUtils {
+
+  private static final double[] BBOX = {0, 0, 10, 10};
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private static Polygon square(double west, double south, double east, double north) {
+    return Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      Point.fromLngLat(west, south), Point.fromLngLat(east, south),
+      Point.fromLngLat(east, north), Point.fromLngLat(west, north),
+      Point.fromLngLat(west, south))));
+  }
+
+  @Test
+  public void bboxClip_lineCutIntoParts() {
+    LineString line = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-5, 5), Point.fromLngLat(5, 5), Point.fromLngLat(5, 15),
+      Point.fromLngLat(8, 15), Point.fromLngLat(8, 5)));
+
+    List<LineString> parts = TurfClip.bboxClip(line, BBOX).lineStrings();
+    assertEquals(2, parts.size());
+    assertEquals(Arrays.asList(Point.fromLngLat(0, 5), Point.fromLngLat(5, 5),
+      Point.fromLngLat(5, 10)), parts.get(0).coordinates());
+    assertEquals(Arrays.asList(Point.fromLngLat(8, 10), Point.fromLngLat(8, 5)),
+      parts.get(1).coordinates());
+
+    LineString packed = LineString.fromLngLats(new double[] {-5, 5, 5, 5, 5, 15, 8, 15, 8, 5}, 2);
+    assertEquals(parts, TurfClip.bboxClip(packed, BBOX).lineStrings());
+  }
+
+  @Test
+  public void bboxClip_lineOutside() {
+    MultiLineString lines = MultiLineString.fromLngLats(Arrays.asList(
+      Arrays.asList(Point.fromLngLat(-5, -5), Point.fromLngLat(-1, 20)),
+      Arrays.asList(Point.fromLngLat(11, 0), Point.fromLngLat(12, 5))));
+    assertTrue(TurfClip.bboxClip(lines, BBOX).coordinates().isEmpty());
+  }
+
+  @Test
+  public void bboxClip_polygonWithHole() {
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(
+      square(-5, -5, 5, 5).outer().coordinates(),
+      square(-2, -2, -1, -1).outer().coordinates(),
+      square(1, 1, 2, 2).outer().coordinates()));
+
+    Polygon clipped = TurfClip.bboxClip(polygon, BBOX);
+    assertEquals(2, clipped.coordinates().size());
+    assertEquals(TurfMeasurement.area(square(0, 0, 5, 5)) - TurfMeasurement.area(
+      square(1, 1, 2, 2)), TurfMeasurement.area(clipped), 1);
+    assertEquals(square(1, 1, 2, 2).outer().coordinates(), clipped.coordinates().get(1));
+    double[] bbox = TurfMeasurement.bbox(clipped);
+    assertEquals(0, bbox[0], DELTA);
+    assertEquals(5, bbox[2], DELTA);
+    assertEquals(clipped.coordinates().get(0).get(0),
+      clipped.coordinates().get(0).get(clipped.coordinates().get(0).size() - 1));
+
+    assertNull(TurfClip.bboxClip(square(20, 20, 30, 30), BBOX));
+  }
+
+  @Test
+  public void bboxClip_multiPolygonDropsOutsidePolygons() {
+    MultiPolygon multiPolygon = MultiPolygon.fromPolygons(Arrays.asList(
+      square(20, 20, 30, 30), square(8, 8, 12, 12), square(2, 2, 3, 3)));
+
+    MultiPolygon clipped = TurfClip.bboxClip(multiPolygon, BBOX);
+    assertEquals(2, clipped.polygons().size());
+    double[] bbox = TurfMeasurement.bbox(clipped.polygons().get(0));
+    assertEquals(8, bbox[0], DELTA);
+    assertEquals(10, bbox[2], DELTA);
+    assertEquals(10, bbox[3], DELTA);
+    assertEquals(square(2, 2, 3, 3), clipped.polygons().get(1));
+  }
+
+  @Test
+  public void bboxClip_featureCollection() {
+    JsonObject properties = new JsonObject();
+    properties.addProperty("name", "route");
+    Feature inside = Feature.fromGeometry(square(1, 1, 2, 2));
+    Feature crossing = Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-5, 5), Point.fromLngLat(5, 5))), properties, "route");
+    Feature outside = Feature.fromGeometry(Point.fromLngLat(20, 20));
+    FeatureCollection clipped = TurfClip.bboxClip(
+      FeatureCollection.fromFeatures(Arrays.asList(inside, crossing, outside)), BBOX);
+
+    assertEquals(2, clipped.features().size());
+    assertSame(inside, clipped.features().get(0));
+    Feature clippedRoute = clipped.features().get(1);
+    assertEquals(LineString.fromLngLats(Arrays.asList(Point.fromLngLat(0, 5),
+      Point.fromLngLat(5, 5))), clippedRoute.geometry());
+    assertEquals("route", clippedRoute.id());
+    assertEquals("route", clippedRoute.getStringProperty("name"));
+  }
+
+  @Test
+  public void bboxClip_featureWithoutGeometry() {
+    thrown.expect(TurfException.class);
+    TurfClip.bboxClip(Feature.fromGeometry(null), BBOX);
+  }
+}
@@ -11,7 +11,9 @@ import org.junit.Test;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -164,4 +166,64 @@ public class TurfJoinsTest extends TestUtils {
     assertNotNull(counted);
     assertEquals(counted.features().size(), 5); // multiple points in multiple polygons
   }
+
+  @Test
+  public void pointsWithinPolygon_keepsPolygonOrderAndDuplicates() {
+    Polygon first = Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      Point.fromLngLat(0, 0), Point.fromLngLat(10, 0), Point.fromLngLat(10, 10),
+      Point.fromLngLat(0, 10), Point.fromLngLat(0, 0))));
+    Polygon second = Polygon.fromLngLats(Arrays.asList(Arrays.asList(
+      Point.fromLngLat(5, 0), Point.fromLngLat(15, 0), Point.fromLngLat(15, 10),
+      Point.fromLngLat(5, 10), Point.fromLngLat(5, 0))));
+    FeatureCollection polygons = FeatureCollection.fromFeatures(new Feature[] {
+      Feature.fromGeometry(second), Feature.fromGeometry(first)});
+    FeatureCollection points = FeatureCollection.fromFeatures(new Feature[] {
+      Feature.fromGeometry(Point.fromLngLat(1, 1)),
+      Feature.fromGeometry(Point.fromLngLat(7, 1)),
+      Feature.fromGeometry(Point.fromLngLat(12, 1)),
+      Feature.fromGeometry(Point.fromLngLat(20, 1))});
+
+    List<Feature> within = TurfJoins.pointsWithinPolygon(points, polygons).features();
+    assertEquals(4, within.size());
+    assertEquals(Point.fromLngLat(7, 1), within.get(0).geometry());
+    assertEquals(Point.fromLngLat(12, 1), within.get(1).geometry());
+    assertEquals(Point.fromLngLat(1, 1), within.get(2).geometry());
+    assertEquals(Point.fromLngLat(7, 1), within.get(3).geometry());
+  }
+
+  @Test
+  public void pointsWithinPolygon_parallelMatchesSequential() throws IOException {
+    Feature polyHole = Feature.fromJson(loadJsonFixture(POLY_WITH_HOLE_FIXTURE));
+    Polygon polygon = (Polygon) polyHole.geometry();
+    double[] bbox = TurfMeasurement.bbox(polygon);
+    List<Feature> pointFeatures = new ArrayList<>();
+    List<Point> pointList = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      Point point = Point.fromLngLat(
+        bbox[0] + (bbox[2] - bbox[0]) * ((i * 7919) % 10000) / 10000,
+        bbox[1] + (bbox[3] - bbox[1]) * ((i * 104729) % 10000) / 10000);
+      pointFeatures.add(Feature.fromGeometry(point));
+      pointList.add(point);
+    }
+    FeatureCollection points = FeatureCollection.fromFeatures(pointFeatures);
+    FeatureCollection polygons = FeatureCollection.fromFeature(polyHole);
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      FeatureCollection sequential = TurfJoins.pointsWithinPolygon(points, polygons);
+      assertEquals(sequential, TurfJoins.pointsWithinPolygon(points, polygons, pool));
+
+      PolygonIndex index = PolygonIndex.fromPolygons(Collections.singletonList(polygon));
+      boolean[] inside = TurfJoins.inside(pointList, index, pool);
+      assertTrue(Arrays.equals(inside, TurfJoins.inside(pointList, index)));
+      int count = 0;
+      for (int i = 0; i < inside.length; i++) {
+        assertEquals(TurfJoins.inside(pointList.get(i), polygon), inside[i]);
+        count += inside[i] ? 1 : 0;
+      }
+      assertEquals(sequential.features().size(), count);
+    } finally {
+      pool.shutdown();
+    }
+  }
 }
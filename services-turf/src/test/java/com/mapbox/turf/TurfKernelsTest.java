@@ -0,0 +1,60 @@
+package com.mapbox.turf;
+
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class TurfKernelsTest extends TestUtils {
+
+  @Test
+  public void bulkKernels_matchPointMethods() {
+    Random random = new Random(7);
+    int count = 500;
+    double[] longitudes = new double[count];
+    double[] latitudes = new double[count];
+    for (int i = 0; i < count; i++) {
+      longitudes[i] = random.nextDouble() * 360 - 180;
+      latitudes[i] = random.nextDouble() * 180 - 90;
+    }
+    Point origin = Point.fromLngLat(-77.03, 38.89);
+    double factor = TurfKernels.unitFactor(TurfConstants.UNIT_MILES);
+
+    double[] distances = new double[count];
+    double[] bearings = new double[count];
+    double[] segments = new double[count - 1];
+    TurfKernels.distances(origin.longitude(), origin.latitude(), longitudes, latitudes,
+      distances, count, factor);
+    TurfKernels.bearings(origin.longitude(), origin.latitude(), longitudes, latitudes,
+      bearings, count);
+    TurfKernels.segmentDistances(longitudes, latitudes, segments, count, factor);
+
+    for (int i = 0; i < count; i++) {
+      Point point = Point.fromLngLat(longitudes[i], latitudes[i]);
+      assertEquals(TurfMeasurement.distance(origin, point, TurfConstants.UNIT_MILES),
+        distances[i], 0);
+      assertEquals(TurfMeasurement.bearing(origin, point), bearings[i], 0);
+      if (i > 0) {
+        assertEquals(TurfMeasurement.distance(
+          Point.fromLngLat(longitudes[i - 1], latitudes[i - 1]), point, TurfConstants.UNIT_MILES),
+          segments[i - 1], 0);
+      }
+    }
+  }
+
+  @Test
+  public void destination_matchesTurfMeasurement() {
+    double[] out = new double[3];
+    TurfKernels.destination(-75, 39, 100, 180,
+      TurfKernels.unitFactor(TurfConstants.UNIT_KILOMETERS), out, 1);
+    Point expected = TurfMeasurement.destination(Point.fromLngLat(-75, 39), 100, 180,
+      TurfConstants.UNIT_KILOMETERS);
+    assertEquals(expected.longitude(), out[1], 0);
+    assertEquals(expected.latitude(), out[2], 0);
+    assertEquals(-75, out[1], DELTA);
+    assertEquals(38.10096062273525, out[2], DELTA);
+  }
+}
@@ -3,6 +3,7 @@ package com.mapbox.turf;
 import com.mapbox.geojson.BoundingBox;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.GeoJson;
 import com.mapbox.geojson.Geometry;
 import com.mapbox.geojson.GeometryCollection;
 import com.mapbox.geojson.LineString;
@@ -20,7 +21,9 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class TurfMetaTest extends TestUtils {
 
@@ -148,6 +151,130 @@ public class TurfMetaTest extends TestUtils {
     assertEquals(2.0, TurfMeta.coordAll(featureCollection,true).get(0).latitude(), DELTA);
   }
 
+  @Test
+  public void coordEach_matchesCoordAllWithIndices() {
+    MultiPolygon multiPolygon = MultiPolygon.fromLngLats(Arrays.asList(
+      Arrays.asList(Arrays.asList(Point.fromLngLat(0, 0), Point.fromLngLat(1, 0),
+        Point.fromLngLat(1, 1), Point.fromLngLat(0, 0))),
+      Arrays.asList(
+        Arrays.asList(Point.fromLngLat(5, 5), Point.fromLngLat(9, 5), Point.fromLngLat(9, 9),
+          Point.fromLngLat(5, 5)),
+        Arrays.asList(Point.fromLngLat(6, 6), Point.fromLngLat(7, 6), Point.fromLngLat(7, 7),
+          Point.fromLngLat(6, 6)))));
+    FeatureCollection featureCollection = FeatureCollection.fromFeatures(Arrays.asList(
+      Feature.fromGeometry(Point.fromLngLat(-1, -1)), Feature.fromGeometry(multiPolygon)));
+
+    final List<Point> points = new ArrayList<>();
+    final List<String> indices = new ArrayList<>();
+    assertTrue(TurfMeta.coordEach(featureCollection, new TurfMeta.CoordinateVisitor() {
+      @Override
+      public boolean onCoordinate(double longitude, double latitude, int coordIndex,
+                                  int featureIndex, int multiFeatureIndex, int geometryIndex) {
+        assertEquals(points.size(), coordIndex);
+        points.add(Point.fromLngLat(longitude, latitude));
+        indices.add(featureIndex + "/" + multiFeatureIndex + "/" + geometryIndex);
+        return true;
+      }
+    }, true));
+
+    assertEquals(TurfMeta.coordAll(featureCollection, true), points);
+    assertEquals(Arrays.asList("0/0/0", "1/0/0", "1/0/0", "1/0/0", "1/1/0", "1/1/0", "1/1/0",
+      "1/1/1", "1/1/1", "1/1/1"), indices);
+  }
+
+  @Test
+  public void coordEach_stopsEarly() {
+    LineString lineString = LineString.fromLngLats(Arrays.asList(Point.fromLngLat(0, 0),
+      Point.fromLngLat(1, 1), Point.fromLngLat(2, 2)));
+    final int[] visited = new int[1];
+    assertFalse(TurfMeta.coordEach(lineString, new TurfMeta.CoordinateVisitor() {
+      @Override
+      public boolean onCoordinate(double longitude, double latitude, int coordIndex,
+                                  int featureIndex, int multiFeatureIndex, int geometryIndex) {
+        visited[0]++;
+        return longitude < 1;
+      }
+    }, false));
+    assertEquals(2, visited[0]);
+  }
+
+  @Test
+  public void coordReduce_sumsCoordinates() {
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(Arrays.asList(Point.fromLngLat(0, 0),
+      Point.fromLngLat(4, 0), Point.fromLngLat(4, 4), Point.fromLngLat(0, 0))));
+    TurfMeta.CoordinateReducer longitudes = new TurfMeta.CoordinateReducer() {
+      @Override
+      public double reduce(double previousValue, double longitude, double latitude,
+                           int coordIndex) {
+        return previousValue + longitude;
+      }
+    };
+    assertEquals(8, TurfMeta.coordReduce(polygon, longitudes, 0, true), DELTA);
+    assertEquals(18, TurfMeta.coordReduce(Feature.fromGeometry(polygon), longitudes, 10, false),
+      DELTA);
+  }
+
+  @Test
+  public void segmentEach_visitsLinesAndRings() {
+    Polygon polygon = Polygon.fromLngLats(Arrays.asList(Arrays.asList(Point.fromLngLat(0, 0),
+      Point.fromLngLat(4, 0), Point.fromLngLat(4, 4), Point.fromLngLat(0, 0))));
+    GeometryCollection geometryCollection = GeometryCollection.fromGeometries(Arrays.asList(
+      Point.fromLngLat(9, 9), polygon,
+      LineString.fromLngLats(Arrays.asList(Point.fromLngLat(0, 0), Point.fromLngLat(0, 1)))));
+    List<String> expected = Arrays.asList("0,0-4,0 0/0", "4,0-4,4 0/1", "4,4-0,0 0/2",
+      "0,0-0,1 0/0");
+    assertEquals(expected, segments(geometryCollection));
+
+    GeometryCollection packedCollection = GeometryCollection.fromGeometries(Arrays.asList(
+      Point.fromLngLat(9, 9), Polygon.fromLngLats(new double[] {0, 0, 4, 0, 4, 4, 0, 0}, 2,
+        new int[] {0}), LineString.fromLngLats(new double[] {0, 0, 0, 1}, 2)));
+    assertEquals(expected, segments(packedCollection));
+  }
+
+  private static List<String> segments(GeoJson geoJson) {
+    final List<String> segments = new ArrayList<>();
+    assertTrue(TurfMeta.segmentEach(geoJson, new TurfMeta.SegmentVisitor() {
+      @Override
+      public boolean onSegment(double longitude1, double latitude1, double longitude2,
+                               double latitude2, int featureIndex, int multiFeatureIndex,
+                               int geometryIndex, int segmentIndex) {
+        segments.add((int) longitude1 + "," + (int) latitude1 + "-" + (int) longitude2 + ","
+          + (int) latitude2 + " " + multiFeatureIndex + "/" + segmentIndex);
+        return true;
+      }
+    }));
+    return segments;
+  }
+
+  @Test
+  public void geomEachAndFeatureEach() {
+    final Feature point = Feature.fromGeometry(Point.fromLngLat(0, 0));
+    final Feature collection = Feature.fromGeometry(GeometryCollection.fromGeometries(
+      Arrays.<Geometry>asList(Point.fromLngLat(1, 1), Point.fromLngLat(2, 2))));
+    FeatureCollection featureCollection = FeatureCollection.fromFeatures(Arrays.asList(point,
+      collection));
+
+    final List<Geometry> geometries = new ArrayList<>();
+    assertTrue(TurfMeta.geomEach(featureCollection, new TurfMeta.GeometryVisitor() {
+      @Override
+      public boolean onGeometry(Geometry geometry, int featureIndex) {
+        geometries.add(geometry);
+        return true;
+      }
+    }));
+    assertEquals(Arrays.<Geometry>asList(Point.fromLngLat(0, 0), Point.fromLngLat(1, 1),
+      Point.fromLngLat(2, 2)), geometries);
+
+    assertFalse(TurfMeta.featureEach(featureCollection, new TurfMeta.FeatureVisitor() {
+      @Override
+      public boolean onFeature(Feature feature, int featureIndex) {
+        assertEquals(point, feature);
+        assertEquals(0, featureIndex);
+        return false;
+      }
+    }));
+  }
+
   @Test
   public void wrongFeatureGeometryForGetCoordThrowsException() throws TurfException {
     thrown.expect(TurfException.class);